@@ -32,3 +32,50 @@ dependencies {
     testImplementation(testFixtures(project(":modules:redis")))
     testImplementation("org.awaitility:awaitility:4.2.0")
 }
+
+// JMH 마이크로벤치마크 (src/jmh/java)
+// - ./gradlew :apps:commerce-api:jmh                      전체 실행, 결과는 build/results/jmh/results.json
+// - ./gradlew :apps:commerce-api:jmh -PjmhArgs="Money -f 1" JMH 옵션 전달 (벤치마크 이름 정규식, fork 수 등)
+// - ./gradlew :apps:commerce-api:jmhBaseline              실행 후 src/jmh/baseline/results.json 갱신 (리뷰 시 diff 로 성능 변화 확인)
+// - DB 를 거치는 벤치마크(BenchmarkApplication 사용)는 MySQL/Redis/Kafka 컨테이너를 띄우므로 Docker 필요
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:${project.properties["jmhVersion"]}")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${project.properties["jmhVersion"]}")
+
+    // 인프라 컨테이너 (MySQL, Redis 는 모듈 test-fixtures 재사용)
+    "jmhImplementation"(testFixtures(project(":modules:jpa")))
+    "jmhImplementation"(testFixtures(project(":modules:redis")))
+    "jmhImplementation"("org.testcontainers:mysql")
+    "jmhImplementation"("com.redis:testcontainers-redis")
+    "jmhImplementation"("org.testcontainers:kafka")
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+
+val jmhTask = tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "JMH 마이크로벤치마크 실행"
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    outputs.file(jmhResults)
+    outputs.upToDateWhen { false }
+    doFirst { jmhResults.get().asFile.parentFile.mkdirs() }
+    args("-foe", "true", "-rf", "json", "-rff", jmhResults.get().asFile.absolutePath)
+    (project.findProperty("jmhArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
+
+tasks.register<Copy>("jmhBaseline") {
+    group = "benchmark"
+    description = "JMH 실행 결과를 기준 결과(src/jmh/baseline)로 저장"
+    from(jmhTask)
+    into(layout.projectDirectory.dir("src/jmh/baseline"))
+}
+
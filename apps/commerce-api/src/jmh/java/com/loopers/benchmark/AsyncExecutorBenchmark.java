@@ -0,0 +1,80 @@
+package com.loopers.benchmark;
+
+import com.loopers.config.AsyncConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Async 실행기 벤치마크 - 플랫폼 스레드 풀(5~10, 큐 100) 대비 가상 스레드 실행기(동시 200)
+ * - 요청 스레드 REQUEST_THREADS 개가 동시에 블로킹 I/O(IO_MILLIS) 작업을 제출하고 완료를 기다리는 상황을 재현
+ * - Throughput: 초당 완료 작업 수, SampleTime: 작업 지연 분포 (p99 포함)
+ * - callerRuns: 풀이 가득 차 CallerRunsPolicy 로 요청 스레드가 직접 실행한 작업 수
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(AsyncExecutorBenchmark.REQUEST_THREADS)
+@State(Scope.Benchmark)
+public class AsyncExecutorBenchmark {
+
+    static final int REQUEST_THREADS = 200;
+
+    // DB/Redis/PG 호출 대기 시간 가정
+    private static final long IO_MILLIS = 20;
+
+    @Param({"platform", "virtual"})
+    private String executorType;
+
+    private Executor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new AsyncConfig().taskExecutor("virtual".equals(executorType), 200);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CallerRuns {
+
+        public long callerRuns;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            callerRuns = 0;
+        }
+    }
+
+    @Benchmark
+    public void blockingTask(CallerRuns counters) {
+        Thread submitter = Thread.currentThread();
+        CompletableFuture.runAsync(() -> {
+            if (Thread.currentThread() == submitter) {
+                counters.callerRuns++;
+            }
+            sleep(IO_MILLIS);
+        }, executor).join();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.benchmark;
+
+import com.loopers.CommerceApiApplication;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.kafka.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * DB 를 거치는 벤치마크용 commerce-api 컨텍스트
+ * - MySQL/Redis 는 모듈 test-fixtures 컨테이너, Kafka 는 KRaft 단일 노드 컨테이너 사용
+ * - 컨테이너 주소를 시스템 속성으로 먼저 설정한 뒤 test 프로파일(테이블 자동 생성)로 컨텍스트 시작
+ * - 컨테이너는 포크(JVM)마다 새로 뜨므로 벤치마크끼리 데이터가 섞이지 않음
+ */
+final class BenchmarkApplication {
+
+    private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse("apache/kafka:3.8.0"));
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        new MySqlTestContainersConfig();
+        new RedisTestContainersConfig();
+        if (!kafkaContainer.isRunning()) {
+            kafkaContainer.start();
+            System.setProperty("spring.kafka.bootstrap-servers", kafkaContainer.getBootstrapServers());
+            System.setProperty("spring.kafka.admin.properties.bootstrap.servers", kafkaContainer.getBootstrapServers());
+        }
+
+        return new SpringApplicationBuilder(CommerceApiApplication.class)
+                .profiles("test")
+                .properties("server.port=0")
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,122 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.order.OrderCommand;
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderInfo;
+import com.loopers.domain.Money;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.DiscountType;
+import com.loopers.domain.issuedcoupon.IssuedCoupon;
+import com.loopers.domain.issuedcoupon.IssuedCouponRepository;
+import com.loopers.domain.payment.PaymentType;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.coupon.CouponDefinitionCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 벤치마크 - 쿠폰 정의 캐시 적용 전/후 비교 (MySQL/Redis/Kafka 컨테이너)
+ * - withoutCoupon: 쿠폰 없는 주문 (기준)
+ * - withCouponUncached: 주문마다 쿠폰 정의 캐시를 비워 정의를 DB 에서 조회 (캐시 적용 전)
+ * - withCouponCached: 쿠폰 정의를 캐시에서 읽음 (캐시 적용 후)
+ * - 발급 쿠폰은 한 번만 쓸 수 있으므로 반복마다 주문 수만큼 회원/발급 쿠폰을 준비하고, 주문 BATCH_SIZE 건의 소요 시간을 측정
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = CheckoutBenchmark.BATCH_SIZE)
+@Measurement(iterations = 5, batchSize = CheckoutBenchmark.BATCH_SIZE)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckoutBenchmark {
+
+    static final int BATCH_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private OrderFacade orderFacade;
+    private CouponDefinitionCache couponDefinitionCache;
+    private UserRepository userRepository;
+    private IssuedCouponRepository issuedCouponRepository;
+
+    private Long productId;
+    private Coupon coupon;
+    private int userSequence;
+    private final Deque<String> userIds = new ArrayDeque<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("coupon.definition-cache.ttl=1m");
+        orderFacade = context.getBean(OrderFacade.class);
+        couponDefinitionCache = context.getBean(CouponDefinitionCache.class);
+        userRepository = context.getBean(UserRepository.class);
+        issuedCouponRepository = context.getBean(IssuedCouponRepository.class);
+
+        Brand brand = context.getBean(BrandRepository.class).registerBrand(Brand.createBrand("벤치마크브랜드"));
+        productId = context.getBean(ProductRepository.class).registerProduct(
+                Product.createProduct("P001", "벤치마크상품", Money.of(1000), 10_000_000, brand)).getId();
+
+        LocalDate today = LocalDate.now();
+        coupon = context.getBean(CouponRepository.class).registerCoupon(Coupon.createCoupon(
+                "BENCHCHECKOUT1", "벤치마크쿠폰", null, today.minusDays(1), today.plusDays(30), DiscountType.RATE, 10));
+    }
+
+    /**
+     * 반복마다 주문할 회원을 준비 (회원마다 포인트 충전 후 쿠폰 1장 발급)
+     */
+    @Setup(Level.Iteration)
+    public void prepareUsers() {
+        userIds.clear();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String userId = "ck" + (++userSequence);
+            User user = User.createUser(userId, userId + "@bench.com", "1990-01-01", Gender.MALE);
+            user.chargePoint(Money.of(100_000));
+            User savedUser = userRepository.save(user);
+            issuedCouponRepository.save(IssuedCoupon.issue(savedUser, coupon));
+            userIds.add(userId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderInfo withoutCoupon() {
+        return orderFacade.createOrder(order(userIds.pop(), null));
+    }
+
+    @Benchmark
+    public OrderInfo withCouponUncached() {
+        couponDefinitionCache.invalidateAll();
+        return orderFacade.createOrder(order(userIds.pop(), coupon.getId()));
+    }
+
+    @Benchmark
+    public OrderInfo withCouponCached() {
+        return orderFacade.createOrder(order(userIds.pop(), coupon.getId()));
+    }
+
+    private OrderCommand order(String userId, Long couponId) {
+        return new OrderCommand(
+                userId,
+                List.of(new OrderCommand.OrderItemCommand(productId, 1)),
+                couponId,
+                PaymentType.POINT,
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.loopers.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loopers.domain.Money;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크 공통 픽스처
+ */
+final class CheckoutFixtures {
+
+    private CheckoutFixtures() {
+    }
+
+    static User user() {
+        return User.createUser("bench01", "bench@example.com", "1990-01-01", Gender.MALE);
+    }
+
+    /**
+     * 주문 상품 목록 - 상품마다 가격과 수량을 다르게 구성
+     */
+    static Map<Product, Integer> productQuantities(int itemCount) {
+        Brand brand = Brand.createBrand("벤치마크브랜드");
+        Map<Product, Integer> productQuantities = new LinkedHashMap<>();
+        for (int i = 1; i <= itemCount; i++) {
+            Product product = Product.createProduct(
+                    "P" + i,
+                    "상품" + i,
+                    Money.of(1_000L * i + 900),
+                    1_000,
+                    brand
+            );
+            productQuantities.put(product, i % 5 + 1);
+        }
+        return productQuantities;
+    }
+
+    /**
+     * supports:jackson JacksonConfig 와 같은 설정의 ObjectMapper
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .findModulesViaServiceLoader(true)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToEnable(
+                        JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT,
+                        JsonGenerator.Feature.IGNORE_UNKNOWN,
+                        JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN,
+                        DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT,
+                        DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY,
+                        DeserializationFeature.READ_ENUMS_USING_TO_STRING,
+                        DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES
+                )
+                .featuresToDisable(
+                        SerializationFeature.FAIL_ON_EMPTY_BEANS,
+                        DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL,
+                        DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES
+                )
+                .build();
+    }
+}
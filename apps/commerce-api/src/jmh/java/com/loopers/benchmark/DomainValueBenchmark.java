@@ -0,0 +1,86 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.Money;
+import com.loopers.domain.coupon.Discount;
+import com.loopers.domain.coupon.DiscountType;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.orderitem.OrderItem;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.Stock;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 경로의 값 객체 연산 벤치마크 - Money, Discount, Stock, OrderItem
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DomainValueBenchmark {
+
+    private Money price;
+    private Money otherPrice;
+    private Discount rateDiscount;
+    private Discount amountDiscount;
+    private Stock stock;
+    private Order order;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        price = Money.of(129_900);
+        otherPrice = Money.of(4_500);
+        rateDiscount = new Discount(DiscountType.RATE, 15);
+        amountDiscount = new Discount(DiscountType.AMOUNT, 5_000);
+        stock = Stock.of(1_000);
+
+        Map<Product, Integer> productQuantities = CheckoutFixtures.productQuantities(1);
+        product = productQuantities.keySet().iterator().next();
+        order = Order.createOrder(CheckoutFixtures.user(), productQuantities);
+    }
+
+    @Benchmark
+    public Money moneyAdd() {
+        return price.add(otherPrice);
+    }
+
+    @Benchmark
+    public Money moneySubtract() {
+        return price.subtract(otherPrice);
+    }
+
+    @Benchmark
+    public Money moneyMultiply() {
+        return price.multiply(3);
+    }
+
+    @Benchmark
+    public boolean moneyCompare() {
+        return price.isGreaterThanOrEqual(otherPrice);
+    }
+
+    @Benchmark
+    public Money applyRateDiscount() {
+        return rateDiscount.applyDiscount(price);
+    }
+
+    @Benchmark
+    public Money applyAmountDiscount() {
+        return amountDiscount.applyDiscount(price);
+    }
+
+    @Benchmark
+    public Stock stockDecrease() {
+        return stock.decrease(3);
+    }
+
+    @Benchmark
+    public Money orderItemTotalPrice() {
+        return new OrderItem(order, product, 3).getTotalPrice();
+    }
+}
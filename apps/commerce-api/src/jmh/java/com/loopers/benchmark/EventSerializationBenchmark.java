@@ -0,0 +1,67 @@
+package com.loopers.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.event.OrderCreatedEvent;
+import com.loopers.domain.payment.PaymentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 이벤트 직렬화 벤치마크
+ * - OrderFacade: OrderCreatedEvent → outbox payload
+ * - OutboxEventPublisher: payload 파싱 후 Kafka 메시지 envelope 로 다시 직렬화
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventSerializationBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private ObjectMapper objectMapper;
+    private OrderCreatedEvent event;
+    private String payload;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = CheckoutFixtures.objectMapper();
+
+        Order order = Order.createOrder(CheckoutFixtures.user(), CheckoutFixtures.productQuantities(itemCount));
+        List<OrderCreatedEvent.OrderItem> items = order.getOrderItems().stream()
+                .map(item -> new OrderCreatedEvent.OrderItem(
+                        (long) item.getQuantity(),
+                        item.getQuantity(),
+                        item.getPrice().getAmount()
+                ))
+                .toList();
+        event = OrderCreatedEvent.of(1L, 1L, order.getTotalPrice().getAmount(), PaymentType.POINT, items);
+        payload = objectMapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String serializeOrderCreatedEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String createOutboxEnvelope() throws JsonProcessingException {
+        Object payloadObject = objectMapper.readValue(payload, Object.class);
+        Map<String, Object> message = Map.of(
+                "eventId", "1",
+                "eventType", "ORDER_CREATED",
+                "aggregateType", "ORDER",
+                "aggregateId", "1",
+                "payload", payloadObject
+        );
+        return objectMapper.writeValueAsString(message);
+    }
+}
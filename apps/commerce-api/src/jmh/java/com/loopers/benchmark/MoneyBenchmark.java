@@ -0,0 +1,70 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 총액 계산 비교 - long 최소 단위 Money vs BigDecimal 연산
+ * - 라인별 단가 * 수량 합산 후 10% 정률 할인 (Order 생성자 + RateDiscountPolicy 경로)
+ * - bigDecimal* 은 Money 가 BigDecimal 을 감싸던 이전 구현과 같은 연산
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private static final BigDecimal DISCOUNT_RATE = BigDecimal.valueOf(10)
+            .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+
+    @Param({"1", "10", "50"})
+    private int lineCount;
+
+    private Money[] prices;
+    private BigDecimal[] decimalPrices;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        prices = new Money[lineCount];
+        decimalPrices = new BigDecimal[lineCount];
+        quantities = new int[lineCount];
+        for (int i = 0; i < lineCount; i++) {
+            long price = 1_000L * (i + 1) + 900;
+            prices[i] = Money.of(price);
+            decimalPrices[i] = BigDecimal.valueOf(price);
+            quantities[i] = i % 5 + 1;
+        }
+    }
+
+    @Benchmark
+    public Money moneyOrderTotal() {
+        Money total = Money.zero();
+        for (int i = 0; i < lineCount; i++) {
+            total = total.add(prices[i].multiply(quantities[i]));
+        }
+        return total.subtract(total.percentage(10));
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalOrderTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lineCount; i++) {
+            total = validate(total.add(validate(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])))));
+        }
+        return validate(total.subtract(validate(total.multiply(DISCOUNT_RATE))));
+    }
+
+    private static BigDecimal validate(BigDecimal amount) {
+        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalStateException();
+        }
+        return amount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponDefinition;
+import com.loopers.domain.coupon.DiscountType;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 벤치마크 - 재고 검증, OrderItem 생성, 총액 합산, 쿠폰 할인
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private User user;
+    private Map<Product, Integer> productQuantities;
+    private CouponDefinition rateCoupon;
+
+    @Setup
+    public void setUp() {
+        user = CheckoutFixtures.user();
+        productQuantities = CheckoutFixtures.productQuantities(itemCount);
+        rateCoupon = CouponDefinition.from(Coupon.createCoupon(
+                "BENCHRATE10", "10% 할인", "벤치마크 쿠폰",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(30),
+                DiscountType.RATE, 10
+        ));
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return Order.createOrder(user, productQuantities);
+    }
+
+    @Benchmark
+    public Order createOrderWithRateCoupon() {
+        return Order.createOrder(user, productQuantities, rateCoupon, null);
+    }
+}
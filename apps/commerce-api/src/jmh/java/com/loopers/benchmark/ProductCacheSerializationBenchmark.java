@@ -0,0 +1,83 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.brand.BrandInfo;
+import com.loopers.application.product.ProductDetailInfo;
+import com.loopers.application.ranking.RankingInfo;
+import com.loopers.application.ranking.SimpleRankingInfo;
+import com.loopers.config.redis.CacheValueFormat;
+import com.loopers.config.redis.CompactRedisSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 상세 캐시 값 직렬화 벤치마크
+ * - JSON: 기존 productCacheTemplate 형식 (GenericJackson2JsonRedisSerializer, @class 포함)
+ * - SMILE: CompactRedisSerializer 기본 설정 (임계 크기 미만이면 압축 안 함)
+ * - SMILE_LZ4: CompactRedisSerializer 항상 LZ4 압축 (압축 효과 비교용)
+ * - 항목당 바이트 수는 Setup 에서 출력
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductCacheSerializationBenchmark {
+
+    @Param({"JSON", "SMILE", "SMILE_LZ4"})
+    private String format;
+
+    @Param({"true", "false"})
+    private boolean withRankings;
+
+    private RedisSerializer<ProductDetailInfo> serializer;
+    private ProductDetailInfo value;
+    private byte[] encoded;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        serializer = switch (format) {
+            case "JSON" -> (RedisSerializer<ProductDetailInfo>) (RedisSerializer<?>) new GenericJackson2JsonRedisSerializer();
+            case "SMILE" -> new CompactRedisSerializer<>(ProductDetailInfo.class, CacheValueFormat.SMILE, 512);
+            case "SMILE_LZ4" -> new CompactRedisSerializer<>(ProductDetailInfo.class, CacheValueFormat.SMILE, 0);
+            default -> throw new IllegalArgumentException(format);
+        };
+
+        RankingInfo.ProductRankings rankings = withRankings
+                ? new RankingInfo.ProductRankings(
+                        new SimpleRankingInfo(3, 1520.4),
+                        new SimpleRankingInfo(12, 830.1),
+                        new SimpleRankingInfo(7, 2410.0),
+                        new SimpleRankingInfo(5, 1804.7))
+                : null;
+        value = new ProductDetailInfo(
+                12_345L,
+                "P012345",
+                "벤치마크 상품 - 오버핏 코튼 셔츠",
+                new BigDecimal("39900"),
+                1_000,
+                4_821L,
+                new BrandInfo(10L, "벤치마크브랜드", true),
+                rankings
+        );
+        encoded = serializer.serialize(value);
+
+        System.out.printf("%n===== 상품 상세 캐시 값 크기 - format: %s, rankings: %s → %d bytes =====%n",
+                format, withRankings, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public ProductDetailInfo decode() {
+        return serializer.deserialize(encoded);
+    }
+}
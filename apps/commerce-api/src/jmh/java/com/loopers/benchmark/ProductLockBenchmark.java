@@ -0,0 +1,79 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.Money;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상품 잠금 벤치마크 - 상품 단건 잠금 반복 대비 일괄 잠금 (MySQL/Redis/Kafka 컨테이너)
+ * - singleLockLoop: 주문 상품마다 SELECT ... FOR UPDATE (변경 전)
+ * - bulkLock: id 오름차순 한 번의 SELECT ... WHERE id IN (...) FOR UPDATE (변경 후)
+ * - 주문 상품 수(1/10/50)별로 잠금 트랜잭션 하나의 소요 시간을 측정, 상품 순서는 주문마다 섞인 상태로 전달
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductLockBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int lineCount;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private TransactionTemplate transactionTemplate;
+
+    private List<Long> productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        productService = context.getBean(ProductService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        Brand brand = context.getBean(BrandRepository.class).registerBrand(Brand.createBrand("벤치마크브랜드"));
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        productIds = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            productIds.add(productRepository.registerProduct(
+                    Product.createProduct("P" + i, "벤치마크상품" + i, Money.of(1000), 10_000, brand)).getId());
+        }
+        Collections.shuffle(productIds, new Random(42));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int singleLockLoop() {
+        return transactionTemplate.execute(status -> {
+            int locked = 0;
+            for (Long productId : productIds) {
+                productService.getProductWithLock(productId);
+                locked++;
+            }
+            return locked;
+        });
+    }
+
+    @Benchmark
+    public List<Product> bulkLock() {
+        return transactionTemplate.execute(status -> productService.getProductsWithLock(productIds));
+    }
+}
@@ -0,0 +1,152 @@
+package com.loopers.application.coupon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.coupon.CouponDefinition;
+import com.loopers.domain.coupon.CouponIssuanceRepository;
+import com.loopers.domain.coupon.CouponIssueResult;
+import com.loopers.domain.coupon.CouponService;
+import com.loopers.domain.coupon.event.CouponIssueRequestedEvent;
+import com.loopers.domain.issuedcoupon.IssuedCouponService;
+import com.loopers.domain.user.UserService;
+import com.loopers.kafka.AggregateTypes;
+import com.loopers.kafka.KafkaTopics;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 선착순 발급
+ *
+ * 1. 발급 요청: Redis Lua 로 수량/중복 발급을 원자적으로 확인해 발급 대상을 선정 (coupons 행 잠금 없음)
+ * 2. 선정된 요청만 Kafka(coupon.issue) 에 발행 - 소진/중복 요청은 DB 와 Kafka 를 거치지 않음
+ * 3. Consumer 가 발급 요청을 모아 issued_coupons 에 일괄 저장하고 coupons 발급 수량을 쿠폰당 UPDATE 한 번으로 반영
+ *
+ * 발행 실패 시 Redis 선정을 취소해 수량을 되돌림
+ * - 응답 대기 시간 초과 후 브로커에 늦게 기록된 경우 수량 제한을 넘어 발급될 수 있음 (중복 발급은 유니크 키로 방지)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CouponIssueFacade {
+
+    private static final long SEND_TIMEOUT_MS = 3000;
+
+    private final UserService userService;
+    private final CouponService couponService;
+    private final IssuedCouponService issuedCouponService;
+    private final CouponIssuanceRepository couponIssuanceRepository;
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CouponIssueInfo requestIssue(Long couponId, String loginId) {
+        Long userId = userService.getIdByUserId(loginId);
+
+        CouponDefinition coupon = couponService.getValidCoupon(couponId);
+        if (!coupon.active()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "비활성화된 쿠폰입니다");
+        }
+
+        CouponIssueResult result = couponIssuanceRepository.issue(
+                coupon.id(), userId, coupon.maxIssuanceLimit(), issuanceTtl(coupon),
+                () -> couponService.getIssuanceCount(coupon.id()));
+
+        if (result == CouponIssueResult.SOLD_OUT) {
+            throw new CoreException(ErrorType.CONFLICT, "쿠폰이 모두 소진되었습니다.");
+        }
+        if (result == CouponIssueResult.ALREADY_ISSUED) {
+            throw new CoreException(ErrorType.CONFLICT, "이미 발급받은 쿠폰입니다");
+        }
+
+        publish(CouponIssueRequestedEvent.of(coupon.id(), userId));
+
+        return CouponIssueInfo.of(coupon.id(), userId);
+    }
+
+    /**
+     * 발급 요청 일괄 저장 (Consumer 배치 단위 트랜잭션)
+     * - 같은 요청이 재전달되어도 이미 발급된 건은 건너뛰고, 새로 발급할 건수만 발급 수량에 반영
+     * - 실제 저장 건수가 반영한 발급 수량과 다르면 예외로 배치 전체를 롤백 (재전달 시 다시 계산)
+     *   (같은 회원의 요청은 같은 파티션으로 순서대로 처리되어 조회 후 저장 사이에 발급 여부가 바뀌지 않음)
+     * - 발급 수량 반영이 최대 발급 수량을 넘으면 해당 쿠폰의 요청은 저장하지 않고 거절하며,
+     *   거절한 회원의 Redis 선정을 취소해 다시 요청할 수 있게 함 (취소는 선정된 회원에만 적용되어 재전달에도 안전)
+     */
+    @Transactional
+    public void completeIssues(List<CouponIssueRequestedEvent> events) {
+        Map<Long, Set<Long>> userIdsByCoupon = new LinkedHashMap<>();
+        for (CouponIssueRequestedEvent event : events) {
+            userIdsByCoupon.computeIfAbsent(event.couponId(), id -> new LinkedHashSet<>()).add(event.userId());
+        }
+
+        userIdsByCoupon.forEach((couponId, userIds) -> {
+            Set<Long> newUserIds = issuedCouponService.excludeIssued(couponId, userIds);
+            if (newUserIds.isEmpty()) {
+                return;
+            }
+            if (!couponService.increaseIssuanceCount(couponId, newUserIds.size())) {
+                log.error("최대 발급 수량 초과로 발급 거절 - 선정 취소. couponId: {}, 거절: {}", couponId, newUserIds.size());
+                newUserIds.forEach(userId -> couponIssuanceRepository.cancel(couponId, userId));
+                return;
+            }
+
+            int issued = issuedCouponService.issueAll(couponId, newUserIds);
+            if (issued != newUserIds.size()) {
+                throw new IllegalStateException("쿠폰 발급 건수가 발급 수량 반영과 다릅니다. couponId: " + couponId
+                        + ", 반영: " + newUserIds.size() + ", 발급: " + issued);
+            }
+
+            log.info("쿠폰 일괄 발급 - couponId: {}, 요청: {}, 발급: {}", couponId, userIds.size(), issued);
+        });
+    }
+
+    private void publish(CouponIssueRequestedEvent event) {
+        try {
+            kafkaTemplate.send(KafkaTopics.COUPON_ISSUE, event.userId().toString(), createEventMessage(event))
+                    .get(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("쿠폰 발급 요청 발행 실패 - 선정 취소. couponId: {}, userId: {}",
+                    event.couponId(), event.userId(), e);
+            couponIssuanceRepository.cancel(event.couponId(), event.userId());
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "쿠폰 발급 요청에 실패했습니다. 다시 시도해주세요");
+        }
+    }
+
+    /**
+     * 발급 상태는 쿠폰 유효기간 종료 다음날까지 보관
+     */
+    private static Duration issuanceTtl(CouponDefinition coupon) {
+        return Duration.between(LocalDateTime.now(), coupon.validEndDate().plusDays(2).atStartOfDay());
+    }
+
+    /**
+     * OutboxEventPublisher 와 같은 메시지 구조
+     */
+    private String createEventMessage(CouponIssueRequestedEvent event) throws Exception {
+        var message = Map.of(
+                "eventId", UUID.randomUUID().toString(),
+                "eventType", KafkaTopics.Coupon.COUPON_ISSUE_REQUESTED,
+                "aggregateType", AggregateTypes.COUPON,
+                "aggregateId", event.couponId().toString(),
+                "payload", event
+        );
+
+        return objectMapper.writeValueAsString(message);
+    }
+}
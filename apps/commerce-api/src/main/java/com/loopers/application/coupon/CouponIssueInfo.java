@@ -0,0 +1,7 @@
+package com.loopers.application.coupon;
+
+public record CouponIssueInfo(Long couponId, Long userId) {
+    public static CouponIssueInfo of(Long couponId, Long userId) {
+        return new CouponIssueInfo(couponId, userId);
+    }
+}
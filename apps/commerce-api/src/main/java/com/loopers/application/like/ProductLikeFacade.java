@@ -6,6 +6,7 @@ import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
+import com.loopers.support.observation.UseCaseStepObserver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,16 +18,17 @@ public class ProductLikeFacade {
     private final UserService userService;
     private final ProductService productService;
     private final ProductLikeService productLikeService;
+    private final UseCaseStepObserver stepObserver;
 
     @Transactional
     public ProductLikeInfo addLike(Long productId, String userId) {
         // User 정보 조회
-        User user = userService.getUser(userId);
+        User user = stepObserver.observe("user", () -> userService.getUser(userId));
 
         // Product 정보 조회 (동시성 제어를 위해 비관적 락 사용)
-        Product product = productService.getProductWithLock(productId);
+        Product product = stepObserver.observe("product-lock", () -> productService.getProductWithLock(productId));
 
-        ProductLike saved = productLikeService.addLike(user, product);
+        ProductLike saved = stepObserver.observe("like", () -> productLikeService.addLike(user, product));
 
         return ProductLikeInfo.from(saved);
     }
@@ -34,11 +36,11 @@ public class ProductLikeFacade {
     @Transactional
     public void cancelLike(Long productId, String userId) {
         // User 정보 조회
-        User user = userService.getUser(userId);
+        User user = stepObserver.observe("user", () -> userService.getUser(userId));
 
         // Product 정보 조회 (동시성 제어를 위해 비관적 락 사용)
-        Product product = productService.getProductWithLock(productId);
+        Product product = stepObserver.observe("product-lock", () -> productService.getProductWithLock(productId));
 
-        productLikeService.cancelLike(user, product);
+        stepObserver.observe("like", () -> productLikeService.cancelLike(user, product));
     }
 }
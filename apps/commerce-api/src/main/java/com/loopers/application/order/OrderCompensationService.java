@@ -3,6 +3,7 @@ package com.loopers.application.order;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderService;
 import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.point.PointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -24,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderCompensationService {
 
     private final OrderService orderService;
+    private final PointService pointService;
 
     /**
      * 기본 주문 보상 트랜잭션
@@ -94,10 +96,10 @@ public class OrderCompensationService {
                     orderItem.getProduct().getProductName(), orderItem.getQuantity());
         });
 
-        // 2. 포인트 환불
-        order.getUser().refundPoint(order.getTotalPrice());
+        // 2. 포인트 환불 (조건부 UPDATE + 원장 기록)
+        pointService.refund(order.getUser().getId(), order.getTotalPrice(), order.getId());
         log.info("포인트 환불 완료 - UserId: {}, Amount: {}",
-                order.getUser().getUserId(), order.getTotalPrice().getAmount());
+                order.getUser().getId(), order.getTotalPrice().getAmount());
 
         // 3. 쿠폰 복구
         if (order.getIssuedCoupon() != null) {
@@ -1,10 +1,8 @@
 package com.loopers.application.order;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.payment.PaymentProcessor;
 import com.loopers.domain.activity.event.UserActivityEvent;
-import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponDefinition;
 import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.coupon.event.CouponUsedEvent;
 import com.loopers.domain.issuedcoupon.IssuedCoupon;
@@ -12,23 +10,28 @@ import com.loopers.domain.issuedcoupon.IssuedCouponService;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderService;
 import com.loopers.domain.order.event.OrderCreatedEvent;
+import com.loopers.domain.outbox.OutboxEventDraft;
 import com.loopers.domain.outbox.OutboxEventService;
 import com.loopers.domain.payment.PaymentType;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
-import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
 import com.loopers.kafka.AggregateTypes;
 import com.loopers.kafka.KafkaTopics;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.observation.UseCaseStepObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.loopers.kafka.KafkaTopics.Order.*;
 import static com.loopers.kafka.KafkaTopics.UserActivity;
@@ -47,174 +50,166 @@ public class OrderFacade {
     private final PaymentProcessor paymentProcessor;
 
     private final OutboxEventService outboxEventService;
-    private final ObjectMapper objectMapper;
 
+    private final UseCaseStepObserver stepObserver;
+
+    /**
+     * 주문 생성
+     * - 단계별 소요 시간은 usecase.step{usecase=OrderFacade.createOrder, step} 으로 기록
+     */
     @Transactional
     public OrderInfo createOrder(OrderCommand command) {
-        // 1. User 정보 조회
-        User user = userService.getUser(command.userId());
+        // 1. 회원 PK 조회 (잠금/엔티티 조회 없이 PK 만 사용, 포인트 차감은 결제 단계의 조건부 UPDATE 가 담당)
+        Long userId = stepObserver.observe("user", () -> userService.getIdByUserId(command.userId()));
 
         // 2. 쿠폰 처리
-        Coupon coupon = null;
+        CouponDefinition coupon = null;
         IssuedCoupon issuedCoupon = null;
         if (command.couponId() != null) {
-            // 1. 쿠폰 유효성 검증 (실패 시 예외)
-            coupon = couponService.getValidCoupon(command.couponId());
-            issuedCoupon = issuedCouponService
-                    .getIssuedCouponByUser(user.getId(), command.couponId());
+            // 1. 쿠폰 유효성 검증 (실패 시 예외, 쿠폰 정의는 로컬 캐시에서 조회)
+            coupon = stepObserver.observe("coupon", () -> couponService.getValidCoupon(command.couponId()));
 
-            // 2. 사전 검증을 통해 쿠폰 사용 가능 여부 검증
-            issuedCoupon.validateCanUseCoupon();
+            // 2. 보유 여부와 사용 가능 상태를 한 번의 조회로 검증
+            issuedCoupon = stepObserver.observe("issued-coupon-lock", () -> issuedCouponService
+                    .getUsableIssuedCoupon(userId, command.couponId()));
         }
 
         // 3. 상품 조회 (Pessimistic Lock)
-        Map<Product, Integer> productQuantities = getProductQuantities(command);
+        Map<Product, Integer> productQuantities = stepObserver.observe("product-lock", () -> getProductQuantities(command));
 
         // 4. 주문 생성
-        Order order = Order.createOrder(user, productQuantities, coupon, issuedCoupon);
+        Order order = Order.createOrder(userService.getUserReference(userId), productQuantities, coupon, issuedCoupon);
 
         // 5. 재고 차감
         productQuantities.forEach(Product::decreaseStock);
 
         // 6. 주문 저장 (Payment가 Order를 참조하기 전에 먼저 저장)
-        Order savedOrder = orderService.registerOrder(order);
+        Order savedOrder = stepObserver.observe("order-save", () -> orderService.registerOrder(order));
 
         // 7. 결제 처리(Command)
-        if (command.paymentType() == PaymentType.POINT) {
-            paymentProcessor.processPointPayment(
-                    user.getId(),
-                    savedOrder.getId()
-            );
-        } else if (command.paymentType() == PaymentType.CARD) {
-            paymentProcessor.processCardPayment(
-                    savedOrder.getId(),
-                    command.cardType(),
-                    command.cardNo()
-            );
-        }
+        stepObserver.observe("payment", () -> {
+            if (command.paymentType() == PaymentType.POINT) {
+                paymentProcessor.processPointPayment(
+                        userId,
+                        savedOrder.getId()
+                );
+            } else if (command.paymentType() == PaymentType.CARD) {
+                paymentProcessor.processCardPayment(
+                        savedOrder.getId(),
+                        command.cardType(),
+                        command.cardNo()
+                );
+            }
+        });
 
-        // 8. 쿠폰 사용 처리 (이벤트 발행 실패 시에도 주문은 성공 처리)
+        // 8. 이벤트 발행 - 쿠폰 사용, 주문 생성 완료, 사용자 행동 추적을 한 번의 Outbox INSERT 로 저장
+        //    (직렬화 실패 시에도 주문은 성공 처리)
+        List<OutboxEventDraft> events = new ArrayList<>(3);
         if (issuedCoupon != null) {
-            publishCouponUsedEvent(user, coupon, savedOrder, order);
+            events.add(couponUsedEvent(userId, coupon, savedOrder, order));
         }
-
-        // 9. 주문 생성 완료 이벤트 발행 (이벤트 발행 실패 시에도 주문은 성공 처리)
-        publishOrderCreatedEvent(savedOrder, user, command);
-
-        // 10. 사용자 행동 추적 이벤트 발행 (이벤트 발행 실패 시에도 주문은 성공 처리)
-        publishUserActivityEvent(user, savedOrder);
+        events.add(orderCreatedEvent(savedOrder, userId, command));
+        events.add(userActivityEvent(command.userId(), savedOrder));
+        stepObserver.observe("outbox", () -> outboxEventService.createOutboxEvents(events));
 
         return OrderInfo.from(savedOrder);
     }
 
     /**
      * 상품 조회 및 검증
+     * - 중복 상품은 DB 조회 전에 검증
+     * - 주문 상품 전체를 id 순서로 한 번에 잠금 (상품 순서가 다른 주문끼리 교착 상태 방지)
      */
     private Map<Product, Integer> getProductQuantities(OrderCommand command) {
-        Map<Product, Integer> productQuantities = new HashMap<>();
+        Map<Long, Integer> quantitiesById = new LinkedHashMap<>();
         for (OrderCommand.OrderItemCommand item : command.items()) {
-            Product product = productService.getProductWithLock(item.productId());
-
-            if (productQuantities.containsKey(product)) {
+            if (item.productId() == null) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "상품 ID는 필수값입니다");
+            }
+            if (quantitiesById.containsKey(item.productId())) {
                 throw new CoreException(ErrorType.BAD_REQUEST, "동일 상품이 중복으로 요청되었습니다");
             }
+            quantitiesById.put(item.productId(), item.quantity());
+        }
 
-            productQuantities.put(product, item.quantity());
+        if (quantitiesById.isEmpty()) {
+            return Map.of(); // 주문 상품 필수 검증은 Order 에서 수행
         }
+
+        Map<Long, Product> productsById = productService.getProductsWithLock(List.copyOf(quantitiesById.keySet()))
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 주문 항목은 요청 순서 유지
+        Map<Product, Integer> productQuantities = new LinkedHashMap<>();
+        quantitiesById.forEach((productId, quantity) -> productQuantities.put(productsById.get(productId), quantity));
         return productQuantities;
     }
 
     /**
-     * 쿠폰 사용 이벤트 발행
-     * 실패 시에도 주문 트랜잭션에 영향을 주지 않음
+     * 쿠폰 사용 이벤트
      */
-    private void publishCouponUsedEvent(User user, Coupon coupon, Order savedOrder, Order order) {
-        try {
-            CouponUsedEvent couponUsedEvent = CouponUsedEvent.of(
-                    user.getId(),
-                    coupon.getId(),
-                    savedOrder.getId(),
-                    order.getTotalPrice()
-            );
-
-            String couponUsePayload = objectMapper.writeValueAsString(couponUsedEvent);
-
-            outboxEventService.createOutboxEvent(
-                    AggregateTypes.COUPON,
-                    savedOrder.getId().toString(),
-                    KafkaTopics.Coupon.COUPON_USED,
-                    couponUsePayload
-            );
-        } catch (JsonProcessingException e) {
-            // 이벤트 발행 실패 시 로그만 남기고 주문은 성공 처리
-            log.error("CouponUsedEvent 직렬화 실패 - 주문은 성공 처리됨. orderId: {}, couponId: {}",
-                    savedOrder.getId(), coupon.getId(), e);
-        }
+    private OutboxEventDraft couponUsedEvent(Long userId, CouponDefinition coupon, Order savedOrder, Order order) {
+        CouponUsedEvent couponUsedEvent = CouponUsedEvent.of(
+                userId,
+                coupon.id(),
+                savedOrder.getId(),
+                order.getTotalPrice()
+        );
+
+        return OutboxEventDraft.of(
+                AggregateTypes.COUPON,
+                savedOrder.getId().toString(),
+                KafkaTopics.Coupon.COUPON_USED,
+                couponUsedEvent
+        );
     }
 
     /**
-     * 주문 생성 이벤트 발행
-     * 실패 시에도 주문 트랜잭션에 영향을 주지 않음
+     * 주문 생성 이벤트
      */
-    private void publishOrderCreatedEvent(Order savedOrder, User user, OrderCommand command) {
-        try {
-            // 저장된 Order의 OrderItem에서 실제 가격 정보 포함
-            var orderItems = savedOrder.getOrderItems().stream()
-                    .map(item -> new OrderCreatedEvent.OrderItem(
-                            item.getProduct().getId(),
-                            item.getQuantity(),
-                            item.getPrice().getAmount()  // 상품 단가
-                    ))
-                    .toList();
-
-            OrderCreatedEvent orderCreatedEvent = OrderCreatedEvent.of(
-                    savedOrder.getId(),
-                    user.getId(),
-                    savedOrder.getTotalPrice().getAmount(),
-                    command.paymentType(),
-                    orderItems
-            );
-
-            String orderCreatePayload = objectMapper.writeValueAsString(orderCreatedEvent);
-
-            outboxEventService.createOutboxEvent(
-                    AggregateTypes.ORDER,
-                    savedOrder.getId().toString(),
-                    ORDER_CREATED,
-                    orderCreatePayload
-            );
-        } catch (JsonProcessingException e) {
-            // 이벤트 발행 실패 시 로그만 남기고 주문은 성공 처리
-            log.error("OrderCreatedEvent 직렬화 실패 - 주문은 성공 처리됨. orderId: {}",
-                    savedOrder.getId(), e);
-        }
+    private OutboxEventDraft orderCreatedEvent(Order savedOrder, Long userId, OrderCommand command) {
+        // 저장된 Order의 OrderItem에서 실제 가격 정보 포함
+        var orderItems = savedOrder.getOrderItems().stream()
+                .map(item -> new OrderCreatedEvent.OrderItem(
+                        item.getProduct().getId(),
+                        item.getQuantity(),
+                        item.getPrice().getAmount()  // 상품 단가
+                ))
+                .toList();
+
+        OrderCreatedEvent orderCreatedEvent = OrderCreatedEvent.of(
+                savedOrder.getId(),
+                userId,
+                savedOrder.getTotalPrice().getAmount(),
+                command.paymentType(),
+                orderItems
+        );
+
+        return OutboxEventDraft.of(
+                AggregateTypes.ORDER,
+                savedOrder.getId().toString(),
+                ORDER_CREATED,
+                orderCreatedEvent
+        );
     }
 
     /**
-     * 사용자 활동 이벤트 발행
-     * 실패 시에도 주문 트랜잭션에 영향을 주지 않음
+     * 사용자 활동 이벤트
      */
-    private void publishUserActivityEvent(User user, Order savedOrder) {
-        try {
-            UserActivityEvent userActivityEvent = UserActivityEvent.of(
-                    user.getUserId(),
-                    "ORDER_CREATED",
-                    "ORDER",
-                    savedOrder.getId()
-            );
-
-            String userActivityPayload = objectMapper.writeValueAsString(userActivityEvent);
-
-            outboxEventService.createOutboxEvent(
-                    AggregateTypes.ACTIVITY,
-                    savedOrder.getId().toString(),
-                    UserActivity.USER_ACTIVITY,
-                    userActivityPayload
-            );
-        } catch (JsonProcessingException e) {
-            // 이벤트 발행 실패 시 로그만 남기고 주문은 성공 처리
-            log.error("UserActivityEvent 직렬화 실패 - 주문은 성공 처리됨. orderId: {}, userId: {}",
-                    savedOrder.getId(), user.getId(), e);
-        }
+    private OutboxEventDraft userActivityEvent(String userId, Order savedOrder) {
+        UserActivityEvent userActivityEvent = UserActivityEvent.of(
+                userId,
+                "ORDER_CREATED",
+                "ORDER",
+                savedOrder.getId()
+        );
+
+        return OutboxEventDraft.of(
+                AggregateTypes.ACTIVITY,
+                savedOrder.getId().toString(),
+                UserActivity.USER_ACTIVITY,
+                userActivityEvent
+        );
     }
 }
@@ -0,0 +1,142 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxService;
+import com.loopers.support.jdbc.ConnectionUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PG 콜백 인박스 워커
+ * - 반영 대기 콜백을 배치 단위로 잠금 조회 (FOR UPDATE SKIP LOCKED) → 워커 여러 대가 서로 다른 배치를 처리
+ * - 같은 거래 키의 중복 콜백은 마지막 한 건만 반영하고 나머지는 함께 완료 처리
+ * - 배치 전체를 트랜잭션 1개로 반영 (결제·주문 조회 1회, 인박스 상태 UPDATE 1~2회)
+ * - 배치 반영이 실패하면 해당 배치만 건별 트랜잭션으로 다시 반영해 문제 콜백을 격리
+ * - 결제를 찾지 못한 콜백(거래 키 저장 전 도착)은 다음 주기에 재시도, max-attempts 도달 시 FAILED
+ *   (FAILED 콜백의 결제는 PaymentStatusCheckScheduler가 PG 상태 조회로 보정)
+ */
+@Slf4j
+@Component
+public class PaymentCallbackInboxWorker {
+
+    private static final String USE_CASE = "payment.callback.batch";
+
+    private final PaymentCallbackInboxService paymentCallbackInboxService;
+    private final PaymentFacade paymentFacade;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public PaymentCallbackInboxWorker(
+            PaymentCallbackInboxService paymentCallbackInboxService,
+            PaymentFacade paymentFacade,
+            TransactionTemplate transactionTemplate,
+            @Value("${payment.callback.worker.batch-size:200}") int batchSize,
+            @Value("${payment.callback.worker.max-attempts:20}") int maxAttempts
+    ) {
+        this.paymentCallbackInboxService = paymentCallbackInboxService;
+        this.paymentFacade = paymentFacade;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 반영 대기 콜백 처리
+     * - 배치가 가득 차 모두 반영되면 대기 없이 다음 배치를 이어서 처리 (적체 해소)
+     */
+    @Scheduled(fixedDelayString = "${payment.callback.worker.interval-ms:500}")
+    public void processCallbacks() {
+        try {
+            int processed;
+            do {
+                processed = processBatch();
+            } while (processed == batchSize);
+        } catch (Exception e) {
+            log.error("[결제 콜백 워커] 콜백 반영 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 배치 1개 반영
+     * @return 완료 처리한 콜백 수
+     */
+    int processBatch() {
+        List<Long> batchIds = new ArrayList<>();
+        try (ConnectionUseCase.Scope ignored = ConnectionUseCase.open(USE_CASE)) {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<PaymentCallbackInbox> received = paymentCallbackInboxService.lockReceived(batchSize);
+                received.forEach(inbox -> batchIds.add(inbox.getId()));
+                return apply(received);
+            });
+            return processed != null ? processed : 0;
+        } catch (RuntimeException e) {
+            log.warn("[결제 콜백 워커] 배치 반영 실패, 건별 반영으로 전환 - {}건", batchIds.size(), e);
+            return processOneByOne(batchIds);
+        }
+    }
+
+    private int processOneByOne(List<Long> ids) {
+        int processed = 0;
+        for (Long id : ids) {
+            try (ConnectionUseCase.Scope ignored = ConnectionUseCase.open(USE_CASE)) {
+                Integer count = transactionTemplate.execute(status ->
+                        apply(paymentCallbackInboxService.lockReceived(List.of(id))));
+                processed += count != null ? count : 0;
+            } catch (RuntimeException e) {
+                log.error("[결제 콜백 워커] 콜백 반영 실패 - inboxId: {}", id, e);
+                transactionTemplate.executeWithoutResult(status ->
+                        paymentCallbackInboxService.recordFailure(List.of(id), maxAttempts));
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 거래 키별 마지막 콜백만 반영하고 인박스 상태 갱신
+     * @return 완료 처리한 콜백 수 (병합된 중복 콜백 포함)
+     */
+    private int apply(List<PaymentCallbackInbox> received) {
+        if (received.isEmpty()) {
+            return 0;
+        }
+
+        // id 오름차순이므로 나중에 수신한 콜백이 앞선 콜백을 덮어씀
+        Map<String, PaymentCallbackInbox> latest = new LinkedHashMap<>();
+        for (PaymentCallbackInbox inbox : received) {
+            latest.put(inbox.getTransactionKey(), inbox);
+        }
+
+        Set<String> applied = paymentFacade.handlePaymentCallbacks(latest.values().stream()
+                .map(inbox -> new PaymentCallbackInfo(
+                        inbox.getTransactionKey(),
+                        inbox.getPaymentStatus(),
+                        inbox.getReason()
+                ))
+                .toList());
+
+        List<Long> processedIds = new ArrayList<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (PaymentCallbackInbox inbox : received) {
+            (applied.contains(inbox.getTransactionKey()) ? processedIds : missedIds).add(inbox.getId());
+        }
+
+        paymentCallbackInboxService.markProcessed(processedIds);
+        paymentCallbackInboxService.recordFailure(missedIds, maxAttempts);
+
+        if (received.size() > latest.size() || !missedIds.isEmpty()) {
+            log.info("[결제 콜백 워커] 배치 반영 - 수신: {}건, 반영: {}건, 중복 병합: {}건, 결제 미조회: {}건",
+                    received.size(), applied.size(), received.size() - latest.size(), missedIds.size());
+        }
+        return processedIds.size();
+    }
+}
@@ -7,16 +7,20 @@ import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentGateway;
 import com.loopers.domain.payment.PaymentResult;
 import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.PaymentStatus;
 import com.loopers.domain.payment.event.CardPaymentProcessingStartedEvent;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.jdbc.ConnectionUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -25,41 +29,57 @@ import java.time.LocalDateTime;
  * Payment Domain Event Listener
  * 처리하는 Event:
  * - CardPaymentProcessingStartedEvent: 비동기 PG 호출
+ *
+ * PG 호출 동안 DB 커넥션을 점유하지 않도록 단계를 분리한다:
+ * 1. 조회 단계 - 짧은 읽기 후 커넥션 반납
+ * 2. PG 호출 - 트랜잭션/커넥션 없음
+ * 3. 쓰기 단계 - 짧은 트랜잭션에서 조회 시점 버전을 확인하고 상태 반영
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentEventListener {
 
+    static final String READ_USE_CASE = "payment.card.read";
+    static final String WRITE_USE_CASE = "payment.card.write";
+
     @Value("${payment.callback.base-url}")
     private String callbackBaseUrl;
 
     private final PaymentService paymentService;
     private final PaymentGateway paymentGateway;
     private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * PG 결제 처리 이벤트
      * Payment가 PENDING 상태로 저장된 후 발행되는 이벤트
      *
-     * 1. Payment 조회
-     * 2. PG 호출 (외부 API)
-     * 3. 성공 시: Payment → PROCESSING, Order → RECEIVED
+     * 1. Payment 조회 (PENDING이 아니면 이미 처리된 이벤트로 보고 종료)
+     * 2. PG 호출 (외부 API, 커넥션 미점유)
+     * 3. 성공 시: 버전 확인 후 Payment → PROCESSING, Order → RECEIVED
      * 4. 실패 시: Payment PENDING 유지 (Scheduler가 재시도)
      */
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleCardPaymentProcessingStarted(CardPaymentProcessingStartedEvent event) {
         log.info("[PG 호출 시작] paymentId={}, orderId={}, startedAt={}",
                 event.paymentId(), event.orderId(), event.startedAt());
 
         try {
-            // 1. Payment와 Order 조회
-            Payment payment = paymentService.getPaymentByPaymentId(event.paymentId());
-            Order order = orderService.getOrderById(event.orderId());
+            // 1. 조회 단계 - 조회 후 바로 커넥션 반납 (PG 요청에 필요한 값과 버전만 사용)
+            Payment payment;
+            try (ConnectionUseCase.Scope ignored = ConnectionUseCase.open(READ_USE_CASE)) {
+                payment = paymentService.getPaymentByPaymentId(event.paymentId());
+            }
+
+            if (payment.getStatus() != PaymentStatus.PENDING) {
+                log.warn("[PG 호출 생략] 이미 처리된 결제 - paymentId={}, status={}",
+                        event.paymentId(), payment.getStatus());
+                return;
+            }
 
-            // 2. PG 호출 (외부 API - 시간이 걸릴 수 있음)
+            // 2. PG 호출 (외부 API - 시간이 걸릴 수 있음, 트랜잭션 밖에서 실행)
             String callbackUrl = callbackBaseUrl + "/api/v1/payments/callback";
             PaymentResult result = paymentGateway.processPayment(
                     event.userId(),
@@ -77,9 +97,17 @@ public class PaymentEventListener {
                 return;
             }
 
-            // 4. PG 성공 시 상태 업데이트 (JPA 변경 감지로 자동 저장)
-            payment.startProcessing(result.transactionId());
-            order.updateStatus(OrderStatus.RECEIVED);
+            // 4. 쓰기 단계 - 조회 시점 버전 확인 후 상태 업데이트 (JPA 변경 감지로 자동 저장)
+            try (ConnectionUseCase.Scope ignored = ConnectionUseCase.open(WRITE_USE_CASE)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Payment current = paymentService.getPaymentByPaymentId(event.paymentId());
+                    current.verifyVersion(payment.getVersion());
+                    current.startProcessing(result.transactionId());
+
+                    Order order = orderService.getOrderById(event.orderId());
+                    order.updateStatus(OrderStatus.RECEIVED);
+                });
+            }
 
             log.info("[PG 호출 성공] paymentId={}, orderId={}, transactionId={}, 소요시간={}ms",
                     event.paymentId(), event.orderId(), result.transactionId(), elapsed.toMillis());
@@ -90,11 +118,25 @@ public class PaymentEventListener {
                         event.paymentId(), elapsed.toMillis());
             }
 
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("[PG 결과 반영 충돌] PG 호출 중 결제가 다른 요청에 의해 변경됨 - paymentId={}, error={}",
+                    event.paymentId(), e.getMessage());
+        } catch (CoreException e) {
+            if (e.getErrorType() != ErrorType.CONFLICT) {
+                logFailure(event, e);
+                return;
+            }
+            log.warn("[PG 결과 반영 충돌] PG 호출 중 결제가 다른 요청에 의해 변경됨 - paymentId={}, error={}",
+                    event.paymentId(), e.getMessage());
         } catch (Exception e) {
-            Duration elapsed = Duration.between(event.startedAt(), LocalDateTime.now());
-            log.error("[PG 호출 실패] paymentId={}, 소요시간={}ms, Payment는 PENDING 유지 (Scheduler 재시도 대상)",
-                    event.paymentId(), elapsed.toMillis(), e);
-            // Payment는 PENDING 유지 - Scheduler가 나중에 재시도
+            logFailure(event, e);
         }
     }
+
+    private void logFailure(CardPaymentProcessingStartedEvent event, Exception e) {
+        Duration elapsed = Duration.between(event.startedAt(), LocalDateTime.now());
+        log.error("[PG 호출 실패] paymentId={}, 소요시간={}ms, Payment는 PENDING 유지 (Scheduler 재시도 대상)",
+                event.paymentId(), elapsed.toMillis(), e);
+        // Payment는 PENDING 유지 - Scheduler가 나중에 재시도
+    }
 }
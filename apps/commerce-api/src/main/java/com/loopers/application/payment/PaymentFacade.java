@@ -5,41 +5,83 @@ import com.loopers.domain.order.Order;
 import com.loopers.domain.order.event.OrderCompletedEvent;
 import com.loopers.domain.order.event.OrderFailureEvent;
 import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentCallbackInboxService;
 import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.PaymentStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentFacade {
 
     private final PaymentService paymentService;
+    private final PaymentCallbackInboxService paymentCallbackInboxService;
     private final OrderCompensationService compensationService;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * PG 콜백 처리
+     * PG 콜백 수신
+     * - 인박스에 한 건 적재하고 즉시 반환 (결제/주문 반영은 PaymentCallbackInboxWorker가 일괄 처리)
+     */
+    @Transactional
+    public void receivePaymentCallback(PaymentCallbackInfo command) {
+        paymentCallbackInboxService.receive(command.transactionKey(), command.status(), command.reason());
+    }
+
+    /**
+     * PG 콜백 묶음 수신 - 인박스에 한 번에 적재
+     */
+    @Transactional
+    public void receivePaymentCallbacks(List<PaymentCallbackInfo> commands) {
+        commands.forEach(command ->
+                paymentCallbackInboxService.receive(command.transactionKey(), command.status(), command.reason()));
+    }
+
+    /**
+     * PG 콜백 일괄 반영
+     * - 거래 키 목록의 결제·주문·사용자를 조회 1회로 로딩
+     * - 같은 거래 키의 콜백은 호출 측에서 마지막 한 건으로 병합해 전달
+     *
+     * @return 반영한 거래 키 (결제를 찾지 못한 거래 키는 제외 - 거래 키 저장 전에 도착한 콜백)
      */
     @Transactional
-    public void handlePaymentCallback(PaymentCallbackInfo command) {
-        log.info("Processing payment callback - TransactionKey: {}, Status: {}",
-                command.transactionKey(), command.status());
-
-        // 1. transactionKey로 Payment 조회
-        Payment payment = paymentService.getPaymentByTransactionKey(command.transactionKey());
-
-        // 2. 결제 상태별 처리
-        if ("SUCCESS".equals(command.status())) {
-            handleSuccessPayment(payment);
-        } else if ("FAILED".equals(command.status())) {
-            handleFailedPayment(payment, command.reason());
-        } else {
-            log.warn("Unknown payment status: {}", command.status());
+    public Set<String> handlePaymentCallbacks(List<PaymentCallbackInfo> commands) {
+        Map<String, Payment> payments = paymentService.getPaymentsByTransactionKeys(
+                commands.stream().map(PaymentCallbackInfo::transactionKey).toList()
+        );
+
+        Set<String> applied = new HashSet<>();
+        for (PaymentCallbackInfo command : commands) {
+            Payment payment = payments.get(command.transactionKey());
+            if (payment == null) {
+                log.warn("결제 정보를 찾을 수 없습니다 - TransactionKey: {}", command.transactionKey());
+                continue;
+            }
+
+            log.info("Processing payment callback - TransactionKey: {}, Status: {}",
+                    command.transactionKey(), command.status());
+
+            // 결제 상태별 처리
+            if ("SUCCESS".equals(command.status())) {
+                handleSuccessPayment(payment);
+            } else if ("FAILED".equals(command.status())) {
+                handleFailedPayment(payment, command.reason());
+            } else {
+                log.warn("Unknown payment status: {}", command.status());
+            }
+            applied.add(command.transactionKey());
         }
+        return applied;
     }
 
     /**
@@ -48,6 +90,12 @@ public class PaymentFacade {
     private void handleSuccessPayment(Payment payment) {
         log.info("결제 성공 처리 시작 - PaymentId: {}", payment.getPaymentId());
 
+        // 멱등성 보장: 이미 성공 처리된 결제는 스킵 (PG 콜백 재전송)
+        if (payment.getStatus() == PaymentStatus.SUCCESS) {
+            log.warn("이미 성공 처리된 결제입니다 - PaymentId: {}", payment.getPaymentId());
+            return;
+        }
+
         // 결제 완료 처리 (도메인 로직)
         payment.completePayment();
 
@@ -78,7 +126,7 @@ public class PaymentFacade {
                 payment.getPaymentId(), reason);
 
         // 멱등성 보장: 이미 실패 처리된 결제는 스킵
-        if (payment.getStatus() == com.loopers.domain.payment.PaymentStatus.FAILED) {
+        if (payment.getStatus() == PaymentStatus.FAILED) {
             log.warn("이미 실패 처리된 결제입니다 - PaymentId: {}", payment.getPaymentId());
             return;
         }
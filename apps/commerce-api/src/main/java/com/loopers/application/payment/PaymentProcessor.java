@@ -5,8 +5,7 @@ import com.loopers.domain.order.OrderService;
 import com.loopers.domain.payment.*;
 import com.loopers.domain.payment.event.CardPaymentProcessingStartedEvent;
 import com.loopers.domain.payment.event.PaymentCompletedEvent;
-import com.loopers.domain.user.User;
-import com.loopers.domain.user.UserService;
+import com.loopers.domain.point.PointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -31,7 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaymentProcessor {
 
     private final PaymentService paymentService;
-    private final UserService userService;
+    private final PointService pointService;
     private final OrderService orderService;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -42,8 +41,8 @@ public class PaymentProcessor {
      * @param orderId 결제할 주문 ID
      *
      * 처리 순서:
-     * 1. User와 Order 조회 (영속 상태로 가져옴)
-     * 2. 포인트 차감
+     * 1. Order 조회 (영속 상태로 가져옴)
+     * 2. 포인트 차감 (users 행을 잠그고 읽지 않고 조건부 UPDATE 로 차감, 원장 기록)
      * 3. Payment 생성 및 완료 (PENDING → SUCCESS)
      * 4. Payment 저장
      * 5. 주문 완료 처리 (OrderStatus.COMPLETED)
@@ -53,15 +52,14 @@ public class PaymentProcessor {
     public void processPointPayment(Long userId, Long orderId) {
         log.info("[포인트 결제 시작] userId={}, orderId={}", userId, orderId);
 
-        // 1. User와 Order 조회
-        User user = userService.getUserById(userId);
+        // 1. Order 조회
         Order order = orderService.getOrderById(orderId);
 
-        // 2. 포인트 차감
-        user.usePoint(order.getTotalPrice());
+        // 2. 포인트 차감 (잔액 부족 시 예외)
+        pointService.use(userId, order.getTotalPrice(), orderId);
 
         // 3. Payment 생성 및 완료 (PENDING → SUCCESS)
-        Payment payment = Payment.createPointPayment(order, user);
+        Payment payment = Payment.createPointPayment(order, order.getUser());
         paymentService.save(payment);
         payment.completePointPayment();
 
@@ -5,6 +5,7 @@ import com.loopers.application.ranking.RankingInfo;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
 import com.loopers.interfaces.api.product.ProductSearchCondition;
+import com.loopers.support.observation.UseCaseStepObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -21,8 +22,9 @@ public class ProductFacade {
 
     private final ProductService productService;
     private final RankingFacade rankingFacade;
-    private final RedisTemplate<String, Object> productCacheTemplate;
-    private final ProductEventPublisher productEventPublisher;
+    private final RedisTemplate<String, ProductDetailInfo> productDetailCacheTemplate;
+    private final ProductViewEventBuffer productViewEventBuffer;
+    private final UseCaseStepObserver stepObserver;
 
     // 캐시 설정
     private static final String CACHE_PREFIX = "product:detail:";
@@ -35,20 +37,25 @@ public class ProductFacade {
      * 2. 캐시 히트: 캐시 데이터 반환
      * 3. 캐시 미스: DB 조회 후 캐시 저장
      * 4. Redis 장애 시: DB 조회 (Fallback)
+     *
+     * 단계별 소요 시간은 usecase.step{usecase=ProductFacade.getProductDetail, step} 으로 기록
+     *
+     * @param viewerId 고유 조회자 집계용 조회자 식별자 (회원 ID 또는 비회원 식별자)
      */
     @Transactional(readOnly = true)
-    public ProductDetailInfo getProductDetail(Long productId) {
+    public ProductDetailInfo getProductDetail(Long productId, String viewerId) {
         String cacheKey = CACHE_PREFIX + productId;
 
         try {
             // 1. 캐시 조회 시도
-            Object cached = productCacheTemplate.opsForValue().get(cacheKey);
+            ProductDetailInfo cachedProduct = stepObserver.observe("cache-read",
+                    () -> productDetailCacheTemplate.opsForValue().get(cacheKey));
 
-            if (cached instanceof ProductDetailInfo cachedProduct) {
+            if (cachedProduct != null) {
                 log.debug("Cache HIT for productId: {}", productId);
 
-                // 캐시 히트인 경우에도 이벤트 발행 (별도 트랜잭션)
-                productEventPublisher.publishProductViewedEvent(productId);
+                // 캐시 히트인 경우에도 조회 수 집계 (메모리 버퍼, 주기적으로 Kafka 발행)
+                productViewEventBuffer.recordView(productId, viewerId);
 
                 return cachedProduct;
             }
@@ -59,10 +66,10 @@ public class ProductFacade {
         log.debug("Cache MISS for productId: {}", productId);
 
         // 2. 캐시 미스: DB 조회 (트랜잭션 컨텍스트 내에서 실행)
-        Product product = productService.getProductDetail(productId);
+        Product product = stepObserver.observe("product", () -> productService.getProductDetail(productId));
         // 랭킹 정보를 조회( 오늘 날짜 조회 )
-        RankingInfo.ProductRankings rankings =
-                rankingFacade.getAllRankingsForProduct(productId, null);
+        RankingInfo.ProductRankings rankings = stepObserver.observe("ranking",
+                () -> rankingFacade.getAllRankingsForProduct(productId, null));
         ProductDetailInfo productDetail =
                 ProductDetailInfo.of(
                         product,
@@ -71,14 +78,15 @@ public class ProductFacade {
 
         // 3. 캐시 저장 (TTL 적용)
         try {
-            productCacheTemplate.opsForValue().set(cacheKey, productDetail, CACHE_TTL);
+            stepObserver.observe("cache-write",
+                    () -> productDetailCacheTemplate.opsForValue().set(cacheKey, productDetail, CACHE_TTL));
             log.debug("Cached productId: {} with TTL: {}", productId, CACHE_TTL);
         }  catch (Exception e) {
             log.warn("Redis write error for productId: {}", productId, e);
         }
 
-        // 조회 이벤트 발행 (별도 트랜잭션)
-        productEventPublisher.publishProductViewedEvent(productId);
+        // 조회 수 집계 (메모리 버퍼, 주기적으로 Kafka 발행)
+        productViewEventBuffer.recordView(productId, viewerId);
 
         return productDetail;
     }
@@ -89,7 +97,7 @@ public class ProductFacade {
     public void evictProductCache(Long productId) {
         String cacheKey = CACHE_PREFIX + productId;
         try {
-            Boolean deleted = productCacheTemplate.delete(cacheKey);
+            Boolean deleted = productDetailCacheTemplate.delete(cacheKey);
             if (Boolean.TRUE.equals(deleted)) {
                 log.info("Evicted cache for productId: {}", productId);
             }
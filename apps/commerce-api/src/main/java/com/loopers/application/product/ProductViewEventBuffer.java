@@ -0,0 +1,158 @@
+package com.loopers.application.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.product.ProductUniqueViewRepository;
+import com.loopers.domain.product.event.ProductViewedEvent;
+import com.loopers.kafka.AggregateTypes;
+import com.loopers.kafka.KafkaTopics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 상세 조회 이벤트 버퍼
+ *
+ * - 조회마다 Outbox INSERT(REQUIRES_NEW 쓰기 트랜잭션) 하던 방식 대신, 상품별 LongAdder 로 메모리에서 집계
+ * - flush-interval-ms 마다 상품별 조회 수를 담은 PRODUCT_VIEWED 이벤트 1건으로 Kafka 에 직접 발행
+ * - 상품 키는 제거하지 않고 재사용 (키 수는 조회된 상품 수로 제한, 제거 시 경합으로 인한 유실 방지)
+ * - 조회자 ID 는 flush 구간 동안 상품별로 중복 제거해 모았다가 HyperLogLog 에 일괄 반영 (고유 조회자 수)
+ *
+ * 유실 범위 (조회수는 통계 용도라 Outbox 의 전달 보장 대신 처리량을 선택)
+ * - 정상 종료: 종료 직전 남은 조회 수를 발행하므로 유실 없음
+ * - 비정상 종료(kill -9, OOM): 인스턴스당 마지막 flush 이후 최대 flush-interval-ms 동안의 조회 수
+ * - Kafka 발행 실패: 조회 수를 버퍼에 되돌려 다음 flush 에 재발행 (브로커 장애 중에도 상품당 카운터 1개만 유지)
+ * - 발행 실패로 판단했지만 브로커에는 기록된 경우 재발행으로 중복 집계될 수 있음 (at-least-once)
+ * - 고유 조회자 반영 실패: 해당 구간 조회자는 재시도하지 않음 (HLL 자체가 근사치)
+ */
+@Slf4j
+@Component
+public class ProductViewEventBuffer {
+
+    private final Map<Long, LongAdder> viewCounts = new ConcurrentHashMap<>();
+    // 상품별 조회자 ID (flush 시 상품 단위로 원자적으로 꺼내므로 compute 안에서만 변경)
+    private final ConcurrentHashMap<Long, Set<String>> viewers = new ConcurrentHashMap<>();
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductUniqueViewRepository productUniqueViewRepository;
+
+    public ProductViewEventBuffer(
+            KafkaTemplate<Object, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            ProductUniqueViewRepository productUniqueViewRepository
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.productUniqueViewRepository = productUniqueViewRepository;
+    }
+
+    /**
+     * 조회 1건 기록 (요청 스레드에서 호출, DB/Kafka/Redis I/O 없음)
+     * @param viewerId 회원 ID 또는 비회원 식별자 (null 이면 고유 조회자 집계 제외)
+     */
+    public void recordView(Long productId, String viewerId) {
+        add(productId, 1);
+
+        if (viewerId != null) {
+            viewers.compute(productId, (id, ids) -> {
+                Set<String> productViewers = (ids != null) ? ids : new HashSet<>();
+                productViewers.add(viewerId);
+                return productViewers;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.view-buffer.flush-interval-ms:1000}")
+    public void flush() {
+        int published = 0;
+        for (Map.Entry<Long, LongAdder> entry : viewCounts.entrySet()) {
+            long viewCount = entry.getValue().sumThenReset();
+            if (viewCount > 0) {
+                publish(entry.getKey(), viewCount);
+                published++;
+            }
+        }
+
+        if (published > 0) {
+            log.debug("상품 조회 이벤트 flush - 상품 수: {}", published);
+        }
+
+        flushViewers();
+    }
+
+    private void flushViewers() {
+        Map<Long, Set<String>> drained = new HashMap<>();
+        for (Long productId : viewers.keySet()) {
+            Set<String> productViewers = viewers.remove(productId);
+            if (productViewers != null) {
+                drained.put(productId, productViewers);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            productUniqueViewRepository.addViewers(LocalDate.now(), drained);
+        } catch (Exception e) {
+            log.warn("고유 조회자 반영 실패 - 해당 구간 조회자 제외. 상품 수: {}", drained.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        kafkaTemplate.flush();
+    }
+
+    private void publish(Long productId, long viewCount) {
+        String message;
+        try {
+            message = createEventMessage(ProductViewedEvent.of(productId, Math.toIntExact(viewCount)));
+        } catch (Exception e) {
+            log.error("ProductViewedEvent 직렬화 실패 - 조회 수 유실. productId: {}, viewCount: {}", productId, viewCount, e);
+            return;
+        }
+
+        kafkaTemplate.send(KafkaTopics.PRODUCT, productId.toString(), message)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.warn("ProductViewedEvent 발행 실패 - 다음 flush 에 재발행. productId: {}, viewCount: {}",
+                                productId, viewCount, e);
+                        add(productId, viewCount);
+                    }
+                });
+    }
+
+    private void add(Long productId, long viewCount) {
+        viewCounts.computeIfAbsent(productId, id -> new LongAdder()).add(viewCount);
+    }
+
+    /**
+     * OutboxEventPublisher 와 같은 메시지 구조 (Consumer 가 기대하는 형식)
+     * - flush 마다 새 eventId 를 부여해 Consumer 의 멱등성 체크로 재전송 중복을 거름
+     */
+    private String createEventMessage(ProductViewedEvent event) throws Exception {
+        var message = Map.of(
+                "eventId", UUID.randomUUID().toString(),
+                "eventType", KafkaTopics.ProductDetail.PRODUCT_VIEWED,
+                "aggregateType", AggregateTypes.PRODUCT_VIEW,
+                "aggregateId", event.productId().toString(),
+                "payload", event
+        );
+
+        return objectMapper.writeValueAsString(message);
+    }
+}
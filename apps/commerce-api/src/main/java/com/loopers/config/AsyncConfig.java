@@ -1,8 +1,10 @@
 package com.loopers.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -17,14 +19,47 @@ import java.util.concurrent.ThreadPoolExecutor;
  * - 최대 스레드: 10개 (부하 시 확장)
  * - 큐 용량: 100개 (대기 가능한 작업 수)
  * - 거부 정책: CallerRunsPolicy (큐 초과 시 호출 스레드에서 실행)
+ *
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true):
+ * - Tomcat 요청 처리와 함께 @Async 작업도 작업당 가상 스레드로 실행
+ * - 큐 초과 시 요청 스레드가 리스너를 대신 실행하던 CallerRunsPolicy 경로가 사라짐
+ * - 커넥션 풀(40개)보다 과도하게 몰리지 않도록 동시 실행 수는 async.virtual.max-concurrency로 제한
  */
 @Slf4j
 @EnableAsync
 @Configuration
 public class AsyncConfig {
 
+    static final String THREAD_NAME_PREFIX = "payment-async-";
+
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            @Value("${async.virtual.max-concurrency:200}") int virtualMaxConcurrency
+    ) {
+        if (virtualThreadsEnabled) {
+            log.info("[AsyncConfig] 가상 스레드 모드로 @Async 실행기 구성 - 최대 동시 실행: {}", virtualMaxConcurrency);
+            return virtualThreadExecutor(virtualMaxConcurrency);
+        }
+        return platformThreadExecutor();
+    }
+
+    private Executor virtualThreadExecutor(int maxConcurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+
+        // 작업마다 새 가상 스레드 생성 (풀링하지 않음)
+        executor.setVirtualThreads(true);
+
+        // 동시 실행 수 제한 (초과 시 제출한 스레드가 대기, 가상 스레드는 대기 중 캐리어를 점유하지 않음)
+        executor.setConcurrencyLimit(maxConcurrency);
+
+        // 애플리케이션 종료 시 실행 중인 작업 완료 대기 (ms)
+        executor.setTaskTerminationTimeout(30_000);
+
+        return executor;
+    }
+
+    private Executor platformThreadExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // 기본 유지 스레드 수
@@ -36,7 +71,7 @@ public class AsyncConfig {
         // 큐 용량 (대기 작업 수)
         executor.setQueueCapacity(100);
 
-        executor.setThreadNamePrefix("payment-async-");
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
 
         // 유휴 스레드 유지 시간 (초)
         executor.setKeepAliveSeconds(60);
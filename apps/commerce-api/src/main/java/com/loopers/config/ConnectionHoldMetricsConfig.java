@@ -0,0 +1,36 @@
+package com.loopers.config;
+
+import com.loopers.support.jdbc.UseCaseMetricsTrackerFactory;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hikari 커넥션 점유 시간 유스케이스별 메트릭 설정
+ *
+ * HikariDataSource는 생성 즉시 풀을 시작하므로, 풀 생성 전에 HikariConfig에 MetricsTrackerFactory를 지정한다.
+ * (지정되어 있으면 Spring Boot 기본 Hikari 메트릭 바인딩은 건너뛰고, 기본 hikaricp.* 메트릭은 팩토리가 위임해 유지)
+ */
+@Configuration
+public class ConnectionHoldMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariUseCaseMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariConfig hikariConfig
+                        && !(bean instanceof HikariDataSource)
+                        && hikariConfig.getMetricsTrackerFactory() == null
+                        && hikariConfig.getMetricRegistry() == null) {
+                    hikariConfig.setMetricsTrackerFactory(new UseCaseMetricsTrackerFactory(meterRegistry::getObject));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.loopers.config;
+
+import com.loopers.application.product.ProductDetailInfo;
+import com.loopers.config.redis.RedisCacheTemplateFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@Configuration
+public class ProductCacheConfig {
+
+    /**
+     * 상품 상세 캐시 RedisTemplate
+     * - 값 타입을 ProductDetailInfo 로 고정해 타입 정보 없이 Smile 로 저장 (큰 값은 LZ4 압축)
+     */
+    @Bean
+    public RedisTemplate<String, ProductDetailInfo> productDetailCacheTemplate(RedisCacheTemplateFactory redisCacheTemplateFactory) {
+        return redisCacheTemplateFactory.create(ProductDetailInfo.class);
+    }
+}
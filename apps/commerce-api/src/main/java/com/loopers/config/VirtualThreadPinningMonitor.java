@@ -0,0 +1,109 @@
+package com.loopers.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감지기
+ *
+ * - 가상 스레드 모드에서만 활성화
+ * - JFR jdk.VirtualThreadPinned 이벤트를 구독해 캐리어 스레드를 붙잡은 구간을 기록
+ *   (synchronized 블록 안의 블로킹 I/O, 네이티브 프레임 등 - JDBC 드라이버/커넥션 풀 경로 확인용)
+ * - 임계 시간 이상 pinning된 경우 스택 상단 프레임을 경고 로그로 남기고 메트릭으로 집계
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${async.virtual.pinning-threshold:20ms}") Duration threshold
+    ) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("임계 시간 이상 캐리어 스레드를 점유한 가상 스레드 pinning 횟수")
+                .register(meterRegistry);
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("가상 스레드 pinning 지속 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (recordingStream != null) {
+            return;
+        }
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+
+        log.info("[가상 스레드 모니터] pinning 감지 시작 - 임계 시간: {}ms", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream == null) {
+            return;
+        }
+
+        recordingStream.close();
+        recordingStream = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedCounter.increment();
+        pinnedTimer.record(duration);
+
+        log.warn("[가상 스레드 모니터] 가상 스레드 pinning 감지 - 스레드: {}, 지속 시간: {}ms\n{}",
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                duration.toMillis(),
+                topFrames(event.getStackTrace()));
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(스택 트레이스 없음)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName()
+                        + "." + frame.getMethod().getName()
+                        + "(line: " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+}
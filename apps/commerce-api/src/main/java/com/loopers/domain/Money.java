@@ -3,78 +3,143 @@ package com.loopers.domain;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
-
+import java.math.RoundingMode;
+
+/**
+ * 금액 값 객체
+ *
+ * - 내부적으로 최소 단위(1/100) 정수(long)로 보관해 연산 시 BigDecimal을 만들지 않음
+ * - DB 컬럼(decimal, 소수 둘째 자리)과는 MoneyAmountConverter로 변환
+ * - 연산 결과가 long 범위를 넘으면 예외 (조용한 overflow 방지)
+ */
 @Embeddable
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Getter
 @EqualsAndHashCode
 public class Money {
 
+    static final int SCALE = 2;
+    private static final long MINOR_UNITS_PER_UNIT = 100;
+
+    // 최소 단위 금액 (1 = 0.01)
+    @Convert(converter = MoneyAmountConverter.class)
     @Column(nullable = false)
-    private BigDecimal amount;
+    private long amount;
 
-    private Money(BigDecimal amount) {
-        validateAmount(amount);
-        this.amount = amount;
+    private Money(long minorUnits) {
+        validateAmount(minorUnits);
+        this.amount = minorUnits;
     }
 
+    /**
+     * 소수 셋째 자리 이하는 HALF_UP 반올림 (DB 컬럼 저장 결과와 동일)
+     */
     public static Money of(BigDecimal amount) {
-        return new Money(amount);
+        if (amount == null) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "금액은 필수입니다");
+        }
+        if (amount.signum() < 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "금액은 0보다 작을 수 없습니다");
+        }
+        return new Money(toMinorUnits(amount));
     }
 
     public static Money of(long amount) {
-        return new Money(BigDecimal.valueOf(amount));
+        try {
+            return new Money(Math.multiplyExact(amount, MINOR_UNITS_PER_UNIT));
+        } catch (ArithmeticException e) {
+            throw overflow();
+        }
     }
 
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return new Money(0L);
+    }
+
+    /**
+     * 금액 (소수부가 없으면 scale 0, 있으면 scale 2)
+     */
+    public BigDecimal getAmount() {
+        return amount % MINOR_UNITS_PER_UNIT == 0
+                ? BigDecimal.valueOf(amount / MINOR_UNITS_PER_UNIT)
+                : BigDecimal.valueOf(amount, SCALE);
     }
 
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        try {
+            return new Money(Math.addExact(this.amount, other.amount));
+        } catch (ArithmeticException e) {
+            throw overflow();
+        }
     }
 
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        return new Money(this.amount - other.amount);
     }
 
     public Money multiply(int quantity) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(quantity)));
+        return multiply((long) quantity);
     }
 
     public Money multiply(long quantity) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(quantity)));
+        try {
+            return new Money(Math.multiplyExact(this.amount, quantity));
+        } catch (ArithmeticException e) {
+            throw overflow();
+        }
+    }
+
+    /**
+     * 금액의 percent% (최소 단위 미만은 HALF_UP 반올림)
+     */
+    public Money percentage(int percent) {
+        try {
+            return new Money(Math.floorDiv(Math.addExact(Math.multiplyExact(this.amount, percent), 50L), 100L));
+        } catch (ArithmeticException e) {
+            throw overflow();
+        }
     }
 
     public boolean isGreaterThan(Money other) {
-        return this.amount.compareTo(other.amount) > 0;
+        return this.amount > other.amount;
     }
 
     public boolean isGreaterThanOrEqual(Money other) {
-        return this.amount.compareTo(other.amount) >= 0;
+        return this.amount >= other.amount;
     }
 
     public boolean isLessThan(Money other) {
-        return this.amount.compareTo(other.amount) < 0;
+        return this.amount < other.amount;
     }
 
     public boolean isLessThanOrEqual(Money other) {
-        return this.amount.compareTo(other.amount) <= 0;
+        return this.amount <= other.amount;
     }
 
-    private void validateAmount(BigDecimal amount) {
-        if (amount == null) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "금액은 필수입니다");
+    static long toMinorUnits(BigDecimal amount) {
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw overflow();
         }
+    }
+
+    static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    private static CoreException overflow() {
+        return new CoreException(ErrorType.BAD_REQUEST, "금액이 허용 범위를 초과했습니다");
+    }
 
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+    private void validateAmount(long minorUnits) {
+        if (minorUnits < 0) {
             throw new CoreException(ErrorType.BAD_REQUEST, "금액은 0보다 작을 수 없습니다");
         }
     }
@@ -0,0 +1,25 @@
+package com.loopers.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Money 최소 단위 금액(long) ↔ decimal 컬럼 변환
+ * - 컬럼 타입과 스키마는 그대로 두고 JPA 경계에서만 변환
+ */
+@Converter
+public class MoneyAmountConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long minorUnits) {
+        return minorUnits == null ? null : Money.toDecimal(minorUnits);
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal amount) {
+        // 금액 컬럼은 not null (포인트는 default 0) - 방어적으로 0원 처리
+        return amount == null ? 0L : Money.toMinorUnits(amount);
+    }
+}
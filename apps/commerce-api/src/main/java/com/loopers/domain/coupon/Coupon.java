@@ -6,6 +6,7 @@ import com.loopers.support.error.ErrorType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +18,7 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @Table(name = "coupons")
+@EntityListeners(CouponEntityListener.class)
 public class Coupon extends BaseEntity {
     @Column(name = "coupon_code", nullable = false, unique = true)
     private String code;
@@ -0,0 +1,38 @@
+package com.loopers.domain.coupon;
+
+import java.time.LocalDate;
+
+/**
+ * 쿠폰 정의 스냅샷 (주문/발급 요청에 필요한 값만 담은 불변 객체)
+ * - 쿠폰 정의 캐시에 저장되어 여러 요청 스레드가 공유하므로 엔티티 대신 값 복사본을 사용
+ * - 발급 수량처럼 자주 바뀌는 값은 포함하지 않음 (DB/Redis 에서 직접 조회)
+ */
+public record CouponDefinition(
+        Long id,
+        Discount discount,
+        LocalDate validStartDate,
+        LocalDate validEndDate,
+        boolean active,
+        Integer maxIssuanceLimit
+) {
+
+    public static CouponDefinition from(Coupon coupon) {
+        Discount discount = coupon.getDiscount();
+        return new CouponDefinition(
+                coupon.getId(),
+                new Discount(discount.getDiscountType(), discount.getDiscountValue()),
+                coupon.getValidStartDate(),
+                coupon.getValidEndDate(),
+                coupon.isActive(),
+                coupon.getMaxIssuanceLimit()
+        );
+    }
+
+    /**
+     * 현재 시점에 쿠폰이 유효한지 확인
+     */
+    public boolean isValidNow() {
+        LocalDate today = LocalDate.now();
+        return !today.isBefore(validStartDate) && !today.isAfter(validEndDate);
+    }
+}
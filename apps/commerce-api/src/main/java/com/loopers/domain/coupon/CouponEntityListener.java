@@ -0,0 +1,26 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.domain.coupon.event.CouponChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 정의 변경 시 CouponChangedEvent 발행
+ * - 엔티티 변경(dirty checking) 경로를 모두 잡아 변경 지점마다 이벤트 발행을 빠뜨리지 않도록 함
+ * - 발급 수량 누적(벌크 UPDATE)은 엔티티 리스너를 거치지 않음 (쿠폰 정의 변경이 아님)
+ */
+@RequiredArgsConstructor
+@Component
+public class CouponEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Coupon coupon) {
+        eventPublisher.publishEvent(CouponChangedEvent.of(coupon.getId()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.loopers.domain.coupon;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 쿠폰 선착순 발급 수량/발급 회원 관리
+ * - coupons 행을 잠그지 않고 수량 확인과 중복 발급 확인을 한 번의 원자적 연산으로 처리
+ */
+public interface CouponIssuanceRepository {
+
+    /**
+     * @param maxIssuanceLimit 최대 발급 수량 (null 이면 무제한)
+     * @param ttl 발급 상태 보관 기간
+     * @param issuedCount 발급 수량이 없을 때(첫 요청, 만료/유실) 초기값으로 쓸 DB 발급 수량 - 필요할 때만 호출
+     */
+    CouponIssueResult issue(Long couponId, Long userId, Integer maxIssuanceLimit, Duration ttl, LongSupplier issuedCount);
+
+    // 선정 취소 (발급 요청 전달 실패 시 보상)
+    void cancel(Long couponId, Long userId);
+}
@@ -0,0 +1,10 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 선착순 발급 선정 결과
+ */
+public enum CouponIssueResult {
+    ISSUED,          // 발급 대상으로 선정
+    SOLD_OUT,        // 발급 수량 소진
+    ALREADY_ISSUED   // 이미 발급받은 회원
+}
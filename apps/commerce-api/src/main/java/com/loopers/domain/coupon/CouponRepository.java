@@ -5,5 +5,12 @@ import java.util.Optional;
 public interface CouponRepository {
     Coupon registerCoupon(Coupon coupon);
 
-    Optional<Coupon> findValidCoupon(Long couponId);
+    // 쿠폰 정의 캐시를 거쳐 조회 (엔티티가 아닌 불변 스냅샷 반환)
+    Optional<CouponDefinition> findValidCoupon(Long couponId);
+
+    // 발급 수량 누적 (행을 읽지 않고 UPDATE 한 번으로 증가, 최대 발급 수량을 넘으면 증가하지 않고 false)
+    boolean increaseIssuanceCount(Long couponId, int count);
+
+    // 캐시를 거치지 않은 현재 발급 수량 (쿠폰이 없으면 0)
+    int findIssuanceCount(Long couponId);
 }
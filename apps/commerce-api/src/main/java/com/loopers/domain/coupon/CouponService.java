@@ -11,13 +11,13 @@ public class CouponService {
 
     private final CouponRepository couponRepository;
 
-    public Coupon getValidCoupon(Long couponId) {
+    public CouponDefinition getValidCoupon(Long couponId) {
 
         if( couponId == null ) {
             throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 쿠폰입니다.");
         }
 
-        Coupon coupon = couponRepository.findValidCoupon(couponId)
+        CouponDefinition coupon = couponRepository.findValidCoupon(couponId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "유효하지 않은 쿠폰입니다"));
 
         if( !coupon.isValidNow() ) {
@@ -26,4 +26,24 @@ public class CouponService {
 
         return coupon;
     }
+
+    /**
+     * 발급 수량 누적
+     * - 선착순 선정은 CouponIssuanceRepository 가 담당하고, 여기서는 최대 발급 수량을 넘는 반영만 막음
+     *   (Redis 발급 수량 유실 후 재초기화 사이에 선정된 요청이 수량을 넘길 수 있음)
+     * @return 최대 발급 수량을 넘으면 증가하지 않고 false
+     */
+    public boolean increaseIssuanceCount(Long couponId, int count) {
+        if (count <= 0) {
+            return true;
+        }
+        return couponRepository.increaseIssuanceCount(couponId, count);
+    }
+
+    /**
+     * DB 에 반영된 발급 수량 (Redis 발급 수량 초기값)
+     */
+    public long getIssuanceCount(Long couponId) {
+        return couponRepository.findIssuanceCount(couponId);
+    }
 }
@@ -0,0 +1,10 @@
+package com.loopers.domain.coupon.event;
+
+/**
+ * 쿠폰 정의 변경 (쿠폰 정의 캐시 무효화용)
+ */
+public record CouponChangedEvent(Long couponId) {
+    public static CouponChangedEvent of(Long couponId) {
+        return new CouponChangedEvent(couponId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.loopers.domain.coupon.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선착순 발급 대상으로 선정된 요청 (issued_coupons 저장은 Consumer 가 배치로 처리)
+ */
+public record CouponIssueRequestedEvent(
+        Long couponId,
+        Long userId,
+        LocalDateTime requestedAt
+) {
+    public static CouponIssueRequestedEvent of(Long couponId, Long userId) {
+        return new CouponIssueRequestedEvent(
+                couponId,
+                userId,
+                LocalDateTime.now()
+        );
+    }
+}
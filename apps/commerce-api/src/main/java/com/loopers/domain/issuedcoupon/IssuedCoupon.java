@@ -13,7 +13,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "issued_coupons")
+@Table(
+        name = "issued_coupons",
+        uniqueConstraints = @UniqueConstraint(name = "uk_issued_coupons_user_coupon", columnNames = {"user_id", "coupon_id"})
+)
 @NoArgsConstructor
 @Getter
 public class IssuedCoupon extends BaseEntity {
@@ -1,9 +1,25 @@
 package com.loopers.domain.issuedcoupon;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface IssuedCouponRepository {
     IssuedCoupon save(IssuedCoupon issuedCoupon);
 
     Optional<IssuedCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
+
+    // 회원이 보유한 사용 가능 쿠폰 (소유 + 상태 확인을 한 번의 조회로)
+    Optional<IssuedCoupon> findUsableByUserIdAndCouponId(Long userId, Long couponId);
+
+    boolean existsByUserIdAndCouponId(Long userId, Long couponId);
+
+    // 주어진 회원 중 이미 쿠폰을 발급받은 회원 ((user_id, coupon_id) 유니크 키 조회)
+    List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds);
+
+    /**
+     * 한 쿠폰을 여러 회원에게 사용 가능 상태로 일괄 발급 (이미 발급된 회원은 건너뜀)
+     * @return 새로 발급된 건수
+     */
+    int issueAll(Long couponId, Collection<Long> userIds);
 }
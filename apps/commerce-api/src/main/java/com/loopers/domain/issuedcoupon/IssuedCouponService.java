@@ -5,26 +5,31 @@ import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 @RequiredArgsConstructor
 @Component
 public class IssuedCouponService {
     private final IssuedCouponRepository issuedCouponRepository;
 
 
-    public IssuedCoupon getIssuedCouponByUser(Long userId, Long couponId) {
+    /**
+     * 주문에 사용할 발급 쿠폰 조회
+     * - 소유 여부와 사용 가능 상태를 한 번의 조회로 확인
+     * - 조회되지 않은 경우에만 보유 여부를 다시 확인해 실패 사유를 구분
+     */
+    public IssuedCoupon getUsableIssuedCoupon(Long userId, Long couponId) {
 
         if( couponId == null ) {
             throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 쿠폰입니다.");
         }
 
-        IssuedCoupon issuedCoupon = issuedCouponRepository.findByUserIdAndCouponId(userId, couponId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "쿠폰에 대한 사용 권한이 없습니다"));
-
-        if( issuedCoupon.getStatus() != CouponStatus.USABLE ) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "이미 사용되거나 만료된 쿠폰입니다");
-        }
-
-        return issuedCoupon;
+        return issuedCouponRepository.findUsableByUserIdAndCouponId(userId, couponId)
+                .orElseThrow(() -> issuedCouponRepository.existsByUserIdAndCouponId(userId, couponId)
+                        ? new CoreException(ErrorType.BAD_REQUEST, "이미 사용되거나 만료된 쿠폰입니다")
+                        : new CoreException(ErrorType.NOT_FOUND, "쿠폰에 대한 사용 권한이 없습니다"));
     }
 
     public IssuedCoupon getIssuedCoupon(Long userId, Long couponId) {
@@ -42,4 +47,26 @@ public class IssuedCouponService {
 
         issuedCoupon.useCoupon();
     }
+
+    /**
+     * 아직 쿠폰을 발급받지 않은 회원만 남김 (요청 순서 유지)
+     */
+    public Set<Long> excludeIssued(Long couponId, Collection<Long> userIds) {
+        Set<Long> notIssued = new LinkedHashSet<>(userIds);
+        if (!notIssued.isEmpty()) {
+            issuedCouponRepository.findIssuedUserIds(couponId, notIssued).forEach(notIssued::remove);
+        }
+        return notIssued;
+    }
+
+    /**
+     * 쿠폰 일괄 발급 (이미 발급된 회원은 건너뜀)
+     * @return 새로 발급된 건수
+     */
+    public int issueAll(Long couponId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        return issuedCouponRepository.issueAll(couponId, userIds);
+    }
 }
@@ -2,7 +2,7 @@ package com.loopers.domain.order;
 
 import com.loopers.domain.BaseEntity;
 import com.loopers.domain.Money;
-import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponDefinition;
 import com.loopers.domain.issuedcoupon.IssuedCoupon;
 import com.loopers.domain.orderitem.OrderItem;
 import com.loopers.domain.product.Product;
@@ -42,7 +42,7 @@ public class Order extends BaseEntity {
     @JoinColumn(name = "issued_coupon_id", referencedColumnName = "id")
     private IssuedCoupon issuedCoupon;
 
-    private Order(User user, Map<Product, Integer> productQuantities, Coupon coupon, IssuedCoupon issuedCoupon) {
+    private Order(User user, Map<Product, Integer> productQuantities, CouponDefinition coupon, IssuedCoupon issuedCoupon) {
         validateUser(user);
         validateProductQuantities(productQuantities);
 
@@ -63,11 +63,11 @@ public class Order extends BaseEntity {
 
         // 쿠폰 할인 적용 (최종 totalPrice에 반영)
         if (coupon != null) {
-            this.totalPrice = coupon.getDiscount().applyDiscount(this.totalPrice);
+            this.totalPrice = coupon.discount().applyDiscount(this.totalPrice);
         }
     }
 
-    public static Order createOrder(User user, Map<Product, Integer> productQuantities, Coupon coupon, IssuedCoupon issuedCoupon) {
+    public static Order createOrder(User user, Map<Product, Integer> productQuantities, CouponDefinition coupon, IssuedCoupon issuedCoupon) {
         return new Order(user, productQuantities, coupon, issuedCoupon);
     }
 
@@ -0,0 +1,16 @@
+package com.loopers.domain.outbox;
+
+/**
+ * 저장 전 Outbox 이벤트 (payload 직렬화 전 이벤트 객체)
+ * - 한 유스케이스에서 발생한 이벤트들을 모아 OutboxEventService.createOutboxEvents 로 한 번에 저장
+ */
+public record OutboxEventDraft(
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        Object event
+) {
+    public static OutboxEventDraft of(String aggregateType, String aggregateId, String eventType, Object event) {
+        return new OutboxEventDraft(aggregateType, aggregateId, eventType, event);
+    }
+}
@@ -5,5 +5,10 @@ import java.util.List;
 public interface OutboxEventRepository {
     OutboxEvent save(OutboxEvent outboxEvent);
 
+    /**
+     * 여러 이벤트를 multi-row INSERT 로 저장 (저장된 id 는 반환하지 않음)
+     */
+    void saveAll(List<OutboxEvent> outboxEvents);
+
     List<OutboxEvent> findByStatusOrderByCreatedAtAsc(OutboxStatus outboxStatus, int limit);
 }
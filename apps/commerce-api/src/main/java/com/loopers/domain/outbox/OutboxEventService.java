@@ -1,15 +1,26 @@
 package com.loopers.domain.outbox;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 
-@RequiredArgsConstructor
+@Slf4j
 @Component
 public class OutboxEventService {
 
     private final OutboxEventRepository outboxEventRepository;
+    // 이벤트 직렬화에 공유하는 writer (ObjectWriter 는 불변이라 스레드 안전)
+    private final ObjectWriter payloadWriter;
+
+    public OutboxEventService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.payloadWriter = objectMapper.writer();
+    }
 
     public OutboxEvent createOutboxEvent(
             String aggregateType,
@@ -29,6 +40,31 @@ public class OutboxEventService {
         return savedOutboxEvent;
     }
 
+    /**
+     * 한 유스케이스에서 발생한 이벤트들을 한 번의 INSERT 로 저장
+     * - 직렬화에 실패한 이벤트는 로그만 남기고 제외 (나머지 이벤트와 호출 트랜잭션은 그대로 진행)
+     */
+    public void createOutboxEvents(List<OutboxEventDraft> drafts) {
+        List<OutboxEvent> outboxEvents = new ArrayList<>(drafts.size());
+        for (OutboxEventDraft draft : drafts) {
+            try {
+                outboxEvents.add(OutboxEvent.create(
+                        draft.aggregateType(),
+                        draft.aggregateId(),
+                        draft.eventType(),
+                        payloadWriter.writeValueAsString(draft.event())
+                ));
+            } catch (JsonProcessingException e) {
+                log.error("{} 직렬화 실패 - 해당 이벤트만 제외하고 저장. aggregateType: {}, aggregateId: {}",
+                        draft.eventType(), draft.aggregateType(), draft.aggregateId(), e);
+            }
+        }
+
+        if (!outboxEvents.isEmpty()) {
+            outboxEventRepository.saveAll(outboxEvents);
+        }
+    }
+
     public List<OutboxEvent> getPendingEvents(int limit) {
         return outboxEventRepository
                 .findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING, limit);
@@ -9,14 +9,26 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
 @NoArgsConstructor
-@Table(name = "payment")
+@Table(
+        name = "payment",
+        indexes = {
+                // 상태 확인 스케줄러 keyset 스캔 (InnoDB 보조 인덱스에 PK(payment_id)가 포함되어 정렬까지 커버)
+                // 백오프가 반영된 다음 확인 시각으로 범위를 잘라 아직 확인 시점이 아닌 결제는 읽지 않음
+                @Index(name = "idx_payment_status_next_check", columnList = "status, next_status_check_at")
+        }
+)
 @Getter
 public class Payment {
 
+    // 백오프 지수 상한 (간격 계산 시 overflow 방지)
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
     @Id
     @Column(name = "payment_id", nullable = false, updatable = false, length = 36)
     private String paymentId;
@@ -59,6 +71,13 @@ public class Payment {
     @Column(name = "last_status_check_at")
     private LocalDateTime lastStatusCheckAt;  // 마지막 상태 확인 시간
 
+    @Column(name = "next_status_check_at")
+    private LocalDateTime nextStatusCheckAt;  // 다음 상태 확인 예정 시간 (null이면 아직 확인한 적 없음)
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;  // 낙관적 락 버전 (PG 호출 전후 변경 여부 확인)
+
     @PrePersist
     private void prePersist() {
         this.createdAt = LocalDateTime.now();
@@ -130,6 +149,17 @@ public class Payment {
                 .build();
     }
 
+    /**
+     * 조회 시점 이후 다른 요청이 결제를 변경했는지 확인 (낙관적 버전 확인)
+     * - 트랜잭션 밖에서 조회한 버전과 현재 버전이 다르면 CONFLICT
+     * - 확인 이후 커밋 전까지의 동시 변경은 @Version이 UPDATE 시점에 검출
+     */
+    public void verifyVersion(Long expectedVersion) {
+        if (!Objects.equals(this.version, expectedVersion)) {
+            throw new CoreException(ErrorType.CONFLICT, "결제 정보가 다른 요청에 의해 변경되었습니다: " + paymentId);
+        }
+    }
+
     public void startProcessing(String pgTransactionId) {
         if (this.status != PaymentStatus.PENDING) {
             throw new CoreException(ErrorType.BAD_REQUEST, "결제 처리를 시작할 수 없는 상태입니다");
@@ -170,11 +200,21 @@ public class Payment {
     }
 
     /**
-     * 상태 확인 횟수 증가
+     * 상태 확인 횟수 증가 및 다음 확인 시각 예약 (결제별 지수 백오프)
+     * - 다음 확인 시각 = 확인 시각 + baseInterval × 2^(확인 횟수 - 1), maxInterval로 상한
+     * @param baseInterval 첫 재확인 간격
+     * @param maxInterval 최대 재확인 간격
      */
-    public void incrementStatusCheckCount() {
+    public void incrementStatusCheckCount(Duration baseInterval, Duration maxInterval) {
         this.statusCheckCount++;
         this.lastStatusCheckAt = LocalDateTime.now();
+
+        int exponent = Math.min(this.statusCheckCount - 1, MAX_BACKOFF_EXPONENT);
+        Duration backoff = baseInterval.multipliedBy(1L << exponent);
+        if (backoff.compareTo(maxInterval) > 0) {
+            backoff = maxInterval;
+        }
+        this.nextStatusCheckAt = this.lastStatusCheckAt.plus(backoff);
     }
 
     /**
@@ -0,0 +1,44 @@
+package com.loopers.domain.payment;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * PG 콜백 인박스
+ * - 콜백 수신 시 한 건 INSERT 후 즉시 응답하고, 결제/주문 반영은 워커가 일괄 처리
+ * - (status, id) 인덱스로 반영 대기 콜백을 수신 순서대로 조회
+ */
+@Entity
+@Table(name = "payment_callback_inbox", indexes = {
+        @Index(name = "idx_payment_callback_inbox_status", columnList = "status, id")
+})
+@Getter
+public class PaymentCallbackInbox extends BaseEntity {
+
+    @Column(name = "transaction_key", nullable = false)
+    private String transactionKey;
+
+    @Column(name = "payment_status", nullable = false)
+    private String paymentStatus;  // PG 결제 상태 ("SUCCESS", "FAILED")
+
+    @Column(name = "reason")
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PaymentCallbackInboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    public static PaymentCallbackInbox receive(String transactionKey, String paymentStatus, String reason) {
+        PaymentCallbackInbox inbox = new PaymentCallbackInbox();
+        inbox.transactionKey = transactionKey;
+        inbox.paymentStatus = paymentStatus;
+        inbox.reason = reason;
+        inbox.status = PaymentCallbackInboxStatus.RECEIVED;
+        inbox.attempts = 0;
+        return inbox;
+    }
+}
@@ -0,0 +1,34 @@
+package com.loopers.domain.payment;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PaymentCallbackInboxRepository {
+
+    PaymentCallbackInbox save(PaymentCallbackInbox inbox);
+
+    /**
+     * 반영 대기(RECEIVED) 콜백을 수신 순서대로 잠금 조회
+     * - 다른 워커가 잠근 행은 건너뛴다 (SKIP LOCKED) → 워커 여러 대가 서로 다른 배치를 가져감
+     *
+     * @param limit 배치 크기
+     * @return 반영 대기 콜백 목록 (id 오름차순)
+     */
+    List<PaymentCallbackInbox> findReceivedForUpdate(int limit);
+
+    /**
+     * 지정한 반영 대기 콜백만 잠금 조회 (건별 재처리용)
+     */
+    List<PaymentCallbackInbox> findReceivedForUpdate(Collection<Long> ids);
+
+    /**
+     * 반영 완료 처리 (UPDATE 1회)
+     */
+    void markProcessed(Collection<Long> ids);
+
+    /**
+     * 반영 실패 기록 (UPDATE 1회)
+     * - 시도 횟수 증가, maxAttempts에 도달하면 FAILED
+     */
+    void recordFailure(Collection<Long> ids, int maxAttempts);
+}
@@ -0,0 +1,40 @@
+package com.loopers.domain.payment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class PaymentCallbackInboxService {
+
+    private final PaymentCallbackInboxRepository paymentCallbackInboxRepository;
+
+    public PaymentCallbackInbox receive(String transactionKey, String paymentStatus, String reason) {
+        return paymentCallbackInboxRepository.save(
+                PaymentCallbackInbox.receive(transactionKey, paymentStatus, reason)
+        );
+    }
+
+    public List<PaymentCallbackInbox> lockReceived(int limit) {
+        return paymentCallbackInboxRepository.findReceivedForUpdate(limit);
+    }
+
+    public List<PaymentCallbackInbox> lockReceived(Collection<Long> ids) {
+        return paymentCallbackInboxRepository.findReceivedForUpdate(ids);
+    }
+
+    public void markProcessed(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            paymentCallbackInboxRepository.markProcessed(ids);
+        }
+    }
+
+    public void recordFailure(Collection<Long> ids, int maxAttempts) {
+        if (!ids.isEmpty()) {
+            paymentCallbackInboxRepository.recordFailure(ids, maxAttempts);
+        }
+    }
+}
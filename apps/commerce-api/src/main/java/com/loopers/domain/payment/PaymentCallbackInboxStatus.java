@@ -0,0 +1,7 @@
+package com.loopers.domain.payment;
+
+public enum PaymentCallbackInboxStatus {
+    RECEIVED,   // 수신 후 반영 대기
+    PROCESSED,  // 반영 완료 (중복 콜백으로 병합된 경우 포함)
+    FAILED      // 최대 시도 횟수 초과
+}
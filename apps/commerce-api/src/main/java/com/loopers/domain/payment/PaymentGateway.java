@@ -1,5 +1,8 @@
 package com.loopers.domain.payment;
 
+import java.util.List;
+import java.util.Map;
+
 public interface PaymentGateway {
 
     /**
@@ -13,10 +16,11 @@ public interface PaymentGateway {
     PaymentResult processPayment(String userId, Payment payment, String callbackUrl);
 
     /**
-     * PG사에 결제 상태를 조회합니다.
+     * PG사에 여러 결제의 상태를 한 번에 조회합니다.
+     * - PG사에 존재하지 않는 거래는 결과에서 제외됩니다.
      *
-     * @param pgTransactionId PG 거래 ID
-     * @return 결제 상태 조회 결과
+     * @param pgTransactionIds PG 거래 ID 목록
+     * @return PG 거래 ID별 결제 상태 조회 결과
      */
-    PaymentResult checkPaymentStatus(String pgTransactionId);
+    Map<String, PaymentResult> checkPaymentStatuses(List<String> pgTransactionIds);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.loopers.domain.payment;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,14 @@ public interface PaymentRepository {
      */
     Optional<Payment> findByPgTransactionId(String pgTransactionId);
 
+    /**
+     * 여러 PG Transaction ID의 Payment를 주문·사용자와 함께 한 번에 조회
+     *
+     * @param pgTransactionIds PG사에서 발급한 거래 키 목록
+     * @return 조회된 Payment 목록 (없는 거래 키는 제외)
+     */
+    List<Payment> findAllByPgTransactionIds(Collection<String> pgTransactionIds);
+
     /**
      * Payment 저장
      *
@@ -23,16 +32,33 @@ public interface PaymentRepository {
     Payment save(Payment payment);
 
     /**
-     * PROCESSING 상태인 Payment 목록 조회 (상태 확인 대상)
+     * PROCESSING 상태인 Payment 목록을 keyset 페이징으로 조회 (상태 확인 대상)
      * - PROCESSING 상태
-     * - 마지막 확인 시간이 기준 시간 이전 (또는 확인한 적 없음)
+     * - 다음 확인 예정 시간이 기준 시각 이전 (또는 확인한 적 없음) - 백오프 중인 결제는 조회하지 않음
      * - 최대 확인 횟수 미만
+     * - 확인한 적 없는 결제 → 다음 확인 예정 시간 순으로 커서 이후부터 조회
+     *
+     * @param cursor 직전 페이지의 마지막 위치 (첫 페이지는 {@link PaymentStatusCheckCursor#start()})
+     * @param now 기준 시각 (다음 확인 예정 시간이 이 시각 이전인 결제만 조회)
+     * @param maxCheckCount 최대 확인 횟수
+     * @param limit 페이지 크기
+     * @return PROCESSING 상태인 Payment 목록 (최대 limit건)
+     */
+    List<Payment> findProcessingPaymentsForStatusCheck(
+            PaymentStatusCheckCursor cursor,
+            LocalDateTime now,
+            int maxCheckCount,
+            int limit
+    );
+
+    /**
+     * 백오프로 확인이 미뤄진 PROCESSING 결제 수 (다음 확인 예정 시간이 기준 시각 이후, 최대 확인 횟수 미만)
      *
-     * @param thresholdTime 기준 시간 (이 시간 이전에 마지막으로 확인된 결제만 조회)
+     * @param now 기준 시각
      * @param maxCheckCount 최대 확인 횟수
-     * @return PROCESSING 상태인 Payment 목록
+     * @return 확인 대기 중인 결제 수
      */
-    List<Payment> findProcessingPaymentsForStatusCheck(LocalDateTime thresholdTime, int maxCheckCount);
+    long countProcessingPaymentsDeferred(LocalDateTime now, int maxCheckCount);
 
     Optional<Payment> findByPaymentId(String paymentId);
 }
@@ -5,6 +5,12 @@ import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
@@ -33,6 +39,20 @@ public class PaymentService {
                 ));
     }
 
+    /**
+     * 여러 TransactionKey의 Payment를 한 번에 조회
+     *
+     * @param transactionKeys PG 거래 키 목록 (중복 허용)
+     * @return 거래 키별 Payment (찾지 못한 거래 키는 제외, 같은 거래 키의 결제가 여러 건이면 먼저 조회된 결제)
+     */
+    public Map<String, Payment> getPaymentsByTransactionKeys(Collection<String> transactionKeys) {
+        if (transactionKeys.isEmpty()) {
+            return Map.of();
+        }
+        return paymentRepository.findAllByPgTransactionIds(new LinkedHashSet<>(transactionKeys)).stream()
+                .collect(Collectors.toMap(Payment::getPgTransactionId, Function.identity(), (first, duplicate) -> first));
+    }
+
     public Payment getPaymentByPaymentId(String paymentId) {
         return paymentRepository.findByPaymentId(paymentId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보가 없습니다"));
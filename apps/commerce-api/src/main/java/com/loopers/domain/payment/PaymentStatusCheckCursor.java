@@ -0,0 +1,26 @@
+package com.loopers.domain.payment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 상태 확인 대상 keyset 페이징 커서
+ * - 확인 이력이 없는 결제(nextStatusCheckAt = null)를 paymentId 순으로 먼저 스캔
+ * - 이후 확인 시점이 도래한 결제를 (nextStatusCheckAt, paymentId) 순으로 스캔
+ *
+ * @param nextStatusCheckAt 직전 페이지 마지막 결제의 다음 확인 예정 시간 (null이면 미확인 구간)
+ * @param paymentId 직전 페이지 마지막 결제 ID
+ */
+public record PaymentStatusCheckCursor(LocalDateTime nextStatusCheckAt, String paymentId) {
+
+    public static PaymentStatusCheckCursor start() {
+        return new PaymentStatusCheckCursor(null, "");
+    }
+
+    public static PaymentStatusCheckCursor after(Payment payment) {
+        return new PaymentStatusCheckCursor(payment.getNextStatusCheckAt(), payment.getPaymentId());
+    }
+
+    public boolean isUncheckedSection() {
+        return nextStatusCheckAt == null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.loopers.domain.point;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.Money;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 원장 (append-only)
+ * - 잔액 변경 1건당 1행을 추가만 하고 수정하지 않음
+ * - users.point 는 원장 합계의 캐시 역할 (잔액 검증은 조건부 UPDATE 가 담당)
+ */
+@Entity
+@Table(
+        name = "point_ledgers",
+        indexes = @Index(name = "idx_point_ledgers_user_id", columnList = "user_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PointLedger extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false)
+    private PointLedgerType type;
+
+    @Embedded
+    @AttributeOverride(name = "amount", column = @Column(name = "amount", nullable = false, updatable = false))
+    private Money amount;
+
+    // 결제/환불 대상 주문 (충전은 null)
+    @Column(name = "order_id", updatable = false)
+    private Long orderId;
+
+    private PointLedger(Long userId, PointLedgerType type, Money amount, Long orderId) {
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+        this.orderId = orderId;
+    }
+
+    public static PointLedger charge(Long userId, Money amount) {
+        return new PointLedger(userId, PointLedgerType.CHARGE, amount, null);
+    }
+
+    public static PointLedger use(Long userId, Money amount, Long orderId) {
+        return new PointLedger(userId, PointLedgerType.USE, amount, orderId);
+    }
+
+    public static PointLedger refund(Long userId, Money amount, Long orderId) {
+        return new PointLedger(userId, PointLedgerType.REFUND, amount, orderId);
+    }
+}
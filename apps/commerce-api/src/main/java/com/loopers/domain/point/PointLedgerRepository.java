@@ -0,0 +1,10 @@
+package com.loopers.domain.point;
+
+import java.util.List;
+
+public interface PointLedgerRepository {
+
+    PointLedger save(PointLedger pointLedger);
+
+    List<PointLedger> findByUserId(Long userId);
+}
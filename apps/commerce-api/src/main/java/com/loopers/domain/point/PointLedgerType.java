@@ -0,0 +1,7 @@
+package com.loopers.domain.point;
+
+public enum PointLedgerType {
+    CHARGE,  // 충전
+    USE,     // 결제 사용
+    REFUND   // 결제 취소 환불
+}
@@ -0,0 +1,56 @@
+package com.loopers.domain.point;
+
+import com.loopers.domain.Money;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포인트 잔액 변경
+ *
+ * - users 행을 잠그고 읽지 않고, 조건부 UPDATE 한 문장으로 잔액 검증과 차감을 함께 수행
+ *   (같은 회원의 동시 결제는 UPDATE 의 행 잠금 구간에서만 직렬화)
+ * - 변경마다 포인트 원장에 1행 추가
+ * - 영속성 컨텍스트의 User 엔티티 잔액은 갱신하지 않음 (잔액이 필요하면 다시 조회)
+ */
+@RequiredArgsConstructor
+@Component
+public class PointService {
+
+    private final UserRepository userRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+
+    @Transactional
+    public void use(Long userId, Money amount, Long orderId) {
+        if (userRepository.deductPoint(userId, amount) == 0) {
+            throw notFoundOr(userId, new CoreException(ErrorType.BAD_REQUEST, "포인트가 부족합니다"));
+        }
+        pointLedgerRepository.save(PointLedger.use(userId, amount, orderId));
+    }
+
+    @Transactional
+    public void charge(Long userId, Money amount) {
+        if (userRepository.addPoint(userId, amount) == 0) {
+            throw new CoreException(ErrorType.NOT_FOUND, "사용자 정보가 없습니다");
+        }
+        pointLedgerRepository.save(PointLedger.charge(userId, amount));
+    }
+
+    @Transactional
+    public void refund(Long userId, Money amount, Long orderId) {
+        if (userRepository.addPoint(userId, amount) == 0) {
+            throw new CoreException(ErrorType.NOT_FOUND, "사용자 정보가 없습니다");
+        }
+        pointLedgerRepository.save(PointLedger.refund(userId, amount, orderId));
+    }
+
+    // 차감 실패 시에만 회원 존재 여부를 확인해 실패 사유를 구분
+    private CoreException notFoundOr(Long userId, CoreException otherwise) {
+        return userRepository.existsById(userId)
+                ? otherwise
+                : new CoreException(ErrorType.NOT_FOUND, "사용자 정보가 없습니다");
+    }
+}
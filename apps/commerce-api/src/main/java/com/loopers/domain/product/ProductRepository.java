@@ -17,5 +17,7 @@ public interface ProductRepository {
     Optional<Product> findById(Long productId);
     Optional<Product> findByIdWithLock(Long productId);
 
+    List<Product> findAllByIdWithLock(List<Long> productIds);
+
     List<Product> findAllByIdIn(List<Long> productIds);
 }
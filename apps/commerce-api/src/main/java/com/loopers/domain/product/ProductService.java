@@ -58,6 +58,25 @@ public class ProductService {
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품 정보가 없습니다"));
     }
 
+    /**
+     * 여러 상품을 한 번의 SELECT ... FOR UPDATE 로 잠금
+     * - id 오름차순으로 잠가 주문 상품 순서가 달라도 교착 상태가 생기지 않음
+     * - 중복 id 검증은 호출 측 책임
+     */
+    public List<Product> getProductsWithLock(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "상품 ID 목록은 필수값입니다.");
+        }
+
+        List<Long> sortedIds = productIds.stream().sorted().toList();
+        List<Product> products = productRepository.findAllByIdWithLock(sortedIds);
+
+        if (products.size() != sortedIds.size()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품 정보가 없습니다");
+        }
+        return products;
+    }
+
     @Transactional
     public Product updateProduct(Long productId, String productName, BigDecimal price) {
         Product product = productRepository.findById(productId)
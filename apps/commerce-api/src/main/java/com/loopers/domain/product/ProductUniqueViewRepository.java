@@ -0,0 +1,13 @@
+package com.loopers.domain.product;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 상품별 일자별 고유 조회자 집계 (HyperLogLog)
+ */
+public interface ProductUniqueViewRepository {
+
+    void addViewers(LocalDate date, Map<Long, ? extends Collection<String>> viewersByProduct);
+}
@@ -2,13 +2,19 @@ package com.loopers.domain.product.event;
 
 import java.time.LocalDateTime;
 
+/**
+ * 상품 상세 조회 이벤트
+ * - viewCount: 직전 발행 이후 집계된 조회 수 (ProductViewEventBuffer 가 상품별로 모아서 발행)
+ */
 public record ProductViewedEvent(
         Long productId,
+        int viewCount,
         LocalDateTime viewedAt
 ) {
     public static ProductViewedEvent of(
-            Long productId
+            Long productId,
+            int viewCount
     ) {
-        return new ProductViewedEvent(productId, LocalDateTime.now());
+        return new ProductViewedEvent(productId, viewCount, LocalDateTime.now());
     }
 }
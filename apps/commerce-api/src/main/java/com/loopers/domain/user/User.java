@@ -90,25 +90,11 @@ public class User extends BaseEntity {
         }
     }
 
-    private void validateAmount(Money amount) {
-        if (this.point.isLessThan(amount)) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "포인트가 부족합니다. 현재 포인트: " + this.point.getAmount());
-        }
-    }
-
-    public void chargePoint(Money amount) {
-        this.point = this.point.add(amount);
-    }
-
-    public void usePoint(Money amount) {
-        validateAmount(amount);
-        this.point = this.point.subtract(amount);
-    }
-
     /**
-     * 포인트 환불 (보상 트랜잭션)
+     * 저장 전 회원의 초기 포인트 설정 (회원 생성 데이터, 테스트 픽스처)
+     * - 저장된 회원의 잔액 변경은 PointService 의 조건부 UPDATE 로만 수행 (원장 기록 포함)
      */
-    public void refundPoint(Money amount) {
+    public void chargePoint(Money amount) {
         this.point = this.point.add(amount);
     }
 }
@@ -1,16 +1,35 @@
 package com.loopers.domain.user;
 
+import com.loopers.domain.Money;
+
 import java.util.Optional;
 
 public interface UserRepository {
 
     boolean existsByUserId(String userId);
 
+    boolean existsById(Long id);
+
     User save(User user);
 
     Optional<User> findUserByUserId(String userId);
 
-    Optional<User> findUserByUserIdWithLock(String userId);
-
     Optional<User> findById(Long id);
+
+    /**
+     * 로그인 ID 로 회원 PK 조회 (로컬 캐시, 잠금 없음)
+     */
+    Optional<Long> findIdByUserId(String userId);
+
+    /**
+     * 조회 없이 연관관계 설정용 참조 반환 (필드 접근 시 지연 로딩)
+     */
+    User getReference(Long id);
+
+    /**
+     * 잔액이 충분할 때만 차감하고 변경된 행 수 반환 (잔액 부족 또는 회원 없음이면 0)
+     */
+    int deductPoint(Long id, Money amount);
+
+    int addPoint(Long id, Money amount);
 }
@@ -1,6 +1,7 @@
 package com.loopers.domain.user;
 
 import com.loopers.domain.Money;
+import com.loopers.domain.point.PointService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import java.math.BigDecimal;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PointService pointService;
 
     public User getUserById(Long id) {
         return userRepository.findById(id)
@@ -47,19 +49,41 @@ public class UserService {
     @Transactional
     public User chargePointByUserId(String notExistsUserId, BigDecimal chargePoint) {
 
-        User findUser = userRepository.findUserByUserId(notExistsUserId)
+        Long id = userRepository.findIdByUserId(notExistsUserId)
                 .orElseThrow(
                         () -> new CoreException(ErrorType.NOT_FOUND, "해당 ID 의 회원이 존재하지 않아 포인트 충전이 실패하였습니다.")
                 );
 
-        findUser.chargePoint(Money.of(chargePoint));
+        pointService.charge(id, Money.of(chargePoint));
 
-        return findUser;
+        // 충전 결과 잔액은 조건부 UPDATE 이후 다시 조회
+        return getUserById(id);
     }
 
-    @Transactional
+    /**
+     * 로그인 ID 로 회원 조회 (잠금 없음)
+     * - 로컬 캐시에서 PK 를 찾은 뒤 PK 로 엔티티를 읽어 반환 (초기화된 엔티티)
+     * - 캐시된 PK 의 회원이 없으면 NOT_FOUND
+     * - FK 만 필요한 흐름은 getIdByUserId + getUserReference 사용
+     */
+    @Transactional( readOnly = true )
     public User getUser(String userId) {
-        return userRepository.findUserByUserIdWithLock(userId)
+        return getUserById(getIdByUserId(userId));
+    }
+
+    /**
+     * 연관관계(FK) 설정 전용 회원 참조 - 조회 없이 초기화되지 않은 프록시를 반환
+     * - 필드에 접근하면 그 시점에 조회가 일어나므로 PK 외의 값이 필요하면 getUser 사용
+     */
+    public User getUserReference(Long id) {
+        return userRepository.getReference(id);
+    }
+
+    /**
+     * 로그인 ID 로 회원 PK 조회 (잠금 없음, 로컬 캐시)
+     */
+    public Long getIdByUserId(String userId) {
+        return userRepository.findIdByUserId(userId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자 정보가 없습니다"));
     }
 }
@@ -0,0 +1,92 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.CouponDefinition;
+import com.loopers.domain.coupon.event.CouponChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 쿠폰 정의 로컬 캐시 (read-through)
+ *
+ * - 쿠폰 정의(할인/유효기간)는 거의 바뀌지 않으므로 주문마다 coupons 를 조회하지 않고 인스턴스 메모리에서 읽음
+ * - 엔티티가 아닌 불변 스냅샷(CouponDefinition)을 저장해 영속성 컨텍스트나 지연 로딩과 무관하게 스레드 간 공유
+ * - 버전: 쿠폰 변경(CouponChangedEvent) 커밋 시 버전을 올려 이전 버전 항목을 모두 무효화
+ *   조회 시작 시점의 버전으로 저장하므로, 조회 중 변경이 커밋되면 이전 값은 저장되어도 사용되지 않음
+ * - 최대 항목 수 초과 시 만료/무효 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않고 DB 조회 결과만 반환
+ * - 다른 인스턴스의 변경은 ttl 안에 반영 (ttl 0 이면 캐시 사용 안 함)
+ */
+@Slf4j
+@Component
+public class CouponDefinitionCache {
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final long ttlNanos;
+    private final int maxSize;
+
+    public CouponDefinitionCache(
+            @Value("${coupon.definition-cache.ttl:1m}") Duration ttl,
+            @Value("${coupon.definition-cache.max-size:1000}") int maxSize
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    public Optional<CouponDefinition> get(Long couponId, Supplier<Optional<CouponDefinition>> loader) {
+        if (ttlNanos <= 0) {
+            return loader.get();
+        }
+
+        long currentVersion = version.get();
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(couponId);
+        if (entry != null && entry.isValid(currentVersion, now)) {
+            return Optional.of(entry.definition());
+        }
+
+        Optional<CouponDefinition> loaded = loader.get();
+        loaded.ifPresent(definition -> put(couponId, new Entry(definition, currentVersion, now + ttlNanos)));
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCouponChanged(CouponChangedEvent event) {
+        version.incrementAndGet();
+        entries.remove(event.couponId());
+        log.info("쿠폰 정의 캐시 무효화 - couponId: {}, version: {}", event.couponId(), version.get());
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    private void put(Long couponId, Entry entry) {
+        if (entries.size() >= maxSize && !entries.containsKey(couponId)) {
+            long currentVersion = version.get();
+            long now = System.nanoTime();
+            entries.values().removeIf(e -> !e.isValid(currentVersion, now));
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(couponId, entry);
+    }
+
+    private record Entry(CouponDefinition definition, long version, long expiresAtNanos) {
+        boolean isValid(long currentVersion, long now) {
+            return version == currentVersion && now - expiresAtNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponIssuanceRepository;
+import com.loopers.domain.coupon.CouponIssueResult;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 쿠폰 선착순 발급 (Redis Lua)
+ *
+ * - 키: coupon:issue:{couponId}:count (발급 수량), coupon:issue:{couponId}:users (발급 회원 SET)
+ * - 중복 발급 확인 → 수량 확인 → 수량 증가/회원 추가를 스크립트 하나로 실행해 요청 간 경합 없이 원자적으로 처리
+ * - 두 키는 같은 hash tag({couponId}) 를 써서 Cluster 에서도 같은 슬롯에 위치
+ * - 최대 발급 수량은 요청마다 쿠폰 정보에서 전달 (수량 변경 시 별도 초기화 불필요)
+ * - 발급 수량 키가 없으면(첫 요청, 만료/유실) DB 발급 수량으로 SET NX 초기화 후 다시 실행
+ *   → Redis 가 비어도 0부터 다시 세어 최대 발급 수량을 넘겨 선정하지 않음
+ */
+@Component
+public class CouponIssuanceRepositoryImpl implements CouponIssuanceRepository {
+
+    private static final String KEY_PREFIX = "coupon:issue:{";
+    private static final long UNLIMITED = -1;
+
+    private static final long ISSUED = 0;
+    private static final long SOLD_OUT = 1;
+    private static final long ALREADY_ISSUED = 2;
+    private static final long NOT_INITIALIZED = 3;
+
+    // KEYS[1]: 발급 수량, KEYS[2]: 발급 회원 SET / ARGV[1]: userId, ARGV[2]: 최대 발급 수량(-1 무제한), ARGV[3]: TTL(초)
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 3
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return 2
+            end
+            local limit = tonumber(ARGV[2])
+            if limit >= 0 and tonumber(redis.call('GET', KEYS[1]) or '0') >= limit then
+                return 1
+            end
+            redis.call('INCR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return 0
+            """, Long.class);
+
+    // 발급 회원에서 제거된 경우에만 수량 반환 (중복 호출되어도 수량이 두 번 줄지 않음)
+    private static final RedisScript<Long> CANCEL_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then
+                redis.call('DECR', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CouponIssuanceRepositoryImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public CouponIssueResult issue(Long couponId, Long userId, Integer maxIssuanceLimit, Duration ttl,
+                                   LongSupplier issuedCount) {
+        List<String> keys = keys(couponId);
+        String limit = String.valueOf(maxIssuanceLimit == null ? UNLIMITED : maxIssuanceLimit);
+        Duration keyTtl = Duration.ofSeconds(Math.max(ttl.toSeconds(), 1));
+
+        Long result = redisTemplate.execute(ISSUE_SCRIPT, keys, userId.toString(), limit, String.valueOf(keyTtl.toSeconds()));
+        if (result != null && result == NOT_INITIALIZED) {
+            // 동시에 초기화한 요청이 있으면 먼저 쓴 값 유지
+            redisTemplate.opsForValue().setIfAbsent(keys.get(0), String.valueOf(issuedCount.getAsLong()), keyTtl);
+            result = redisTemplate.execute(ISSUE_SCRIPT, keys, userId.toString(), limit, String.valueOf(keyTtl.toSeconds()));
+        }
+
+        if (result == null) {
+            throw new IllegalStateException("쿠폰 발급 스크립트 결과가 없습니다. couponId: " + couponId);
+        }
+        if (result == ISSUED) {
+            return CouponIssueResult.ISSUED;
+        }
+        if (result == SOLD_OUT) {
+            return CouponIssueResult.SOLD_OUT;
+        }
+        if (result == ALREADY_ISSUED) {
+            return CouponIssueResult.ALREADY_ISSUED;
+        }
+        throw new IllegalStateException("알 수 없는 쿠폰 발급 스크립트 결과: " + result);
+    }
+
+    @Override
+    public void cancel(Long couponId, Long userId) {
+        redisTemplate.execute(CANCEL_SCRIPT, keys(couponId), userId.toString());
+    }
+
+    private static List<String> keys(Long couponId) {
+        String prefix = KEY_PREFIX + couponId + "}:";
+        return List.of(prefix + "count", prefix + "users");
+    }
+}
@@ -2,6 +2,23 @@ package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
+
+    /**
+     * 최대 발급 수량을 넘지 않을 때만 증가 (넘으면 0행 갱신)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.currentIssuanceCount = c.currentIssuanceCount + :count " +
+            "WHERE c.id = :couponId " +
+            "AND (c.maxIssuanceLimit IS NULL OR c.currentIssuanceCount + :count <= c.maxIssuanceLimit)")
+    int increaseIssuanceCount(@Param("couponId") Long couponId, @Param("count") int count);
+
+    @Query("SELECT c.currentIssuanceCount FROM Coupon c WHERE c.id = :couponId")
+    Optional<Integer> findIssuanceCountById(@Param("couponId") Long couponId);
 }
@@ -1,6 +1,7 @@
 package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponDefinition;
 import com.loopers.domain.coupon.CouponRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -12,6 +13,7 @@ import java.util.Optional;
 public class CouponRepositoryImpl implements CouponRepository {
 
     private final CouponJpaRepository couponJpaRepository;
+    private final CouponDefinitionCache couponDefinitionCache;
 
     @Override
     public Coupon registerCoupon(Coupon coupon) {
@@ -19,7 +21,17 @@ public class CouponRepositoryImpl implements CouponRepository {
     }
 
     @Override
-    public Optional<Coupon> findValidCoupon(Long couponId) {
-        return couponJpaRepository.findById(couponId);
+    public Optional<CouponDefinition> findValidCoupon(Long couponId) {
+        return couponDefinitionCache.get(couponId, () -> couponJpaRepository.findById(couponId).map(CouponDefinition::from));
+    }
+
+    @Override
+    public boolean increaseIssuanceCount(Long couponId, int count) {
+        return couponJpaRepository.increaseIssuanceCount(couponId, count) > 0;
+    }
+
+    @Override
+    public int findIssuanceCount(Long couponId) {
+        return couponJpaRepository.findIssuanceCountById(couponId).orElse(0);
     }
 }
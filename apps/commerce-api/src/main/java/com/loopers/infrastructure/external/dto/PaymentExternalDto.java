@@ -2,6 +2,8 @@ package com.loopers.infrastructure.external.dto;
 
 import com.loopers.domain.payment.Payment;
 
+import java.util.List;
+
 public class PaymentExternalDto {
 
     /**
@@ -65,6 +67,56 @@ public class PaymentExternalDto {
         }
     }
 
+    /**
+     * 결제 상태 일괄 조회 Request
+     *
+     * @param transactionKeys 조회할 PG 거래 키 목록 (최대 500건)
+     */
+    public record PaymentStatusRequest(
+            List<String> transactionKeys
+    ) {
+    }
+
+    /**
+     * 결제 상태 일괄 조회 Response
+     * - PG에 존재하지 않는 거래 키는 응답에서 제외됨
+     */
+    public record PaymentStatusListResponse(
+            Meta meta,
+            PaymentStatusList data
+    ) {
+        public boolean isSuccess() {
+            return "SUCCESS".equals(meta.result());
+        }
+
+        public List<PaymentStatusData> getTransactions() {
+            return data != null && data.transactions() != null ? data.transactions() : List.of();
+        }
+
+        public String getErrorMessage() {
+            return meta.message();
+        }
+    }
+
+    public record PaymentStatusList(
+            List<PaymentStatusData> transactions
+    ) {
+    }
+
+    /**
+     * 거래별 상태
+     *
+     * @param transactionKey PG사에서 발급한 거래 키
+     * @param status 결제 상태 ("PENDING", "SUCCESS", "FAILED")
+     * @param reason 처리 사유
+     */
+    public record PaymentStatusData(
+            String transactionKey,
+            String status,
+            String reason
+    ) {
+    }
+
     /**
      * Response Meta 정보
      *
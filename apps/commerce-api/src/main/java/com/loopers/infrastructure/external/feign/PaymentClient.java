@@ -31,6 +31,15 @@ public interface PaymentClient {
             @PathVariable String transactionId
     );
 
+    /**
+     * 여러 결제 정보 일괄 확인
+     * - 요청 1회당 최대 500건
+     * */
+    @PostMapping("/api/v1/payments/status")
+    PaymentExternalDto.PaymentStatusListResponse paymentStatuses(
+            @RequestBody PaymentExternalDto.PaymentStatusRequest request
+    );
+
     /**
      * 주문에 엮인 결제 정보 조회
      * */
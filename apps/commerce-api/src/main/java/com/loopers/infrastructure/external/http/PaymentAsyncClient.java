@@ -0,0 +1,125 @@
+package com.loopers.infrastructure.external.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.infrastructure.external.dto.PaymentExternalDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PG 결제 시스템 비동기 HTTP 클라이언트 (payment.gateway.client=async)
+ *
+ * - JDK HttpClient.sendAsync 기반으로 응답 대기 중 호출 스레드를 점유하지 않음
+ * - PaymentClient(Feign)와 같은 API, 같은 타임아웃(연결/응답 2초), 같은 X-USER-ID 헤더 사용
+ * - 5xx 응답은 PgServerErrorException으로 실패 처리 (과부하 신호 · 재시도 대상)
+ * - 4xx 응답은 본문(meta.result=FAIL)을 그대로 반환
+ * - 반환한 future 를 취소하면 HttpClient 요청도 취소 (sendAsync 의 파생 future 는 취소가 전파되지 않으므로 직접 연결)
+ */
+@Component
+@ConditionalOnProperty(name = "payment.gateway.client", havingValue = "async")
+public class PaymentAsyncClient {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(2);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String clientId;
+
+    public PaymentAsyncClient(
+            ObjectMapper objectMapper,
+            @Value("${external.pg-simulator.url}") String baseUrl,
+            @Value("${external.pg-simulator.client-id}") String clientId
+    ) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.clientId = clientId;
+    }
+
+    public CompletableFuture<PaymentExternalDto.PaymentResponse> payment(PaymentExternalDto.PaymentRequest request) {
+        return send(post("/api/v1/payments", request), PaymentExternalDto.PaymentResponse.class);
+    }
+
+    /**
+     * 결제 정보 확인
+     * */
+    public CompletableFuture<PaymentExternalDto.PaymentResponse> paymentInfo(String transactionId) {
+        String path = "/api/v1/payments/" + URLEncoder.encode(transactionId, StandardCharsets.UTF_8);
+        return send(request(path).GET().build(), PaymentExternalDto.PaymentResponse.class);
+    }
+
+    /**
+     * 여러 결제 정보 일괄 확인
+     * - 요청 1회당 최대 500건
+     * */
+    public CompletableFuture<PaymentExternalDto.PaymentStatusListResponse> paymentStatuses(
+            PaymentExternalDto.PaymentStatusRequest request
+    ) {
+        return send(post("/api/v1/payments/status", request), PaymentExternalDto.PaymentStatusListResponse.class);
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(READ_TIMEOUT)
+                .header("X-USER-ID", clientId)
+                .header("Accept", "application/json");
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, Class<T> responseType) {
+        CompletableFuture<HttpResponse<byte[]>> exchange =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<T> result = exchange.thenApply(response -> {
+            if (response.statusCode() >= 500) {
+                throw new PgServerErrorException(response.statusCode(), request.uri());
+            }
+            try {
+                return objectMapper.readValue(response.body(), responseType);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        // 호출 타임아웃으로 result 가 취소되면 진행 중인 HTTP 교환을 중단해 연결을 반납
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * PG 5xx 응답
+     */
+    public static class PgServerErrorException extends RuntimeException {
+        public PgServerErrorException(int statusCode, URI uri) {
+            super("PG 서버 오류 응답 - status: " + statusCode + ", uri: " + uri);
+        }
+    }
+}
@@ -1,14 +1,39 @@
 package com.loopers.infrastructure.issuedcoupon;
 
+import com.loopers.domain.issuedcoupon.CouponStatus;
 import com.loopers.domain.issuedcoupon.IssuedCoupon;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface IssuedCouponJpaRepository extends JpaRepository<IssuedCoupon, Long> {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<IssuedCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
+
+    /**
+     * 소유 여부와 사용 가능 상태를 한 번에 확인 ((user_id, coupon_id) 유니크 키로 한 행 조회)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ic FROM IssuedCoupon ic " +
+            "WHERE ic.user.id = :userId AND ic.coupon.id = :couponId AND ic.status = :status AND ic.usedAt IS NULL")
+    Optional<IssuedCoupon> findByUserIdAndCouponIdAndStatus(
+            @Param("userId") Long userId,
+            @Param("couponId") Long couponId,
+            @Param("status") CouponStatus status
+    );
+
+    boolean existsByUserIdAndCouponId(Long userId, Long couponId);
+
+    @Query("SELECT ic.user.id FROM IssuedCoupon ic WHERE ic.coupon.id = :couponId AND ic.user.id IN :userIds")
+    List<Long> findUserIdsByCouponIdAndUserIdIn(
+            @Param("couponId") Long couponId,
+            @Param("userIds") Collection<Long> userIds
+    );
 }
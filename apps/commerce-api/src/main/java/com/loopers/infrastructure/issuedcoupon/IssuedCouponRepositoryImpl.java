@@ -1,17 +1,39 @@
 package com.loopers.infrastructure.issuedcoupon;
 
+import com.loopers.domain.issuedcoupon.CouponStatus;
 import com.loopers.domain.issuedcoupon.IssuedCoupon;
 import com.loopers.domain.issuedcoupon.IssuedCouponRepository;
+import com.loopers.support.observation.LockingQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
 public class IssuedCouponRepositoryImpl implements IssuedCouponRepository {
 
+    /**
+     * multi-row INSERT IGNORE
+     * - (user_id, coupon_id) 유니크 키에 걸리는 행은 건너뛰어 같은 발급 요청이 재전달되어도 한 번만 발급
+     * - 영향받은 행 수 = 새로 발급된 건수
+     * - 시각은 Hibernate 설정(NORMALIZE_UTC)과 같게 UTC 로 저장
+     */
+    private static final String INSERT = """
+            INSERT IGNORE INTO issued_coupons
+                (user_id, coupon_id, status, created_at, updated_at)
+            VALUES
+            """;
+    private static final String ROW = "(?, ?, ?, UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))";
+    private static final int ROW_PARAMS = 3;
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
     private final IssuedCouponJpaRepository issuedCouponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public IssuedCoupon save(IssuedCoupon issuedCoupon) {
@@ -19,7 +41,56 @@ public class IssuedCouponRepositoryImpl implements IssuedCouponRepository {
     }
 
     @Override
+    @LockingQuery
     public Optional<IssuedCoupon> findByUserIdAndCouponId(Long userId, Long couponId) {
         return issuedCouponJpaRepository.findByUserIdAndCouponId(userId, couponId);
     }
+
+    @Override
+    @LockingQuery
+    public Optional<IssuedCoupon> findUsableByUserIdAndCouponId(Long userId, Long couponId) {
+        return issuedCouponJpaRepository.findByUserIdAndCouponIdAndStatus(userId, couponId, CouponStatus.USABLE);
+    }
+
+    @Override
+    public boolean existsByUserIdAndCouponId(Long userId, Long couponId) {
+        return issuedCouponJpaRepository.existsByUserIdAndCouponId(userId, couponId);
+    }
+
+    @Override
+    public List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds) {
+        return issuedCouponJpaRepository.findUserIdsByCouponIdAndUserIdIn(couponId, userIds);
+    }
+
+    @Override
+    public int issueAll(Long couponId, Collection<Long> userIds) {
+        List<Long> users = new ArrayList<>(userIds);
+        int issued = 0;
+        for (int from = 0; from < users.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Long> chunk = users.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, users.size()));
+
+            Object[] args = new Object[chunk.size() * ROW_PARAMS];
+            int i = 0;
+            for (Long userId : chunk) {
+                args[i++] = userId;
+                args[i++] = couponId;
+                args[i++] = CouponStatus.USABLE.name();
+            }
+
+            issued += jdbcTemplate.update(buildSql(chunk.size()), args);
+        }
+        return issued;
+    }
+
+    private static String buildSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + (ROW.length() + 2) * rows);
+        sql.append(INSERT);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append(ROW);
+        }
+        return sql.toString();
+    }
 }
@@ -5,6 +5,7 @@ import com.loopers.domain.outbox.OutboxEventRepository;
 import com.loopers.domain.outbox.OutboxStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -13,16 +14,63 @@ import java.util.List;
 @Component
 public class OutboxEventRepositoryImpl implements OutboxEventRepository {
 
+    /**
+     * multi-row INSERT
+     * - IDENTITY 키 전략은 Hibernate JDBC 배치를 막으므로 saveAll 은 JdbcTemplate 으로 직접 INSERT
+     * - 시각은 Hibernate 설정(NORMALIZE_UTC)과 같게 UTC 로 저장
+     */
+    private static final String INSERT = """
+            INSERT INTO outbox_events
+                (aggregate_type, aggregate_id, event_type, payload, status, created_at, updated_at)
+            VALUES
+            """;
+    private static final String ROW = "(?, ?, ?, ?, ?, UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))";
+    private static final int ROW_PARAMS = 5;
+    // payload(TEXT) 크기를 고려한 한 문장당 최대 행 수
+    private static final int MAX_ROWS_PER_STATEMENT = 100;
+
     private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public OutboxEvent save(OutboxEvent outboxEvent) {
         return outboxEventJpaRepository.save(outboxEvent);
     }
 
+    @Override
+    public void saveAll(List<OutboxEvent> outboxEvents) {
+        for (int from = 0; from < outboxEvents.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<OutboxEvent> chunk = outboxEvents.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, outboxEvents.size()));
+
+            Object[] args = new Object[chunk.size() * ROW_PARAMS];
+            int i = 0;
+            for (OutboxEvent outboxEvent : chunk) {
+                args[i++] = outboxEvent.getAggregateType();
+                args[i++] = outboxEvent.getAggregateId();
+                args[i++] = outboxEvent.getEventType();
+                args[i++] = outboxEvent.getPayload();
+                args[i++] = outboxEvent.getStatus().name();
+            }
+
+            jdbcTemplate.update(buildSql(chunk.size()), args);
+        }
+    }
+
     @Override
     public List<OutboxEvent> findByStatusOrderByCreatedAtAsc(OutboxStatus outboxStatus, int limit) {
         return outboxEventJpaRepository
                 .findByStatusOrderByCreatedAtAsc(outboxStatus, PageRequest.of(0, limit));
     }
+
+    private static String buildSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + (ROW.length() + 2) * rows);
+        sql.append(INSERT);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append(ROW);
+        }
+        return sql.toString();
+    }
 }
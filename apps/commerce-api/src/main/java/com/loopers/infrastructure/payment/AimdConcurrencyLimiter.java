@@ -0,0 +1,103 @@
+package com.loopers.infrastructure.payment;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD(Additive Increase / Multiplicative Decrease) 동시성 제한기
+ *
+ * - PG 응답이 정상이고 허용량을 절반 이상 사용 중이면 허용량 +1
+ * - 타임아웃/5xx/지연 임계 초과 응답이 오면 허용량 × backoffRatio
+ * - 허용량을 넘는 요청은 대기하지 않고 즉시 거절 (호출 스레드가 소켓에 묶이지 않도록)
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                  Duration latencyThreshold, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("동시성 허용량 범위가 올바르지 않습니다: " + minLimit + " ~ " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio는 0과 1 사이여야 합니다: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(Math.clamp(initialLimit, minLimit, maxLimit));
+    }
+
+    /**
+     * 허용량 안에서 요청 슬롯 획득
+     * @return 획득 실패 시 false (호출자는 즉시 거절 처리)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 정상 응답 - 지연 임계 초과 시 감소, 허용량을 충분히 사용 중이면 증가
+     */
+    public void onSuccess(long elapsedNanos) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        if (elapsedNanos > latencyThresholdNanos) {
+            decrease();
+            return;
+        }
+        if (inFlightBeforeRelease * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * 과부하 신호 (타임아웃, 5xx, 연결 실패) - 허용량 감소
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        decrease();
+    }
+
+    /**
+     * 과부하와 무관한 실패 (비즈니스 오류 응답 등) - 허용량 유지
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void decrease() {
+        limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+    }
+
+    /**
+     * 동시성 허용량 초과로 요청이 거절됨
+     */
+    public static class LimitExceededException extends RuntimeException {
+        public LimitExceededException(int limit) {
+            super("PG 동시 요청 허용량 초과 (limit: " + limit + ")");
+        }
+    }
+}
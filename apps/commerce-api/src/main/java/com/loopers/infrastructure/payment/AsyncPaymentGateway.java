@@ -0,0 +1,384 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentGateway;
+import com.loopers.domain.payment.PaymentResult;
+import com.loopers.infrastructure.external.dto.PaymentExternalDto;
+import com.loopers.infrastructure.external.http.PaymentAsyncClient;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 HTTP 기반 PG 게이트웨이 (payment.gateway.client=async)
+ *
+ * 호출 1건의 처리 순서:
+ * 1. Bulkhead (paymentGateway, 세마포어) - 고정 상한 초과 시 대기 없이 거절
+ * 2. AIMD 동시성 제한 - PG 지연/과부하에 따라 허용량을 조절하고 초과 시 거절
+ * 3. Circuit Breaker (paymentGateway) - OPEN이면 즉시 실패
+ *    Bulkhead/AIMD 거절은 PG를 호출하지 않은 자체 부하 제한이므로 Circuit Breaker 밖에서 판단해 실패율에 넣지 않음
+ * 4. 비동기 HTTP 호출 - 응답 대기 중 스레드를 점유하지 않음
+ * 5. 재시도 - 고정 횟수 대신 재시도 예산(원 요청 대비 비율) 안에서만 재시도
+ *    결제 요청(비멱등)은 PG에 전달되지 않은 것이 확실한 연결 실패만 재시도 (타임아웃/5xx 는 PG가 접수했을 수 있어 중복 결제 위험)
+ *    상태 조회(멱등)는 타임아웃, 연결 실패, 5xx 를 재시도
+ * 상태 조회(멱등)는 HedgingPolicy로 감싸 관측 p95 안에 응답이 없으면 hedge 요청을 보낸다.
+ * 호출 타임아웃(call-timeout) 시 진행 중인 HTTP 요청(재시도/hedge 포함)을 취소해 연결과 Bulkhead/AIMD 허용량을 바로 반납한다.
+ *
+ * 실패/거절 시 FeignPaymentGateway와 동일한 Fallback 결과를 반환한다.
+ * 메트릭: payment.gateway.latency / inflight / limit / rejected / retry
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.gateway.client", havingValue = "async")
+public class AsyncPaymentGateway implements PaymentGateway {
+
+    private static final String INSTANCE_NAME = "paymentGateway";
+
+    private final PaymentAsyncClient paymentAsyncClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final AimdConcurrencyLimiter limiter;
+    private final RetryBudget retryBudget;
+    private final HedgingPolicy hedgingPolicy;
+
+    private final Meter.MeterProvider<Timer> latencyTimer;
+    private final Meter.MeterProvider<Counter> retryCounter;
+    private final Meter.MeterProvider<Counter> rejectedCounter;
+
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration callTimeout;
+
+    public AsyncPaymentGateway(
+            PaymentAsyncClient paymentAsyncClient,
+            PaymentGatewayProperties properties,
+            HedgingPolicy hedgingPolicy,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        PaymentGatewayProperties.Limiter limiterProperties = properties.limiter();
+        PaymentGatewayProperties.Retry retryProperties = properties.retry();
+
+        this.paymentAsyncClient = paymentAsyncClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+        this.limiter = new AimdConcurrencyLimiter(
+                limiterProperties.initialLimit(),
+                limiterProperties.minLimit(),
+                limiterProperties.maxLimit(),
+                limiterProperties.latencyThreshold(),
+                limiterProperties.backoffRatio()
+        );
+        this.retryBudget = new RetryBudget(retryProperties.budgetRatio(), retryProperties.budgetReserve());
+        this.hedgingPolicy = hedgingPolicy;
+        this.maxAttempts = retryProperties.maxAttempts();
+        this.retryBackoff = retryProperties.backoff();
+        this.callTimeout = properties.callTimeout();
+
+        this.latencyTimer = Timer.builder("payment.gateway.latency")
+                .description("PG 요청 응답 시간")
+                .withRegistry(meterRegistry);
+        this.retryCounter = Counter.builder("payment.gateway.retry")
+                .description("PG 요청 재시도 횟수")
+                .withRegistry(meterRegistry);
+        this.rejectedCounter = Counter.builder("payment.gateway.rejected")
+                .description("PG 요청 거절 횟수 (bulkhead / limit / circuit_open / retry_budget)")
+                .withRegistry(meterRegistry);
+
+        Gauge.builder("payment.gateway.inflight", limiter, AimdConcurrencyLimiter::getInFlight)
+                .description("PG 진행 중 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.gateway.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                .description("PG 동시 요청 허용량 (AIMD)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PaymentResult processPayment(String userId, Payment payment, String callbackUrl) {
+        log.debug("결제 요청 - paymentId: {}, userId: {}", payment.getPaymentId(), userId);
+
+        PaymentExternalDto.PaymentRequest request = PaymentExternalDto.PaymentRequest.from(payment, callbackUrl);
+        InFlightRequests inFlight = new InFlightRequests();
+        try {
+            PaymentExternalDto.PaymentResponse response =
+                    await(call("payment", false, inFlight, () -> paymentAsyncClient.payment(request)), inFlight);
+
+            if (!response.isSuccess()) {
+                throw new CoreException(
+                        ErrorType.PAYMENT_REQUEST_FAILED,
+                        "결제 요청 실패: " + response.getErrorMessage()
+                );
+            }
+
+            return new PaymentResult(
+                    response.getTransactionKey(),
+                    response.getStatus(),
+                    "결제 요청이 접수되었습니다"
+            );
+        } catch (Exception e) {
+            log.error("결제 시스템 장애 발생 - userId: {}, paymentKey: {}, error: {}",
+                    userId, payment.getPaymentId(), e.getMessage(), e);
+            return new PaymentResult(
+                    null,
+                    "FAIL",
+                    "결제 시스템 장애로 결제 대기 상태로 변경되었습니다."
+            );
+        }
+    }
+
+    @Override
+    public Map<String, PaymentResult> checkPaymentStatuses(List<String> pgTransactionIds) {
+        if (pgTransactionIds.isEmpty()) {
+            return Map.of();
+        }
+        log.debug("결제 상태 일괄 조회 - 건수: {}", pgTransactionIds.size());
+
+        PaymentExternalDto.PaymentStatusRequest request = new PaymentExternalDto.PaymentStatusRequest(pgTransactionIds);
+        InFlightRequests inFlight = new InFlightRequests();
+        try {
+            PaymentExternalDto.PaymentStatusListResponse response =
+                    await(hedgingPolicy.execute("statuses",
+                            () -> call("statuses", true, inFlight, () -> paymentAsyncClient.paymentStatuses(request))),
+                            inFlight);
+
+            if (!response.isSuccess()) {
+                throw new CoreException(
+                        ErrorType.PAYMENT_REQUEST_FAILED,
+                        "결제 상태 일괄 조회 실패: " + response.getErrorMessage()
+                );
+            }
+
+            Map<String, PaymentResult> results = new HashMap<>(response.getTransactions().size() * 2);
+            for (PaymentExternalDto.PaymentStatusData transaction : response.getTransactions()) {
+                results.put(transaction.transactionKey(), new PaymentResult(
+                        transaction.transactionKey(),
+                        transaction.status(),
+                        transaction.reason() != null ? transaction.reason() : "상태 조회 완료"
+                ));
+            }
+            return results;
+        } catch (Exception e) {
+            log.error("결제 상태 일괄 조회 시스템 장애 발생 - 건수: {}, error: {}",
+                    pgTransactionIds.size(), e.getMessage(), e);
+
+            Map<String, PaymentResult> results = new HashMap<>(pgTransactionIds.size() * 2);
+            for (String pgTransactionId : pgTransactionIds) {
+                results.put(pgTransactionId, processingResult(pgTransactionId));
+            }
+            return results;
+        }
+    }
+
+    AimdConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * 원 요청 1건: 재시도 예산 적립 후 첫 시도
+     *
+     * @param idempotent 같은 요청을 다시 보내도 결과가 같은지 여부 (아니면 미전송이 확실한 실패만 재시도)
+     * @param inFlight 호출 타임아웃 시 취소할 HTTP 요청 목록 (재시도/hedge 요청 공유)
+     */
+    private <T> CompletableFuture<T> call(String operation, boolean idempotent, InFlightRequests inFlight,
+                                          Supplier<CompletableFuture<T>> request) {
+        retryBudget.deposit();
+        return attempt(operation, idempotent, inFlight, request, 1);
+    }
+
+    private <T> CompletableFuture<T> attempt(String operation, boolean idempotent, InFlightRequests inFlight,
+                                             Supplier<CompletableFuture<T>> request, int attempt) {
+        return limited(operation, inFlight, request)
+                .exceptionallyCompose(throwable -> {
+                    Throwable cause = unwrap(throwable);
+                    boolean retryable = idempotent ? isOverloadSignal(cause) : isNotSent(cause);
+                    if (attempt >= maxAttempts || !retryable) {
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    if (!retryBudget.tryWithdraw()) {
+                        reject(operation, "retry_budget");
+                        return CompletableFuture.failedFuture(cause);
+                    }
+
+                    retryCounter.withTags("operation", operation).increment();
+
+                    // 지수 백오프 (backoff × 2^(attempt-1)) 후 재시도, 대기 중 스레드를 점유하지 않음
+                    long delayMillis = retryBackoff.toMillis() << (attempt - 1);
+                    return CompletableFuture
+                            .runAsync(() -> { }, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> attempt(operation, idempotent, inFlight, request, attempt + 1));
+                });
+    }
+
+    /**
+     * Bulkhead → AIMD 허용량 확인 → Circuit Breaker 안에서 요청, 응답 시간과 결과로 허용량 조정
+     * - 허용량 거절은 Circuit Breaker를 거치지 않으므로 PG 실패로 기록되지 않음
+     * - OPEN 거절(CallNotPermittedException)은 PG를 호출하지 않았으므로 허용량만 반납하고 응답 시간은 기록하지 않음
+     */
+    private <T> CompletableFuture<T> limited(String operation, InFlightRequests inFlight,
+                                             Supplier<CompletableFuture<T>> request) {
+        if (inFlight.isCancelled()) {
+            // 호출 타임아웃 이후 예약된 재시도/hedge 요청은 보내지 않음
+            return CompletableFuture.failedFuture(new CancellationException("PG 호출 타임아웃으로 취소됨"));
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            reject(operation, "bulkhead");
+            return CompletableFuture.failedFuture(BulkheadFullException.createBulkheadFullException(bulkhead));
+        }
+        if (!limiter.tryAcquire()) {
+            bulkhead.onComplete();
+            reject(operation, "limit");
+            return CompletableFuture.failedFuture(new AimdConcurrencyLimiter.LimitExceededException(limiter.getLimit()));
+        }
+
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> response = circuitBreaker
+                .executeCompletionStage(() -> inFlight.track(request.get()))
+                .toCompletableFuture();
+
+        return response.whenComplete((result, throwable) -> {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            bulkhead.onComplete();
+
+            String outcome;
+            Throwable cause = unwrap(throwable);
+            if (cause instanceof CallNotPermittedException) {
+                limiter.onIgnored();
+                reject(operation, "circuit_open");
+                return;
+            }
+
+            if (cause == null) {
+                limiter.onSuccess(elapsedNanos);
+                outcome = "success";
+            } else if (isOverloadSignal(cause)) {
+                limiter.onDropped();
+                outcome = "dropped";
+            } else {
+                limiter.onIgnored();
+                outcome = "failure";
+            }
+
+            latencyTimer.withTags("operation", operation, "outcome", outcome)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    private void reject(String operation, String reason) {
+        rejectedCounter.withTags("operation", operation, "reason", reason).increment();
+    }
+
+    /**
+     * 재시도 예산 안에서 호출 스레드가 대기하는 유일한 지점 (PaymentGateway는 동기 인터페이스)
+     * - 타임아웃 시 결과 future 만 취소하면 HTTP 요청은 응답까지 남아 허용량을 점유하므로 진행 중인 요청을 직접 취소
+     */
+    private <T> T await(CompletableFuture<T> future, InFlightRequests inFlight) throws Exception {
+        try {
+            return future.get(callTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            inFlight.cancelAll();
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * 과부하 신호: 타임아웃, 연결 실패, 5xx - 허용량 감소 및 멱등 요청의 재시도 대상
+     */
+    private static boolean isOverloadSignal(Throwable cause) {
+        return cause instanceof IOException
+                || cause instanceof TimeoutException
+                || cause instanceof PaymentAsyncClient.PgServerErrorException;
+    }
+
+    /**
+     * 요청이 PG에 전달되지 않은 것이 확실한 실패: 연결 거부, 연결 타임아웃
+     */
+    private static boolean isNotSent(Throwable cause) {
+        return cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable current = throwable;
+        while (current instanceof CompletionException || current instanceof ExecutionException) {
+            if (current.getCause() == null) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    /**
+     * 원 요청 1건이 보낸 HTTP 요청 (재시도/hedge 포함)
+     * - PaymentAsyncClient 가 반환한 future 를 취소하면 JDK HttpClient 요청도 취소됨
+     */
+    private static final class InFlightRequests {
+
+        private final Set<CompletableFuture<?>> requests = ConcurrentHashMap.newKeySet();
+        private volatile boolean cancelled;
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        <T> CompletableFuture<T> track(CompletableFuture<T> request) {
+            requests.add(request);
+            request.whenComplete((result, throwable) -> requests.remove(request));
+            if (cancelled) {
+                request.cancel(true);
+            }
+            return request;
+        }
+
+        void cancelAll() {
+            cancelled = true;
+            requests.forEach(request -> request.cancel(true));
+        }
+    }
+
+    private static PaymentResult processingResult(String pgTransactionId) {
+        // 상태 조회 실패 시 PROCESSING 유지
+        return new PaymentResult(
+                pgTransactionId,
+                "PROCESSING",
+                "결제 시스템 장애로 상태 조회에 실패했습니다."
+        );
+    }
+}
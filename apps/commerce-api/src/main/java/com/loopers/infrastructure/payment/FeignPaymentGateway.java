@@ -12,14 +12,21 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.gateway.client", havingValue = "feign", matchIfMissing = true)
 public class FeignPaymentGateway implements PaymentGateway {
 
     private final PaymentClient paymentClient;
+    private final HedgingPolicy hedgingPolicy;
 
     @Override
     @Retry(name = "paymentGateway")
@@ -51,27 +58,36 @@ public class FeignPaymentGateway implements PaymentGateway {
 
     @Override
     @Retry(name = "paymentGateway")
-    @CircuitBreaker(name = "paymentGateway", fallbackMethod = "checkPaymentStatusFallback")
-    public PaymentResult checkPaymentStatus(String pgTransactionId) {
-        log.debug("결제 상태 조회 - pgTransactionId: {}", pgTransactionId);
+    @CircuitBreaker(name = "paymentGateway", fallbackMethod = "checkPaymentStatusesFallback")
+    public Map<String, PaymentResult> checkPaymentStatuses(List<String> pgTransactionIds) {
+        if (pgTransactionIds.isEmpty()) {
+            return Map.of();
+        }
+        log.debug("결제 상태 일괄 조회 - 건수: {}", pgTransactionIds.size());
 
-        // 외부 결제 시스템에 상태 확인 요청
-        PaymentExternalDto.PaymentResponse response = paymentClient.paymentInfo(pgTransactionId);
+        // 외부 결제 시스템에 상태 일괄 확인 요청 (멱등 조회 - p95 안에 응답이 없으면 hedge 요청)
+        PaymentExternalDto.PaymentStatusRequest request = new PaymentExternalDto.PaymentStatusRequest(pgTransactionIds);
+        PaymentExternalDto.PaymentStatusListResponse response =
+                hedgingPolicy.executeBlocking("statuses", () -> paymentClient.paymentStatuses(request));
 
         // 실패 응답 처리
         if (!response.isSuccess()) {
             throw new CoreException(
                     ErrorType.PAYMENT_REQUEST_FAILED,
-                    "결제 상태 조회 실패: " + response.getErrorMessage()
+                    "결제 상태 일괄 조회 실패: " + response.getErrorMessage()
             );
         }
 
         // Domain 모델로 변환하여 반환
-        return new PaymentResult(
-                response.getTransactionKey(),
-                response.getStatus(),
-                response.getErrorMessage() != null ? response.getErrorMessage() : "상태 조회 완료"
-        );
+        Map<String, PaymentResult> results = new HashMap<>(response.getTransactions().size() * 2);
+        for (PaymentExternalDto.PaymentStatusData transaction : response.getTransactions()) {
+            results.put(transaction.transactionKey(), new PaymentResult(
+                    transaction.transactionKey(),
+                    transaction.status(),
+                    transaction.reason() != null ? transaction.reason() : "상태 조회 완료"
+            ));
+        }
+        return results;
     }
 
     /**
@@ -93,18 +109,22 @@ public class FeignPaymentGateway implements PaymentGateway {
     }
 
     /**
-     * Check Payment Status Fallback 메서드
+     * Check Payment Statuses Fallback 메서드
      * Circuit이 Open 상태이거나, 재시도 실패 시 호출
      * */
-    private PaymentResult checkPaymentStatusFallback(String pgTransactionId, Exception ex) {
-        log.error("결제 상태 조회 시스템 장애 발생 - pgTransactionId: {}, error: {}",
-                pgTransactionId, ex.getMessage(), ex);
-
-        // 상태 조회 실패 시 PROCESSING 유지
-        return new PaymentResult(
-                pgTransactionId,
-                "PROCESSING",
-                "결제 시스템 장애로 상태 조회에 실패했습니다."
-        );
+    private Map<String, PaymentResult> checkPaymentStatusesFallback(List<String> pgTransactionIds, Exception ex) {
+        log.error("결제 상태 일괄 조회 시스템 장애 발생 - 건수: {}, error: {}",
+                pgTransactionIds.size(), ex.getMessage(), ex);
+
+        // 상태 조회 실패 시 모두 PROCESSING 유지
+        Map<String, PaymentResult> results = new HashMap<>(pgTransactionIds.size() * 2);
+        for (String pgTransactionId : pgTransactionIds) {
+            results.put(pgTransactionId, new PaymentResult(
+                    pgTransactionId,
+                    "PROCESSING",
+                    "결제 시스템 장애로 상태 조회에 실패했습니다."
+            ));
+        }
+        return results;
     }
 }
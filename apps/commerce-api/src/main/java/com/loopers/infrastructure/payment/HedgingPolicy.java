@@ -0,0 +1,212 @@
+package com.loopers.infrastructure.payment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 멱등한 PG 상태 조회용 hedging 정책
+ *
+ * - 요청이 관측 p95 안에 응답하지 않으면 같은 요청을 한 번 더 보내고 먼저 온 성공 응답을 사용
+ * - p95는 operation별 최근 응답 시간 표본(WINDOW_SIZE)으로 계산하며 [min-delay, max-delay]로 제한
+ * - hedge 요청은 전역 예산(원 요청 대비 budget-ratio) 안에서만 발생해 PG 부하를 2배로 만들지 않음
+ * - 결제 요청(processPayment)처럼 멱등하지 않은 호출에는 사용하지 않는다
+ *
+ * 메트릭: payment.gateway.hedge.requests / fired / wins / budget.exhausted, payment.gateway.hedge.delay
+ * - hedge 비율 = fired / requests, 승률 = wins / fired
+ * - 요청마다 기록하므로 카운터 빌더는 생성 시 한 번만 만들고 operation 태그만 붙여 조회
+ */
+@Slf4j
+@Component
+public class HedgingPolicy {
+
+    static final int WINDOW_SIZE = 512;
+    static final int MIN_SAMPLES = 20;
+    private static final int RECALCULATE_INTERVAL = 16;
+    private static final double PERCENTILE = 0.95;
+
+    private final boolean enabled;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final RetryBudget hedgeBudget;
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Counter> requestCounter;
+    private final Meter.MeterProvider<Counter> firedCounter;
+    private final Meter.MeterProvider<Counter> winCounter;
+    private final Meter.MeterProvider<Counter> budgetExhaustedCounter;
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    // 블로킹 클라이언트(Feign) 호출을 원 요청/hedge 요청으로 나누어 실행 (종료 시 shutdown)
+    private final ExecutorService blockingExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("payment-hedge-", 0).factory());
+
+    public HedgingPolicy(PaymentGatewayProperties properties, MeterRegistry meterRegistry) {
+        PaymentGatewayProperties.Hedge hedge = properties.hedge();
+        this.enabled = hedge.enabled();
+        this.minDelayNanos = hedge.minDelay().toNanos();
+        this.maxDelayNanos = hedge.maxDelay().toNanos();
+        this.hedgeBudget = new RetryBudget(hedge.budgetRatio(), hedge.budgetReserve());
+        this.meterRegistry = meterRegistry;
+        this.requestCounter = Counter.builder("payment.gateway.hedge.requests").withRegistry(meterRegistry);
+        this.firedCounter = Counter.builder("payment.gateway.hedge.fired").withRegistry(meterRegistry);
+        this.winCounter = Counter.builder("payment.gateway.hedge.wins").withRegistry(meterRegistry);
+        this.budgetExhaustedCounter = Counter.builder("payment.gateway.hedge.budget.exhausted").withRegistry(meterRegistry);
+    }
+
+    /**
+     * 새 hedge 실행을 받지 않고, 진행 중인 호출은 Feign 타임아웃 안에 끝나도록 둔다
+     */
+    @PreDestroy
+    public void shutdown() {
+        blockingExecutor.shutdown();
+    }
+
+    /**
+     * 블로킹 호출 hedging - 원 요청과 hedge 요청을 각각 가상 스레드에서 실행하고 먼저 성공한 결과 반환
+     * 실패 시 원인 예외를 그대로 던진다 (Retry/CircuitBreaker 예외 분류 유지)
+     */
+    public <T> T executeBlocking(String operation, Supplier<T> request) {
+        if (!enabled) {
+            return request.get();
+        }
+        try {
+            return execute(operation, () -> CompletableFuture.supplyAsync(request, blockingExecutor)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 호출 hedging
+     */
+    public <T> CompletableFuture<T> execute(String operation, Supplier<CompletableFuture<T>> request) {
+        if (!enabled) {
+            return request.get();
+        }
+
+        LatencyWindow window = windows.computeIfAbsent(operation, this::registerWindow);
+        hedgeBudget.deposit();
+        requestCounter.withTags("operation", operation).increment();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+
+        send(request, window).whenComplete((value, throwable) -> complete(result, outstanding, value, throwable, null));
+
+        CompletableFuture.delayedExecutor(window.hedgeDelayNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (!hedgeBudget.tryWithdraw()) {
+                budgetExhaustedCounter.withTags("operation", operation).increment();
+                return;
+            }
+
+            outstanding.incrementAndGet();
+            firedCounter.withTags("operation", operation).increment();
+            send(request, window).whenComplete((value, throwable) -> complete(result, outstanding, value, throwable, operation));
+        });
+
+        return result;
+    }
+
+    Duration getHedgeDelay(String operation) {
+        LatencyWindow window = windows.get(operation);
+        return Duration.ofNanos(window != null ? window.hedgeDelayNanos() : maxDelayNanos);
+    }
+
+    /**
+     * 먼저 성공한 응답으로 결과 확정, 모든 요청이 실패했을 때만 실패 처리
+     * @param hedgeOperation hedge 요청이면 operation 이름 (승리 집계용), 원 요청이면 null
+     */
+    private <T> void complete(CompletableFuture<T> result, AtomicInteger outstanding,
+                              T value, Throwable throwable, String hedgeOperation) {
+        if (throwable == null) {
+            if (result.complete(value) && hedgeOperation != null) {
+                winCounter.withTags("operation", hedgeOperation).increment();
+            }
+            return;
+        }
+        if (outstanding.decrementAndGet() == 0) {
+            result.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable);
+        }
+    }
+
+    private <T> CompletableFuture<T> send(Supplier<CompletableFuture<T>> request, LatencyWindow window) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return response.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                window.record(System.nanoTime() - startNanos);
+            }
+        });
+    }
+
+    private LatencyWindow registerWindow(String operation) {
+        LatencyWindow window = new LatencyWindow();
+        Gauge.builder("payment.gateway.hedge.delay", window, w -> w.hedgeDelayNanos() / 1_000_000.0)
+                .description("hedge 요청 지연 기준 (관측 p95, ms)")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return window;
+    }
+
+    /**
+     * 최근 응답 시간 원형 버퍼 - RECALCULATE_INTERVAL 건마다 p95 재계산
+     */
+    private class LatencyWindow {
+
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int next;
+        private int count;
+        private volatile long hedgeDelayNanos = maxDelayNanos;
+
+        long hedgeDelayNanos() {
+            return hedgeDelayNanos;
+        }
+
+        void record(long elapsedNanos) {
+            long[] snapshot = null;
+            synchronized (this) {
+                samples[next] = elapsedNanos;
+                next = (next + 1) % WINDOW_SIZE;
+                count = Math.min(count + 1, WINDOW_SIZE);
+                if (count >= MIN_SAMPLES && next % RECALCULATE_INTERVAL == 0) {
+                    snapshot = Arrays.copyOf(samples, count);
+                }
+            }
+
+            if (snapshot != null) {
+                Arrays.sort(snapshot);
+                long p95 = snapshot[(int) Math.ceil(snapshot.length * PERCENTILE) - 1];
+                hedgeDelayNanos = Math.clamp(p95, minDelayNanos, maxDelayNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PaymentCallbackInboxJpaRepository extends JpaRepository<PaymentCallbackInbox, Long> {
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED (lock.timeout = -2)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM PaymentCallbackInbox i WHERE i.status = :status ORDER BY i.id")
+    List<PaymentCallbackInbox> findByStatusForUpdate(
+            @Param("status") PaymentCallbackInboxStatus status,
+            Pageable pageable
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM PaymentCallbackInbox i WHERE i.status = :status AND i.id IN :ids ORDER BY i.id")
+    List<PaymentCallbackInbox> findByStatusAndIdInForUpdate(
+            @Param("status") PaymentCallbackInboxStatus status,
+            @Param("ids") Collection<Long> ids
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentCallbackInbox i SET i.status = :status WHERE i.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") PaymentCallbackInboxStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentCallbackInbox i SET i.attempts = i.attempts + 1, " +
+            "i.status = CASE WHEN i.attempts + 1 >= :maxAttempts " +
+            "    THEN com.loopers.domain.payment.PaymentCallbackInboxStatus.FAILED ELSE i.status END " +
+            "WHERE i.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts);
+}
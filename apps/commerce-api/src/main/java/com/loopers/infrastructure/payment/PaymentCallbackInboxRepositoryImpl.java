@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxRepository;
+import com.loopers.domain.payment.PaymentCallbackInboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class PaymentCallbackInboxRepositoryImpl implements PaymentCallbackInboxRepository {
+
+    private final PaymentCallbackInboxJpaRepository paymentCallbackInboxJpaRepository;
+
+    @Override
+    public PaymentCallbackInbox save(PaymentCallbackInbox inbox) {
+        return paymentCallbackInboxJpaRepository.save(inbox);
+    }
+
+    @Override
+    public List<PaymentCallbackInbox> findReceivedForUpdate(int limit) {
+        return paymentCallbackInboxJpaRepository.findByStatusForUpdate(
+                PaymentCallbackInboxStatus.RECEIVED,
+                PageRequest.of(0, limit)
+        );
+    }
+
+    @Override
+    public List<PaymentCallbackInbox> findReceivedForUpdate(Collection<Long> ids) {
+        return paymentCallbackInboxJpaRepository.findByStatusAndIdInForUpdate(PaymentCallbackInboxStatus.RECEIVED, ids);
+    }
+
+    @Override
+    public void markProcessed(Collection<Long> ids) {
+        paymentCallbackInboxJpaRepository.updateStatus(ids, PaymentCallbackInboxStatus.PROCESSED);
+    }
+
+    @Override
+    public void recordFailure(Collection<Long> ids, int maxAttempts) {
+        paymentCallbackInboxJpaRepository.incrementAttempts(ids, maxAttempts);
+    }
+}
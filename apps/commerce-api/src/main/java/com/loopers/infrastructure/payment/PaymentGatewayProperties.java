@@ -0,0 +1,62 @@
+package com.loopers.infrastructure.payment;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * PG 클라이언트 설정 (payment.gateway)
+ *
+ * @param client      feign(기본, 블로킹) | async(비동기 HTTP + 적응형 동시성 제한)
+ * @param callTimeout async 모드에서 재시도를 포함한 호출 1건의 최대 대기 시간
+ */
+@ConfigurationProperties("payment.gateway")
+public record PaymentGatewayProperties(
+        @DefaultValue("feign") String client,
+        @DefaultValue("10s") Duration callTimeout,
+        @DefaultValue Limiter limiter,
+        @DefaultValue Retry retry,
+        @DefaultValue Hedge hedge
+) {
+
+    /**
+     * @param latencyThreshold 이 시간을 넘긴 응답은 과부하 신호로 보고 허용량을 줄임
+     */
+    public record Limiter(
+            @DefaultValue("10") int initialLimit,
+            @DefaultValue("2") int minLimit,
+            @DefaultValue("100") int maxLimit,
+            @DefaultValue("1s") Duration latencyThreshold,
+            @DefaultValue("0.9") double backoffRatio
+    ) {
+    }
+
+    /**
+     * @param budgetRatio   원 요청 대비 허용하는 재시도 비율
+     * @param budgetReserve 정상 상태에서 순간적으로 허용하는 재시도 횟수
+     */
+    public record Retry(
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("500ms") Duration backoff,
+            @DefaultValue("0.1") double budgetRatio,
+            @DefaultValue("10") int budgetReserve
+    ) {
+    }
+
+    /**
+     * 상태 조회 hedging 설정
+     *
+     * @param minDelay    관측 p95가 이보다 짧아도 이 시간은 기다린 뒤 hedge 요청
+     * @param maxDelay    관측 표본이 부족하거나 p95가 이보다 길면 이 시간 후 hedge 요청
+     * @param budgetRatio 원 요청 대비 hedge 요청 허용 비율 (부하가 2배가 되지 않도록)
+     */
+    public record Hedge(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("50ms") Duration minDelay,
+            @DefaultValue("1s") Duration maxDelay,
+            @DefaultValue("0.1") double budgetRatio,
+            @DefaultValue("10") int budgetReserve
+    ) {
+    }
+}
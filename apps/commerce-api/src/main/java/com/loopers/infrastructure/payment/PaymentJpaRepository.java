@@ -2,11 +2,13 @@ package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,22 +23,75 @@ public interface PaymentJpaRepository extends JpaRepository<Payment, String> {
     Optional<Payment> findByPgTransactionId(String pgTransactionId);
 
     /**
-     * PROCESSING 상태인 결제 중 상태 확인 대상 조회
-     * - PROCESSING 상태
-     * - 마지막 확인 시간이 기준 시간 이전이거나 확인한 적 없음
-     * - 최대 확인 횟수 미만
+     * PG Transaction ID 목록으로 Payment 조회 (주문·사용자 fetch join)
+     *
+     * @param pgTransactionIds PG사에서 발급한 거래 키 목록
+     * @return Payment 엔티티 목록
+     */
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order o JOIN FETCH o.user " +
+            "WHERE p.pgTransactionId IN :pgTransactionIds")
+    List<Payment> findAllByPgTransactionIdIn(@Param("pgTransactionIds") Collection<String> pgTransactionIds);
+
+    /**
+     * 상태 확인 이력이 없는 결제 조회 (keyset 페이징)
+     * - idx_payment_status_next_check (status, next_status_check_at = NULL) 범위를 payment_id 순으로 스캔
      *
      * @param status 결제 상태
-     * @param thresholdTime 기준 시간
+     * @param afterPaymentId 직전 페이지의 마지막 결제 ID
      * @param maxCheckCount 최대 확인 횟수
+     * @param pageable 페이지 크기
      * @return 상태 확인 대상 Payment 목록
      */
     @Query("SELECT p FROM Payment p WHERE p.status = :status " +
-            "AND (p.lastStatusCheckAt < :thresholdTime OR p.lastStatusCheckAt IS NULL) " +
+            "AND p.nextStatusCheckAt IS NULL " +
+            "AND p.paymentId > :afterPaymentId " +
+            "AND p.statusCheckCount < :maxCheckCount " +
+            "ORDER BY p.paymentId")
+    List<Payment> findUncheckedForStatusCheck(
+            @Param("status") PaymentStatus status,
+            @Param("afterPaymentId") String afterPaymentId,
+            @Param("maxCheckCount") Integer maxCheckCount,
+            Pageable pageable
+    );
+
+    /**
+     * 다음 확인 예정 시간이 도래한 결제 조회 (keyset 페이징)
+     * - idx_payment_status_next_check 를 (next_status_check_at, payment_id) 순으로 스캔하여 filesort 없이 조회
+     * - 백오프 중인 결제(next_status_check_at > now)는 인덱스 범위 밖이므로 읽지 않음
+     * - OFFSET 없이 직전 페이지 마지막 위치 이후부터 조회
+     *
+     * @param status 결제 상태
+     * @param now 기준 시각
+     * @param afterCheckAt 직전 페이지 마지막 결제의 다음 확인 예정 시간
+     * @param afterPaymentId 직전 페이지 마지막 결제 ID
+     * @param maxCheckCount 최대 확인 횟수
+     * @param pageable 페이지 크기
+     * @return 상태 확인 대상 Payment 목록
+     */
+    @Query("SELECT p FROM Payment p WHERE p.status = :status " +
+            "AND p.nextStatusCheckAt <= :now " +
+            "AND (p.nextStatusCheckAt > :afterCheckAt " +
+            "     OR (p.nextStatusCheckAt = :afterCheckAt AND p.paymentId > :afterPaymentId)) " +
+            "AND p.statusCheckCount < :maxCheckCount " +
+            "ORDER BY p.nextStatusCheckAt, p.paymentId")
+    List<Payment> findDueForStatusCheck(
+            @Param("status") PaymentStatus status,
+            @Param("now") LocalDateTime now,
+            @Param("afterCheckAt") LocalDateTime afterCheckAt,
+            @Param("afterPaymentId") String afterPaymentId,
+            @Param("maxCheckCount") Integer maxCheckCount,
+            Pageable pageable
+    );
+
+    /**
+     * 백오프로 확인이 미뤄진 결제 수 (idx_payment_status_next_check 의 next_status_check_at > now 범위)
+     */
+    @Query("SELECT COUNT(p) FROM Payment p WHERE p.status = :status " +
+            "AND p.nextStatusCheckAt > :now " +
             "AND p.statusCheckCount < :maxCheckCount")
-    List<Payment> findByStatusAndLastStatusCheckAtBeforeOrLastStatusCheckAtIsNullAndStatusCheckCountLessThan(
+    long countDeferredForStatusCheck(
             @Param("status") PaymentStatus status,
-            @Param("thresholdTime") LocalDateTime thresholdTime,
+            @Param("now") LocalDateTime now,
             @Param("maxCheckCount") Integer maxCheckCount
     );
 
@@ -3,16 +3,23 @@ package com.loopers.infrastructure.payment;
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentRepository;
 import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.domain.payment.PaymentStatusCheckCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
 public class PaymentRepositoryImpl implements PaymentRepository {
+    // 확인 이력 구간 첫 페이지 조회용 커서 (MySQL DATETIME 최소값)
+    private static final LocalDateTime CHECKED_SECTION_START = LocalDateTime.of(1000, 1, 1, 0, 0);
+
     private final PaymentJpaRepository paymentJpaRepository;
 
     @Override
@@ -20,18 +27,60 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return paymentJpaRepository.findByPgTransactionId(pgTransactionId);
     }
 
+    @Override
+    public List<Payment> findAllByPgTransactionIds(Collection<String> pgTransactionIds) {
+        return paymentJpaRepository.findAllByPgTransactionIdIn(pgTransactionIds);
+    }
+
     @Override
     public Payment save(Payment payment) {
         return paymentJpaRepository.save(payment);
     }
 
     @Override
-    public List<Payment> findProcessingPaymentsForStatusCheck(LocalDateTime thresholdTime, int maxCheckCount) {
-        return paymentJpaRepository.findByStatusAndLastStatusCheckAtBeforeOrLastStatusCheckAtIsNullAndStatusCheckCountLessThan(
+    public List<Payment> findProcessingPaymentsForStatusCheck(
+            PaymentStatusCheckCursor cursor,
+            LocalDateTime now,
+            int maxCheckCount,
+            int limit
+    ) {
+        if (!cursor.isUncheckedSection()) {
+            return paymentJpaRepository.findDueForStatusCheck(
+                    PaymentStatus.PROCESSING,
+                    now,
+                    cursor.nextStatusCheckAt(),
+                    cursor.paymentId(),
+                    maxCheckCount,
+                    PageRequest.of(0, limit)
+            );
+        }
+
+        List<Payment> unchecked = paymentJpaRepository.findUncheckedForStatusCheck(
                 PaymentStatus.PROCESSING,
-                thresholdTime,
-                maxCheckCount
+                cursor.paymentId(),
+                maxCheckCount,
+                PageRequest.of(0, limit)
         );
+        if (unchecked.size() == limit) {
+            return unchecked;
+        }
+
+        // 미확인 구간을 모두 읽었으면 확인 이력 구간의 첫 페이지로 나머지를 채운다
+        List<Payment> payments = new ArrayList<>(unchecked);
+        payments.addAll(paymentJpaRepository.findDueForStatusCheck(
+                PaymentStatus.PROCESSING,
+                now,
+                CHECKED_SECTION_START,
+                "",
+                maxCheckCount,
+                PageRequest.of(0, limit - unchecked.size())
+        ));
+        return payments;
+    }
+
+    @Override
+    public long countProcessingPaymentsDeferred(LocalDateTime now, int maxCheckCount) {
+        return paymentJpaRepository.countDeferredForStatusCheck(PaymentStatus.PROCESSING, now, maxCheckCount);
     }
 
     @Override
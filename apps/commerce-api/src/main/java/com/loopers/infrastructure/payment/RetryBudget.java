@@ -0,0 +1,54 @@
+package com.loopers.infrastructure.payment;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산
+ *
+ * - 고정 횟수 재시도 대신, 원 요청 1건당 ratio만큼 재시도 토큰을 적립하고 재시도 1회에 토큰 1개를 사용
+ * - 장애가 길어지면 재시도 비율이 원 요청의 ratio(예: 10%)로 수렴해 PG 부하를 증폭시키지 않음
+ * - reserve는 정상 상태에서 순간적으로 허용하는 재시도 횟수 (초기 적립량이자 적립 상한, 상한은 최소 1회)
+ */
+public class RetryBudget {
+
+    private static final long TOKEN = 1_000L;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int reserve) {
+        if (ratio < 0 || reserve < 0) {
+            throw new IllegalArgumentException("재시도 예산 설정이 올바르지 않습니다: ratio=" + ratio + ", reserve=" + reserve);
+        }
+        this.depositPerRequest = Math.round(ratio * TOKEN);
+        this.maxBalance = Math.max(reserve, 1) * TOKEN;
+        this.balance = new AtomicLong(reserve * TOKEN);
+    }
+
+    /**
+     * 원 요청 1건 - 재시도 토큰 적립
+     */
+    public void deposit() {
+        balance.updateAndGet(current -> Math.min(maxBalance, current + depositPerRequest));
+    }
+
+    /**
+     * 재시도 1회 - 토큰이 있으면 차감하고 true
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    public double getBalance() {
+        return (double) balance.get() / TOKEN;
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PointLedgerJpaRepository extends JpaRepository<PointLedger, Long> {
+
+    List<PointLedger> findByUserIdOrderByIdAsc(Long userId);
+}
@@ -0,0 +1,25 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointLedger;
+import com.loopers.domain.point.PointLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class PointLedgerRepositoryImpl implements PointLedgerRepository {
+
+    private final PointLedgerJpaRepository pointLedgerJpaRepository;
+
+    @Override
+    public PointLedger save(PointLedger pointLedger) {
+        return pointLedgerJpaRepository.save(pointLedger);
+    }
+
+    @Override
+    public List<PointLedger> findByUserId(Long userId) {
+        return pointLedgerJpaRepository.findByUserIdOrderByIdAsc(userId);
+    }
+}
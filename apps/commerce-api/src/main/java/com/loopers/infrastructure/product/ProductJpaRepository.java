@@ -26,6 +26,11 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long>, JpaS
     @Query("select p from Product p where p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    // id 오름차순으로 잠금 - 여러 상품을 잠그는 트랜잭션끼리 같은 순서로 락을 잡아 교착 상태 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :ids order by p.id")
+    List<Product> findAllByIdInWithLock(@Param("ids") List<Long> ids);
+
     @Query("SELECT DISTINCT p FROM Product p " +
             "LEFT JOIN FETCH p.brand " +
             "WHERE p.id IN :productIds")
@@ -3,6 +3,7 @@ package com.loopers.infrastructure.product;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSortType;
+import com.loopers.support.observation.LockingQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -51,10 +52,17 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
+    @LockingQuery
     public Optional<Product> findByIdWithLock(Long productId) {
         return productJpaRepository.findByIdWithLock(productId);
     }
 
+    @Override
+    @LockingQuery
+    public List<Product> findAllByIdWithLock(List<Long> productIds) {
+        return productJpaRepository.findAllByIdInWithLock(productIds);
+    }
+
     @Override
     public List<Product> findAllByIdIn(List<Long> productIds) {
         return productJpaRepository.findAllByIdIn(productIds);
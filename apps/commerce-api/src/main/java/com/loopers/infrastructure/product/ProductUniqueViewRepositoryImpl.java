@@ -0,0 +1,64 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductUniqueViewRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품별 일자별 고유 조회자 HyperLogLog
+ *
+ * - 키: product:uv:{yyyyMMdd}:{productId} (commerce-collector RankingFacade 가 PFCOUNT 로 읽음)
+ * - 키당 메모리는 조회자 수와 관계없이 최대 12KB (dense 인코딩, 조회자가 적은 동안은 sparse 인코딩으로 더 작음)
+ * - 오차율 약 0.81% (Redis HLL 표준 오차)
+ * - 여러 상품의 PFADD 를 pipeline 으로 묶어 한 번에 전송
+ */
+@Component
+public class ProductUniqueViewRepositoryImpl implements ProductUniqueViewRepository {
+
+    private static final String KEY_PREFIX = "product:uv:";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    // 랭킹 키(ranking.ttl-days)와 같은 보관 기간
+    private static final long TTL_DAYS = 2;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ProductUniqueViewRepositoryImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void addViewers(LocalDate date, Map<Long, ? extends Collection<String>> viewersByProduct) {
+        if (viewersByProduct.isEmpty()) {
+            return;
+        }
+
+        String keyPrefix = KEY_PREFIX + date.format(DATE_FORMATTER) + ":";
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                // redisTemplate 의 키/값 타입 그대로 - PFADD 가변 인자를 String[] 로 전달
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                viewersByProduct.forEach((productId, viewers) -> {
+                    String key = keyPrefix + productId;
+                    stringOperations.opsForHyperLogLog().add(key, viewers.toArray(new String[0]));
+                    stringOperations.expire(key, TTL_DAYS, TimeUnit.DAYS);
+                });
+                return null;
+            }
+        });
+    }
+}
@@ -1,33 +1,85 @@
 package com.loopers.infrastructure.scheduler;
 
 import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentGateway;
 import com.loopers.domain.payment.PaymentRepository;
-import lombok.RequiredArgsConstructor;
+import com.loopers.domain.payment.PaymentResult;
+import com.loopers.domain.payment.PaymentStatusCheckCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * PROCESSING 상태인 결제에 대해 주기적으로 상태를 확인하는 스케줄러
  * - 1분 주기로 실행
  * - 콜백이 오지 않은 결제에 대해 PG사에 상태 확인 요청
  * - 각 결제는 별도 트랜잭션으로 처리되어 부분 실패 시에도 성공한 결제는 커밋됨
+ * - (status, next_status_check_at) 인덱스를 keyset 페이징으로 스캔 - 확인 시점이 도래한 결제만 읽음
+ * - 페이지 단위로 PG 상태 일괄 조회 API를 한 번 호출하고, 결과는 결제별 트랜잭션으로 반영
+ * - 페이지 처리는 가상 스레드에서 동시에 진행하되 동시 실행 수는 max-concurrency로 제한
+ * - 결제별 지수 백오프: 확인할 때마다 다음 확인 시간을 next_status_check_at 에 저장 (PaymentStatusCheckService 참고)
  */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class PaymentStatusCheckScheduler {
 
+    // 최대 확인 횟수 (10회까지 재시도)
+    private static final int MAX_CHECK_COUNT = 10;
+
     private final PaymentRepository paymentRepository;
     private final PaymentStatusCheckService paymentStatusCheckService;
+    private final PaymentGateway paymentGateway;
+    private final int pageSize;
+    private final int maxConcurrency;
 
-    // 최대 확인 횟수 (10회까지 재시도)
-    private static final int MAX_CHECK_COUNT = 10;
-    // 확인 주기 (1분)
-    private static final int CHECK_INTERVAL_MINUTES = 1;
+    private final Timer cycleTimer;
+    private final Counter conflictCounter;
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final AtomicInteger deferred = new AtomicInteger();
+
+    public PaymentStatusCheckScheduler(
+            PaymentRepository paymentRepository,
+            PaymentStatusCheckService paymentStatusCheckService,
+            PaymentGateway paymentGateway,
+            MeterRegistry meterRegistry,
+            @Value("${payment.status-check.page-size:200}") int pageSize,
+            @Value("${payment.status-check.max-concurrency:4}") int maxConcurrency
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.paymentStatusCheckService = paymentStatusCheckService;
+        this.paymentGateway = paymentGateway;
+        this.pageSize = pageSize;
+        this.maxConcurrency = maxConcurrency;
+
+        this.cycleTimer = Timer.builder("payment.status.check.cycle")
+                .description("결제 상태 확인 1회 주기 소요 시간")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("payment.status.check.conflict")
+                .description("콜백 등 동시 갱신과 충돌해 이번 주기에 반영하지 못한 결제 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.status.check.backlog", backlog, AtomicInteger::get)
+                .description("직전 주기에 확인 대상이었던 PROCESSING 결제 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.status.check.deferred", deferred, AtomicInteger::get)
+                .description("직전 주기 시작 시점에 백오프로 확인이 미뤄져 있던 PROCESSING 결제 수")
+                .register(meterRegistry);
+    }
 
     /**
      * 1분마다 PROCESSING 상태인 결제 확인
@@ -38,31 +90,103 @@ public class PaymentStatusCheckScheduler {
     public void checkProcessingPayments() {
         log.info("[결제 상태 확인 스케줄러] 결제 상태 확인 시작");
 
+        Timer.Sample sample = Timer.start();
         try {
-            LocalDateTime thresholdTime = LocalDateTime.now().minusMinutes(CHECK_INTERVAL_MINUTES);
+            int checked = checkDuePayments(LocalDateTime.now());
 
-            // 확인 대상 결제 조회
-            List<Payment> processingPayments = paymentRepository.findProcessingPaymentsForStatusCheck(
-                    thresholdTime,
-                    MAX_CHECK_COUNT
-            );
-
-            if (processingPayments.isEmpty()) {
-                log.info("[결제 상태 확인 스케줄러] 확인할 처리 중인 결제가 없습니다");
+            if (checked == 0) {
+                log.info("[결제 상태 확인 스케줄러] 확인할 처리 중인 결제가 없습니다 (백오프 대기: {}건)", deferred.get());
                 return;
             }
 
-            log.info("[결제 상태 확인 스케줄러] 확인할 처리 중인 결제 {}건 발견",
-                    processingPayments.size());
+            log.info("[결제 상태 확인 스케줄러] 결제 상태 확인 완료 - 확인: {}건, 백오프 대기: {}건",
+                    checked, deferred.get());
+        } catch (Exception e) {
+            log.error("[결제 상태 확인 스케줄러] 결제 상태 확인 중 오류 발생", e);
+        } finally {
+            long elapsedNanos = sample.stop(cycleTimer);
+            log.info("[결제 상태 확인 스케줄러] 주기 소요 시간: {}ms", Duration.ofNanos(elapsedNanos).toMillis());
+        }
+    }
+
+    /**
+     * 확인 시점이 도래한 결제를 페이지 단위로 조회하며 가상 스레드로 확인 요청
+     * - 페이지당 PG 일괄 조회 1회 (페이지 크기는 PG 일괄 조회 한도 500건 이하로 설정)
+     * - 세마포어로 동시 실행 페이지 수를 제한하고, 허용량이 찰 때까지 다음 페이지 조회를 늦춘다
+     * - 확인이 끝난 결제는 next_status_check_at이 now 이후로 밀려 조회 범위를 벗어나므로 커서가 다시 만나지 않는다
+     * - 백오프 대기 결제 수는 주기마다 COUNT 한 번으로 기록 (목록으로 읽어 걸러내지 않음)
+     * @return 확인 요청한 결제 수
+     */
+    private int checkDuePayments(LocalDateTime now) throws InterruptedException {
+        deferred.set(Math.toIntExact(paymentRepository.countProcessingPaymentsDeferred(now, MAX_CHECK_COUNT)));
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        int due = 0;
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("payment-status-check-", 0).factory())) {
+
+            PaymentStatusCheckCursor cursor = PaymentStatusCheckCursor.start();
+            while (true) {
+                List<Payment> page = paymentRepository.findProcessingPaymentsForStatusCheck(
+                        cursor,
+                        now,
+                        MAX_CHECK_COUNT,
+                        pageSize
+                );
 
-            // 각 결제를 독립적인 트랜잭션으로 처리
-            for (Payment payment : processingPayments) {
-                paymentStatusCheckService.checkPaymentStatus(payment.getPaymentId());
+                if (!page.isEmpty()) {
+                    due += page.size();
+                    permits.acquire();
+                    executor.execute(() -> {
+                        try {
+                            reconcile(page);
+                        } catch (Exception e) {
+                            log.error("[결제 상태 확인 스케줄러] 결제 상태 일괄 확인 실패: {}건", page.size(), e);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+
+                if (page.size() < pageSize) {
+                    break;
+                }
+                cursor = PaymentStatusCheckCursor.after(page.get(page.size() - 1));
             }
+        } finally {
+            // close()에서 제출한 확인 작업이 모두 끝날 때까지 대기한 뒤 기록
+            backlog.set(due);
+        }
 
-            log.info("[결제 상태 확인 스케줄러] 결제 상태 확인 완료");
-        } catch (Exception e) {
-            log.error("[결제 상태 확인 스케줄러] 결제 상태 확인 중 오류 발생", e);
+        return due;
+    }
+
+    /**
+     * 한 페이지의 결제를 PG 일괄 조회 1회로 확인하고 결제별로 반영
+     * - 결제별 반영은 독립 트랜잭션이므로 한 건이 실패해도 페이지의 나머지 결제는 계속 반영
+     * - 콜백/Inbox 워커와 같은 결제를 동시에 갱신해 낙관적 락 충돌이 나면 충돌로 기록 (다음 주기 또는 콜백 결과로 정리)
+     */
+    private void reconcile(List<Payment> payments) {
+        List<String> pgTransactionIds = payments.stream()
+                .map(Payment::getPgTransactionId)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<String, PaymentResult> results = paymentGateway.checkPaymentStatuses(pgTransactionIds);
+
+        for (Payment payment : payments) {
+            PaymentResult result = payment.getPgTransactionId() != null
+                    ? results.get(payment.getPgTransactionId())
+                    : null;
+            try {
+                paymentStatusCheckService.applyPaymentStatus(payment.getPaymentId(), result);
+            } catch (OptimisticLockingFailureException e) {
+                conflictCounter.increment();
+                log.warn("[결제 상태 확인 스케줄러] 동시 갱신 충돌로 반영 건너뜀 - paymentId: {}", payment.getPaymentId());
+            } catch (Exception e) {
+                log.error("[결제 상태 확인 스케줄러] 결제 상태 반영 실패 - paymentId: {}", payment.getPaymentId(), e);
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -1,78 +1,99 @@
 package com.loopers.infrastructure.scheduler;
 
 import com.loopers.domain.payment.Payment;
-import com.loopers.domain.payment.PaymentGateway;
 import com.loopers.domain.payment.PaymentRepository;
 import com.loopers.domain.payment.PaymentResult;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+
 /**
  * 결제 상태 확인 서비스
  * - 각 결제를 독립적인 트랜잭션으로 처리하여 부분 실패 시에도 성공한 결제는 커밋되도록 함
+ * - 확인할 때마다 다음 확인 시간을 지수 백오프로 저장 (base-interval × 2^(n-1), 최대 max-interval)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PaymentStatusCheckService {
 
     private final PaymentRepository paymentRepository;
-    private final PaymentGateway paymentGateway;
+    private final Duration baseInterval;
+    private final Duration maxInterval;
+
+    public PaymentStatusCheckService(
+            PaymentRepository paymentRepository,
+            @Value("${payment.status-check.base-interval:1m}") Duration baseInterval,
+            @Value("${payment.status-check.max-interval:30m}") Duration maxInterval
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.baseInterval = baseInterval;
+        this.maxInterval = maxInterval;
+    }
 
     /**
-     * 개별 결제 상태 확인 (독립적인 트랜잭션)
-     * - REQUIRES_NEW로 각 결제마다 새로운 트랜잭션 생성
-     * - 한 결제 실패가 다른 결제에 영향 없음
+     * 일괄 조회한 PG 결과를 개별 결제에 반영 (독립적인 트랜잭션)
+     * - PG 호출은 스케줄러에서 여러 결제를 묶어 한 번에 수행하고, 여기서는 DB 반영만 수행
+     * - PG에 거래가 없어 결과가 없으면(null) 확인 횟수만 증가
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void checkPaymentStatus(String paymentId) {
+    public void applyPaymentStatus(String paymentId, PaymentResult result) {
         try {
             Payment payment = paymentRepository.findByPaymentId(paymentId)
                     .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제를 찾을 수 없습니다"));
 
-            log.info("[결제 상태 확인] 결제 확인 중: paymentId={}, pgTransactionId={}, checkCount={}",
-                    payment.getPaymentId(), payment.getPgTransactionId(), payment.getStatusCheckCount());
+            if (result == null) {
+                log.warn("[결제 상태 확인] PG에 거래 정보 없음: paymentId={}, pgTransactionId={}",
+                        payment.getPaymentId(), payment.getPgTransactionId());
+                payment.incrementStatusCheckCount(baseInterval, maxInterval);
+                paymentRepository.save(payment);
+                return;
+            }
 
-            // PG사에 상태 확인 요청
-            PaymentResult result = paymentGateway.checkPaymentStatus(payment.getPgTransactionId());
+            applyResult(payment, result);
 
-            // 확인 횟수 증가
-            payment.incrementStatusCheckCount();
+        } catch (Exception e) {
+            log.error("[결제 상태 확인] 결제 상태 반영 중 오류 발생: paymentId={}", paymentId, e);
+            incrementStatusCheckCountOnError(paymentId);
+        }
+    }
 
-            // 결과에 따라 결제 상태 업데이트
-            if (result.isSuccess()) {
-                payment.completePayment();
-                log.info("[결제 상태 확인] 결제 완료: paymentId={}", payment.getPaymentId());
-            } else if ("FAILED".equals(result.status()) || "FAIL".equals(result.status())) {
-                payment.failPayment(result.message());
-                log.warn("[결제 상태 확인] 결제 실패: paymentId={}, reason={}",
-                        payment.getPaymentId(), result.message());
-            } else {
-                // PROCESSING 상태 유지
-                log.info("[결제 상태 확인] 결제 처리 중: paymentId={}",
-                        payment.getPaymentId());
-            }
+    private void applyResult(Payment payment, PaymentResult result) {
+        // 확인 횟수 증가
+        payment.incrementStatusCheckCount(baseInterval, maxInterval);
 
-            paymentRepository.save(payment);
+        // 결과에 따라 결제 상태 업데이트
+        if (result.isSuccess()) {
+            payment.completePayment();
+            log.info("[결제 상태 확인] 결제 완료: paymentId={}", payment.getPaymentId());
+        } else if ("FAILED".equals(result.status()) || "FAIL".equals(result.status())) {
+            payment.failPayment(result.message());
+            log.warn("[결제 상태 확인] 결제 실패: paymentId={}, reason={}",
+                    payment.getPaymentId(), result.message());
+        } else {
+            // PROCESSING 상태 유지
+            log.info("[결제 상태 확인] 결제 처리 중: paymentId={}",
+                    payment.getPaymentId());
+        }
 
-        } catch (Exception e) {
-            log.error("[결제 상태 확인] 결제 상태 확인 중 오류 발생: paymentId={}", paymentId, e);
+        paymentRepository.save(payment);
+    }
 
-            // 에러 발생 시에도 확인 횟수는 증가
-            try {
-                Payment payment = paymentRepository.findByPaymentId(paymentId).orElse(null);
-                if (payment != null) {
-                    payment.incrementStatusCheckCount();
-                    paymentRepository.save(payment);
-                }
-            } catch (Exception ex) {
-                log.error("[결제 상태 확인] 확인 횟수 증가 중 오류 발생: paymentId={}", paymentId, ex);
+    private void incrementStatusCheckCountOnError(String paymentId) {
+        // 에러 발생 시에도 확인 횟수는 증가
+        try {
+            Payment payment = paymentRepository.findByPaymentId(paymentId).orElse(null);
+            if (payment != null) {
+                payment.incrementStatusCheckCount(baseInterval, maxInterval);
+                paymentRepository.save(payment);
             }
+        } catch (Exception ex) {
+            log.error("[결제 상태 확인] 확인 횟수 증가 중 오류 발생: paymentId={}", paymentId, ex);
         }
     }
 }
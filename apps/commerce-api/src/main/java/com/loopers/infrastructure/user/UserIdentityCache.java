@@ -0,0 +1,76 @@
+package com.loopers.infrastructure.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 ID → 회원 PK 로컬 캐시 (read-through)
+ *
+ * - 주문/좋아요 요청마다 users 를 조회하지 않고 요청 헤더의 로그인 ID 를 PK 로 변환
+ * - 로그인 ID 와 PK 는 가입 이후 바뀌지 않으므로 변경 무효화 없이 ttl 로만 만료
+ * - 인스턴스마다 로컬로 보관하므로 회원이 삭제되면 최대 ttl 동안 삭제된 PK 를 반환할 수 있음
+ *   (현재 회원 삭제 경로는 없음, 추가 시 ttl 을 허용 지연으로 잡거나 삭제 이벤트로 전 인스턴스 무효화 필요)
+ *   오래된 PK 로 엔티티를 읽는 UserService.getUser 는 NOT_FOUND, FK 참조만 쓰는 흐름은 FK 제약이 있으면 저장 시 실패
+ * - 존재하지 않는 로그인 ID 는 캐시하지 않음 (가입 직후 요청이 실패하지 않도록)
+ * - 최대 항목 수 초과 시 만료 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않고 DB 조회 결과만 반환
+ * - ttl 0 이면 캐시 사용 안 함
+ */
+@Component
+public class UserIdentityCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+    private final int maxSize;
+
+    public UserIdentityCache(
+            @Value("${user.identity-cache.ttl:10m}") Duration ttl,
+            @Value("${user.identity-cache.max-size:100000}") int maxSize
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    public Optional<Long> get(String loginId, Supplier<Optional<Long>> loader) {
+        if (ttlNanos <= 0) {
+            return loader.get();
+        }
+
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(loginId);
+        if (entry != null && entry.isValid(now)) {
+            return Optional.of(entry.id());
+        }
+
+        Optional<Long> loaded = loader.get();
+        loaded.ifPresent(id -> put(loginId, new Entry(id, now + ttlNanos)));
+        return loaded;
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private void put(String loginId, Entry entry) {
+        if (entries.size() >= maxSize && !entries.containsKey(loginId)) {
+            long now = System.nanoTime();
+            entries.values().removeIf(e -> !e.isValid(now));
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(loginId, entry);
+    }
+
+    private record Entry(Long id, long expiresAtNanos) {
+        boolean isValid(long now) {
+            return now - expiresAtNanos < 0;
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.loopers.infrastructure.user;
 
 import com.loopers.domain.user.User;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<User, Long> {
@@ -15,7 +15,26 @@ public interface UserJpaRepository extends JpaRepository<User, Long> {
 
     User findByUserId(String userId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select u from User u where u.userId = :userId")
-    Optional<User> findByUserIdWithLock(@Param("userId") String userId);
+    @Query("select u.id from User u where u.userId = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") String userId);
+
+    /**
+     * 잔액이 충분할 때만 차감 (잔액 검증과 차감을 한 문장으로 수행, 부족하면 0 반환)
+     * - 영속성 컨텍스트는 비우지 않음 (같은 트랜잭션의 주문/상품 엔티티 유지)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE users
+               SET point = point - :amount, updated_at = UTC_TIMESTAMP(6)
+             WHERE id = :id AND point >= :amount
+            """, nativeQuery = true)
+    int deductPoint(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE users
+               SET point = point + :amount, updated_at = UTC_TIMESTAMP(6)
+             WHERE id = :id
+            """, nativeQuery = true)
+    int addPoint(@Param("id") Long id, @Param("amount") BigDecimal amount);
 }
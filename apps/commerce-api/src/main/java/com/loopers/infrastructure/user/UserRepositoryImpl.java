@@ -1,7 +1,9 @@
 package com.loopers.infrastructure.user;
 
+import com.loopers.domain.Money;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserRepository;
+import com.loopers.support.observation.LockingQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +14,7 @@ import java.util.Optional;
 public class UserRepositoryImpl implements UserRepository {
 
     private final UserJpaRepository userJpaRepository;
+    private final UserIdentityCache userIdentityCache;
 
     @Override
     public Optional<User> findById(Long id) {
@@ -37,7 +40,28 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     @Override
-    public Optional<User> findUserByUserIdWithLock(String userId) {
-        return userJpaRepository.findByUserIdWithLock(userId);
+    public boolean existsById(Long id) {
+        return userJpaRepository.existsById(id);
+    }
+
+    @Override
+    public Optional<Long> findIdByUserId(String userId) {
+        return userIdentityCache.get(userId, () -> userJpaRepository.findIdByUserId(userId));
+    }
+
+    @Override
+    public User getReference(Long id) {
+        return userJpaRepository.getReferenceById(id);
+    }
+
+    @Override
+    @LockingQuery
+    public int deductPoint(Long id, Money amount) {
+        return userJpaRepository.deductPoint(id, amount.getAmount());
+    }
+
+    @Override
+    public int addPoint(Long id, Money amount) {
+        return userJpaRepository.addPoint(id, amount.getAmount());
     }
 }
@@ -0,0 +1,26 @@
+package com.loopers.interfaces.api.coupon;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public interface CouponV1ApiSpec {
+
+    @Operation(
+            summary = "쿠폰 선착순 발급 요청",
+            description = "쿠폰 발급 대상으로 선정되면 발급 요청이 접수되고, 발급 쿠폰은 비동기로 저장된다"
+    )
+    ApiResponse<CouponV1Dto.CouponIssueResponse> issueCoupon(
+            @Schema(name = "쿠폰 ID", description = "발급받을 쿠폰 ID")
+            Long couponId,
+            @Parameter(
+                    name = "X-USER-ID",
+                    description = "요청 헤더로 전달되는 회원 ID",
+                    in = ParameterIn.HEADER,
+                    required = true
+            )
+            String headerUserId
+    );
+}
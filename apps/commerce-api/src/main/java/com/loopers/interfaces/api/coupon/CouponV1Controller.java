@@ -0,0 +1,26 @@
+package com.loopers.interfaces.api.coupon;
+
+import com.loopers.application.coupon.CouponIssueFacade;
+import com.loopers.application.coupon.CouponIssueInfo;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/coupons")
+public class CouponV1Controller implements CouponV1ApiSpec {
+
+    private final CouponIssueFacade couponIssueFacade;
+
+    @Override
+    @PostMapping("/{couponId}/issue")
+    public ApiResponse<CouponV1Dto.CouponIssueResponse> issueCoupon(
+            @PathVariable Long couponId,
+            @RequestHeader(value = "X-USER-ID") String headerUserId
+    ) {
+        CouponIssueInfo couponIssueInfo = couponIssueFacade.requestIssue(couponId, headerUserId);
+
+        return ApiResponse.success(CouponV1Dto.CouponIssueResponse.from(couponIssueInfo));
+    }
+}
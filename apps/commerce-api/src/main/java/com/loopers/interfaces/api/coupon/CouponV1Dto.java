@@ -0,0 +1,12 @@
+package com.loopers.interfaces.api.coupon;
+
+import com.loopers.application.coupon.CouponIssueInfo;
+
+public class CouponV1Dto {
+
+    public record CouponIssueResponse(Long couponId, Long userId) {
+        public static CouponIssueResponse from(CouponIssueInfo info) {
+            return new CouponIssueResponse(info.couponId(), info.userId());
+        }
+    }
+}
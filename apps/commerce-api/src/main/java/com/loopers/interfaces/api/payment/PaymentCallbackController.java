@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/payments")
@@ -19,6 +21,7 @@ public class PaymentCallbackController {
      * PG 결제 콜백 처리
      *
      * PG에서 결제 처리 완료 후 최종 결과를 전달받는 엔드포인트
+     * - 콜백은 인박스에 적재 후 즉시 응답하고, 결제/주문 반영은 워커가 일괄 처리
      */
     @PostMapping("/callback")
     public ApiResponse<Void> handleCallback(
@@ -36,9 +39,33 @@ public class PaymentCallbackController {
         );
 
         // Application Layer 호출
-        paymentFacade.handlePaymentCallback(callbackInfo);
+        paymentFacade.receivePaymentCallback(callbackInfo);
+
+        log.info("=== Payment Callback Queued ===");
+
+        return ApiResponse.success(null);
+    }
+
+    /**
+     * PG 결제 콜백 묶음 처리
+     *
+     * PG가 여러 결제 결과를 한 번에 전달하는 엔드포인트 (트랜잭션 1개로 인박스에 적재)
+     */
+    @PostMapping("/callback/batch")
+    public ApiResponse<Void> handleCallbacks(
+            @RequestBody List<PaymentCallbackDto.CallbackRequest> requests
+    ) {
+        log.info("=== Payment Callback Batch Received - {} callbacks ===", requests.size());
+
+        List<PaymentCallbackInfo> callbackInfos = requests.stream()
+                .map(request -> new PaymentCallbackInfo(
+                        request.transactionKey(),
+                        request.status(),
+                        request.reason()
+                ))
+                .toList();
 
-        log.info("=== Payment Callback Processed Successfully ===");
+        paymentFacade.receivePaymentCallbacks(callbackInfos);
 
         return ApiResponse.success(null);
     }
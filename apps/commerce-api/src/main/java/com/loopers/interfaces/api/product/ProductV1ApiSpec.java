@@ -1,7 +1,10 @@
 package com.loopers.interfaces.api.product;
 
 import com.loopers.interfaces.api.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public interface ProductV1ApiSpec {
@@ -12,7 +15,15 @@ public interface ProductV1ApiSpec {
     )
     ApiResponse<ProductV1DTO.ProductDetailResponse> getProductDetail(
             @Schema(name = "상품 상세 조회", description = "상품 상세 조회에 필요한 정보")
-            Long productId
+            Long productId,
+            @Parameter(
+                    name = "X-USER-ID",
+                    description = "요청 헤더로 전달되는 회원 ID (고유 조회자 집계용, 없으면 클라이언트 IP 기준)",
+                    in = ParameterIn.HEADER
+            )
+            String headerUserId,
+            @Parameter(hidden = true)
+            HttpServletRequest request
     );
 
     @Operation(
@@ -4,6 +4,7 @@ import com.loopers.application.product.ProductDetailInfo;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.application.product.ProductInfo;
 import com.loopers.interfaces.api.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.web.bind.annotation.*;
@@ -21,9 +22,11 @@ public class ProductV1Controller implements ProductV1ApiSpec{
     @Override
     @GetMapping("/{productId}")
     public ApiResponse<ProductV1DTO.ProductDetailResponse> getProductDetail(
-            @PathVariable Long productId
+            @PathVariable Long productId,
+            @RequestHeader(value = "X-USER-ID", required = false) String headerUserId,
+            HttpServletRequest request
     ) {
-        ProductDetailInfo productDetailInfo = productFacade.getProductDetail(productId);
+        ProductDetailInfo productDetailInfo = productFacade.getProductDetail(productId, viewerId(headerUserId, request));
         ProductV1DTO.ProductDetailResponse response = ProductV1DTO.ProductDetailResponse.from(productDetailInfo);
         return ApiResponse.success(response);
     }
@@ -38,6 +41,21 @@ public class ProductV1Controller implements ProductV1ApiSpec{
         return ApiResponse.success(response);
     }
 
+    /**
+     * 고유 조회자 식별자 - 회원은 회원 ID, 비회원은 클라이언트 IP
+     */
+    private String viewerId(String headerUserId, HttpServletRequest request) {
+        if (headerUserId != null && !headerUserId.isBlank()) {
+            return "user:" + headerUserId;
+        }
+
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            return "ip:" + forwardedFor.split(",")[0].trim();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
     /**
      * 상품 정보 수정 (캐시 무효화 포함)
      * PUT /api/v1/products/{productId}
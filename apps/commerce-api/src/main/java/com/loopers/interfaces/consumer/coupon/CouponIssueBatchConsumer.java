@@ -0,0 +1,80 @@
+package com.loopers.interfaces.consumer.coupon;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.coupon.CouponIssueFacade;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.coupon.event.CouponIssueRequestedEvent;
+import com.loopers.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급 요청 Consumer
+ * - 폴링한 발급 요청을 한 번에 저장 (issued_coupons multi-row INSERT, 쿠폰당 발급 수량 UPDATE 1회)
+ * - 저장 실패 시 커밋하지 않고 예외를 던져 배치 전체를 재전달 (이미 발급된 건은 건너뛰므로 멱등)
+ * - 다른 Consumer 와 달리 commerce-api 에 둠: 발급 저장이 쿠폰/발급 쿠폰 도메인과 선정 취소(Redis)를 함께 다루며,
+ *   이 도메인은 commerce-api 에만 있음 (commerce-collector 는 메트릭 집계 전용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueBatchConsumer {
+
+    private final CouponIssueFacade couponIssueFacade;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = KafkaTopics.COUPON_ISSUE,
+            groupId = "commerce-api-coupon-issue-group",
+            containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void consumeCouponIssueBatch(
+            @Payload List<String> messages,
+            Acknowledgment acknowledgment
+    ) {
+        List<CouponIssueRequestedEvent> events = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            CouponIssueRequestedEvent event = parseEvent(message);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        if (!events.isEmpty()) {
+            couponIssueFacade.completeIssues(events);
+        }
+
+        acknowledgment.acknowledge();
+        log.info("쿠폰 발급 요청 배치 처리 완료 - 전체: {}, 저장 대상: {}", messages.size(), events.size());
+    }
+
+    private CouponIssueRequestedEvent parseEvent(String message) {
+        try {
+            JsonNode payload = objectMapper.readTree(message).path("payload");
+
+            if (!payload.hasNonNull("couponId") || !payload.hasNonNull("userId")) {
+                log.warn("잘못된 메시지 형식 (스킵): {}", message);
+                return null;
+            }
+
+            return new CouponIssueRequestedEvent(
+                    payload.get("couponId").asLong(),
+                    payload.get("userId").asLong(),
+                    null
+            );
+
+        } catch (JsonProcessingException e) {
+            log.warn("메시지 파싱 실패 (스킵): {}", message);
+            return null;
+        }
+    }
+}
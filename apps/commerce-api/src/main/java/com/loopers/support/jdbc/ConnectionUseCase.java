@@ -0,0 +1,51 @@
+package com.loopers.support.jdbc;
+
+/**
+ * 현재 스레드에서 실행 중인 유스케이스 이름
+ *
+ * - 커넥션 점유 시간 메트릭(jdbc.connection.hold)의 usecase 태그로 사용
+ * - Hikari는 커넥션을 반납하는 스레드에서 점유 시간을 기록하므로 스레드 로컬로 전달한다
+ * - 중첩 시 바깥 유스케이스를 유지하지 않고 안쪽 이름으로 기록한 뒤, 닫을 때 이전 값으로 복원
+ */
+public final class ConnectionUseCase {
+
+    public static final String UNSPECIFIED = "unspecified";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ConnectionUseCase() {
+    }
+
+    public static Scope open(String useCase) {
+        String previous = CURRENT.get();
+        CURRENT.set(useCase);
+        return new Scope(previous);
+    }
+
+    public static String current() {
+        String useCase = CURRENT.get();
+        return useCase != null ? useCase : UNSPECIFIED;
+    }
+
+    public static boolean isOpen() {
+        return CURRENT.get() != null;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String previous;
+
+        private Scope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
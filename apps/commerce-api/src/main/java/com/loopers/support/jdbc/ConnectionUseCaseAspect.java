@@ -0,0 +1,33 @@
+package com.loopers.support.jdbc;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Facade 호출을 유스케이스로 지정 (예: OrderFacade.createOrder)
+ *
+ * - 트랜잭션 어드바이스보다 바깥에서 실행되어 커밋 후 커넥션 반납 시점까지 유스케이스가 유지됨
+ * - 이미 유스케이스가 지정된 경우(Facade 간 호출, 명시적 지정)에는 바깥 이름을 유지
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionUseCaseAspect {
+
+    @Around("execution(public * com.loopers.application..*Facade.*(..))")
+    public Object tagUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (ConnectionUseCase.isOpen()) {
+            return joinPoint.proceed();
+        }
+
+        String useCase = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        try (ConnectionUseCase.Scope ignored = ConnectionUseCase.open(useCase)) {
+            return joinPoint.proceed();
+        }
+    }
+}
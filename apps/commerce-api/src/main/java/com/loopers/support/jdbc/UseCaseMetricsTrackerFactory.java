@@ -0,0 +1,79 @@
+package com.loopers.support.jdbc;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 유스케이스별 커넥션 점유 시간 기록
+ *
+ * - 기본 hikaricp.* 메트릭은 MicrometerMetricsTrackerFactory에 그대로 위임
+ * - 커넥션 반납 시 점유 시간을 jdbc.connection.hold{pool, usecase}로 추가 기록
+ * - 유스케이스는 반납 스레드의 ConnectionUseCase 값 (미지정 시 unspecified)
+ * - 반납마다 호출되므로 타이머 빌더는 트래커(풀)마다 한 번만 만들고 유스케이스 태그만 붙여 조회
+ */
+public class UseCaseMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    public static final String HOLD_TIMER = "jdbc.connection.hold";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    public UseCaseMetricsTrackerFactory(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        MeterRegistry registry = meterRegistry.get();
+        IMetricsTracker delegate = new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+        return new UseCaseMetricsTracker(delegate, registry, poolName);
+    }
+
+    private static final class UseCaseMetricsTracker implements IMetricsTracker {
+
+        private final IMetricsTracker delegate;
+        private final Meter.MeterProvider<Timer> holdTimer;
+
+        private UseCaseMetricsTracker(IMetricsTracker delegate, MeterRegistry registry, String poolName) {
+            this.delegate = delegate;
+            this.holdTimer = Timer.builder(HOLD_TIMER)
+                    .description("유스케이스별 커넥션 점유 시간 (대여 ~ 반납)")
+                    .tag("pool", poolName)
+                    .withRegistry(registry);
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            holdTimer.withTags("usecase", ConnectionUseCase.current())
+                    .record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            delegate.recordConnectionTimeout();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.support.observation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 비관적 락(PESSIMISTIC_WRITE)을 거는 조회, 또는 행 잠금을 기다리는 조건부 UPDATE
+ *
+ * - RepositoryMetricsAspect 가 쿼리 시간을 db.lock.wait 로 추가 기록
+ * - 대기 없이 건너뛰는 조회(SKIP LOCKED)에는 붙이지 않음
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LockingQuery {
+}
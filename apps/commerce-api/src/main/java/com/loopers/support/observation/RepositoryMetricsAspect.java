@@ -0,0 +1,74 @@
+package com.loopers.support.observation;
+
+import com.loopers.support.jdbc.ConnectionUseCase;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository 구현체 호출 횟수/지연 기록
+ *
+ * - repository.query{repository, method, usecase, outcome}: 메서드 단위 호출 수와 지연
+ * - db.lock.wait{repository, method, usecase}: @LockingQuery 메서드의 락 획득까지 걸린 시간
+ *   (SELECT ... FOR UPDATE 는 락을 얻어야 반환되므로 쿼리 시간 = 락 대기 + 단건 조회 시간)
+ * - usecase 는 ConnectionUseCase 값이라 어느 유스케이스에서 온 쿼리인지 구분 가능
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    public static final String QUERY_TIMER = "repository.query";
+    public static final String LOCK_WAIT_TIMER = "db.lock.wait";
+
+    private final Meter.MeterProvider<Timer> queryTimer;
+    private final Meter.MeterProvider<Timer> lockWaitTimer;
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.queryTimer = Timer.builder(QUERY_TIMER)
+                .description("Repository 메서드 호출 지연")
+                .withRegistry(meterRegistry);
+        this.lockWaitTimer = Timer.builder(LOCK_WAIT_TIMER)
+                .description("비관적 락 조회 대기 시간")
+                .withRegistry(meterRegistry);
+    }
+
+    @Around("execution(public * com.loopers.infrastructure..*RepositoryImpl.*(..))"
+            + " || execution(public * com.loopers.infrastructure..Redis*Repository.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> repositoryClass = ClassUtils.getUserClass(joinPoint.getTarget());
+        Method method = AopUtils.getMostSpecificMethod(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), repositoryClass);
+        Tags tags = Tags.of(
+                "repository", repositoryClass.getSimpleName(),
+                "method", method.getName(),
+                "usecase", ConnectionUseCase.current()
+        );
+
+        String outcome = "success";
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            queryTimer.withTags(tags.and("outcome", outcome)).record(elapsed, TimeUnit.NANOSECONDS);
+            if (AnnotatedElementUtils.hasAnnotation(method, LockingQuery.class)) {
+                lockWaitTimer.withTags(tags).record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.loopers.support.observation;
+
+import com.loopers.support.jdbc.ConnectionUseCase;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유스케이스(바깥 Facade 호출) 전체 Observation
+ *
+ * - ConnectionUseCaseAspect 안쪽, 트랜잭션 어드바이스 바깥에서 실행되어 커밋 시간까지 포함
+ * - usecase{usecase} 타이머와 트레이스 span 으로 기록 (HTTP 외 스케줄러/컨슈머 호출도 포함)
+ * - Facade 간 호출처럼 바깥 유스케이스가 따로 있으면 기록하지 않음
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class UseCaseObservationAspect {
+
+    public static final String USE_CASE_OBSERVATION = "usecase";
+
+    private final ObservationRegistry observationRegistry;
+
+    public UseCaseObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * com.loopers.application..*Facade.*(..))")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        if (!useCase.equals(ConnectionUseCase.current())) {
+            return joinPoint.proceed();
+        }
+
+        Observation observation = Observation.createNotStarted(USE_CASE_OBSERVATION, observationRegistry)
+                .contextualName(useCase)
+                .lowCardinalityKeyValue("usecase", useCase)
+                .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.support.observation;
+
+import com.loopers.support.jdbc.ConnectionUseCase;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Facade 단계별 Observation (예: OrderFacade.createOrder 의 product-lock, payment)
+ *
+ * - usecase.step{usecase, step} 타이머와 트레이스 span 으로 기록
+ * - usecase 는 ConnectionUseCase 값 (바깥 Facade 이름)
+ * - 트랜잭션 커밋 시간은 단계에 포함되지 않으므로 usecase 관측값과의 차이로 확인
+ */
+@Component
+public class UseCaseStepObserver {
+
+    public static final String STEP_OBSERVATION = "usecase.step";
+
+    private final ObservationRegistry observationRegistry;
+
+    public UseCaseStepObserver(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    public <T> T observe(String step, Supplier<T> supplier) {
+        return observation(step).observe(supplier);
+    }
+
+    public void observe(String step, Runnable runnable) {
+        observation(step).observe(runnable);
+    }
+
+    private Observation observation(String step) {
+        return Observation.createNotStarted(STEP_OBSERVATION, observationRegistry)
+                .contextualName(ConnectionUseCase.current() + " " + step)
+                .lowCardinalityKeyValue("usecase", ConnectionUseCase.current())
+                .lowCardinalityKeyValue("step", step);
+    }
+}
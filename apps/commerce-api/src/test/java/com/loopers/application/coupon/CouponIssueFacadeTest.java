@@ -0,0 +1,236 @@
+package com.loopers.application.coupon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponDefinition;
+import com.loopers.domain.coupon.CouponIssuanceRepository;
+import com.loopers.domain.coupon.CouponIssueResult;
+import com.loopers.domain.coupon.CouponService;
+import com.loopers.domain.coupon.DiscountType;
+import com.loopers.domain.coupon.event.CouponIssueRequestedEvent;
+import com.loopers.domain.issuedcoupon.IssuedCouponService;
+import com.loopers.domain.user.UserService;
+import com.loopers.kafka.KafkaTopics;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CouponIssueFacade 단위 테스트
+ * Redis 선정 결과에 따른 응답, 선정 건의 Kafka 발행/실패 시 선정 취소, 발급 요청 일괄 저장을 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CouponIssueFacadeTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long COUPON_ID = 1L;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private IssuedCouponService issuedCouponService;
+
+    @Mock
+    private CouponIssuanceRepository couponIssuanceRepository;
+
+    @Mock
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private CouponIssueFacade couponIssueFacade;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueFacade = new CouponIssueFacade(
+                userService, couponService, issuedCouponService, couponIssuanceRepository, kafkaTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("발급 대상으로 선정되면 발급 요청을 Kafka 에 발행한다")
+    void requestIssue_issued_publishesRequest() throws Exception {
+        // given
+        givenUserAndCoupon();
+        given(couponIssuanceRepository.issue(eq(COUPON_ID), eq(USER_ID), eq(1000), any(), any()))
+                .willReturn(CouponIssueResult.ISSUED);
+        given(kafkaTemplate.send(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        CouponIssueInfo info = couponIssueFacade.requestIssue(COUPON_ID, "user1");
+
+        // then
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq(KafkaTopics.COUPON_ISSUE), eq(USER_ID.toString()), message.capture());
+
+        JsonNode published = objectMapper.readTree((String) message.getValue());
+        assertThat(published.get("eventType").asText()).isEqualTo(KafkaTopics.Coupon.COUPON_ISSUE_REQUESTED);
+        assertThat(published.get("payload").get("couponId").asLong()).isEqualTo(COUPON_ID);
+        assertThat(published.get("payload").get("userId").asLong()).isEqualTo(USER_ID);
+        assertThat(info.couponId()).isEqualTo(COUPON_ID);
+        assertThat(info.userId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    @DisplayName("수량이 소진되면 CONFLICT 예외가 발생하고 발행하지 않는다")
+    void requestIssue_soldOut_throwsConflict() {
+        // given
+        givenUserAndCoupon();
+        given(couponIssuanceRepository.issue(eq(COUPON_ID), eq(USER_ID), eq(1000), any(), any()))
+                .willReturn(CouponIssueResult.SOLD_OUT);
+
+        // when
+        CoreException exception = assertThrows(CoreException.class,
+                () -> couponIssueFacade.requestIssue(COUPON_ID, "user1"));
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        assertThat(exception.getCustomMessage()).isEqualTo("쿠폰이 모두 소진되었습니다.");
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 회원이면 CONFLICT 예외가 발생하고 발행하지 않는다")
+    void requestIssue_alreadyIssued_throwsConflict() {
+        // given
+        givenUserAndCoupon();
+        given(couponIssuanceRepository.issue(eq(COUPON_ID), eq(USER_ID), eq(1000), any(), any()))
+                .willReturn(CouponIssueResult.ALREADY_ISSUED);
+
+        // when
+        CoreException exception = assertThrows(CoreException.class,
+                () -> couponIssueFacade.requestIssue(COUPON_ID, "user1"));
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        assertThat(exception.getCustomMessage()).isEqualTo("이미 발급받은 쿠폰입니다");
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("발급 요청 발행에 실패하면 선정을 취소하고 예외가 발생한다")
+    void requestIssue_publishFailed_cancelsIssue() {
+        // given
+        givenUserAndCoupon();
+        given(couponIssuanceRepository.issue(eq(COUPON_ID), eq(USER_ID), eq(1000), any(), any()))
+                .willReturn(CouponIssueResult.ISSUED);
+        given(kafkaTemplate.send(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.<SendResult<Object, Object>>failedFuture(new RuntimeException("broker down")));
+
+        // when
+        CoreException exception = assertThrows(CoreException.class,
+                () -> couponIssueFacade.requestIssue(COUPON_ID, "user1"));
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.INTERNAL_ERROR);
+        verify(couponIssuanceRepository).cancel(COUPON_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("발급 요청은 쿠폰별로 모아 저장하고, 새로 발급할 건수만 발급 수량에 반영한다")
+    void completeIssues_groupsByCoupon() {
+        // given
+        List<CouponIssueRequestedEvent> events = List.of(
+                CouponIssueRequestedEvent.of(1L, 10L),
+                CouponIssueRequestedEvent.of(2L, 10L),
+                CouponIssueRequestedEvent.of(1L, 11L),
+                CouponIssueRequestedEvent.of(1L, 10L) // 재전달
+        );
+        given(issuedCouponService.excludeIssued(1L, Set.of(10L, 11L))).willReturn(Set.of(11L)); // 10L 은 이미 발급
+        given(issuedCouponService.excludeIssued(2L, Set.of(10L))).willReturn(Set.of(10L));
+        given(couponService.increaseIssuanceCount(anyLong(), anyInt())).willReturn(true);
+        given(issuedCouponService.issueAll(anyLong(), any())).willReturn(1);
+
+        // when
+        couponIssueFacade.completeIssues(events);
+
+        // then
+        verify(couponService).increaseIssuanceCount(1L, 1);
+        verify(couponService).increaseIssuanceCount(2L, 1);
+        verify(issuedCouponService).issueAll(1L, Set.of(11L));
+        verify(issuedCouponService).issueAll(2L, Set.of(10L));
+    }
+
+    @Test
+    @DisplayName("발급 수량 반영이 최대 발급 수량을 넘으면 해당 쿠폰의 요청은 저장하지 않고 Redis 선정을 취소한다")
+    void completeIssues_exceedsLimit_rejectedAndCancelled() {
+        // given
+        List<CouponIssueRequestedEvent> events = List.of(
+                CouponIssueRequestedEvent.of(1L, 10L),
+                CouponIssueRequestedEvent.of(1L, 11L),
+                CouponIssueRequestedEvent.of(2L, 10L)
+        );
+        given(issuedCouponService.excludeIssued(1L, Set.of(10L, 11L))).willReturn(Set.of(10L, 11L));
+        given(issuedCouponService.excludeIssued(2L, Set.of(10L))).willReturn(Set.of(10L));
+        given(couponService.increaseIssuanceCount(1L, 2)).willReturn(false);
+        given(couponService.increaseIssuanceCount(2L, 1)).willReturn(true);
+        given(issuedCouponService.issueAll(2L, Set.of(10L))).willReturn(1);
+
+        // when
+        couponIssueFacade.completeIssues(events);
+
+        // then
+        verify(issuedCouponService, never()).issueAll(eq(1L), any());
+        verify(couponIssuanceRepository).cancel(1L, 10L);
+        verify(couponIssuanceRepository).cancel(1L, 11L);
+        verify(couponIssuanceRepository, never()).cancel(eq(2L), anyLong());
+        verify(issuedCouponService).issueAll(2L, Set.of(10L));
+    }
+
+    @Test
+    @DisplayName("저장된 발급 건수가 반영한 발급 수량과 다르면 예외를 던져 배치를 롤백한다")
+    void completeIssues_issuedCountMismatch_throws() {
+        // given
+        List<CouponIssueRequestedEvent> events = List.of(
+                CouponIssueRequestedEvent.of(1L, 10L),
+                CouponIssueRequestedEvent.of(1L, 11L)
+        );
+        given(issuedCouponService.excludeIssued(1L, Set.of(10L, 11L))).willReturn(Set.of(10L, 11L));
+        given(couponService.increaseIssuanceCount(1L, 2)).willReturn(true);
+        given(issuedCouponService.issueAll(1L, Set.of(10L, 11L))).willReturn(1);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> couponIssueFacade.completeIssues(events));
+    }
+
+    private void givenUserAndCoupon() {
+        Coupon coupon = Coupon.createCoupon("FCFS2026COUPON", "선착순 쿠폰", null,
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(7), DiscountType.AMOUNT, 1000);
+        coupon.setMaxIssuanceLimit(1000);
+        ReflectionTestUtils.setField(coupon, "id", COUPON_ID);
+
+        given(userService.getIdByUserId("user1")).willReturn(USER_ID);
+        given(couponService.getValidCoupon(COUPON_ID)).willReturn(CouponDefinition.from(coupon));
+    }
+}
@@ -0,0 +1,172 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.Money;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.CouponService;
+import com.loopers.domain.coupon.DiscountType;
+import com.loopers.domain.issuedcoupon.IssuedCoupon;
+import com.loopers.domain.issuedcoupon.IssuedCouponRepository;
+import com.loopers.domain.payment.PaymentType;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.coupon.CouponDefinitionCache;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 주문의 쿠폰 정의 캐시 / 발급 쿠폰 단일 조회 검증
+ * - test 프로필은 쿠폰 정의 캐시를 끄므로 이 클래스에서만 켬
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = "coupon.definition-cache.ttl=1m")
+class OrderFacadeCouponIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+    @Autowired
+    private CouponService couponService;
+    @Autowired
+    private CouponDefinitionCache couponDefinitionCache;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private IssuedCouponRepository issuedCouponRepository;
+
+    private Statistics statistics;
+    private Long productId;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        Brand brand = brandRepository.registerBrand(Brand.createBrand("테스트브랜드"));
+        productId = productRepository.registerProduct(
+                Product.createProduct("P001", "테스트상품", Money.of(1000), 100_000, brand)).getId();
+
+        LocalDate today = LocalDate.now();
+        coupon = couponRepository.registerCoupon(Coupon.createCoupon("CHECKOUT123456", "테스트쿠폰", null,
+                today.minusDays(1), today.plusDays(30), DiscountType.RATE, 10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        couponDefinitionCache.invalidateAll();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("쿠폰 정의는 첫 주문에서만 DB 에서 조회하고, 이후 주문은 캐시에서 읽는다.")
+    @Test
+    void createOrder_withCoupon_couponDefinitionLoadedOnce() {
+        // given
+        List<String> userIds = createUsersWithCoupon(3, 0);
+        statistics.clear();
+
+        // when
+        userIds.forEach(userId -> orderFacade.createOrder(couponOrder(userId)));
+
+        // then
+        assertThat(statistics.getEntityStatistics(Coupon.class.getName()).getLoadCount()).isEqualTo(1);
+    }
+
+    @DisplayName("쿠폰 정의가 변경되면 커밋 후 캐시가 무효화되어 변경된 정의를 읽는다.")
+    @Test
+    void getValidCoupon_afterCouponChanged_reloaded() {
+        // given
+        assertThat(couponService.getValidCoupon(coupon.getId()).active()).isTrue();
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.find(Coupon.class, coupon.getId()).deactivate());
+
+        // then
+        assertThat(couponService.getValidCoupon(coupon.getId()).active()).isFalse();
+    }
+
+    @DisplayName("캐시된 쿠폰 정의로 주문해도 정의를 매번 조회한 주문과 같은 결과를 낸다.")
+    @Test
+    void createOrder_withCachedCoupon_sameResultAsUncached() {
+        // given
+        List<String> userIds = createUsersWithCoupon(2, 0);
+
+        // when
+        couponDefinitionCache.invalidateAll();
+        OrderInfo uncached = orderFacade.createOrder(couponOrder(userIds.get(0)));
+        OrderInfo cached = orderFacade.createOrder(couponOrder(userIds.get(1)));
+
+        // then
+        assertThat(cached.status()).isEqualTo(uncached.status());
+        assertThat(cached.totalPrice()).isEqualByComparingTo(uncached.totalPrice());
+    }
+
+    /**
+     * 회원마다 쿠폰을 하나씩 발급 (주문에 쿠폰을 사용하면 다시 쓸 수 없으므로 주문 1건당 회원 1명)
+     */
+    private List<String> createUsersWithCoupon(int count, int offset) {
+        return IntStream.range(offset, offset + count)
+                .mapToObj(i -> {
+                    User user = User.createUser("user" + i, "user" + i + "@test.com", "1990-01-01", Gender.MALE);
+                    user.chargePoint(Money.of(100_000));
+                    User savedUser = userRepository.save(user);
+                    issuedCouponRepository.save(IssuedCoupon.issue(savedUser, coupon));
+                    return savedUser.getUserId();
+                })
+                .toList();
+    }
+
+    private OrderCommand couponOrder(String userId) {
+        return order(userId, coupon.getId());
+    }
+
+    private OrderCommand order(String userId, Long couponId) {
+        return new OrderCommand(
+                userId,
+                List.of(new OrderCommand.OrderItemCommand(productId, 1)),
+                couponId,
+                PaymentType.POINT,
+                null,
+                null
+        );
+    }
+}
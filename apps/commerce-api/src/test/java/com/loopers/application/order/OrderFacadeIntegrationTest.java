@@ -6,6 +6,9 @@ import com.loopers.domain.brand.BrandRepository;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderStatus;
 import com.loopers.domain.payment.PaymentType;
+import com.loopers.domain.point.PointLedger;
+import com.loopers.domain.point.PointLedgerRepository;
+import com.loopers.domain.point.PointLedgerType;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.Stock;
@@ -24,10 +27,14 @@ import org.springframework.test.context.ActiveProfiles;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -48,6 +55,8 @@ class OrderFacadeIntegrationTest {
     private ProductRepository productRepository;
     @Autowired
     private BrandRepository brandRepository;
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
 
 
     @AfterEach
@@ -122,6 +131,129 @@ class OrderFacadeIntegrationTest {
         assertThat(productAfterOrder.getStock()).isEqualTo(Stock.of(90)); // 100 - 10
     }
 
+    @DisplayName("상품 순서가 서로 반대인 주문이 동시에 처리되어도 교착 상태 없이 모두 성공한다.")
+    @Test
+    void concurrentOrder_overlappingItemsInOppositeOrder_noDeadlock() throws Exception {
+        // given
+        Brand savedBrand = brandRepository.registerBrand(Brand.createBrand("테스트브랜드"));
+
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Product product = Product.createProduct("P00" + i, "테스트상품" + i, Money.of(1000), 100, savedBrand);
+            productIds.add(productRepository.registerProduct(product).getId());
+        }
+        List<Long> reversedProductIds = new ArrayList<>(productIds);
+        Collections.reverse(reversedProductIds);
+
+        int threadCount = 20;
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            String userId = "user" + i;
+            User user = User.createUser(userId, "test" + i + "@test.com", "1990-01-01", Gender.MALE);
+            user.chargePoint(Money.of(100000));
+            userRepository.save(user);
+            userIds.add(userId);
+        }
+
+        // when - 절반은 상품 id 오름차순, 절반은 내림차순으로 같은 상품들을 동시에 주문
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger failCount = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            List<Long> orderedIds = (i % 2 == 0) ? productIds : reversedProductIds;
+            OrderCommand command = new OrderCommand(
+                    userIds.get(i),
+                    orderedIds.stream().map(id -> new OrderCommand.OrderItemCommand(id, 1)).toList(),
+                    null,
+                    PaymentType.POINT,
+                    null,
+                    null
+            );
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    startLatch.await();
+                    orderFacade.createOrder(command);
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                    System.out.println("주문 실패: " + e.getMessage());
+                }
+            }, executor));
+        }
+
+        startLatch.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(failCount.get()).isZero();
+        entityManager.clear();
+        for (Long productId : productIds) {
+            assertThat(entityManager.find(Product.class, productId).getStock()).isEqualTo(Stock.of(100 - threadCount));
+        }
+    }
+
+    @DisplayName("같은 사용자의 포인트 결제가 동시에 요청되어도 잔액 안에서만 차감되고 차감마다 원장이 기록된다.")
+    @Test
+    void concurrentPointPayment_sameUser_neverOverdrawn() throws Exception {
+        // given - 잔액 5만원, 1만원 주문 10건 (상품 잠금으로 직렬화되지 않도록 주문마다 다른 상품)
+        Brand savedBrand = brandRepository.registerBrand(Brand.createBrand("테스트브랜드"));
+
+        int threadCount = 10;
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            Product product = Product.createProduct("P00" + i, "테스트상품" + i, Money.of(10000), 100, savedBrand);
+            productIds.add(productRepository.registerProduct(product).getId());
+        }
+
+        User user = User.createUser("pointUser", "point@test.com", "1990-01-01", Gender.MALE);
+        user.chargePoint(Money.of(50000));
+        User savedUser = userRepository.save(user);
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (Long productId : productIds) {
+            OrderCommand command = new OrderCommand(
+                    "pointUser",
+                    List.of(new OrderCommand.OrderItemCommand(productId, 1)),
+                    null,
+                    PaymentType.POINT,
+                    null,
+                    null
+            );
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    startLatch.await();
+                    orderFacade.createOrder(command);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.out.println("주문 실패: " + e.getMessage());
+                }
+            }, executor));
+        }
+
+        startLatch.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        entityManager.clear();
+        User userAfterOrder = entityManager.find(User.class, savedUser.getId());
+        List<PointLedger> ledgers = pointLedgerRepository.findByUserId(savedUser.getId());
+
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(5),
+                () -> assertThat(userAfterOrder.getPoint()).isEqualTo(Money.zero()),
+                () -> assertThat(ledgers).hasSize(5),
+                () -> assertThat(ledgers).extracting(PointLedger::getType).containsOnly(PointLedgerType.USE)
+        );
+    }
+
     @DisplayName("주문 생성 시 상품의 재고를 차감한다.")
     @Test
     void createOrder_decreaseStock_success() {
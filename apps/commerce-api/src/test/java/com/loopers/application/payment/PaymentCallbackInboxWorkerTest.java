@@ -0,0 +1,165 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PaymentCallbackInboxWorker 단위 테스트
+ * 중복 콜백 병합, 결제 미조회 콜백 재시도, 배치 실패 시 건별 반영을 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentCallbackInboxWorkerTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Mock
+    private PaymentCallbackInboxService paymentCallbackInboxService;
+
+    @Mock
+    private PaymentFacade paymentFacade;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PaymentCallbackInboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        worker = new PaymentCallbackInboxWorker(
+                paymentCallbackInboxService,
+                paymentFacade,
+                new TransactionTemplate(transactionManager),
+                BATCH_SIZE,
+                MAX_ATTEMPTS
+        );
+    }
+
+    @Test
+    @DisplayName("같은 거래 키의 중복 콜백은 마지막 콜백만 반영하고 모두 완료 처리한다")
+    void duplicateCallbacks_collapsedToLatest() {
+        // given
+        PaymentCallbackInbox first = inbox(1L, "tx-1", "FAILED");
+        PaymentCallbackInbox other = inbox(2L, "tx-2", "SUCCESS");
+        PaymentCallbackInbox latest = inbox(3L, "tx-1", "SUCCESS");
+        given(paymentCallbackInboxService.lockReceived(BATCH_SIZE)).willReturn(List.of(first, other, latest));
+        given(paymentFacade.handlePaymentCallbacks(any())).willReturn(Set.of("tx-1", "tx-2"));
+
+        // when
+        int processed = worker.processBatch();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PaymentCallbackInfo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(paymentFacade).handlePaymentCallbacks(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new PaymentCallbackInfo("tx-1", "SUCCESS", null),
+                new PaymentCallbackInfo("tx-2", "SUCCESS", null)
+        );
+        assertThat(processed).isEqualTo(3);
+        verify(paymentCallbackInboxService).markProcessed(List.of(1L, 2L, 3L));
+        verify(paymentCallbackInboxService).recordFailure(List.of(), MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("결제를 찾지 못한 콜백은 완료 처리하지 않고 시도 횟수만 증가시킨다")
+    void missingPayment_recordsFailure() {
+        // given
+        PaymentCallbackInbox found = inbox(1L, "tx-1", "SUCCESS");
+        PaymentCallbackInbox missing = inbox(2L, "tx-unknown", "SUCCESS");
+        given(paymentCallbackInboxService.lockReceived(BATCH_SIZE)).willReturn(List.of(found, missing));
+        given(paymentFacade.handlePaymentCallbacks(any())).willReturn(Set.of("tx-1"));
+
+        // when
+        int processed = worker.processBatch();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        verify(paymentCallbackInboxService).markProcessed(List.of(1L));
+        verify(paymentCallbackInboxService).recordFailure(List.of(2L), MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("배치 반영이 실패하면 건별 트랜잭션으로 다시 반영하고 실패한 콜백만 시도 횟수를 증가시킨다")
+    void batchFailure_fallsBackToOneByOne() {
+        // given
+        PaymentCallbackInbox valid = inbox(1L, "tx-1", "SUCCESS");
+        PaymentCallbackInbox poison = inbox(2L, "tx-2", "SUCCESS");
+        given(paymentCallbackInboxService.lockReceived(BATCH_SIZE)).willReturn(List.of(valid, poison));
+        given(paymentCallbackInboxService.lockReceived(List.of(1L))).willReturn(List.of(valid));
+        given(paymentCallbackInboxService.lockReceived(List.of(2L))).willReturn(List.of(poison));
+
+        CoreException invalidTransition = new CoreException(ErrorType.BAD_REQUEST, "결제를 완료할 수 없는 상태입니다");
+        given(paymentFacade.handlePaymentCallbacks(argThat(commands -> commands != null && commands.size() == 2)))
+                .willThrow(invalidTransition);
+        given(paymentFacade.handlePaymentCallbacks(List.of(new PaymentCallbackInfo("tx-1", "SUCCESS", null))))
+                .willReturn(Set.of("tx-1"));
+        given(paymentFacade.handlePaymentCallbacks(List.of(new PaymentCallbackInfo("tx-2", "SUCCESS", null))))
+                .willThrow(invalidTransition);
+
+        // when
+        int processed = worker.processBatch();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        verify(paymentCallbackInboxService).markProcessed(List.of(1L));
+        verify(paymentCallbackInboxService).recordFailure(List.of(2L), MAX_ATTEMPTS);
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 다음 배치를 이어서 처리하고, 덜 차면 다음 주기까지 대기한다")
+    void fullBatch_drainsContinuously() {
+        // given
+        List<PaymentCallbackInbox> full = LongStream.rangeClosed(1, BATCH_SIZE)
+                .mapToObj(id -> inbox(id, "tx-" + id, "SUCCESS"))
+                .toList();
+        List<PaymentCallbackInbox> partial = List.of(inbox(100L, "tx-100", "SUCCESS"));
+        given(paymentCallbackInboxService.lockReceived(BATCH_SIZE)).willReturn(full, partial);
+        given(paymentFacade.handlePaymentCallbacks(any())).willAnswer(invocation -> {
+            List<PaymentCallbackInfo> commands = invocation.getArgument(0);
+            return Set.copyOf(commands.stream().map(PaymentCallbackInfo::transactionKey).toList());
+        });
+
+        // when
+        worker.processCallbacks();
+
+        // then
+        verify(paymentCallbackInboxService, times(2)).lockReceived(anyInt());
+    }
+
+    private static PaymentCallbackInbox inbox(Long id, String transactionKey, String paymentStatus) {
+        PaymentCallbackInbox inbox = mock(PaymentCallbackInbox.class);
+        lenient().when(inbox.getId()).thenReturn(id);
+        lenient().when(inbox.getTransactionKey()).thenReturn(transactionKey);
+        lenient().when(inbox.getPaymentStatus()).thenReturn(paymentStatus);
+        return inbox;
+    }
+}
@@ -0,0 +1,147 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentGateway;
+import com.loopers.domain.payment.PaymentResult;
+import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.domain.payment.event.CardPaymentProcessingStartedEvent;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * PaymentEventListener 단위 테스트
+ * PG 호출이 트랜잭션 밖에서 실행되고, 쓰기 단계에서 버전을 확인하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentEventListenerTest {
+
+    private static final String PAYMENT_ID = "card-payment-1";
+    private static final Long ORDER_ID = 1L;
+    private static final Long READ_VERSION = 3L;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Payment readPayment;
+
+    @Mock
+    private Payment currentPayment;
+
+    @Mock
+    private Order order;
+
+    private PaymentEventListener paymentEventListener;
+
+    private final CardPaymentProcessingStartedEvent event = CardPaymentProcessingStartedEvent.of(
+            PAYMENT_ID, ORDER_ID, "user123", CardType.SAMSUNG, "1234-5678-9012-3456");
+
+    @BeforeEach
+    void setUp() {
+        paymentEventListener = new PaymentEventListener(
+                paymentService,
+                paymentGateway,
+                orderService,
+                new TransactionTemplate(transactionManager)
+        );
+    }
+
+    @Test
+    @DisplayName("PG 호출은 쓰기 트랜잭션을 시작하기 전에 실행되고, PG 접수 후 짧은 트랜잭션에서 상태를 반영한다")
+    void pgCall_runsOutsideTransaction() {
+        // given
+        TransactionStatus transactionStatus = new SimpleTransactionStatus();
+        given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+        given(paymentService.getPaymentByPaymentId(PAYMENT_ID)).willReturn(readPayment, currentPayment);
+        given(readPayment.getStatus()).willReturn(PaymentStatus.PENDING);
+        given(readPayment.getVersion()).willReturn(READ_VERSION);
+        given(paymentGateway.processPayment(anyString(), any(), anyString()))
+                .willReturn(new PaymentResult("TX-1", "PENDING", "결제 요청이 접수되었습니다"));
+        given(orderService.getOrderById(ORDER_ID)).willReturn(order);
+
+        // when
+        paymentEventListener.handleCardPaymentProcessingStarted(event);
+
+        // then
+        InOrder inOrder = inOrder(paymentService, paymentGateway, transactionManager, currentPayment, order);
+        inOrder.verify(paymentService).getPaymentByPaymentId(PAYMENT_ID);
+        inOrder.verify(paymentGateway).processPayment(anyString(), any(), anyString());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(currentPayment).verifyVersion(READ_VERSION);
+        inOrder.verify(currentPayment).startProcessing("TX-1");
+        inOrder.verify(order).updateStatus(OrderStatus.RECEIVED);
+        inOrder.verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("PG 호출 중 결제 버전이 바뀌면 상태를 반영하지 않고 쓰기 트랜잭션을 롤백한다")
+    void versionChanged_rollback() {
+        // given
+        TransactionStatus transactionStatus = new SimpleTransactionStatus();
+        given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+        given(paymentService.getPaymentByPaymentId(PAYMENT_ID)).willReturn(readPayment, currentPayment);
+        given(readPayment.getStatus()).willReturn(PaymentStatus.PENDING);
+        given(readPayment.getVersion()).willReturn(READ_VERSION);
+        given(paymentGateway.processPayment(anyString(), any(), anyString()))
+                .willReturn(new PaymentResult("TX-1", "PENDING", "결제 요청이 접수되었습니다"));
+        willThrow(new CoreException(ErrorType.CONFLICT, "결제 정보가 다른 요청에 의해 변경되었습니다"))
+                .given(currentPayment).verifyVersion(READ_VERSION);
+
+        // when
+        paymentEventListener.handleCardPaymentProcessingStarted(event);
+
+        // then
+        verify(currentPayment, never()).startProcessing(anyString());
+        verify(orderService, never()).getOrderById(ORDER_ID);
+        verify(transactionManager).rollback(transactionStatus);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("이미 PENDING이 아닌 결제는 PG를 호출하지 않는다")
+    void notPending_skipPgCall() {
+        // given
+        given(paymentService.getPaymentByPaymentId(PAYMENT_ID)).willReturn(readPayment);
+        given(readPayment.getStatus()).willReturn(PaymentStatus.PROCESSING);
+
+        // when
+        paymentEventListener.handleCardPaymentProcessingStarted(event);
+
+        // then
+        verifyNoInteractions(paymentGateway, transactionManager);
+    }
+}
@@ -0,0 +1,99 @@
+package com.loopers.application.payment;
+
+import com.loopers.application.order.OrderCompensationService;
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxRepository;
+import com.loopers.domain.payment.PaymentCallbackInboxService;
+import com.loopers.domain.payment.PaymentCallbackInboxStatus;
+import com.loopers.domain.payment.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PaymentFacade 콜백 수신 단위 테스트
+ * 콜백 묶음의 모든 건이 인박스에 적재되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentFacadeCallbackTest {
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private PaymentCallbackInboxRepository paymentCallbackInboxRepository;
+
+    @Mock
+    private OrderCompensationService compensationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PaymentFacade paymentFacade;
+
+    @BeforeEach
+    void setUp() {
+        paymentFacade = new PaymentFacade(
+                paymentService,
+                new PaymentCallbackInboxService(paymentCallbackInboxRepository),
+                compensationService,
+                eventPublisher
+        );
+    }
+
+    @Test
+    @DisplayName("콜백 묶음의 모든 건을 받은 순서대로 인박스에 적재한다")
+    void receivePaymentCallbacks_storesEveryCallback() {
+        // given
+        given(paymentCallbackInboxRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+        List<PaymentCallbackInfo> callbacks = List.of(
+                new PaymentCallbackInfo("TX-1", "SUCCESS", null),
+                new PaymentCallbackInfo("TX-2", "FAILED", "한도 초과"),
+                new PaymentCallbackInfo("TX-3", "SUCCESS", null)
+        );
+
+        // when
+        paymentFacade.receivePaymentCallbacks(callbacks);
+
+        // then
+        ArgumentCaptor<PaymentCallbackInbox> captor = ArgumentCaptor.forClass(PaymentCallbackInbox.class);
+        verify(paymentCallbackInboxRepository, times(3)).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(
+                        PaymentCallbackInbox::getTransactionKey,
+                        PaymentCallbackInbox::getPaymentStatus,
+                        PaymentCallbackInbox::getReason,
+                        PaymentCallbackInbox::getStatus
+                )
+                .containsExactly(
+                        tuple("TX-1", "SUCCESS", null, PaymentCallbackInboxStatus.RECEIVED),
+                        tuple("TX-2", "FAILED", "한도 초과", PaymentCallbackInboxStatus.RECEIVED),
+                        tuple("TX-3", "SUCCESS", null, PaymentCallbackInboxStatus.RECEIVED)
+                );
+    }
+
+    @Test
+    @DisplayName("빈 콜백 묶음은 인박스에 아무것도 적재하지 않는다")
+    void receivePaymentCallbacks_emptyBatch_storesNothing() {
+        // when
+        paymentFacade.receivePaymentCallbacks(List.of());
+
+        // then
+        verify(paymentCallbackInboxRepository, never()).save(any());
+    }
+}
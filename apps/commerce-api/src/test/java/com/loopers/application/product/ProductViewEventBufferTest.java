@@ -0,0 +1,161 @@
+package com.loopers.application.product;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.domain.product.ProductUniqueViewRepository;
+import com.loopers.kafka.KafkaTopics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ProductViewEventBuffer 단위 테스트
+ * 상품별 조회 수 집계 발행, 발행 실패 시 재발행, 고유 조회자 일괄 반영을 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductViewEventBufferTest {
+
+    @Mock
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    @Mock
+    private ProductUniqueViewRepository productUniqueViewRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ProductViewEventBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ProductViewEventBuffer(kafkaTemplate, objectMapper, productUniqueViewRepository);
+    }
+
+    @Test
+    @DisplayName("flush 시 상품별 조회 수를 담은 이벤트를 상품당 1건씩 발행한다")
+    void flush_publishesOneEventPerProductWithCount() throws Exception {
+        // given
+        givenSendResult(CompletableFuture.completedFuture(null));
+        for (int i = 0; i < 5; i++) {
+            buffer.recordView(1L, null);
+        }
+        buffer.recordView(2L, null);
+
+        // when
+        buffer.flush();
+
+        // then
+        Map<Long, JsonNode> published = capturePublished(2);
+        assertThat(published.get(1L).get("eventType").asText()).isEqualTo(KafkaTopics.ProductDetail.PRODUCT_VIEWED);
+        assertThat(published.get(1L).get("payload").get("viewCount").asInt()).isEqualTo(5);
+        assertThat(published.get(2L).get("payload").get("viewCount").asInt()).isEqualTo(1);
+        assertThat(published.get(1L).get("eventId").asText()).isNotEqualTo(published.get(2L).get("eventId").asText());
+    }
+
+    @Test
+    @DisplayName("새 조회가 없으면 flush 해도 발행하지 않는다")
+    void flush_noNewViews_publishesNothing() {
+        // given
+        givenSendResult(CompletableFuture.completedFuture(null));
+        buffer.recordView(1L, null);
+        buffer.flush();
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(kafkaTemplate, times(1)).send(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 조회 수는 다음 flush 에 다시 발행한다")
+    void flush_sendFailure_republishedOnNextFlush() throws Exception {
+        // given
+        givenSendResult(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        buffer.recordView(1L, null);
+        buffer.recordView(1L, null);
+        buffer.flush();
+
+        givenSendResult(CompletableFuture.completedFuture(null));
+        buffer.recordView(1L, null);
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(2)).send(eq(KafkaTopics.PRODUCT), eq("1"), messages.capture());
+        JsonNode retried = objectMapper.readTree((String) messages.getAllValues().get(1));
+        assertThat(retried.get("payload").get("viewCount").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 기록 시에는 Kafka 를 호출하지 않는다")
+    void recordView_noIo() {
+        // when
+        buffer.recordView(1L, null);
+
+        // then
+        verify(kafkaTemplate, never()).send(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("flush 시 구간 내 조회자를 상품별로 중복 제거해 한 번에 반영한다")
+    void flush_viewersDeduplicatedAndAddedAtOnce() {
+        // given
+        givenSendResult(CompletableFuture.completedFuture(null));
+        buffer.recordView(1L, "user:a");
+        buffer.recordView(1L, "user:a");
+        buffer.recordView(1L, "user:b");
+        buffer.recordView(2L, "ip:10.0.0.1");
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        verify(productUniqueViewRepository, times(1)).addViewers(
+                LocalDate.now(),
+                Map.of(1L, Set.of("user:a", "user:b"), 2L, Set.of("ip:10.0.0.1"))
+        );
+    }
+
+    private void givenSendResult(CompletableFuture<SendResult<Object, Object>> result) {
+        given(kafkaTemplate.send(anyString(), any(), any())).willReturn(result);
+    }
+
+    private Map<Long, JsonNode> capturePublished(int expectedCount) throws Exception {
+        ArgumentCaptor<Object> keys = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(expectedCount)).send(eq(KafkaTopics.PRODUCT), keys.capture(), messages.capture());
+
+        Map<Long, JsonNode> published = new HashMap<>();
+        List<Object> allMessages = messages.getAllValues();
+        for (int i = 0; i < allMessages.size(); i++) {
+            published.put(Long.valueOf((String) keys.getAllValues().get(i)), objectMapper.readTree((String) allMessages.get(i)));
+        }
+        return published;
+    }
+}
@@ -0,0 +1,136 @@
+package com.loopers.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AsyncConfigTest {
+
+    private final AsyncConfig asyncConfig = new AsyncConfig();
+
+    @Nested
+    @DisplayName("@Async 실행기 구성")
+    class TaskExecutor {
+
+        @Test
+        @DisplayName("기본 모드에서는 플랫폼 스레드 풀에서 실행된다")
+        void platformMode_runsOnPlatformThread() throws Exception {
+            // given
+            Executor executor = asyncConfig.taskExecutor(false, 200);
+
+            // when
+            Thread worker = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(3, TimeUnit.SECONDS);
+
+            // then
+            assertThat(worker.isVirtual()).isFalse();
+            assertThat(worker.getName()).startsWith(AsyncConfig.THREAD_NAME_PREFIX);
+            shutdown(executor);
+        }
+
+        @Test
+        @DisplayName("가상 스레드 모드에서는 작업마다 가상 스레드에서 실행된다")
+        void virtualMode_runsOnVirtualThread() throws Exception {
+            // given
+            Executor executor = asyncConfig.taskExecutor(true, 200);
+
+            // when
+            Thread worker = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(3, TimeUnit.SECONDS);
+
+            // then
+            assertThat(worker.isVirtual()).isTrue();
+            assertThat(worker.getName()).startsWith(AsyncConfig.THREAD_NAME_PREFIX);
+            shutdown(executor);
+        }
+
+        @Test
+        @DisplayName("가상 스레드 모드에서도 동시 실행 수는 max-concurrency를 넘지 않는다")
+        void virtualMode_boundedConcurrency() {
+            // given
+            Executor executor = asyncConfig.taskExecutor(true, 3);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(20);
+
+            // when
+            for (int i = 0; i < 20; i++) {
+                executor.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(20);
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+
+            // then
+            await().atMost(Duration.ofSeconds(5)).until(() -> done.getCount() == 0);
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+            shutdown(executor);
+        }
+    }
+
+    @Nested
+    @DisplayName("가상 스레드 pinning 감지")
+    class PinningMonitor {
+
+        @Test
+        @DisplayName("synchronized 블록 안에서 블로킹되면 pinning 메트릭이 증가한다")
+        void synchronizedBlocking_recordsPinning() throws Exception {
+            // given
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+            monitor.start();
+            Object lock = new Object();
+
+            try {
+                // when: 모니터 락을 쥔 채 블로킹 (JDBC 드라이버의 synchronized 구간 재현)
+                Thread.ofVirtual().start(() -> {
+                    synchronized (lock) {
+                        sleep(50);
+                    }
+                }).join();
+
+                // then
+                await().atMost(Duration.ofSeconds(10))
+                        .pollInterval(Duration.ofMillis(100))
+                        .untilAsserted(() -> assertThat(
+                                meterRegistry.get("jvm.threads.virtual.pinned").counter().count()
+                        ).isGreaterThanOrEqualTo(1.0));
+            } finally {
+                monitor.stop();
+            }
+            assertThat(monitor.isRunning()).isFalse();
+        }
+    }
+
+    private static void shutdown(Executor executor) {
+        try {
+            if (executor instanceof DisposableBean disposable) {
+                disposable.destroy();
+            } else if (executor instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
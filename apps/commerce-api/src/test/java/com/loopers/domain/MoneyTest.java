@@ -0,0 +1,179 @@
+package com.loopers.domain;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    // long 최소 단위로 표현 가능한 최대 금액 (원 단위)
+    private static final long MAX_AMOUNT = Long.MAX_VALUE / 100;
+
+    @DisplayName("금액 연산")
+    @Nested
+    class Arithmetic {
+
+        @DisplayName("더하기, 빼기, 곱하기 결과가 BigDecimal 연산과 같다.")
+        @Test
+        void arithmetic_sameAsBigDecimal() {
+            // given
+            Money price = Money.of(new BigDecimal("1005.55"));
+
+            // when
+            Money total = price.multiply(3).add(Money.of(1000)).subtract(Money.of(new BigDecimal("0.65")));
+
+            // then
+            assertThat(total.getAmount()).isEqualByComparingTo(new BigDecimal("4016.00"));
+        }
+
+        @DisplayName("소수 셋째 자리 이하는 HALF_UP 반올림한다.")
+        @Test
+        void of_roundsHalfUp() {
+            // when
+            Money money = Money.of(new BigDecimal("150.8325"));
+
+            // then
+            assertThat(money.getAmount()).isEqualByComparingTo(new BigDecimal("150.83"));
+            assertThat(Money.of(new BigDecimal("0.005")).getAmount()).isEqualByComparingTo(new BigDecimal("0.01"));
+        }
+
+        @DisplayName("정률 금액은 최소 단위 미만을 HALF_UP 반올림한다.")
+        @Test
+        void percentage_roundsHalfUp() {
+            // given
+            Money price = Money.of(new BigDecimal("1005.55"));
+
+            // when
+            Money discount = price.percentage(15);
+
+            // then
+            assertThat(discount.getAmount()).isEqualByComparingTo(new BigDecimal("150.83"));
+        }
+
+        @DisplayName("소수부가 없는 금액은 scale 0으로 반환한다.")
+        @Test
+        void getAmount_wholeAmount_scaleZero() {
+            // when
+            BigDecimal amount = Money.of(new BigDecimal("25000.00")).getAmount();
+
+            // then
+            assertThat(amount).isEqualTo(BigDecimal.valueOf(25000));
+        }
+
+        @DisplayName("scale이 달라도 같은 금액이면 같은 Money다.")
+        @Test
+        void equals_ignoresScale() {
+            assertThat(Money.of(new BigDecimal("1000.00"))).isEqualTo(Money.of(1000));
+        }
+
+        @DisplayName("빼기 결과가 음수면 예외가 발생한다.")
+        @Test
+        void subtract_negative_throwsException() {
+            // when
+            CoreException exception = assertThrows(CoreException.class,
+                    () -> Money.of(1000).subtract(Money.of(1001)));
+
+            // then
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+            assertThat(exception.getCustomMessage()).isEqualTo("금액은 0보다 작을 수 없습니다");
+        }
+    }
+
+    @DisplayName("overflow 방지")
+    @Nested
+    class Overflow {
+
+        @DisplayName("표현 가능한 최대 금액은 생성할 수 있다.")
+        @Test
+        void of_maxAmount_success() {
+            // when
+            Money money = Money.of(MAX_AMOUNT);
+
+            // then
+            assertThat(money.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(MAX_AMOUNT));
+        }
+
+        @DisplayName("표현 범위를 넘는 금액을 생성하면 예외가 발생한다.")
+        @Test
+        void of_exceedsRange_throwsException() {
+            assertOverflow(assertThrows(CoreException.class, () -> Money.of(MAX_AMOUNT + 1)));
+            assertOverflow(assertThrows(CoreException.class,
+                    () -> Money.of(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.TEN))));
+        }
+
+        @DisplayName("더한 결과가 표현 범위를 넘으면 예외가 발생한다.")
+        @Test
+        void add_overflow_throwsException() {
+            // given
+            Money max = Money.of(MAX_AMOUNT);
+
+            // when // then
+            assertOverflow(assertThrows(CoreException.class, () -> max.add(Money.of(1))));
+        }
+
+        @DisplayName("곱한 결과가 표현 범위를 넘으면 예외가 발생한다.")
+        @Test
+        void multiply_overflow_throwsException() {
+            // given
+            Money price = Money.of(MAX_AMOUNT / 2 + 1);
+
+            // when // then
+            assertOverflow(assertThrows(CoreException.class, () -> price.multiply(2)));
+            assertOverflow(assertThrows(CoreException.class, () -> price.multiply(Long.MAX_VALUE)));
+        }
+
+        @DisplayName("정률 계산 중간값이 표현 범위를 넘으면 예외가 발생한다.")
+        @Test
+        void percentage_overflow_throwsException() {
+            // given
+            Money max = Money.of(MAX_AMOUNT);
+
+            // when // then
+            assertOverflow(assertThrows(CoreException.class, () -> max.percentage(10)));
+        }
+
+        private void assertOverflow(CoreException exception) {
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+            assertThat(exception.getCustomMessage()).isEqualTo("금액이 허용 범위를 초과했습니다");
+        }
+    }
+
+    @DisplayName("DB 컬럼 변환")
+    @Nested
+    class Converter {
+
+        private final MoneyAmountConverter converter = new MoneyAmountConverter();
+
+        @DisplayName("최소 단위 금액을 소수 둘째 자리 decimal로 변환하고 다시 읽으면 같은 값이다.")
+        @Test
+        void roundTrip() {
+            // when
+            BigDecimal column = converter.convertToDatabaseColumn(100_555L);
+
+            // then
+            assertThat(column).isEqualTo(new BigDecimal("1005.55"));
+            assertThat(converter.convertToEntityAttribute(column)).isEqualTo(100_555L);
+        }
+
+        @DisplayName("long 범위를 넘는 컬럼 값을 읽으면 예외가 발생한다.")
+        @Test
+        void convertToEntityAttribute_overflow_throwsException() {
+            // given
+            BigDecimal column = new BigDecimal("999999999999999999999999999999.99");
+
+            // when
+            CoreException exception = assertThrows(CoreException.class,
+                    () -> converter.convertToEntityAttribute(column));
+
+            // then
+            assertThat(exception.getCustomMessage()).isEqualTo("금액이 허용 범위를 초과했습니다");
+        }
+    }
+}
@@ -489,6 +489,34 @@ class CouponTest {
         }
     }
 
+    @DisplayName("쿠폰 정의 스냅샷")
+    @Nested
+    class Definition {
+
+        @DisplayName("스냅샷은 만든 뒤 엔티티가 바뀌어도 만들 때의 값을 유지한다.")
+        @Test
+        void from_entityChangedAfterSnapshot_keepsSnapshotValues() {
+            // given
+            Coupon coupon = createCoupon(createValidDiscount(), "TESTCODE123", "테스트 쿠폰", "설명",
+                    LocalDate.now().minusDays(1), LocalDate.now().plusDays(1));
+            coupon.setMaxIssuanceLimit(100);
+            CouponDefinition definition = CouponDefinition.from(coupon);
+
+            // when
+            coupon.deactivate();
+            coupon.setMaxIssuanceLimit(10);
+
+            // then
+            assertAll(
+                    () -> assertThat(definition.active()).isTrue(),
+                    () -> assertThat(definition.maxIssuanceLimit()).isEqualTo(100),
+                    () -> assertThat(definition.discount()).isEqualTo(coupon.getDiscount()),
+                    () -> assertThat(definition.discount()).isNotSameAs(coupon.getDiscount()),
+                    () -> assertThat(definition.isValidNow()).isTrue()
+            );
+        }
+    }
+
     private static Coupon createCoupon(
             Discount discount, String code, String name,
             String desc, LocalDate validStartDate, LocalDate validEndDate) {
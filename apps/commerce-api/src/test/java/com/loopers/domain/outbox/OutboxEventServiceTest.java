@@ -0,0 +1,101 @@
+package com.loopers.domain.outbox;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OutboxEventService 일괄 저장 단위 테스트
+ * 여러 이벤트를 한 번에 저장하고, 직렬화 실패 이벤트만 제외하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxEventServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private OutboxEventService outboxEventService;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventService = new OutboxEventService(outboxEventRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("여러 이벤트를 직렬화해 한 번의 saveAll 로 저장한다")
+    void createOutboxEvents_savedAtOnce() {
+        // given
+        List<OutboxEventDraft> drafts = List.of(
+                OutboxEventDraft.of("COUPON", "1", "COUPON_USED", Map.of("couponId", 10)),
+                OutboxEventDraft.of("ORDER", "1", "ORDER_CREATED", Map.of("orderId", 1)),
+                OutboxEventDraft.of("ACTIVITY", "1", "USER_ACTIVITY", Map.of("userId", "user1"))
+        );
+
+        // when
+        outboxEventService.createOutboxEvents(drafts);
+
+        // then
+        List<OutboxEvent> saved = captureSaved();
+        assertThat(saved).extracting(OutboxEvent::getEventType)
+                .containsExactly("COUPON_USED", "ORDER_CREATED", "USER_ACTIVITY");
+        assertThat(saved).extracting(OutboxEvent::getStatus).containsOnly(OutboxStatus.PENDING);
+        assertThat(saved.get(1).getPayload()).isEqualTo("{\"orderId\":1}");
+    }
+
+    @Test
+    @DisplayName("직렬화에 실패한 이벤트만 제외하고 나머지는 저장한다")
+    void createOutboxEvents_serializationFailure_skipsOnlyFailedEvent() {
+        // given
+        List<OutboxEventDraft> drafts = List.of(
+                OutboxEventDraft.of("ORDER", "1", "ORDER_CREATED", Map.of("orderId", 1)),
+                OutboxEventDraft.of("ACTIVITY", "1", "USER_ACTIVITY", new UnserializableEvent())
+        );
+
+        // when
+        outboxEventService.createOutboxEvents(drafts);
+
+        // then
+        assertThat(captureSaved()).extracting(OutboxEvent::getEventType).containsExactly("ORDER_CREATED");
+    }
+
+    @Test
+    @DisplayName("저장할 이벤트가 없으면 저장소를 호출하지 않는다")
+    void createOutboxEvents_nothingToSave_noQuery() {
+        // when
+        outboxEventService.createOutboxEvents(List.of(
+                OutboxEventDraft.of("ACTIVITY", "1", "USER_ACTIVITY", new UnserializableEvent())
+        ));
+
+        // then
+        verify(outboxEventRepository, never()).saveAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxEvent> captureSaved() {
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository, times(1)).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static class UnserializableEvent {
+        @JsonProperty
+        public Object getValue() {
+            throw new IllegalStateException("직렬화 불가");
+        }
+    }
+}
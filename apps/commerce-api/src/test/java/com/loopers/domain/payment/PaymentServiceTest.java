@@ -0,0 +1,81 @@
+package com.loopers.domain.payment;
+
+import com.loopers.domain.Money;
+import com.loopers.domain.order.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PaymentService 단위 테스트
+ * 콜백 일괄 반영 시 거래 키별 결제 조회를 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        paymentService = new PaymentService(paymentRepository);
+    }
+
+    @Test
+    @DisplayName("중복된 거래 키는 한 번만 조회한다")
+    void getPaymentsByTransactionKeys_duplicateKeys_queriedOnce() {
+        // given
+        Payment payment = createProcessingPayment("TX-1");
+        given(paymentRepository.findAllByPgTransactionIds(Set.of("TX-1"))).willReturn(List.of(payment));
+
+        // when
+        Map<String, Payment> payments = paymentService.getPaymentsByTransactionKeys(List.of("TX-1", "TX-1"));
+
+        // then
+        assertThat(payments).containsExactly(Map.entry("TX-1", payment));
+    }
+
+    @Test
+    @DisplayName("같은 거래 키의 결제가 여러 건 조회되어도 예외 없이 먼저 조회된 결제를 사용한다")
+    void getPaymentsByTransactionKeys_duplicateRows_keepsFirst() {
+        // given
+        Payment first = createProcessingPayment("TX-1");
+        Payment duplicate = createProcessingPayment("TX-1");
+        Payment other = createProcessingPayment("TX-2");
+        given(paymentRepository.findAllByPgTransactionIds(Set.of("TX-1", "TX-2")))
+                .willReturn(List.of(first, duplicate, other));
+
+        // when
+        Map<String, Payment> payments = paymentService.getPaymentsByTransactionKeys(List.of("TX-1", "TX-2"));
+
+        // then
+        assertThat(payments).hasSize(2);
+        assertThat(payments.get("TX-1")).isSameAs(first);
+        assertThat(payments.get("TX-2")).isSameAs(other);
+    }
+
+    private Payment createProcessingPayment(String pgTransactionId) {
+        Payment payment = Payment.createPaymentForCard(
+                mock(Order.class),
+                Money.of(10000L),
+                PaymentType.CARD,
+                CardType.SAMSUNG,
+                "1234567890123456"
+        );
+        payment.startProcessing(pgTransactionId);
+        return payment;
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -150,4 +152,47 @@ class PaymentTest {
         assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
     }
 
+    @DisplayName("상태 확인 횟수가 늘수록 다음 확인 시각이 지수적으로 늦춰지고 최대 간격을 넘지 않는다")
+    @Test
+    void nextStatusCheckAt_exponentialBackoff() {
+        // given
+        Payment payment = Payment.createPaymentForCard(
+                Mockito.mock(Order.class), Money.of(30000), PaymentType.CARD, CardType.HYUNDAI, "1234-1234-1234-1234");
+        payment.startProcessing("test-pg-transaction-123");
+        Duration base = Duration.ofMinutes(1);
+        Duration max = Duration.ofMinutes(30);
+
+        // 확인 이력 없음 → 다음 확인 시각 없음 (즉시 확인 대상)
+        assertThat(payment.getNextStatusCheckAt()).isNull();
+
+        // when: 3회 확인 → 1분 × 2^2 = 4분 뒤
+        for (int i = 0; i < 3; i++) {
+            payment.incrementStatusCheckCount(base, max);
+        }
+
+        // then
+        assertThat(payment.getNextStatusCheckAt()).isEqualTo(payment.getLastStatusCheckAt().plusMinutes(4));
+
+        // when: 10회 확인 → 512분이지만 최대 30분으로 제한
+        for (int i = 0; i < 7; i++) {
+            payment.incrementStatusCheckCount(base, max);
+        }
+
+        // then
+        assertThat(payment.getStatusCheckCount()).isEqualTo(10);
+        assertThat(payment.getNextStatusCheckAt()).isEqualTo(payment.getLastStatusCheckAt().plus(max));
+    }
+
+    @DisplayName("조회 시점의 버전과 현재 버전이 다르면 CONFLICT 예외가 발생한다")
+    @Test
+    void verifyVersion_mismatch_throwConflict() {
+        // given
+        Payment payment = Payment.createPaymentForCard(
+                Mockito.mock(Order.class), Money.of(30000), PaymentType.CARD, CardType.HYUNDAI, "1234-1234-1234-1234");
+
+        // when & then
+        payment.verifyVersion(payment.getVersion());
+        CoreException exception = assertThrows(CoreException.class, () -> payment.verifyVersion(1L));
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+    }
 }
@@ -0,0 +1,130 @@
+package com.loopers.domain.point;
+
+import com.loopers.domain.Money;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PointService 단위 테스트
+ * 조건부 UPDATE 결과에 따른 원장 기록과 실패 사유 구분을 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class PointServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ORDER_ID = 100L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        pointService = new PointService(userRepository, pointLedgerRepository);
+    }
+
+    @Test
+    @DisplayName("차감에 성공하면 사용 원장을 기록한다")
+    void use_success_appendsLedger() {
+        // given
+        given(userRepository.deductPoint(USER_ID, Money.of(5000))).willReturn(1);
+
+        // when
+        pointService.use(USER_ID, Money.of(5000), ORDER_ID);
+
+        // then
+        PointLedger ledger = captureSaved();
+        assertThat(ledger.getUserId()).isEqualTo(USER_ID);
+        assertThat(ledger.getType()).isEqualTo(PointLedgerType.USE);
+        assertThat(ledger.getAmount()).isEqualTo(Money.of(5000));
+        assertThat(ledger.getOrderId()).isEqualTo(ORDER_ID);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족해 차감된 행이 없으면 BAD_REQUEST 예외가 발생하고 원장을 기록하지 않는다")
+    void use_insufficientPoint_throwsBadRequest() {
+        // given
+        given(userRepository.deductPoint(USER_ID, Money.of(5000))).willReturn(0);
+        given(userRepository.existsById(USER_ID)).willReturn(true);
+
+        // when
+        CoreException exception = assertThrows(CoreException.class,
+                () -> pointService.use(USER_ID, Money.of(5000), ORDER_ID));
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        assertThat(exception.getCustomMessage()).isEqualTo("포인트가 부족합니다");
+        verify(pointLedgerRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("회원이 없어 차감된 행이 없으면 NOT_FOUND 예외가 발생한다")
+    void use_notExistingUser_throwsNotFound() {
+        // given
+        given(userRepository.deductPoint(USER_ID, Money.of(5000))).willReturn(0);
+        given(userRepository.existsById(USER_ID)).willReturn(false);
+
+        // when
+        CoreException exception = assertThrows(CoreException.class,
+                () -> pointService.use(USER_ID, Money.of(5000), ORDER_ID));
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        verify(pointLedgerRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("환불하면 잔액을 더하고 환불 원장을 기록한다")
+    void refund_success_appendsLedger() {
+        // given
+        given(userRepository.addPoint(USER_ID, Money.of(5000))).willReturn(1);
+
+        // when
+        pointService.refund(USER_ID, Money.of(5000), ORDER_ID);
+
+        // then
+        PointLedger ledger = captureSaved();
+        assertThat(ledger.getType()).isEqualTo(PointLedgerType.REFUND);
+        assertThat(ledger.getOrderId()).isEqualTo(ORDER_ID);
+    }
+
+    @Test
+    @DisplayName("충전하면 잔액을 더하고 주문 없이 충전 원장을 기록한다")
+    void charge_success_appendsLedger() {
+        // given
+        given(userRepository.addPoint(USER_ID, Money.of(10000))).willReturn(1);
+
+        // when
+        pointService.charge(USER_ID, Money.of(10000));
+
+        // then
+        PointLedger ledger = captureSaved();
+        assertThat(ledger.getType()).isEqualTo(PointLedgerType.CHARGE);
+        assertThat(ledger.getOrderId()).isNull();
+    }
+
+    private PointLedger captureSaved() {
+        ArgumentCaptor<PointLedger> captor = ArgumentCaptor.forClass(PointLedger.class);
+        verify(pointLedgerRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -9,12 +9,17 @@ import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +42,9 @@ class ProductServiceTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
@@ -342,4 +350,69 @@ class ProductServiceTest {
         assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
         assertThat(exception.getCustomMessage()).isEqualTo("상품을 찾을 수 없습니다");
     }
+
+    @DisplayName("여러 상품을 잠금 조회하면 요청 순서와 관계없이 id 오름차순으로 반환한다.")
+    @Test
+    @Transactional
+    void whenGetProductsWithLock_thenReturnSortedById() {
+        // given
+        Brand brand = Brand.createBrand("테스트브랜드");
+        entityManager.persist(brand);
+
+        Product product1 = productService.registerProduct("P001", "상품1", Money.of(10000).getAmount(), 10, brand);
+        Product product2 = productService.registerProduct("P002", "상품2", Money.of(20000).getAmount(), 20, brand);
+        Product product3 = productService.registerProduct("P003", "상품3", Money.of(15000).getAmount(), 15, brand);
+
+        // when
+        List<Product> products = productService.getProductsWithLock(
+                List.of(product3.getId(), product1.getId(), product2.getId()));
+
+        // then
+        assertThat(products).extracting(Product::getId)
+                .containsExactly(product1.getId(), product2.getId(), product3.getId());
+    }
+
+    @DisplayName("잠금 조회할 상품 중 존재하지 않는 상품이 있으면 NOT_FOUND 예외가 발생한다.")
+    @Test
+    @Transactional
+    void whenGetProductsWithLockWithInvalidId_thenNotFound() {
+        // given
+        Brand brand = Brand.createBrand("테스트브랜드");
+        entityManager.persist(brand);
+
+        Product product = productService.registerProduct("P001", "상품1", Money.of(10000).getAmount(), 10, brand);
+
+        // when // then
+        CoreException exception = assertThrows(CoreException.class, () -> {
+            productService.getProductsWithLock(List.of(product.getId(), 99999L));
+        });
+
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        assertThat(exception.getCustomMessage()).isEqualTo("상품 정보가 없습니다");
+    }
+
+    @DisplayName("주문 상품 수(1/10/50)와 무관하게 일괄 잠금은 요청한 상품을 모두 id 오름차순으로 잠근다.")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void getProductsWithLock_locksEveryProductInIdOrder(int lineCount) {
+        // given
+        Brand brand = Brand.createBrand("테스트브랜드");
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(brand));
+
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            Product product = Product.createProduct("P" + i, "상품" + i, Money.of(1000), 100, brand);
+            productIds.add(productRepository.registerProduct(product).getId());
+        }
+        Collections.shuffle(productIds);
+
+        // when
+        List<Product> products = transactionTemplate.execute(status ->
+                productService.getProductsWithLock(productIds));
+
+        // then
+        assertThat(products)
+                .extracting(Product::getId)
+                .containsExactlyElementsOf(productIds.stream().sorted().toList());
+    }
 }
@@ -5,6 +5,7 @@ import com.loopers.infrastructure.user.UserJpaRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -195,4 +196,29 @@ class UserServiceTest {
 
     }
 
+    @DisplayName("로그인 ID 로 조회한 회원은 초기화된 엔티티로 반환된다.")
+    @Test
+    void getUser_existingUser_returnsInitializedEntity() {
+        // given
+        userService.accountUser("testUser1", "test@test.com", "1995-08-25", Gender.MALE);
+
+        // when
+        User user = userService.getUser("testUser1");
+
+        // then
+        assertAll(
+                () -> assertThat(Hibernate.isInitialized(user)).isTrue(),
+                () -> assertThat(user.getEmail()).isEqualTo("test@test.com")
+        );
+    }
+
+    @DisplayName("존재하지 않는 로그인 ID 로 회원을 조회하면 NOT_FOUND 예외가 발생한다.")
+    @Test
+    void getUser_notExistingUser_throwsNotFound() {
+        // when
+        CoreException exception = assertThrows(CoreException.class, () -> userService.getUser("noUser1"));
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+    }
 }
@@ -0,0 +1,145 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponDefinition;
+import com.loopers.domain.coupon.DiscountType;
+import com.loopers.domain.coupon.event.CouponChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CouponDefinitionCache 단위 테스트
+ * read-through 캐시 적중, 변경 이벤트에 의한 버전 무효화, 최대 항목 수 제한을 검증
+ */
+class CouponDefinitionCacheTest {
+
+    private final CouponDefinition coupon = CouponDefinition.from(Coupon.createCoupon("CACHE1234567", "캐시쿠폰", null,
+            LocalDate.now().minusDays(1), LocalDate.now().plusDays(30), DiscountType.AMOUNT, 1000));
+
+    @Test
+    @DisplayName("캐시된 쿠폰은 다시 조회하지 않는다")
+    void get_cached_loaderCalledOnce() {
+        // given
+        CouponDefinitionCache cache = new CouponDefinitionCache(Duration.ofMinutes(1), 10);
+        CountingLoader loader = new CountingLoader(Optional.of(coupon));
+
+        // when
+        cache.get(1L, loader);
+        Optional<CouponDefinition> result = cache.get(1L, loader);
+
+        // then
+        assertThat(result).containsSame(coupon);
+        assertThat(loader.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 쿠폰은 캐시하지 않는다")
+    void get_notFound_notCached() {
+        // given
+        CouponDefinitionCache cache = new CouponDefinitionCache(Duration.ofMinutes(1), 10);
+        CountingLoader loader = new CountingLoader(Optional.empty());
+
+        // when
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        // then
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쿠폰 변경 이벤트를 받으면 다음 조회에서 다시 읽는다")
+    void onCouponChanged_reloads() {
+        // given
+        CouponDefinitionCache cache = new CouponDefinitionCache(Duration.ofMinutes(1), 10);
+        CountingLoader loader = new CountingLoader(Optional.of(coupon));
+        cache.get(1L, loader);
+
+        // when
+        cache.onCouponChanged(CouponChangedEvent.of(1L));
+        cache.get(1L, loader);
+
+        // then
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중에 쿠폰이 변경되면 조회한 값은 다음 조회에 사용되지 않는다")
+    void onCouponChanged_duringLoad_staleValueNotServed() {
+        // given
+        CouponDefinitionCache cache = new CouponDefinitionCache(Duration.ofMinutes(1), 10);
+        CountingLoader stale = new CountingLoader(Optional.of(coupon)) {
+            @Override
+            public Optional<CouponDefinition> get() {
+                Optional<CouponDefinition> loaded = super.get();
+                cache.onCouponChanged(CouponChangedEvent.of(1L)); // 조회와 저장 사이에 변경 커밋
+                return loaded;
+            }
+        };
+        CountingLoader fresh = new CountingLoader(Optional.of(coupon));
+
+        // when
+        cache.get(1L, stale);
+        cache.get(1L, fresh);
+
+        // then
+        assertThat(fresh.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl 이 0 이면 캐시하지 않는다")
+    void get_zeroTtl_alwaysLoads() {
+        // given
+        CouponDefinitionCache cache = new CouponDefinitionCache(Duration.ZERO, 10);
+        CountingLoader loader = new CountingLoader(Optional.of(coupon));
+
+        // when
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        // then
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 새 쿠폰은 캐시하지 않고 기존 항목은 유지한다")
+    void get_full_newCouponNotCached() {
+        // given
+        CouponDefinitionCache cache = new CouponDefinitionCache(Duration.ofMinutes(1), 1);
+        CountingLoader first = new CountingLoader(Optional.of(coupon));
+        CountingLoader second = new CountingLoader(Optional.of(coupon));
+        cache.get(1L, first);
+
+        // when
+        cache.get(2L, second);
+        cache.get(2L, second);
+        cache.get(1L, first);
+
+        // then
+        assertThat(first.calls.get()).isEqualTo(1);
+        assertThat(second.calls.get()).isEqualTo(2);
+    }
+
+    private static class CountingLoader implements Supplier<Optional<CouponDefinition>> {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Optional<CouponDefinition> result;
+
+        CountingLoader(Optional<CouponDefinition> result) {
+            this.result = result;
+        }
+
+        @Override
+        public Optional<CouponDefinition> get() {
+            calls.incrementAndGet();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponIssuanceRepository;
+import com.loopers.domain.coupon.CouponIssueResult;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class CouponIssuanceRepositoryImplTest {
+
+    private static final Long COUPON_ID = 1L;
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final LongSupplier NONE_ISSUED = () -> 0;
+
+    @Autowired
+    private CouponIssuanceRepository couponIssuanceRepository;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("1,000장 쿠폰에 10만 명이 동시에 발급을 요청하면 정확히 1,000명만 선정된다.")
+    @Test
+    void issue_100kConcurrentClaims_exactlyLimitIssued() throws Exception {
+        // given
+        int claims = 100_000;
+        int limit = 1_000;
+
+        // when
+        Map<CouponIssueResult, Integer> results = claimConcurrently(claims,
+                userId -> couponIssuanceRepository.issue(COUPON_ID, userId, limit, TTL, NONE_ISSUED));
+
+        // then
+        assertThat(results.get(CouponIssueResult.ISSUED)).isEqualTo(limit);
+        assertThat(results.get(CouponIssueResult.SOLD_OUT)).isEqualTo(claims - limit);
+        assertThat(redisTemplate.opsForValue().get("coupon:issue:{1}:count")).isEqualTo(String.valueOf(limit));
+        assertThat(redisTemplate.opsForSet().size("coupon:issue:{1}:users")).isEqualTo(limit);
+    }
+
+    @DisplayName("같은 회원이 동시에 여러 번 요청해도 한 번만 선정된다.")
+    @Test
+    void issue_sameUserConcurrently_issuedOnce() throws Exception {
+        // when
+        Map<CouponIssueResult, Integer> results = claimConcurrently(100,
+                ignored -> couponIssuanceRepository.issue(COUPON_ID, 7L, 10, TTL, NONE_ISSUED));
+
+        // then
+        assertThat(results.get(CouponIssueResult.ISSUED)).isEqualTo(1);
+        assertThat(results.get(CouponIssueResult.ALREADY_ISSUED)).isEqualTo(99);
+        assertThat(redisTemplate.opsForValue().get("coupon:issue:{1}:count")).isEqualTo("1");
+    }
+
+    @DisplayName("최대 발급 수량이 없으면 수량 제한 없이 선정된다.")
+    @Test
+    void issue_unlimited_alwaysIssued() {
+        // when
+        CouponIssueResult first = couponIssuanceRepository.issue(COUPON_ID, 1L, null, TTL, NONE_ISSUED);
+        CouponIssueResult second = couponIssuanceRepository.issue(COUPON_ID, 2L, null, TTL, NONE_ISSUED);
+
+        // then
+        assertThat(first).isEqualTo(CouponIssueResult.ISSUED);
+        assertThat(second).isEqualTo(CouponIssueResult.ISSUED);
+    }
+
+    @DisplayName("선정을 취소하면 수량이 반환되고, 여러 번 취소해도 한 번만 반환된다.")
+    @Test
+    void cancel_returnsSlotOnce() {
+        // given
+        couponIssuanceRepository.issue(COUPON_ID, 1L, 1, TTL, NONE_ISSUED);
+        assertThat(couponIssuanceRepository.issue(COUPON_ID, 2L, 1, TTL, NONE_ISSUED)).isEqualTo(CouponIssueResult.SOLD_OUT);
+
+        // when
+        couponIssuanceRepository.cancel(COUPON_ID, 1L);
+        couponIssuanceRepository.cancel(COUPON_ID, 1L);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("coupon:issue:{1}:count")).isEqualTo("0");
+        assertThat(couponIssuanceRepository.issue(COUPON_ID, 2L, 1, TTL, NONE_ISSUED)).isEqualTo(CouponIssueResult.ISSUED);
+    }
+
+    @DisplayName("발급 수량 키가 없으면 DB 발급 수량으로 초기화한 뒤 남은 수량만 선정한다.")
+    @Test
+    void issue_missingCounter_seededFromIssuedCount() {
+        // given: DB 에는 이미 9장 발급, Redis 발급 수량 키는 유실
+        LongSupplier issuedInDb = () -> 9;
+
+        // when
+        CouponIssueResult first = couponIssuanceRepository.issue(COUPON_ID, 1L, 10, TTL, issuedInDb);
+        CouponIssueResult second = couponIssuanceRepository.issue(COUPON_ID, 2L, 10, TTL, issuedInDb);
+
+        // then
+        assertThat(first).isEqualTo(CouponIssueResult.ISSUED);
+        assertThat(second).isEqualTo(CouponIssueResult.SOLD_OUT);
+        assertThat(redisTemplate.opsForValue().get("coupon:issue:{1}:count")).isEqualTo("10");
+    }
+
+    @DisplayName("발급 수량 키가 있으면 DB 발급 수량을 조회하지 않고 기존 값을 유지한다.")
+    @Test
+    void issue_existingCounter_notReseeded() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        LongSupplier issuedInDb = () -> {
+            loads.incrementAndGet();
+            return 0;
+        };
+        couponIssuanceRepository.issue(COUPON_ID, 1L, 10, TTL, issuedInDb);
+
+        // when
+        couponIssuanceRepository.issue(COUPON_ID, 2L, 10, TTL, () -> 5);
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(redisTemplate.opsForValue().get("coupon:issue:{1}:count")).isEqualTo("2");
+    }
+
+    /**
+     * 요청마다 가상 스레드 하나로 동시에 시작 (userId = 1 ~ claims)
+     */
+    private Map<CouponIssueResult, Integer> claimConcurrently(int claims, LongFunction<CouponIssueResult> claim)
+            throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<CouponIssueResult>> futures = new ArrayList<>(claims);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 1; userId <= claims; userId++) {
+                long requester = userId;
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    return claim.apply(requester);
+                }));
+            }
+            startLatch.countDown();
+
+            Map<CouponIssueResult, Integer> results = new EnumMap<>(CouponIssueResult.class);
+            for (Future<CouponIssueResult> future : futures) {
+                results.merge(future.get(), 1, Integer::sum);
+            }
+            return results;
+        }
+    }
+}
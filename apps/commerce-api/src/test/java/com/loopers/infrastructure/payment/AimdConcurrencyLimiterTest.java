@@ -0,0 +1,93 @@
+package com.loopers.infrastructure.payment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdConcurrencyLimiterTest {
+
+    private static final long FAST_NANOS = Duration.ofMillis(50).toNanos();
+    private static final long SLOW_NANOS = Duration.ofSeconds(2).toNanos();
+
+    @Test
+    @DisplayName("허용량만큼 진행 중이면 추가 요청은 즉시 거절된다")
+    void tryAcquire_rejectsBeyondLimit() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, Duration.ofSeconds(1), 0.5);
+
+        // when & then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("허용량을 충분히 사용하는 상태에서 빠른 응답이 오면 허용량이 1씩 증가한다")
+    void onSuccess_saturated_increasesLimit() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 3, Duration.ofSeconds(1), 0.5);
+
+        // when
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.onSuccess(FAST_NANOS);
+        limiter.onSuccess(FAST_NANOS);
+
+        // then: 최대 허용량에서 멈춤
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("허용량 대비 진행 중 요청이 적으면 빠른 응답이 와도 허용량을 늘리지 않는다")
+    void onSuccess_underUtilized_keepsLimit() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 100, Duration.ofSeconds(1), 0.5);
+
+        // when
+        limiter.tryAcquire();
+        limiter.onSuccess(FAST_NANOS);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("과부하 신호나 지연 임계 초과 응답이 오면 허용량이 배수로 감소하고 최소값 아래로 내려가지 않는다")
+    void onDroppedOrSlow_decreasesLimit() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(8, 2, 10, Duration.ofSeconds(1), 0.5);
+
+        // when & then
+        limiter.tryAcquire();
+        limiter.onDropped();
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.onSuccess(SLOW_NANOS);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.onDropped();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("과부하와 무관한 실패는 허용량을 바꾸지 않는다")
+    void onIgnored_keepsLimit() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(4, 1, 10, Duration.ofSeconds(1), 0.5);
+
+        // when
+        limiter.tryAcquire();
+        limiter.onIgnored();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
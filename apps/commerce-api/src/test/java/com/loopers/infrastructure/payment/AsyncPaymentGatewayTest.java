@@ -0,0 +1,281 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.Money;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentResult;
+import com.loopers.domain.payment.PaymentType;
+import com.loopers.infrastructure.external.dto.PaymentExternalDto;
+import com.loopers.infrastructure.external.http.PaymentAsyncClient;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * AsyncPaymentGateway 단위 테스트
+ * 적응형 동시성 제한, 재시도 예산, Fallback 동작을 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncPaymentGatewayTest {
+
+    private static final String TEST_USER_ID = "user123";
+    private static final String TEST_CALLBACK_URL = "http://localhost:8080/api/v1/payments/callback";
+
+    @Mock
+    private PaymentAsyncClient paymentAsyncClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    }
+
+    @Test
+    @DisplayName("PG가 결제를 접수하면 거래 키와 상태를 반환한다")
+    void processPayment_success() {
+        // given
+        AsyncPaymentGateway gateway = createGateway(10, 10, 1);
+        given(paymentAsyncClient.payment(any()))
+                .willReturn(CompletableFuture.completedFuture(acceptedResponse("TX-1")));
+
+        // when
+        PaymentResult result = gateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL);
+
+        // then
+        assertThat(result.transactionId()).isEqualTo("TX-1");
+        assertThat(result.status()).isEqualTo("PENDING");
+        assertThat(gateway.getLimiter().getInFlight()).isZero();
+        assertThat(meterRegistry.get("payment.gateway.latency").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결제 요청이 연결 단계에서 실패하면 재시도 예산 안에서 재시도한다")
+    void processPayment_connectFailure_retriedWithinBudget() {
+        // given
+        AsyncPaymentGateway gateway = createGateway(10, 10, 1);
+        given(paymentAsyncClient.payment(any()))
+                .willReturn(CompletableFuture.failedFuture(new ConnectException("Connection refused")))
+                .willReturn(CompletableFuture.completedFuture(acceptedResponse("TX-2")));
+
+        // when
+        PaymentResult result = gateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL);
+
+        // then
+        assertThat(result.transactionId()).isEqualTo("TX-2");
+        assertThat(gateway.getLimiter().getLimit()).isEqualTo(9);
+        assertThat(meterRegistry.get("payment.gateway.retry").tag("operation", "payment").counter().count())
+                .isEqualTo(1);
+        verify(paymentAsyncClient, times(2)).payment(any());
+    }
+
+    @Test
+    @DisplayName("PG가 접수했을 수 있는 결제 요청 실패(5xx, 응답 타임아웃)는 중복 결제 방지를 위해 재시도하지 않는다")
+    void processPayment_maybeAccepted_notRetried() {
+        // given
+        AsyncPaymentGateway gateway = createGateway(10, 10, 5);
+        given(paymentAsyncClient.payment(any()))
+                .willReturn(CompletableFuture.failedFuture(serverError()))
+                .willReturn(CompletableFuture.failedFuture(new HttpTimeoutException("request timed out")));
+
+        // when
+        PaymentResult serverErrorResult = gateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL);
+        PaymentResult timeoutResult = gateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL);
+
+        // then
+        assertThat(serverErrorResult.status()).isEqualTo("FAIL");
+        assertThat(timeoutResult.status()).isEqualTo("FAIL");
+        assertThat(meterRegistry.find("payment.gateway.retry").counter()).isNull();
+        verify(paymentAsyncClient, times(2)).payment(any());
+    }
+
+    @Test
+    @DisplayName("멱등한 상태 조회는 PG 5xx 응답도 재시도한다")
+    void checkPaymentStatuses_serverError_retried() {
+        // given
+        AsyncPaymentGateway gateway = createGateway(10, 10, 1);
+        given(paymentAsyncClient.paymentStatuses(statusRequest("TX-1")))
+                .willReturn(CompletableFuture.failedFuture(serverError()))
+                .willReturn(CompletableFuture.completedFuture(statusesResponse("TX-1")));
+
+        // when
+        Map<String, PaymentResult> results = gateway.checkPaymentStatuses(List.of("TX-1"));
+
+        // then
+        assertThat(results.get("TX-1").status()).isEqualTo("SUCCESS");
+        assertThat(meterRegistry.get("payment.gateway.retry").tag("operation", "statuses").counter().count())
+                .isEqualTo(1);
+        verify(paymentAsyncClient, times(2)).paymentStatuses(statusRequest("TX-1"));
+    }
+
+    @Test
+    @DisplayName("재시도 예산이 없으면 재시도하지 않고 Fallback 결과를 반환한다")
+    void processPayment_budgetExhausted_noRetry() {
+        // given
+        AsyncPaymentGateway gateway = createGateway(10, 10, 0);
+        given(paymentAsyncClient.payment(any()))
+                .willReturn(CompletableFuture.failedFuture(new ConnectException("Connection refused")));
+
+        // when
+        PaymentResult result = gateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL);
+
+        // then
+        assertThat(result.status()).isEqualTo("FAIL");
+        assertThat(meterRegistry.get("payment.gateway.rejected").tag("reason", "retry_budget").counter().count())
+                .isEqualTo(1);
+        verify(paymentAsyncClient, times(1)).payment(any());
+    }
+
+    @Test
+    @DisplayName("동시성 허용량을 넘는 요청은 PG를 호출하지 않고 즉시 Fallback 결과를 반환한다")
+    void checkPaymentStatuses_limitExceeded_rejectedImmediately() throws Exception {
+        // given: 허용량 1, 첫 요청은 응답 지연
+        AsyncPaymentGateway gateway = createGateway(1, 1, 1);
+        CountDownLatch firstSent = new CountDownLatch(1);
+        CompletableFuture<PaymentExternalDto.PaymentStatusListResponse> pending = new CompletableFuture<>();
+        given(paymentAsyncClient.paymentStatuses(statusRequest("TX-SLOW"))).willAnswer(invocation -> {
+            firstSent.countDown();
+            return pending;
+        });
+        Thread slowCaller = Thread.ofVirtual().start(() -> gateway.checkPaymentStatuses(List.of("TX-SLOW")));
+        assertThat(firstSent.await(3, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        Map<String, PaymentResult> results = gateway.checkPaymentStatuses(List.of("TX-FAST"));
+
+        // then
+        assertThat(results.get("TX-FAST").status()).isEqualTo("PROCESSING");
+        assertThat(meterRegistry.get("payment.gateway.rejected").tag("reason", "limit").counter().count())
+                .isEqualTo(1);
+        verify(paymentAsyncClient, times(0)).paymentStatuses(statusRequest("TX-FAST"));
+
+        pending.complete(statusesResponse("TX-SLOW"));
+        slowCaller.join();
+        assertThat(gateway.getLimiter().getInFlight()).isZero();
+        // 허용량 거절은 PG 호출이 아니므로 Circuit Breaker 호출 수에 포함되지 않음
+        CircuitBreaker.Metrics metrics = circuitBreakerRegistry.circuitBreaker("paymentGateway").getMetrics();
+        assertThat(metrics.getNumberOfBufferedCalls()).isEqualTo(1);
+        assertThat(metrics.getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("호출 타임아웃이 지나면 진행 중인 PG 요청을 취소하고 허용량을 바로 반납한다")
+    void checkPaymentStatuses_callTimeout_cancelsInFlightRequest() {
+        // given: PG가 응답하지 않음
+        AsyncPaymentGateway gateway = createGateway(10, 10, 0, Duration.ofMillis(100));
+        CompletableFuture<PaymentExternalDto.PaymentStatusListResponse> pending = new CompletableFuture<>();
+        given(paymentAsyncClient.paymentStatuses(statusRequest("TX-1"))).willReturn(pending);
+
+        // when
+        Map<String, PaymentResult> results = gateway.checkPaymentStatuses(List.of("TX-1"));
+
+        // then
+        assertThat(results.get("TX-1").status()).isEqualTo("PROCESSING");
+        assertThat(pending.isCancelled()).isTrue();
+        assertThat(gateway.getLimiter().getInFlight()).isZero();
+        assertThat(bulkheadRegistry.bulkhead("paymentGateway").getMetrics().getAvailableConcurrentCalls())
+                .isEqualTo(bulkheadRegistry.getDefaultConfig().getMaxConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("일괄 조회 실패 시 모든 거래를 PROCESSING으로 반환한다")
+    void checkPaymentStatuses_failure_fallbackToProcessing() {
+        // given
+        AsyncPaymentGateway gateway = createGateway(10, 10, 0);
+        given(paymentAsyncClient.paymentStatuses(any()))
+                .willReturn(CompletableFuture.failedFuture(serverError()));
+
+        // when
+        Map<String, PaymentResult> results = gateway.checkPaymentStatuses(List.of("TX-1", "TX-2"));
+
+        // then
+        assertThat(results).hasSize(2);
+        assertThat(results.values()).allMatch(result -> "PROCESSING".equals(result.status()));
+    }
+
+    private AsyncPaymentGateway createGateway(int initialLimit, int maxLimit, int budgetReserve) {
+        return createGateway(initialLimit, maxLimit, budgetReserve, Duration.ofSeconds(3));
+    }
+
+    private AsyncPaymentGateway createGateway(int initialLimit, int maxLimit, int budgetReserve, Duration callTimeout) {
+        PaymentGatewayProperties properties = new PaymentGatewayProperties(
+                "async",
+                callTimeout,
+                new PaymentGatewayProperties.Limiter(initialLimit, 1, maxLimit, Duration.ofSeconds(1), 0.9),
+                new PaymentGatewayProperties.Retry(3, Duration.ofMillis(10), 0.1, budgetReserve),
+                new PaymentGatewayProperties.Hedge(false, Duration.ofMillis(50), Duration.ofSeconds(1), 0.1, 10)
+        );
+        return new AsyncPaymentGateway(
+                paymentAsyncClient,
+                properties,
+                new HedgingPolicy(properties, meterRegistry),
+                circuitBreakerRegistry,
+                bulkheadRegistry,
+                meterRegistry
+        );
+    }
+
+    private static PaymentExternalDto.PaymentResponse acceptedResponse(String transactionKey) {
+        return new PaymentExternalDto.PaymentResponse(
+                new PaymentExternalDto.Meta("SUCCESS", null, null),
+                new PaymentExternalDto.PaymentData(transactionKey, "PENDING")
+        );
+    }
+
+    private static PaymentExternalDto.PaymentStatusRequest statusRequest(String... transactionKeys) {
+        return new PaymentExternalDto.PaymentStatusRequest(List.of(transactionKeys));
+    }
+
+    private static PaymentExternalDto.PaymentStatusListResponse statusesResponse(String... transactionKeys) {
+        return new PaymentExternalDto.PaymentStatusListResponse(
+                new PaymentExternalDto.Meta("SUCCESS", null, null),
+                new PaymentExternalDto.PaymentStatusList(List.of(transactionKeys).stream()
+                        .map(transactionKey -> new PaymentExternalDto.PaymentStatusData(transactionKey, "SUCCESS", null))
+                        .toList())
+        );
+    }
+
+    private static PaymentAsyncClient.PgServerErrorException serverError() {
+        return new PaymentAsyncClient.PgServerErrorException(503, URI.create("http://localhost:8082/api/v1/payments"));
+    }
+
+    private Payment createTestPayment() {
+        return Payment.createPaymentForCard(
+                new Order(),
+                Money.of(BigDecimal.valueOf(10000)),
+                PaymentType.CARD,
+                CardType.SAMSUNG,
+                "1234-5678-9012-3456"
+        );
+    }
+}
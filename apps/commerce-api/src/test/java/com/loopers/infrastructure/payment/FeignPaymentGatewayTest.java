@@ -8,6 +8,7 @@ import com.loopers.domain.payment.PaymentType;
 import com.loopers.infrastructure.external.feign.PaymentClient;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,7 +51,7 @@ class FeignPaymentGatewayTest {
     @BeforeEach
     void setUp() {
         circuitBreaker = createCircuitBreaker();
-        paymentGateway = new FeignPaymentGateway(paymentClient);
+        paymentGateway = new FeignPaymentGateway(paymentClient, createHedgingPolicy());
     }
 
     @DisplayName("연속 실패 시 Circuit Breaker가 OPEN 상태로 전환된다")
@@ -87,6 +88,20 @@ class FeignPaymentGatewayTest {
         return CircuitBreaker.of(CIRCUIT_BREAKER_NAME, config);
     }
 
+    /**
+     * 기본 설정의 Hedging 정책 생성 (결제 요청에는 적용되지 않음)
+     */
+    private HedgingPolicy createHedgingPolicy() {
+        PaymentGatewayProperties properties = new PaymentGatewayProperties(
+                "feign",
+                Duration.ofSeconds(10),
+                new PaymentGatewayProperties.Limiter(10, 2, 100, Duration.ofSeconds(1), 0.9),
+                new PaymentGatewayProperties.Retry(3, Duration.ofMillis(500), 0.1, 10),
+                new PaymentGatewayProperties.Hedge(true, Duration.ofMillis(50), Duration.ofSeconds(1), 0.1, 10)
+        );
+        return new HedgingPolicy(properties, new SimpleMeterRegistry());
+    }
+
     /**
      * 결제 요청을 여러 번 시도하고 실패 횟수를 반환
      */
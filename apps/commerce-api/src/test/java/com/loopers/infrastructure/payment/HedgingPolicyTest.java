@@ -0,0 +1,177 @@
+package com.loopers.infrastructure.payment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class HedgingPolicyTest {
+
+    private static final String OPERATION = "status";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("원 요청이 기준 시간 안에 응답하지 않으면 hedge 요청을 보내고 먼저 온 응답을 사용한다")
+    void slowPrimary_hedgeWins() throws Exception {
+        // given: 첫 요청은 응답하지 않고, 두 번째 요청은 즉시 응답
+        HedgingPolicy hedgingPolicy = createPolicy(Duration.ofMillis(50), 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedgingPolicy.execute(OPERATION, () -> calls.incrementAndGet() == 1
+                        ? new CompletableFuture<String>()
+                        : CompletableFuture.completedFuture("hedged"))
+                .get(3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isEqualTo("hedged");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(count("payment.gateway.hedge.fired")).isEqualTo(1);
+        // wins 는 결과 future 완료 직후 기록되므로 get() 반환 시점에는 아직 반영되지 않았을 수 있음
+        await().atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> assertThat(count("payment.gateway.hedge.wins")).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("원 요청이 기준 시간 안에 응답하면 hedge 요청을 보내지 않는다")
+    void fastPrimary_noHedge() throws Exception {
+        // given
+        HedgingPolicy hedgingPolicy = createPolicy(Duration.ofMillis(200), 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedgingPolicy.execute(OPERATION, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("primary");
+        }).get(3, TimeUnit.SECONDS);
+        Thread.sleep(300);
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("payment.gateway.hedge.fired")).isZero();
+    }
+
+    @Test
+    @DisplayName("hedge 예산이 없으면 hedge 요청 없이 원 요청의 응답을 기다린다")
+    void budgetExhausted_waitsForPrimary() throws Exception {
+        // given: 예산 적립 비율 0, 초기 적립 0
+        HedgingPolicy hedgingPolicy = createPolicy(Duration.ofMillis(20), 0, 0.0);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedgingPolicy.execute(OPERATION, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> "primary",
+                    CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+        }).get(3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("payment.gateway.hedge.budget.exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원 요청과 hedge 요청이 모두 실패하면 원인 예외로 실패한다")
+    void bothFail_failsWithCause() {
+        // given
+        HedgingPolicy hedgingPolicy = createPolicy(Duration.ofMillis(20), 10);
+
+        // when & then
+        assertThatThrownBy(() -> hedgingPolicy.executeBlocking(OPERATION, () -> {
+            sleep(50);
+            throw new IllegalStateException("PG 오류");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("PG 오류");
+        assertThat(count("payment.gateway.hedge.fired")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("관측 응답 시간의 p95로 hedge 기준 시간이 조정된다")
+    void hedgeDelay_followsObservedP95() {
+        // given
+        HedgingPolicy hedgingPolicy = new HedgingPolicy(properties(Duration.ofMillis(1), Duration.ofSeconds(1), 10, 0.1), meterRegistry);
+        assertThat(hedgingPolicy.getHedgeDelay(OPERATION)).isEqualTo(Duration.ofSeconds(1));
+
+        // when: 약 10ms 응답 64건
+        for (int i = 0; i < 64; i++) {
+            hedgingPolicy.executeBlocking(OPERATION, () -> {
+                sleep(10);
+                return "ok";
+            });
+        }
+
+        // then
+        assertThat(hedgingPolicy.getHedgeDelay(OPERATION))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(10))
+                .isLessThan(Duration.ofMillis(500));
+    }
+
+    @Test
+    @DisplayName("종료되면 블로킹 호출용 실행기가 새 hedge 실행을 받지 않는다")
+    void shutdown_rejectsNewBlockingCalls() {
+        // given
+        HedgingPolicy hedgingPolicy = createPolicy(Duration.ofMillis(20), 10);
+
+        // when
+        hedgingPolicy.shutdown();
+
+        // then
+        assertThatThrownBy(() -> hedgingPolicy.executeBlocking(OPERATION, () -> "ok"))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private HedgingPolicy createPolicy(Duration delay, int budgetReserve) {
+        return createPolicy(delay, budgetReserve, 0.1);
+    }
+
+    /**
+     * 관측 표본이 쌓이기 전에는 max-delay를 기준으로 hedge 하므로 min/max를 같게 설정
+     */
+    private HedgingPolicy createPolicy(Duration delay, int budgetReserve, double budgetRatio) {
+        return new HedgingPolicy(properties(delay, delay, budgetReserve, budgetRatio), meterRegistry);
+    }
+
+    private static PaymentGatewayProperties properties(Duration minDelay, Duration maxDelay,
+                                                       int budgetReserve, double budgetRatio) {
+        return new PaymentGatewayProperties(
+                "feign",
+                Duration.ofSeconds(10),
+                new PaymentGatewayProperties.Limiter(10, 2, 100, Duration.ofSeconds(1), 0.9),
+                new PaymentGatewayProperties.Retry(3, Duration.ofMillis(500), 0.1, 10),
+                new PaymentGatewayProperties.Hedge(true, minDelay, maxDelay, budgetRatio, budgetReserve)
+        );
+    }
+
+    private double count(String name) {
+        Counter counter = meterRegistry.find(name).tag("operation", OPERATION).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.infrastructure.payment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("적립 상한만큼 재시도를 허용한 뒤에는 토큰이 없어 재시도를 거절한다")
+    void tryWithdraw_exhaustsReserve() {
+        // given
+        RetryBudget retryBudget = new RetryBudget(0.1, 2);
+
+        // when & then
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    @DisplayName("예산 소진 후에는 원 요청 대비 ratio 비율만큼만 재시도가 허용된다")
+    void tryWithdraw_afterExhausted_limitedByRatio() {
+        // given
+        RetryBudget retryBudget = new RetryBudget(0.1, 0);
+
+        // when: 원 요청 100건 동안 매번 재시도 시도
+        int retries = 0;
+        for (int i = 0; i < 100; i++) {
+            retryBudget.deposit();
+            if (retryBudget.tryWithdraw()) {
+                retries++;
+            }
+        }
+
+        // then
+        assertThat(retries).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("적립은 상한을 넘지 않는다")
+    void deposit_cappedAtReserve() {
+        // given
+        RetryBudget retryBudget = new RetryBudget(0.5, 1);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            retryBudget.deposit();
+        }
+
+        // then
+        assertThat(retryBudget.getBalance()).isEqualTo(1.0);
+    }
+}
@@ -3,116 +3,241 @@ package com.loopers.infrastructure.scheduler;
 import com.loopers.domain.Money;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.payment.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentStatusCheckSchedulerTest {
 
+    private static final int PAGE_SIZE = 2;
+    private static final int MAX_CONCURRENCY = 3;
+
     @Mock
     private PaymentRepository paymentRepository;
 
     @Mock
     private PaymentStatusCheckService paymentStatusCheckService;
 
-    @InjectMocks
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    private MeterRegistry meterRegistry;
+
     private PaymentStatusCheckScheduler scheduler;
 
     private Payment processingPayment;
 
     @BeforeEach
     void setUp() {
-        // PROCESSING 상태의 결제 생성
-        processingPayment = Payment.createPaymentForCard(
-                mock(Order.class),
-                Money.of(10000L),
-                PaymentType.CARD,
-                CardType.SAMSUNG,
-                "1234567890123456"
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new PaymentStatusCheckScheduler(
+                paymentRepository,
+                paymentStatusCheckService,
+                paymentGateway,
+                meterRegistry,
+                PAGE_SIZE,
+                MAX_CONCURRENCY
         );
-        processingPayment.startProcessing("test-pg-transaction-id");
+
+        // PROCESSING 상태의 결제 생성
+        processingPayment = createProcessingPayment("test-pg-transaction-id");
     }
 
     @Test
     @DisplayName("PROCESSING 상태인 결제가 없으면 아무 작업도 수행하지 않는다")
     void checkProcessingPayments_NoPayments() {
         // given
-        given(paymentRepository.findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt()))
+        given(paymentRepository.findProcessingPaymentsForStatusCheck(
+                any(PaymentStatusCheckCursor.class), any(LocalDateTime.class), anyInt(), anyInt()))
                 .willReturn(Collections.emptyList());
 
         // when
         scheduler.checkProcessingPayments();
 
         // then
-        verify(paymentRepository).findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt());
-        verify(paymentStatusCheckService, never()).checkPaymentStatus(anyString());
+        verify(paymentRepository).findProcessingPaymentsForStatusCheck(
+                any(PaymentStatusCheckCursor.class), any(LocalDateTime.class), anyInt(), anyInt());
+        verify(paymentGateway, never()).checkPaymentStatuses(anyList());
+        verify(paymentStatusCheckService, never()).applyPaymentStatus(anyString(), any());
     }
 
     @Test
-    @DisplayName("PROCESSING 상태인 결제가 있으면 PaymentStatusCheckService를 호출한다")
+    @DisplayName("PROCESSING 상태인 결제가 있으면 PG 일괄 조회 결과를 PaymentStatusCheckService로 반영한다")
     void checkProcessingPayments_CallsService() {
         // given
         List<Payment> processingPayments = Collections.singletonList(processingPayment);
+        PaymentResult result = new PaymentResult("test-pg-transaction-id", "SUCCESS", "결제 완료");
 
-        given(paymentRepository.findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt()))
+        given(paymentRepository.findProcessingPaymentsForStatusCheck(
+                any(PaymentStatusCheckCursor.class), any(LocalDateTime.class), anyInt(), anyInt()))
                 .willReturn(processingPayments);
+        given(paymentGateway.checkPaymentStatuses(List.of("test-pg-transaction-id")))
+                .willReturn(Map.of("test-pg-transaction-id", result));
 
         // when
         scheduler.checkProcessingPayments();
 
         // then
-        verify(paymentRepository).findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt());
-        verify(paymentStatusCheckService).checkPaymentStatus(processingPayment.getPaymentId());
+        verify(paymentRepository).findProcessingPaymentsForStatusCheck(
+                any(PaymentStatusCheckCursor.class), any(LocalDateTime.class), anyInt(), anyInt());
+        verify(paymentStatusCheckService).applyPaymentStatus(processingPayment.getPaymentId(), result);
     }
 
     @Test
-    @DisplayName("여러 개의 PROCESSING 결제를 순차적으로 Service에 위임한다")
+    @DisplayName("여러 개의 PROCESSING 결제를 페이지당 한 번의 PG 일괄 조회로 확인한다")
     void checkProcessingPayments_MultiplePayments() {
         // given
-        Payment payment1 = Payment.createPaymentForCard(
-                mock(Order.class),
-                Money.of(10000L),
-                PaymentType.CARD,
-                CardType.SAMSUNG,
-                "1234567890123456"
-        );
-        payment1.startProcessing("pg-tx-1");
+        Payment payment1 = createProcessingPayment("pg-tx-1");
+        Payment payment2 = createProcessingPayment("pg-tx-2");
+        Payment payment3 = createProcessingPayment("pg-tx-3");
 
-        Payment payment2 = Payment.createPaymentForCard(
-                mock(Order.class),
-                Money.of(20000L),
-                PaymentType.CARD,
-                CardType.KB,
-                "9876543210987654"
-        );
-        payment2.startProcessing("pg-tx-2");
+        // 페이지 크기(2)만큼 조회되면 마지막 결제 이후부터 다음 페이지 조회
+        given(paymentRepository.findProcessingPaymentsForStatusCheck(
+                eq(PaymentStatusCheckCursor.start()), any(LocalDateTime.class), anyInt(), eq(PAGE_SIZE)))
+                .willReturn(Arrays.asList(payment1, payment2));
+        given(paymentRepository.findProcessingPaymentsForStatusCheck(
+                eq(PaymentStatusCheckCursor.after(payment2)), any(LocalDateTime.class), anyInt(), eq(PAGE_SIZE)))
+                .willReturn(Collections.singletonList(payment3));
 
-        List<Payment> processingPayments = Arrays.asList(payment1, payment2);
+        given(paymentGateway.checkPaymentStatuses(anyList())).willReturn(Map.of());
 
-        given(paymentRepository.findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt()))
-                .willReturn(processingPayments);
+        // when
+        scheduler.checkProcessingPayments();
+
+        // then
+        verify(paymentRepository, times(2)).findProcessingPaymentsForStatusCheck(
+                any(PaymentStatusCheckCursor.class), any(LocalDateTime.class), anyInt(), anyInt());
+        verify(paymentGateway).checkPaymentStatuses(List.of("pg-tx-1", "pg-tx-2"));
+        verify(paymentGateway).checkPaymentStatuses(List.of("pg-tx-3"));
+        verify(paymentStatusCheckService).applyPaymentStatus(payment1.getPaymentId(), null);
+        verify(paymentStatusCheckService).applyPaymentStatus(payment2.getPaymentId(), null);
+        verify(paymentStatusCheckService).applyPaymentStatus(payment3.getPaymentId(), null);
+        assertThat(meterRegistry.get("payment.status.check.backlog").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("payment.status.check.cycle").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 결제가 동시 갱신으로 낙관적 락 충돌이 나도 같은 페이지의 나머지 결제는 반영된다")
+    void checkProcessingPayments_OptimisticLockConflict_ContinuesPage() {
+        // given
+        Payment conflicted = createProcessingPayment("pg-tx-1");
+        Payment other = createProcessingPayment("pg-tx-2");
+        given(paymentRepository.findProcessingPaymentsForStatusCheck(
+                eq(PaymentStatusCheckCursor.start()), any(LocalDateTime.class), anyInt(), eq(PAGE_SIZE)))
+                .willReturn(Arrays.asList(conflicted, other));
+        given(paymentRepository.findProcessingPaymentsForStatusCheck(
+                eq(PaymentStatusCheckCursor.after(other)), any(LocalDateTime.class), anyInt(), eq(PAGE_SIZE)))
+                .willReturn(Collections.emptyList());
+        given(paymentGateway.checkPaymentStatuses(anyList())).willReturn(Map.of());
+        doThrow(new ObjectOptimisticLockingFailureException(Payment.class, conflicted.getPaymentId()))
+                .when(paymentStatusCheckService).applyPaymentStatus(conflicted.getPaymentId(), null);
 
         // when
         scheduler.checkProcessingPayments();
 
         // then
-        verify(paymentRepository).findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt());
-        verify(paymentStatusCheckService).checkPaymentStatus(payment1.getPaymentId());
-        verify(paymentStatusCheckService).checkPaymentStatus(payment2.getPaymentId());
+        verify(paymentStatusCheckService).applyPaymentStatus(conflicted.getPaymentId(), null);
+        verify(paymentStatusCheckService).applyPaymentStatus(other.getPaymentId(), null);
+        assertThat(meterRegistry.get("payment.status.check.conflict").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("백오프로 확인이 미뤄진 결제 수는 주기 시작 시 한 번 집계해 게이지로 기록한다")
+    void checkProcessingPayments_RecordsDeferredCount() {
+        // given: 확인 시점이 도래한 결제만 조회되고, 백오프 중인 결제는 수만 집계됨
+        given(paymentRepository.countProcessingPaymentsDeferred(any(LocalDateTime.class), anyInt()))
+                .willReturn(5L);
+        given(paymentRepository.findProcessingPaymentsForStatusCheck(
+                any(PaymentStatusCheckCursor.class), any(LocalDateTime.class), anyInt(), anyInt()))
+                .willReturn(Collections.singletonList(processingPayment));
+        given(paymentGateway.checkPaymentStatuses(anyList())).willReturn(Map.of());
+
+        // when
+        scheduler.checkProcessingPayments();
+
+        // then
+        verify(paymentRepository).countProcessingPaymentsDeferred(any(LocalDateTime.class), eq(10));
+        verify(paymentGateway).checkPaymentStatuses(List.of("test-pg-transaction-id"));
+        assertThat(meterRegistry.get("payment.status.check.deferred").gauge().value()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("payment.status.check.backlog").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("페이지별 결제 상태 확인은 동시에 진행되지만 max-concurrency를 넘지 않는다")
+    void checkProcessingPayments_BoundedConcurrency() {
+        // given
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            payments.add(createProcessingPayment("pg-tx-" + i));
+        }
+        given(paymentRepository.findProcessingPaymentsForStatusCheck(
+                any(PaymentStatusCheckCursor.class), any(LocalDateTime.class), anyInt(), anyInt()))
+                .willAnswer(invocation -> {
+                    PaymentStatusCheckCursor cursor = invocation.getArgument(0);
+                    int from = cursor.isUncheckedSection() && cursor.paymentId().isEmpty()
+                            ? 0
+                            : payments.indexOf(findByPaymentId(payments, cursor.paymentId())) + 1;
+                    return payments.subList(from, Math.min(from + PAGE_SIZE, payments.size()));
+                });
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(paymentGateway.checkPaymentStatuses(anyList())).willAnswer(invocation -> {
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            Thread.sleep(50);  // PG 응답 지연
+            running.decrementAndGet();
+            return Map.of();
+        });
+
+        // when
+        scheduler.checkProcessingPayments();
+
+        // then
+        verify(paymentGateway, times(5)).checkPaymentStatuses(anyList());
+        verify(paymentStatusCheckService, times(10)).applyPaymentStatus(anyString(), any());
+        assertThat(maxRunning.get()).isGreaterThan(1).isLessThanOrEqualTo(MAX_CONCURRENCY);
+    }
+
+    private Payment createProcessingPayment(String pgTransactionId) {
+        Payment payment = Payment.createPaymentForCard(
+                mock(Order.class),
+                Money.of(10000L),
+                PaymentType.CARD,
+                CardType.SAMSUNG,
+                "1234567890123456"
+        );
+        payment.startProcessing(pgTransactionId);
+        return payment;
+    }
+
+    private Payment findByPaymentId(List<Payment> payments, String paymentId) {
+        return payments.stream()
+                .filter(payment -> payment.getPaymentId().equals(paymentId))
+                .findFirst()
+                .orElseThrow();
     }
-}
\ No newline at end of file
+}
@@ -7,27 +7,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentStatusCheckServiceTest {
 
-    @Mock
-    private PaymentRepository paymentRepository;
+    private static final Duration BASE_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration MAX_INTERVAL = Duration.ofMinutes(30);
 
     @Mock
-    private PaymentGateway paymentGateway;
+    private PaymentRepository paymentRepository;
 
-    @InjectMocks
     private PaymentStatusCheckService paymentStatusCheckService;
 
     private Payment processingPayment;
@@ -35,6 +33,8 @@ class PaymentStatusCheckServiceTest {
 
     @BeforeEach
     void setUp() {
+        paymentStatusCheckService = new PaymentStatusCheckService(paymentRepository, BASE_INTERVAL, MAX_INTERVAL);
+
         // PROCESSING 상태의 결제 생성
         processingPayment = Payment.createPaymentForCard(
                 mock(Order.class),
@@ -48,158 +48,141 @@ class PaymentStatusCheckServiceTest {
     }
 
     @Test
-    @DisplayName("결제를 찾을 수 없으면 예외를 발생시킨다")
-    void checkPaymentStatus_PaymentNotFound() {
+    @DisplayName("결제를 찾을 수 없으면 저장하지 않는다")
+    void applyPaymentStatus_PaymentNotFound() {
         // given
         given(paymentRepository.findByPaymentId(testPaymentId))
                 .willReturn(Optional.empty());
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyPaymentStatus(
+                testPaymentId, new PaymentResult("test-pg-transaction-id", "SUCCESS", "결제 완료"));
 
         // then
         // 예외 발생 시 예외 처리 블록에서도 재조회 시도 (총 2번 호출)
         verify(paymentRepository, times(2)).findByPaymentId(testPaymentId);
-        verify(paymentGateway, never()).checkPaymentStatus(anyString());
         verify(paymentRepository, never()).save(any(Payment.class));
     }
 
     @Test
-    @DisplayName("PG 응답이 SUCCESS면 결제를 완료 처리한다")
-    void checkPaymentStatus_UpdateToSuccess() {
+    @DisplayName("일괄 조회 결과가 SUCCESS면 결제를 완료 처리한다")
+    void applyPaymentStatus_UpdateToSuccess() {
         // given
         given(paymentRepository.findByPaymentId(testPaymentId))
                 .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "SUCCESS", "결제 완료"));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyPaymentStatus(
+                testPaymentId, new PaymentResult("test-pg-transaction-id", "SUCCESS", "결제 완료"));
 
         // then
         assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
         assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1);
-        verify(paymentRepository).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
         verify(paymentRepository).save(processingPayment);
     }
 
     @Test
-    @DisplayName("PG 응답이 FAILED면 결제를 실패 처리한다")
-    void checkPaymentStatus_UpdateToFailed() {
+    @DisplayName("일괄 조회 결과가 FAILED면 결제를 실패 처리한다")
+    void applyPaymentStatus_UpdateToFailed() {
         // given
         given(paymentRepository.findByPaymentId(testPaymentId))
                 .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "FAILED", "결제 실패"));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyPaymentStatus(
+                testPaymentId, new PaymentResult("test-pg-transaction-id", "FAILED", "결제 실패"));
 
         // then
         assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.FAILED);
         assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1);
-        verify(paymentRepository).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
         verify(paymentRepository).save(processingPayment);
     }
 
     @Test
-    @DisplayName("PG 응답이 FAIL이면 결제를 실패 처리한다")
-    void checkPaymentStatus_UpdateToFail() {
+    @DisplayName("일괄 조회 결과가 FAIL이면 결제를 실패 처리한다")
+    void applyPaymentStatus_UpdateToFail() {
         // given
         given(paymentRepository.findByPaymentId(testPaymentId))
                 .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "FAIL", "카드 승인 거부"));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyPaymentStatus(
+                testPaymentId, new PaymentResult("test-pg-transaction-id", "FAIL", "카드 승인 거부"));
 
         // then
         assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.FAILED);
         assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1);
-        verify(paymentRepository).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
         verify(paymentRepository).save(processingPayment);
     }
 
     @Test
-    @DisplayName("PG 응답이 PROCESSING이면 상태를 유지하고 확인 횟수만 증가한다")
-    void checkPaymentStatus_StillProcessing() {
+    @DisplayName("일괄 조회 결과가 PROCESSING이면 상태를 유지하고 다음 확인 시간을 기본 간격 뒤로 저장한다")
+    void applyPaymentStatus_StillProcessing() {
         // given
         given(paymentRepository.findByPaymentId(testPaymentId))
                 .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "PROCESSING", "결제 처리 중"));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyPaymentStatus(
+                testPaymentId, new PaymentResult("test-pg-transaction-id", "PROCESSING", "결제 처리 중"));
 
         // then
         assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
         assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1);
-        verify(paymentRepository).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
+        assertThat(processingPayment.getNextStatusCheckAt())
+                .isEqualTo(processingPayment.getLastStatusCheckAt().plus(BASE_INTERVAL));
         verify(paymentRepository).save(processingPayment);
     }
 
     @Test
-    @DisplayName("PG 상태 확인 중 예외가 발생해도 확인 횟수는 증가하고 저장한다")
-    void checkPaymentStatus_ExceptionDuringPGCheck() {
+    @DisplayName("일괄 조회 결과에 거래가 없으면 상태를 유지하고 확인 횟수만 증가한다")
+    void applyPaymentStatus_NotFoundInPg() {
         // given
         given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.of(processingPayment))
-                .willReturn(Optional.of(processingPayment)); // 예외 블록에서 재조회
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willThrow(new RuntimeException("PG 시스템 장애"));
+                .willReturn(Optional.of(processingPayment));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyPaymentStatus(testPaymentId, null);
 
         // then
-        assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.PROCESSING); // 상태 유지
-        assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1); // 확인 횟수 증가
-        verify(paymentRepository, times(2)).findByPaymentId(testPaymentId); // 초기 조회 + 예외 블록 재조회
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
-        verify(paymentRepository, times(1)).save(processingPayment); // 에러 처리 블록에서 저장
+        assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
+        assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1);
+        assertThat(processingPayment.getNextStatusCheckAt()).isNotNull();
+        verify(paymentRepository).save(processingPayment);
     }
 
     @Test
-    @DisplayName("확인 횟수는 PG 호출 후 항상 증가한다")
-    void checkPaymentStatus_IncrementCheckCount() {
+    @DisplayName("반영 중 예외가 발생해도 확인 횟수는 증가하고 저장한다")
+    void applyPaymentStatus_ExceptionDuringApply() {
         // given
         given(paymentRepository.findByPaymentId(testPaymentId))
                 .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "SUCCESS", "결제 완료"));
-
-        int initialCheckCount = processingPayment.getStatusCheckCount();
+        given(paymentRepository.save(processingPayment))
+                .willThrow(new RuntimeException("DB 연결 실패"))
+                .willReturn(processingPayment); // 예외 블록에서 저장
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyPaymentStatus(
+                testPaymentId, new PaymentResult("test-pg-transaction-id", "PROCESSING", "결제 처리 중"));
 
         // then
-        assertThat(processingPayment.getStatusCheckCount()).isEqualTo(initialCheckCount + 1);
-        verify(paymentRepository).save(processingPayment);
+        verify(paymentRepository, times(2)).findByPaymentId(testPaymentId); // 초기 조회 + 예외 블록 재조회
+        verify(paymentRepository, times(2)).save(processingPayment);
     }
 
     @Test
     @DisplayName("예외 발생 시 확인 횟수 증가 중 또 예외가 발생하면 로그만 남긴다")
-    void checkPaymentStatus_ExceptionDuringIncrementCheckCount() {
+    void applyPaymentStatus_ExceptionDuringIncrementCheckCount() {
         // given
         given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.of(processingPayment))
-                .willThrow(new RuntimeException("DB 연결 실패")); // 재조회 시 예외
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willThrow(new RuntimeException("PG 시스템 장애"));
+                .willThrow(new RuntimeException("DB 연결 실패"));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyPaymentStatus(testPaymentId, null);
 
         // then
         verify(paymentRepository, times(2)).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
         // 예외 처리 블록 내부에서도 예외 발생하면 저장 안 됨 (로그만 남김)
+        verify(paymentRepository, never()).save(any(Payment.class));
     }
 }
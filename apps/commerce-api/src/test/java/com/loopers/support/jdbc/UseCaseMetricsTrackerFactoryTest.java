@@ -0,0 +1,57 @@
+package com.loopers.support.jdbc;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UseCaseMetricsTrackerFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("커넥션 반납 시 현재 유스케이스 태그로 점유 시간이 기록되고, 기본 Hikari 메트릭도 유지된다")
+    void recordConnectionUsage_taggedByUseCase() {
+        // given
+        IMetricsTracker tracker = new UseCaseMetricsTrackerFactory(() -> meterRegistry)
+                .create("mysql-main-pool", emptyPoolStats());
+
+        // when
+        try (ConnectionUseCase.Scope ignored = ConnectionUseCase.open("payment.card.write")) {
+            tracker.recordConnectionUsageMillis(15);
+        }
+        tracker.recordConnectionUsageMillis(40);
+
+        // then
+        assertThat(meterRegistry.get(UseCaseMetricsTrackerFactory.HOLD_TIMER)
+                .tags("pool", "mysql-main-pool", "usecase", "payment.card.write").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(15);
+        assertThat(meterRegistry.get(UseCaseMetricsTrackerFactory.HOLD_TIMER)
+                .tag("usecase", ConnectionUseCase.UNSPECIFIED).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hikaricp.connections.usage").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중첩된 유스케이스는 닫힐 때 바깥 유스케이스로 복원된다")
+    void nestedScope_restoresPrevious() {
+        try (ConnectionUseCase.Scope outer = ConnectionUseCase.open("OrderFacade.createOrder")) {
+            try (ConnectionUseCase.Scope inner = ConnectionUseCase.open("payment.card.read")) {
+                assertThat(ConnectionUseCase.current()).isEqualTo("payment.card.read");
+            }
+            assertThat(ConnectionUseCase.current()).isEqualTo("OrderFacade.createOrder");
+        }
+        assertThat(ConnectionUseCase.isOpen()).isFalse();
+    }
+
+    private static PoolStats emptyPoolStats() {
+        return new PoolStats(0) {
+            @Override
+            protected void update() {
+            }
+        };
+    }
+}
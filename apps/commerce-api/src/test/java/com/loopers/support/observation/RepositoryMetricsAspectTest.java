@@ -0,0 +1,96 @@
+package com.loopers.support.observation;
+
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.infrastructure.product.ProductRepositoryImpl;
+import com.loopers.support.jdbc.ConnectionUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class RepositoryMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProductJpaRepository productJpaRepository = mock(ProductJpaRepository.class);
+
+    private ProductRepositoryImpl productRepository;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ProductRepositoryImpl(productJpaRepository));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new RepositoryMetricsAspect(meterRegistry));
+        productRepository = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Repository 호출은 구현체, 메서드, 유스케이스 태그로 호출 수와 지연이 기록되고, 락 조회가 아니면 락 대기는 기록되지 않는다")
+    void recordQuery_taggedByRepositoryAndUseCase() {
+        // given
+        given(productJpaRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        try (ConnectionUseCase.Scope ignored = ConnectionUseCase.open("ProductFacade.getProductDetail")) {
+            productRepository.findById(1L);
+            productRepository.findById(1L);
+        }
+
+        // then
+        assertThat(meterRegistry.get(RepositoryMetricsAspect.QUERY_TIMER)
+                .tag("repository", "ProductRepositoryImpl")
+                .tag("method", "findById")
+                .tag("usecase", "ProductFacade.getProductDetail")
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.find(RepositoryMetricsAspect.LOCK_WAIT_TIMER).timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("@LockingQuery 메서드는 락 대기 시간도 함께 기록된다")
+    void recordLockWait_forLockingQuery() {
+        // given
+        given(productJpaRepository.findAllByIdInWithLock(List.of(1L, 2L))).willReturn(List.<Product>of());
+
+        // when
+        try (ConnectionUseCase.Scope ignored = ConnectionUseCase.open("OrderFacade.createOrder")) {
+            productRepository.findAllByIdWithLock(List.of(1L, 2L));
+        }
+
+        // then
+        assertThat(meterRegistry.get(RepositoryMetricsAspect.LOCK_WAIT_TIMER)
+                .tag("repository", "ProductRepositoryImpl")
+                .tag("method", "findAllByIdWithLock")
+                .tag("usecase", "OrderFacade.createOrder")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외가 발생하면 outcome=error 로 기록하고 예외를 그대로 전달한다")
+    void recordQuery_error() {
+        // given
+        given(productJpaRepository.findByIdWithLock(1L)).willThrow(new IllegalStateException("lock timeout"));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> productRepository.findByIdWithLock(1L));
+
+        // then
+        assertThat(meterRegistry.get(RepositoryMetricsAspect.QUERY_TIMER)
+                .tag("method", "findByIdWithLock")
+                .tag("usecase", ConnectionUseCase.UNSPECIFIED)
+                .tag("outcome", "error")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(RepositoryMetricsAspect.LOCK_WAIT_TIMER)
+                .tag("method", "findByIdWithLock")
+                .timer().count()).isEqualTo(1);
+    }
+}
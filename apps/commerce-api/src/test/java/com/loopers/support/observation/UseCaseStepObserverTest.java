@@ -0,0 +1,60 @@
+package com.loopers.support.observation;
+
+import com.loopers.support.jdbc.ConnectionUseCase;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UseCaseStepObserverTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UseCaseStepObserver stepObserver = new UseCaseStepObserver(observationRegistry(meterRegistry));
+
+    @Test
+    @DisplayName("단계 실행 시간이 현재 유스케이스와 단계 이름 태그로 기록되고, 결과를 그대로 반환한다")
+    void observe_taggedByUseCaseAndStep() {
+        // when
+        String result;
+        try (ConnectionUseCase.Scope ignored = ConnectionUseCase.open("OrderFacade.createOrder")) {
+            result = stepObserver.observe("product-lock", () -> "locked");
+            stepObserver.observe("outbox", () -> { });
+        }
+
+        // then
+        assertThat(result).isEqualTo("locked");
+        assertThat(meterRegistry.get(UseCaseStepObserver.STEP_OBSERVATION)
+                .tag("usecase", "OrderFacade.createOrder")
+                .tag("step", "product-lock")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(UseCaseStepObserver.STEP_OBSERVATION)
+                .tag("step", "outbox")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단계에서 예외가 발생하면 error 태그로 기록하고 예외를 그대로 전달한다")
+    void observe_error() {
+        // when
+        assertThrows(IllegalStateException.class, () -> stepObserver.observe("payment", () -> {
+            throw new IllegalStateException("결제 실패");
+        }));
+
+        // then
+        assertThat(meterRegistry.get(UseCaseStepObserver.STEP_OBSERVATION)
+                .tag("usecase", ConnectionUseCase.UNSPECIFIED)
+                .tag("step", "payment")
+                .tag("error", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private static ObservationRegistry observationRegistry(SimpleMeterRegistry meterRegistry) {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        return registry;
+    }
+}
@@ -0,0 +1,115 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메트릭 Upsert 벤치마크 - 행 단위 batchUpdate 대비 multi-row Upsert (MySQL 컨테이너)
+ * - multiRowUpsert: 테이블당 VALUES ROW / 행 별칭 multi-row INSERT 한 문장 (max-packet-bytes 기준 청크)
+ * - rowBatchUpdate: 변경 전 경로 - 메트릭 유형별·테이블별 batchUpdate (VALUES() 함수)
+ * - 두 테이블 반영을 한 트랜잭션으로 실행하며, 첫 호출 이후에는 모두 기존 행 갱신 경로
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsUpsertBenchmark {
+
+    private static final String LEGACY_METRICS_UPSERT = """
+            INSERT INTO product_metrics
+                (product_id, like_count, order_count, view_count, total_order_quantity, created_at, updated_at)
+            VALUES (?, GREATEST(?, 0), 0, 0, 0, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+                like_count = like_count + VALUES(like_count),
+                updated_at = NOW()
+            """;
+    private static final String LEGACY_DAILY_UPSERT = """
+            INSERT INTO product_metrics_daily
+                (product_id, metric_date, like_delta, view_delta, order_delta, is_processed, created_at, updated_at)
+            VALUES (?, ?, ?, 0, 0, FALSE, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+                like_delta = like_delta + VALUES(like_delta),
+                updated_at = NOW()
+            """;
+
+    @Param({"100", "1000", "3000"})
+    private int productCount;
+
+    private ConfigurableApplicationContext context;
+    private ProductMetricsWriter productMetricsWriter;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    private List<ProductMetricsDelta> deltas;
+    private LocalDate metricDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        productMetricsWriter = context.getBean(ProductMetricsWriter.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        deltas = new ArrayList<>(productCount);
+        for (long productId = 1; productId <= productCount; productId++) {
+            deltas.add(ProductMetricsDelta.ofLike(productId, 3));
+        }
+        metricDate = LocalDate.now();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void multiRowUpsert() {
+        transactionTemplate.executeWithoutResult(status -> {
+            productMetricsWriter.upsertMetrics(deltas);
+            productMetricsWriter.upsertDailyMetrics(deltas, metricDate);
+        });
+    }
+
+    @Benchmark
+    public void rowBatchUpdate() {
+        transactionTemplate.executeWithoutResult(status -> {
+            legacyBatch(LEGACY_METRICS_UPSERT, null);
+            legacyBatch(LEGACY_DAILY_UPSERT, metricDate);
+        });
+    }
+
+    private void legacyBatch(String sql, LocalDate date) {
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProductMetricsDelta delta = deltas.get(i);
+                int index = 1;
+                ps.setLong(index++, delta.productId());
+                if (date != null) {
+                    ps.setDate(index++, Date.valueOf(date));
+                }
+                ps.setInt(index, delta.likeDelta());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+}
@@ -1,20 +1,23 @@
 package com.loopers.application.metrics;
 
 import com.loopers.domain.metrics.ProductMetrics;
+import com.loopers.domain.metrics.ProductMetricsDelta;
 import com.loopers.domain.metrics.ProductMetricsRepository;
+import com.loopers.domain.metrics.ProductMetricsWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProductMetricsFacade {
     private final ProductMetricsRepository productMetricsRepository;
+    private final ProductMetricsWriter productMetricsWriter;
 
     @Transactional
     public void incrementLikeCount(Long productId) {
@@ -40,19 +43,13 @@ public class ProductMetricsFacade {
         metrics.incrementViewCount();
     }
 
+    /**
+     * 좋아요/조회/주문 증감 배치 업데이트 (multi-row Upsert)
+     * 상위 트랜잭션에 참여하여 원자성 보장
+     */
     @Transactional(propagation = Propagation.REQUIRED)
-    public void updateLikeCountBatch(Map<Long, Integer> likeDeltas) {
-        productMetricsRepository.upsertLikeDeltas(likeDeltas);
-    }
-
-    @Transactional(propagation = Propagation.REQUIRED)
-    public void updateViewCountBatch(Map<Long, Integer> viewDeltas) {
-        productMetricsRepository.upsertViewDeltas(viewDeltas);
-    }
-
-    @Transactional(propagation = Propagation.REQUIRED)
-    public void updateOrderMetricsBatch(Map<Long, com.loopers.application.order.OrderMetrics> orderMetrics) {
-        productMetricsRepository.upsertOrderDeltas(orderMetrics);
+    public void updateMetricsBatch(List<ProductMetricsDelta> deltas) {
+        productMetricsWriter.upsertMetrics(deltas);
     }
 
     private ProductMetrics getOrCreateMetrics(Long productId) {
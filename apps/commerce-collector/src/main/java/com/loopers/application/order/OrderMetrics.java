@@ -1,27 +1,37 @@
 package com.loopers.application.order;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
+import com.loopers.kafka.collection.LongIntHashMap;
 
 /**
  * 주문 메트릭 집계 데이터
  * - orderCount: 주문 건수 (해당 상품이 포함된 주문의 개수)
  * - totalQuantity: 총 주문 수량 (해당 상품의 총 수량)
+ * - 상품 ID별 건수/수량을 원시 타입 맵에 누적하여 항목마다 객체를 만들지 않는다.
  */
-@Getter
-@AllArgsConstructor
 public class OrderMetrics {
-    private final int orderCount;
-    private final int totalQuantity;
+    private final LongIntHashMap orderCounts = new LongIntHashMap();
+    private final LongIntHashMap totalQuantities = new LongIntHashMap();
 
-    public static OrderMetrics of(int orderCount, int totalQuantity) {
-        return new OrderMetrics(orderCount, totalQuantity);
+    public void add(long productId, int quantity) {
+        orderCounts.addTo(productId, 1);              // 주문 건수 +1
+        totalQuantities.addTo(productId, quantity);   // 수량 증가
     }
 
-    public OrderMetrics add(int quantity) {
-        return new OrderMetrics(
-            this.orderCount + 1,           // 주문 건수 +1
-            this.totalQuantity + quantity  // 수량 증가
-        );
+    public int size() {
+        return orderCounts.size();
     }
-}
\ No newline at end of file
+
+    public boolean isEmpty() {
+        return orderCounts.isEmpty();
+    }
+
+    public void forEach(ProductOrderMetricsConsumer consumer) {
+        orderCounts.forEach((productId, orderCount) ->
+                consumer.accept(productId, orderCount, totalQuantities.get(productId)));
+    }
+
+    @FunctionalInterface
+    public interface ProductOrderMetricsConsumer {
+        void accept(long productId, int orderCount, int totalQuantity);
+    }
+}
@@ -0,0 +1,208 @@
+package com.loopers.application.pipeline;
+
+import com.loopers.application.eventhandled.EventHandledFacade;
+import com.loopers.application.eventhandled.EventHandledInfo;
+import com.loopers.application.metrics.ProductMetricsDailyFacade;
+import com.loopers.application.metrics.ProductMetricsFacade;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 메트릭 배치 처리 파이프라인
+ *
+ * 단계:
+ * 1. dedupe    - 배치 전체의 eventId 중복 제거 후 청크(metrics.pipeline.chunk-size)로 분할
+ * 2. lookup    - 청크의 eventId 로 event_handled 조회
+ * 3. aggregate - 이벤트 유형별 증감량 집계
+ * 4. write     - product_metrics / product_metrics_daily Upsert + event_handled 기록
+ *
+ * 청크 단위 겹침:
+ * - 청크 N 을 쓰는 동안 청크 N+1 의 처리 이력 조회를 파이프라인 스레드에서 미리 실행 (리스너 스레드당 최대 1건)
+ * - 중복 제거를 분할 전에 배치 전체에 대해 하므로 청크끼리 eventId 가 겹치지 않아,
+ *   청크 N 의 쓰기 커밋 여부와 관계없이 청크 N+1 의 조회 결과가 같다
+ * - 쓰기는 호출 스레드에서 청크 순서대로 실행하고, 모든 청크가 커밋된 뒤에 반환 (Consumer 는 반환 후 ack)
+ * - 중간 청크 실패 시 이전 청크는 커밋된 상태로 예외를 던지고, 재처리 시 event_handled 조회로 건너뛴다
+ *
+ * - 메트릭 반영과 처리 완료 기록은 멱등성 보장을 위해 청크마다 하나의 트랜잭션으로 묶는다
+ * - 단계별 소요 시간은 collector.batch.pipeline.stage 타이머로 기록 (pipeline, stage 태그, 청크마다 기록)
+ */
+@Slf4j
+@Component
+public class MetricsBatchPipeline {
+
+    static final String STAGE_TIMER = "collector.batch.pipeline.stage";
+
+    private final EventHandledFacade eventHandledFacade;
+    private final ProductMetricsFacade productMetricsFacade;
+    private final ProductMetricsDailyFacade productMetricsDailyFacade;
+    private final TransactionTemplate transactionTemplate;
+    private final Meter.MeterProvider<Timer> stageTimer;
+    private final Executor pipelineExecutor;
+    private final int chunkSize;
+
+    public MetricsBatchPipeline(
+            EventHandledFacade eventHandledFacade,
+            ProductMetricsFacade productMetricsFacade,
+            ProductMetricsDailyFacade productMetricsDailyFacade,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Qualifier("pipelineExecutor") Executor pipelineExecutor,
+            @Value("${metrics.pipeline.chunk-size:500}") int chunkSize
+    ) {
+        this.eventHandledFacade = eventHandledFacade;
+        this.productMetricsFacade = productMetricsFacade;
+        this.productMetricsDailyFacade = productMetricsDailyFacade;
+        this.transactionTemplate = transactionTemplate;
+        this.stageTimer = Timer.builder(STAGE_TIMER)
+                .description("Collector 메트릭 배치 파이프라인 단계별 소요 시간")
+                .withRegistry(meterRegistry);
+        this.pipelineExecutor = pipelineExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    public <E> void process(List<E> events, MetricsEventProcessor<E> processor) {
+        // 자정 경계 문제 방지: 배치 시작 시점의 날짜를 캡처하여 일관성 보장
+        LocalDate processingDate = LocalDate.now();
+        String displayName = processor.displayName();
+        Map<String, Long> stageMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        try {
+            log.info("{} 배치 처리 시작 - 전체 이벤트 수: {}, 처리 날짜: {}",
+                    displayName, events.size(), processingDate);
+
+            // 1. 배치 전체 중복 제거 후 청크 분할
+            Map<String, E> uniqueEvents = timed(processor, "dedupe", stageMillis,
+                    () -> removeDuplicates(events, processor));
+            List<List<E>> chunks = partition(List.copyOf(uniqueEvents.values()));
+            if (chunks.isEmpty()) {
+                log.info("처리할 {} 이벤트 없음", displayName);
+                return;
+            }
+
+            // 2~4. 첫 청크는 바로 조회하고, 이후 청크 N 쓰기와 청크 N+1 처리 이력 조회를 겹쳐 실행
+            int processed = 0;
+            CompletableFuture<Set<String>> lookup = CompletableFuture.completedFuture(
+                    lookup(chunks.get(0), processor, stageMillis));
+            for (int i = 0; i < chunks.size(); i++) {
+                Set<String> handledEventIds = lookup.join();
+                if (i + 1 < chunks.size()) {
+                    List<E> next = chunks.get(i + 1);
+                    lookup = CompletableFuture.supplyAsync(() -> lookup(next, processor, stageMillis), pipelineExecutor);
+                }
+                processed += writeChunk(chunks.get(i), handledEventIds, processor, processingDate, stageMillis);
+            }
+
+            if (processed == 0) {
+                log.info("처리할 {} 이벤트 없음 (모두 중복이거나 증감량 없음)", displayName);
+                return;
+            }
+
+            log.info("{} 배치 처리 완료 - 전체: {}, 실제 처리: {}, 청크: {}, 단계별 소요(ms): {}",
+                    displayName, events.size(), processed, chunks.size(), stageMillis);
+
+        } catch (Exception e) {
+            log.error("{} 배치 처리 실패 - 실패한 청크 트랜잭션 롤백됨 | 이벤트 수: {}", displayName, events.size(), e);
+            throw new RuntimeException(displayName + " 배치 처리 실패", e);
+        }
+    }
+
+    private <E> Set<String> lookup(List<E> chunk, MetricsEventProcessor<E> processor, Map<String, Long> stageMillis) {
+        List<String> eventIds = new ArrayList<>(chunk.size());
+        for (E event : chunk) {
+            eventIds.add(processor.eventId(event));
+        }
+        return timed(processor, "lookup", stageMillis,
+                () -> eventHandledFacade.findAlreadyHandledEventIds(eventIds));
+    }
+
+    /**
+     * 청크 하나의 미처리 이벤트를 집계해 한 트랜잭션으로 반영
+     * @return 반영한 이벤트 수
+     */
+    private <E> int writeChunk(List<E> chunk, Set<String> handledEventIds, MetricsEventProcessor<E> processor,
+                               LocalDate processingDate, Map<String, Long> stageMillis) {
+        List<E> newEvents = new ArrayList<>(chunk.size());
+        for (E event : chunk) {
+            if (!handledEventIds.contains(processor.eventId(event))) {
+                newEvents.add(event);
+            }
+        }
+        if (newEvents.isEmpty()) {
+            return 0;
+        }
+
+        List<ProductMetricsDelta> deltas = timed(processor, "aggregate", stageMillis,
+                () -> processor.aggregate(newEvents));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        timed(processor, "write", stageMillis, () -> {
+            transactionTemplate.executeWithoutResult(status ->
+                    write(deltas, processor.toHandledInfos(newEvents), processingDate));
+            return null;
+        });
+        return newEvents.size();
+    }
+
+    private void write(List<ProductMetricsDelta> deltas,
+                       List<EventHandledInfo> handledInfos,
+                       LocalDate processingDate) {
+        productMetricsFacade.updateMetricsBatch(deltas);
+        productMetricsDailyFacade.updateMetricsBatch(deltas, processingDate);
+        eventHandledFacade.markAsHandledBatch(handledInfos);
+        log.debug("청크 반영 완료 - 상품 수: {}, 이벤트 수: {}, 처리 날짜: {}",
+                deltas.size(), handledInfos.size(), processingDate);
+    }
+
+    private <E> List<List<E>> partition(List<E> events) {
+        List<List<E>> chunks = new ArrayList<>((events.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < events.size(); from += chunkSize) {
+            chunks.add(events.subList(from, Math.min(from + chunkSize, events.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 배치 내 중복 제거 (먼저 들어온 이벤트 유지, 순서 보존)
+     */
+    private <E> Map<String, E> removeDuplicates(List<E> events, MetricsEventProcessor<E> processor) {
+        Map<String, E> uniqueEvents = new LinkedHashMap<>();
+        for (E event : events) {
+            uniqueEvents.putIfAbsent(processor.eventId(event), event);
+        }
+        return uniqueEvents;
+    }
+
+    private <T> T timed(MetricsEventProcessor<?> processor, String stage,
+                        Map<String, Long> stageMillis, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            stageTimer.withTags("pipeline", processor.name(), "stage", stage)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            stageMillis.merge(stage, TimeUnit.NANOSECONDS.toMillis(elapsed), Long::sum);
+        }
+    }
+}
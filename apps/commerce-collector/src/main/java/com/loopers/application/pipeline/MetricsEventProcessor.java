@@ -0,0 +1,38 @@
+package com.loopers.application.pipeline;
+
+import com.loopers.application.eventhandled.EventHandledInfo;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 메트릭 배치 파이프라인에 연결되는 이벤트 유형별 처리기
+ * - 처리 이력 조회, 중복 제거, 메트릭 반영, 처리 완료 기록은 {@link MetricsBatchPipeline}이 담당
+ * - 이벤트 유형별로 다른 부분(ID 추출, 증감량 집계, 처리 이력 정보)만 구현한다
+ */
+public interface MetricsEventProcessor<E> {
+
+    /**
+     * 파이프라인 이름 (메트릭 태그로 사용, 예: like / view / order)
+     */
+    String name();
+
+    /**
+     * 로그에 표시할 이름 (예: 좋아요)
+     */
+    String displayName();
+
+    String eventId(E event);
+
+    /**
+     * 중복이 제거된 미처리 이벤트로 상품별 메트릭 증감량 집계
+     * @return 반영할 증감량 (비어 있으면 메트릭 반영과 처리 완료 기록을 생략)
+     */
+    List<ProductMetricsDelta> aggregate(Collection<E> events);
+
+    /**
+     * 처리 완료로 기록할 이벤트 정보
+     */
+    List<EventHandledInfo> toHandledInfos(Collection<E> events);
+}
@@ -1,120 +1,58 @@
 package com.loopers.application.product;
 
-import com.loopers.application.eventhandled.EventHandledFacade;
 import com.loopers.application.eventhandled.EventHandledInfo;
-import com.loopers.application.metrics.ProductMetricsDailyFacade;
-import com.loopers.application.metrics.ProductMetricsFacade;
+import com.loopers.application.pipeline.MetricsBatchPipeline;
+import com.loopers.application.pipeline.MetricsEventProcessor;
+import com.loopers.domain.metrics.ProductMetricsDelta;
 import com.loopers.interfaces.consumer.product.dto.ProductEvent;
 import com.loopers.kafka.AggregateTypes;
 import com.loopers.kafka.KafkaTopics;
+import com.loopers.kafka.collection.LongIntHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ProductBatchEventHandler {
+public class ProductBatchEventHandler implements MetricsEventProcessor<ProductEvent> {
 
-    private final EventHandledFacade eventHandledFacade;
-    private final ProductMetricsFacade productMetricsFacade;
-    private final ProductMetricsDailyFacade productMetricsDailyFacade;
+    private final MetricsBatchPipeline metricsBatchPipeline;
 
-    @Transactional
     public void handleProductViewBatch(List<ProductEvent> events) {
-        // 자정 경계 문제 방지: 트랜잭션 시작 시점의 날짜를 캡처하여 일관성 보장
-        LocalDate processingDate = LocalDate.now();
-
-        try {
-            log.info("상품 조회 이벤트 배치 처리 시작 - 전체 이벤트 수: {}, 처리 날짜: {}",
-                events.size(), processingDate);
-
-            List<ProductEvent> unprocessedEvents = filterUnprocessedEvents(events);
-
-            if (unprocessedEvents.isEmpty()) {
-                log.info("처리할 이벤트 없음 (모두 중복)");
-                return;
-            }
-
-            Map<String, ProductEvent> uniqueEvents = removeDuplicates(unprocessedEvents);
-            Map<Long, Integer> viewDeltas = calculateViewDeltas(uniqueEvents.values());
-
-            log.info("증감량 계산 완료 - 처리 대상 상품 수: {}", viewDeltas.size());
-
-            updateMetrics(viewDeltas, processingDate);
-            markEventsAsHandled(uniqueEvents.values());
-
-        } catch(Exception e) {
-            log.error("상품 조회 이벤트 처리 실패 - 전체 트랜잭션 롤백됨 | 이벤트 수: {}", events.size(), e);
-            throw new RuntimeException("상품 조회 이벤트 배치 처리 실패", e);
-        }
+        metricsBatchPipeline.process(events, this);
     }
 
-    private List<ProductEvent> filterUnprocessedEvents(List<ProductEvent> events) {
-        // N+1 방지: 한 번의 쿼리로 모든 처리된 이벤트 ID 조회
-        List<String> eventIds = events.stream()
-                .map(ProductEvent::eventId)
-                .collect(Collectors.toList());
-
-        Set<String> handledEventIds = eventHandledFacade.findAlreadyHandledEventIds(eventIds);
-
-        return events.stream()
-                .filter(event -> !handledEventIds.contains(event.eventId()))
-                .collect(Collectors.toList());
-    }
-
-    private Map<String, ProductEvent> removeDuplicates(List<ProductEvent> events) {
-        return events.stream()
-                .collect(Collectors.toMap(
-                        ProductEvent::eventId,
-                        event -> event,
-                        (existing, replacement) -> existing
-                ));
+    @Override
+    public String name() {
+        return "view";
     }
 
-    private Map<Long, Integer> calculateViewDeltas(Iterable<ProductEvent> events) {
-        Map<Long, Integer> viewDeltas = new HashMap<>();
-
-        for(ProductEvent event : events) {
-            int delta = calculateDelta(event.eventType());
-            viewDeltas.merge(event.productId(), delta, Integer::sum);
-        }
-
-        return viewDeltas;
+    @Override
+    public String displayName() {
+        return "상품 조회 이벤트";
     }
 
-    private int calculateDelta(String eventType) {
-
-        if(KafkaTopics.ProductDetail.PRODUCT_VIEWED.equals(eventType)) {
-            return 1;
-        }
-        return 0;
+    @Override
+    public String eventId(ProductEvent event) {
+        return event.eventId();
     }
 
-    private void updateMetrics(Map<Long, Integer> viewDeltas, LocalDate processingDate) {
-        productMetricsFacade.updateViewCountBatch(viewDeltas);
-        log.info("ProductMetrics 업데이트 완료");
-
-        productMetricsDailyFacade.updateViewDeltaBatch(viewDeltas, processingDate);
-        log.info("ProductMetricsDaily 업데이트 완료 - 처리 날짜: {}", processingDate);
-    }
+    @Override
+    public List<ProductMetricsDelta> aggregate(Collection<ProductEvent> events) {
+        LongIntHashMap viewDeltas = calculateViewDeltas(events);
 
-    private void markEventsAsHandled(Iterable<ProductEvent> events) {
-        List<EventHandledInfo> eventHandledInfos = createEventHandledInfos(events);
-        eventHandledFacade.markAsHandledBatch(eventHandledInfos);
-        log.info("이벤트 처리 완료 기록");
+        List<ProductMetricsDelta> deltas = new ArrayList<>(viewDeltas.size());
+        viewDeltas.forEach((productId, delta) -> deltas.add(ProductMetricsDelta.ofView(productId, delta)));
+        return deltas;
     }
 
-    private List<EventHandledInfo> createEventHandledInfos(Iterable<ProductEvent> events) {
+    @Override
+    public List<EventHandledInfo> toHandledInfos(Collection<ProductEvent> events) {
         List<EventHandledInfo> infos = new ArrayList<>();
         for(ProductEvent event : events) {
             infos.add(EventHandledInfo.of(
@@ -127,4 +65,26 @@ public class ProductBatchEventHandler {
 
         return infos;
     }
+
+    private LongIntHashMap calculateViewDeltas(Iterable<ProductEvent> events) {
+        LongIntHashMap viewDeltas = new LongIntHashMap();
+
+        for(ProductEvent event : events) {
+            int delta = calculateDelta(event);
+            viewDeltas.addTo(event.productId(), delta);
+        }
+
+        return viewDeltas;
+    }
+
+    /**
+     * PRODUCT_VIEWED 이벤트는 담고 있는 조회 수만큼 증가
+     */
+    private int calculateDelta(ProductEvent event) {
+
+        if(KafkaTopics.ProductDetail.PRODUCT_VIEWED.equals(event.eventType())) {
+            return event.viewCount();
+        }
+        return 0;
+    }
 }
@@ -1,5 +1,7 @@
 package com.loopers.application.ranking;
 
+import com.loopers.kafka.collection.LongDoubleHashMap;
+import com.loopers.kafka.collection.LongIntHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,7 +14,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -38,6 +40,10 @@ public class RankingFacade {
     private static final String VIEW_RANKING_KEY_PREFIX = "ranking:view";
     private static final String ORDER_RANKING_KEY_PREFIX = "ranking:order";
     private static final String ALL_RANKING_KEY_PREFIX = "ranking:all";
+    // commerce-api ProductUniqueViewRepositoryImpl 이 PFADD 하는 상품별 일자별 고유 조회자 HyperLogLog
+    private static final String UNIQUE_VIEW_KEY_PREFIX = "product:uv";
+    // 일자별 상품별 조회 랭킹에 반영된 고유 조회자 수 (Hash, field = 상품 ID)
+    private static final String UNIQUE_VIEW_APPLIED_KEY_PREFIX = "product:uv:applied";
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
@@ -45,7 +51,7 @@ public class RankingFacade {
      * 좋아요 랭킹 증분 업데이트 (가중치 적용)
      * - Score = delta × 0.2
      */
-    public void incrementProductLikeRanking(Map<Long, Integer> likeDeltas) {
+    public void incrementProductLikeRanking(LongIntHashMap likeDeltas) {
         incrementRanking(LIKE_RANKING_KEY_PREFIX, likeDeltas, likeWeight);
     }
 
@@ -53,15 +59,84 @@ public class RankingFacade {
      * 조회수 랭킹 증분 업데이트 (가중치 적용)
      * - Score = delta × 0.1
      */
-    public void incrementProductViewRanking(Map<Long, Integer> viewDeltas) {
+    public void incrementProductViewRanking(LongIntHashMap viewDeltas) {
         incrementRanking(VIEW_RANKING_KEY_PREFIX, viewDeltas, viewWeight);
     }
 
+    /**
+     * 고유 조회자 수 기반 조회 증감량
+     * - 증감량 = 메트릭 일자의 고유 조회자 수(PFCOUNT) - 이미 반영한 고유 조회자 수(HGET product:uv:applied:{date})
+     * - 반영 수는 랭킹 점수에서 역산하지 않고 별도 Hash 에 보관 (가중치 변경, 반올림 오차, 자정 이후 처리와 무관)
+     * - 랭킹 반영 후 markUniqueViewsApplied 로 반영 수를 갱신해야 다음 계산에서 제외됨
+     * - 상품별 PFCOUNT/HGET 을 pipeline 한 번으로 조회
+     * @param viewedProducts 직전 처리 이후 조회가 있었던 상품 (값은 사용하지 않음)
+     * @param metricDate 조회 증감 레코드의 메트릭 일자 - 자정을 넘겨 처리해도 레코드와 같은 일자의 HyperLogLog 를 읽음
+     * @return 상품별 고유 조회자 증감량 (0 제외)
+     */
+    public LongIntHashMap calculateUniqueViewDeltas(LongIntHashMap viewedProducts, LocalDate metricDate) {
+        if (viewedProducts == null || viewedProducts.isEmpty()) {
+            return new LongIntHashMap();
+        }
+
+        String date = metricDate.format(DATE_FORMATTER);
+        String appliedKey = UNIQUE_VIEW_APPLIED_KEY_PREFIX + ":" + date;
+        String uniqueViewKeyPrefix = UNIQUE_VIEW_KEY_PREFIX + ":" + date + ":";
+
+        long[] productIds = new long[viewedProducts.size()];
+        int[] index = {0};
+        viewedProducts.forEach((productId, delta) -> productIds[index[0]++] = productId);
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (long productId : productIds) {
+                    operations.opsForHyperLogLog().size(uniqueViewKeyPrefix + productId);
+                    operations.opsForHash().get(appliedKey, Long.toString(productId));
+                }
+                return null;
+            }
+        });
+
+        LongIntHashMap uniqueViewDeltas = new LongIntHashMap(productIds.length);
+        for (int i = 0; i < productIds.length; i++) {
+            long uniqueViewers = results.get(i * 2) instanceof Number count ? count.longValue() : 0L;
+            long applied = toLong(results.get(i * 2 + 1));
+
+            int delta = Math.toIntExact(uniqueViewers - applied);
+            if (delta != 0) {
+                uniqueViewDeltas.addTo(productIds[i], delta);
+            }
+        }
+        return uniqueViewDeltas;
+    }
+
+    /**
+     * 조회 랭킹에 반영한 고유 조회자 증감량을 반영 수 Hash 에 누적 (HINCRBY)
+     * - 랭킹 반영이 성공한 뒤 호출 - 반영 전에 실패하면 다음 주기에 같은 증감량을 다시 계산
+     * - 랭킹 키와 같은 TTL 로 만료
+     */
+    public void markUniqueViewsApplied(LongIntHashMap uniqueViewDeltas, LocalDate metricDate) {
+        if (uniqueViewDeltas == null || uniqueViewDeltas.isEmpty()) {
+            return;
+        }
+
+        String appliedKey = UNIQUE_VIEW_APPLIED_KEY_PREFIX + ":" + metricDate.format(DATE_FORMATTER);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                uniqueViewDeltas.forEach((productId, delta) ->
+                        operations.opsForHash().increment(appliedKey, Long.toString(productId), delta));
+                operations.expire(appliedKey, rankingTtlDays, TimeUnit.DAYS);
+                return null;
+            }
+        });
+    }
+
     /**
      * 주문 랭킹 증분 업데이트 (가중치 적용)
      * - Score = delta × 0.6
      */
-    public void incrementProductOrderRanking(Map<Long, Integer> orderDeltas) {
+    public void incrementProductOrderRanking(LongIntHashMap orderDeltas) {
         incrementRanking(ORDER_RANKING_KEY_PREFIX, orderDeltas, orderWeight);
     }
 
@@ -69,7 +144,7 @@ public class RankingFacade {
      * 종합 랭킹 증분 업데이트 (가중치 합산)
      * - Score = (likeDelta × 0.2) + (viewDelta × 0.1) + (orderDelta × 0.6)
      */
-    public void incrementProductAllRanking(Map<Long, Double> compositeScores) {
+    public void incrementProductAllRanking(LongDoubleHashMap compositeScores) {
         incrementRankingWithCompositeScores(ALL_RANKING_KEY_PREFIX, compositeScores);
     }
 
@@ -79,7 +154,7 @@ public class RankingFacade {
      * @param deltas 상품별 증감량
      * @param weight 가중치 (0.0 ~ 1.0)
      */
-    private void incrementRanking(String prefix, Map<Long, Integer> deltas, double weight) {
+    private void incrementRanking(String prefix, LongIntHashMap deltas, double weight) {
         if (deltas == null || deltas.isEmpty()) {
             log.warn("증감량 없음, {} 랭킹 갱신 스킵", prefix);
             return;
@@ -93,13 +168,13 @@ public class RankingFacade {
                 public Object execute(RedisOperations operations) throws DataAccessException {
                     ZSetOperations<String, String> zSetOps = operations.opsForZSet();
 
-                    for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
-                        if (entry.getValue() == 0) continue;
+                    deltas.forEach((productId, delta) -> {
+                        if (delta == 0) return;
 
                         // 가중치 적용: score = delta × weight
-                        double score = entry.getValue() * weight;
-                        zSetOps.incrementScore(todayKey, entry.getKey().toString(), score);
-                    }
+                        double score = delta * weight;
+                        zSetOps.incrementScore(todayKey, Long.toString(productId), score);
+                    });
 
                     operations.expire(todayKey, rankingTtlDays, TimeUnit.DAYS);
                     return null;
@@ -118,9 +193,9 @@ public class RankingFacade {
     /**
      * 종합 점수로 랭킹 증분 업데이트 (가중치 이미 적용된 점수)
      * @param prefix 랭킹 키 prefix
-     * @param compositeScores 상품별 종합 점수 (Double)
+     * @param compositeScores 상품별 종합 점수 (double)
      */
-    private void incrementRankingWithCompositeScores(String prefix, Map<Long, Double> compositeScores) {
+    private void incrementRankingWithCompositeScores(String prefix, LongDoubleHashMap compositeScores) {
         if (compositeScores == null || compositeScores.isEmpty()) {
             log.warn("종합 점수 없음, {} 랭킹 갱신 스킵", prefix);
             return;
@@ -134,11 +209,11 @@ public class RankingFacade {
                 public Object execute(RedisOperations operations) throws DataAccessException {
                     ZSetOperations<String, String> zSetOps = operations.opsForZSet();
 
-                    for (Map.Entry<Long, Double> entry : compositeScores.entrySet()) {
-                        if (entry.getValue() == 0.0) continue;
+                    compositeScores.forEach((productId, score) -> {
+                        if (score == 0.0) return;
 
-                        zSetOps.incrementScore(todayKey, entry.getKey().toString(), entry.getValue());
-                    }
+                        zSetOps.incrementScore(todayKey, Long.toString(productId), score);
+                    });
 
                     operations.expire(todayKey, rankingTtlDays, TimeUnit.DAYS);
                     return null;
@@ -153,4 +228,11 @@ public class RankingFacade {
             throw new RuntimeException("랭킹 증분 업데이트 실패: " + todayKey, e);
         }
     }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
 }
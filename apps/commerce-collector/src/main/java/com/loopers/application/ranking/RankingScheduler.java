@@ -2,6 +2,8 @@ package com.loopers.application.ranking;
 
 import com.loopers.domain.metrics.ProductMetricsDaily;
 import com.loopers.domain.metrics.ProductMetricsDailyRepository;
+import com.loopers.kafka.collection.LongDoubleHashMap;
+import com.loopers.kafka.collection.LongIntHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,12 +12,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.ToIntFunction;
 
 @Slf4j
 @Component
@@ -31,6 +29,9 @@ public class RankingScheduler {
     @Value("${ranking.weight.order:0.6}")
     private double orderWeight;
 
+    @Value("${ranking.view-source:RAW}")
+    private ViewRankingSource viewSource;
+
     private final ProductMetricsDailyRepository productMetricsDailyRepository;
     private final RankingFacade rankingFacade;
 
@@ -38,6 +39,7 @@ public class RankingScheduler {
      * 모든 메트릭 증감량 처리 (5분마다)
      * - is_processed = false인 레코드만 조회
      * - Redis에 증감량 반영 (ZINCRBY)
+     * - ranking.view-source=UNIQUE 이면 조회 증감량 대신 고유 조회자 증감량 사용, 랭킹 반영 후 반영 수 갱신
      * - 처리 완료 후 is_processed = true로 업데이트
      */
     @Scheduled(cron = "0 */5 * * * *")
@@ -55,9 +57,13 @@ public class RankingScheduler {
                 return;
             }
 
-            Map<Long, Integer> likeDeltas = extractDeltas(unprocessedRecords, ProductMetricsDaily::getLikeDelta);
-            Map<Long, Integer> viewDeltas = extractDeltas(unprocessedRecords, ProductMetricsDaily::getViewDelta);
-            Map<Long, Integer> orderDeltas = extractDeltas(unprocessedRecords, ProductMetricsDaily::getOrderDelta);
+            LongIntHashMap likeDeltas = extractDeltas(unprocessedRecords, ProductMetricsDaily::getLikeDelta);
+            LongIntHashMap viewDeltas = extractDeltas(unprocessedRecords, ProductMetricsDaily::getViewDelta);
+            if (viewSource == ViewRankingSource.UNIQUE) {
+                // 조회가 있었던 상품만 고유 조회자 증감량으로 교체
+                viewDeltas = rankingFacade.calculateUniqueViewDeltas(viewDeltas, today);
+            }
+            LongIntHashMap orderDeltas = extractDeltas(unprocessedRecords, ProductMetricsDaily::getOrderDelta);
 
             if (!likeDeltas.isEmpty()) {
                 rankingFacade.incrementProductLikeRanking(likeDeltas);
@@ -69,10 +75,15 @@ public class RankingScheduler {
                 rankingFacade.incrementProductOrderRanking(orderDeltas);
             }
 
-            Map<Long, Double> compositeScores = calculateCompositeScores(likeDeltas, viewDeltas, orderDeltas);
+            LongDoubleHashMap compositeScores =
+                    calculateCompositeScores(likeDeltas, viewDeltas, orderDeltas, unprocessedRecords.size());
             if (!compositeScores.isEmpty()) {
                 rankingFacade.incrementProductAllRanking(compositeScores);
             }
+            if (viewSource == ViewRankingSource.UNIQUE) {
+                // 조회/종합 랭킹 반영 후 반영 수를 갱신해야 다음 주기 증감량에서 빠짐
+                rankingFacade.markUniqueViewsApplied(viewDeltas, today);
+            }
 
             for (ProductMetricsDaily record : unprocessedRecords) {
                 record.markAsProcessed();
@@ -88,44 +99,38 @@ public class RankingScheduler {
         }
     }
 
-    private Map<Long, Integer> extractDeltas(List<ProductMetricsDaily> records,
-                                              java.util.function.Function<ProductMetricsDaily, Integer> deltaExtractor) {
-        return records.stream()
-                .filter(record -> deltaExtractor.apply(record) != 0)
-                .collect(Collectors.toMap(
-                        ProductMetricsDaily::getProductId,
-                        deltaExtractor,
-                        Integer::sum
-                ));
+    /**
+     * 레코드에서 상품별 증감량 추출 (증감량 0은 제외)
+     * - 레코드 수만큼 미리 용량을 잡아 집계 중 rehash가 일어나지 않게 한다
+     */
+    private LongIntHashMap extractDeltas(List<ProductMetricsDaily> records,
+                                         ToIntFunction<ProductMetricsDaily> deltaExtractor) {
+        LongIntHashMap deltas = new LongIntHashMap(records.size());
+        for (ProductMetricsDaily record : records) {
+            int delta = deltaExtractor.applyAsInt(record);
+            if (delta != 0) {
+                deltas.addTo(record.getProductId(), delta);
+            }
+        }
+        return deltas;
     }
 
     /**
      * 종합 점수 계산
      * - Score = (likeDelta * likeWeight) + (viewDelta * viewWeight) + (orderDelta * orderWeight);
+     * - 상품 ID 합집합을 따로 만들지 않고 세 맵의 가중 점수를 한 맵에 누적
+     * - 합산 결과가 0인 상품은 RankingFacade에서 ZINCRBY 대상에서 제외된다
      * @return 상품별 종합 점수
      */
-    private Map<Long, Double> calculateCompositeScores(Map<Long, Integer> likeDeltas,
-                                                        Map<Long, Integer> viewDeltas,
-                                                        Map<Long, Integer> orderDeltas) {
-        Set<Long> allProductIds = Stream.of(
-                likeDeltas.keySet(),
-                viewDeltas.keySet(),
-                orderDeltas.keySet()
-        ).flatMap(Set::stream).collect(Collectors.toSet());
-
-        Map<Long, Double> compositeScores = new HashMap<>();
-
-        for (Long productId : allProductIds) {
-            int likeDelta = likeDeltas.getOrDefault(productId, 0);
-            int viewDelta = viewDeltas.getOrDefault(productId, 0);
-            int orderDelta = orderDeltas.getOrDefault(productId, 0);
-
-            double compositeScore = (likeDelta * likeWeight) + (viewDelta * viewWeight) + (orderDelta * orderWeight);
-
-            if (compositeScore != 0.0) {
-                compositeScores.put(productId, compositeScore);
-            }
-        }
+    private LongDoubleHashMap calculateCompositeScores(LongIntHashMap likeDeltas,
+                                                       LongIntHashMap viewDeltas,
+                                                       LongIntHashMap orderDeltas,
+                                                       int expectedSize) {
+        LongDoubleHashMap compositeScores = new LongDoubleHashMap(expectedSize);
+
+        likeDeltas.forEach((productId, delta) -> compositeScores.addTo(productId, delta * likeWeight));
+        viewDeltas.forEach((productId, delta) -> compositeScores.addTo(productId, delta * viewWeight));
+        orderDeltas.forEach((productId, delta) -> compositeScores.addTo(productId, delta * orderWeight));
 
         return compositeScores;
     }
@@ -0,0 +1,15 @@
+package com.loopers.application.ranking;
+
+/**
+ * 조회 랭킹(ranking:view) 입력값
+ */
+public enum ViewRankingSource {
+    /**
+     * 조회 수 (product_metrics_daily.view_delta)
+     */
+    RAW,
+    /**
+     * 일자별 고유 조회자 수 (product:uv HyperLogLog) - 새로고침/봇 반복 조회는 1회로 집계
+     */
+    UNIQUE
+}
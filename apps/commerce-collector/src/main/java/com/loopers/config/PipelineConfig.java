@@ -0,0 +1,34 @@
+package com.loopers.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 메트릭 배치 파이프라인 전용 스레드 풀 설정
+ *
+ * 리스너 스레드마다 다음 청크의 처리 이력 조회를 최대 1건만 미리 실행하므로 리스너 스레드 수만큼만 둔다:
+ * - 스레드: 9개 (배치 리스너 좋아요/조회/주문 × concurrency 3)
+ * - 큐 용량: 9개
+ * - 거부 정책: CallerRunsPolicy (풀이 가득 차면 리스너 스레드에서 조회, 겹침 없이 순차 처리와 같아짐)
+ */
+@Configuration
+public class PipelineConfig {
+
+    @Bean(name = "pipelineExecutor")
+    public Executor pipelineExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(9);
+        executor.setMaxPoolSize(9);
+        executor.setQueueCapacity(9);
+        executor.setThreadNamePrefix("metrics-pipeline-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
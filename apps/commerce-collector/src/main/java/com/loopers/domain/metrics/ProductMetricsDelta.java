@@ -0,0 +1,39 @@
+package com.loopers.domain.metrics;
+
+/**
+ * 상품별 메트릭 증감량
+ * - 좋아요/조회/주문 증감을 하나의 행으로 묶어 한 번의 Upsert로 반영한다.
+ * - orderCount: 주문 건수, orderQuantity: 주문 수량 (일자별 order_delta는 수량 기준)
+ */
+public record ProductMetricsDelta(
+        Long productId,
+        int likeDelta,
+        int viewDelta,
+        int orderCount,
+        int orderQuantity
+) {
+    public static ProductMetricsDelta ofLike(Long productId, int likeDelta) {
+        return new ProductMetricsDelta(productId, likeDelta, 0, 0, 0);
+    }
+
+    public static ProductMetricsDelta ofView(Long productId, int viewDelta) {
+        return new ProductMetricsDelta(productId, 0, viewDelta, 0, 0);
+    }
+
+    public static ProductMetricsDelta ofOrder(Long productId, int orderCount, int orderQuantity) {
+        return new ProductMetricsDelta(productId, 0, 0, orderCount, orderQuantity);
+    }
+
+    /**
+     * 동일 상품의 증감량 합산
+     */
+    public ProductMetricsDelta merge(ProductMetricsDelta other) {
+        return new ProductMetricsDelta(
+                this.productId,
+                this.likeDelta + other.likeDelta,
+                this.viewDelta + other.viewDelta,
+                this.orderCount + other.orderCount,
+                this.orderQuantity + other.orderQuantity
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.metrics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 메트릭 증감량 일괄 반영
+ * - 테이블당 multi-row INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 좋아요/조회/주문 증감을 함께 반영한다.
+ */
+public interface ProductMetricsWriter {
+
+    // product_metrics 누적 집계 Upsert
+    void upsertMetrics(List<ProductMetricsDelta> deltas);
+
+    // product_metrics_daily 일자별 증감 Upsert
+    void upsertDailyMetrics(List<ProductMetricsDelta> deltas, LocalDate metricDate);
+}
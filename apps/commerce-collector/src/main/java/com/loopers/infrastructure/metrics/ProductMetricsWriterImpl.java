@@ -0,0 +1,161 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메트릭 증감량 multi-row Upsert
+ *
+ * - 행마다 batchUpdate 하던 방식 대신, 테이블당 하나의 INSERT ... VALUES (...), (...) 문으로 반영
+ * - 폐기 예정인 VALUES() 함수 대신 행 별칭(AS new) / 파생 테이블(AS d)로 삽입값을 참조 (MySQL 8.0.19+)
+ * - 한 문장이 max_allowed_packet을 넘지 않도록 max-packet-bytes 기준으로 청크 분할
+ */
+@Slf4j
+@Component
+public class ProductMetricsWriterImpl implements ProductMetricsWriter {
+
+    // 클라이언트 측 PreparedStatement는 파라미터를 SQL 문자열에 인라인하므로 행당 최대 길이로 추정
+    static final int ESTIMATED_ROW_BYTES = 128;
+    static final int STATEMENT_OVERHEAD_BYTES = 512;
+    // 서버 측 PreparedStatement 사용 시 placeholder 최대 개수 (65,535)
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    // 누적 좋아요 수는 증감량을 그대로 더한 뒤 0 미만이면 0으로 보정 (신규 행은 삽입 값, 기존 행은 누적 결과를 보정)
+    // 삽입 값과 누적 계산에 서로 다른 값이 필요하므로 VALUES ROW 파생 테이블에서 INSERT ... SELECT
+    private static final String METRICS_INSERT = """
+            INSERT INTO product_metrics
+                (product_id, like_count, order_count, view_count, total_order_quantity, created_at, updated_at)
+            SELECT d.product_id, GREATEST(d.like_delta, 0), d.order_count, d.view_count, d.order_quantity, NOW(), NOW()
+            FROM (VALUES
+            """;
+    private static final String METRICS_ROW = "ROW(?, ?, ?, ?, ?)";
+    private static final int METRICS_ROW_PARAMS = 5;
+    private static final String METRICS_ON_DUPLICATE = """
+            ) AS d (product_id, like_delta, order_count, view_count, order_quantity)
+            ON DUPLICATE KEY UPDATE
+                like_count = GREATEST(product_metrics.like_count + d.like_delta, 0),
+                order_count = product_metrics.order_count + d.order_count,
+                view_count = product_metrics.view_count + d.view_count,
+                total_order_quantity = product_metrics.total_order_quantity + d.order_quantity,
+                updated_at = NOW()
+            """;
+
+    private static final String DAILY_INSERT = """
+            INSERT INTO product_metrics_daily
+                (product_id, metric_date, like_delta, view_delta, order_delta, is_processed, created_at, updated_at)
+            VALUES
+            """;
+    private static final String DAILY_ROW = "(?, ?, ?, ?, ?, FALSE, NOW(), NOW())";
+    private static final int DAILY_ROW_PARAMS = 5;
+    private static final String DAILY_ON_DUPLICATE = """
+            AS new
+            ON DUPLICATE KEY UPDATE
+                like_delta = product_metrics_daily.like_delta + new.like_delta,
+                view_delta = product_metrics_daily.view_delta + new.view_delta,
+                order_delta = product_metrics_daily.order_delta + new.order_delta,
+                updated_at = NOW()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxRowsPerStatement;
+
+    public ProductMetricsWriterImpl(
+            JdbcTemplate jdbcTemplate,
+            @Value("${metrics.upsert.max-packet-bytes:1048576}") int maxPacketBytes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxRowsPerStatement = rowsPerStatement(maxPacketBytes);
+    }
+
+    @Override
+    public void upsertMetrics(List<ProductMetricsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        int statements = 0;
+        for (List<ProductMetricsDelta> chunk : chunk(deltas)) {
+            Object[] args = new Object[chunk.size() * METRICS_ROW_PARAMS];
+            int i = 0;
+            for (ProductMetricsDelta delta : chunk) {
+                args[i++] = delta.productId();
+                args[i++] = delta.likeDelta();
+                args[i++] = delta.orderCount();
+                args[i++] = delta.viewDelta();
+                args[i++] = delta.orderQuantity();
+            }
+
+            jdbcTemplate.update(buildSql(METRICS_INSERT, METRICS_ROW, METRICS_ON_DUPLICATE, chunk.size()), args);
+            statements++;
+        }
+
+        log.info("ProductMetrics multi-row Upsert 완료 - {} 건, 쿼리 수: {}", deltas.size(), statements);
+    }
+
+    @Override
+    public void upsertDailyMetrics(List<ProductMetricsDelta> deltas, LocalDate metricDate) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Date sqlDate = Date.valueOf(metricDate);
+        int statements = 0;
+        for (List<ProductMetricsDelta> chunk : chunk(deltas)) {
+            Object[] args = new Object[chunk.size() * DAILY_ROW_PARAMS];
+            int i = 0;
+            for (ProductMetricsDelta delta : chunk) {
+                args[i++] = delta.productId();
+                args[i++] = sqlDate;
+                args[i++] = delta.likeDelta();
+                args[i++] = delta.viewDelta();
+                args[i++] = delta.orderQuantity();  // order_delta는 총 수량을 저장
+            }
+
+            jdbcTemplate.update(buildSql(DAILY_INSERT, DAILY_ROW, DAILY_ON_DUPLICATE, chunk.size()), args);
+            statements++;
+        }
+
+        log.info("ProductMetricsDaily multi-row Upsert 완료 - {} 건, 일자: {}, 쿼리 수: {}",
+                deltas.size(), metricDate, statements);
+    }
+
+    int getMaxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    private List<List<ProductMetricsDelta>> chunk(List<ProductMetricsDelta> deltas) {
+        List<List<ProductMetricsDelta>> chunks = new ArrayList<>();
+        for (int from = 0; from < deltas.size(); from += maxRowsPerStatement) {
+            chunks.add(deltas.subList(from, Math.min(from + maxRowsPerStatement, deltas.size())));
+        }
+        return chunks;
+    }
+
+    private static String buildSql(String insert, String row, String onDuplicate, int rows) {
+        StringBuilder sql = new StringBuilder(insert.length() + onDuplicate.length() + (row.length() + 2) * rows);
+        sql.append(insert);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append(row);
+        }
+        sql.append('\n').append(onDuplicate);
+        return sql.toString();
+    }
+
+    static int rowsPerStatement(int maxPacketBytes) {
+        int byPacket = (maxPacketBytes - STATEMENT_OVERHEAD_BYTES) / ESTIMATED_ROW_BYTES;
+        int byPlaceholders = MAX_PLACEHOLDERS / Math.max(METRICS_ROW_PARAMS, DAILY_ROW_PARAMS);
+        return Math.max(1, Math.min(byPacket, byPlaceholders));
+    }
+}
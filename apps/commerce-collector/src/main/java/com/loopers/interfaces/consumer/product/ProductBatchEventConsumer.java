@@ -150,11 +150,19 @@ public class ProductBatchEventConsumer {
             }
 
             Long productId = payload.get("productId").asLong();
+            // 집계 이전 형식(조회 1건 = 이벤트 1건)은 viewCount 가 없으므로 1로 간주
+            int viewCount = payload.path("viewCount").asInt(1);
+
+            if (viewCount <= 0) {
+                log.warn("viewCount 오류 (스킵): {}", message);
+                return null;
+            }
 
             return new ProductEvent(
                     eventId,
                     eventType,
-                    productId
+                    productId,
+                    viewCount
             );
 
         } catch (JsonProcessingException e) {
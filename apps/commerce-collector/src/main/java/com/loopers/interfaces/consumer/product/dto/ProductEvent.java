@@ -1,8 +1,13 @@
 package com.loopers.interfaces.consumer.product.dto;
 
+/**
+ * 상품 이벤트
+ * - viewCount: PRODUCT_VIEWED 이벤트 1건이 담은 조회 수 (commerce-api 가 상품별로 모아서 발행, 이전 형식은 1)
+ */
 public record ProductEvent(
         String eventId,
         String eventType,
-        Long productId
+        Long productId,
+        int viewCount
 ) {
 }
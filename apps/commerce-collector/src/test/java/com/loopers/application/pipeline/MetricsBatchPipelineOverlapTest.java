@@ -0,0 +1,175 @@
+package com.loopers.application.pipeline;
+
+import com.loopers.application.eventhandled.EventHandledFacade;
+import com.loopers.application.eventhandled.EventHandledInfo;
+import com.loopers.application.metrics.ProductMetricsDailyFacade;
+import com.loopers.application.metrics.ProductMetricsFacade;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * MetricsBatchPipeline 청크 겹침 단위 테스트
+ * 청크 N 쓰기 중 청크 N+1 조회, 청크 순서대로 쓰기, 실패 시 예외 전파를 검증
+ */
+class MetricsBatchPipelineOverlapTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private final EventHandledFacade eventHandledFacade = mock(EventHandledFacade.class);
+    private final ProductMetricsFacade productMetricsFacade = mock(ProductMetricsFacade.class);
+    private final ProductMetricsDailyFacade productMetricsDailyFacade = mock(ProductMetricsDailyFacade.class);
+    private final ExecutorService pipelineExecutor = Executors.newSingleThreadExecutor();
+
+    private final MetricsBatchPipeline pipeline = new MetricsBatchPipeline(
+            eventHandledFacade,
+            productMetricsFacade,
+            productMetricsDailyFacade,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new SimpleMeterRegistry(),
+            pipelineExecutor,
+            CHUNK_SIZE
+    );
+
+    @AfterEach
+    void tearDown() {
+        pipelineExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("청크를 쓰는 동안 다음 청크의 처리 이력을 조회한다")
+    void process_nextChunkLookedUpWhileWriting() {
+        // given
+        CountDownLatch nextLookupStarted = new CountDownLatch(1);
+        AtomicBoolean overlapped = new AtomicBoolean();
+        given(eventHandledFacade.findAlreadyHandledEventIds(anyList())).willAnswer(invocation -> {
+            List<String> eventIds = invocation.getArgument(0);
+            if (eventIds.contains("e3")) {
+                nextLookupStarted.countDown();
+            }
+            return Set.of();
+        });
+        willAnswer(invocation -> {
+            if (nextLookupStarted.getCount() == 1) {
+                overlapped.set(nextLookupStarted.await(5, TimeUnit.SECONDS)); // 첫 청크 쓰기 중
+            }
+            return null;
+        }).given(productMetricsFacade).updateMetricsBatch(anyList());
+
+        // when
+        pipeline.process(events("e1", "e2", "e3", "e4"), new ViewCountProcessor());
+
+        // then
+        assertThat(overlapped).isTrue();
+        verify(productMetricsFacade, times(2)).updateMetricsBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("배치 전체에서 중복을 제거한 뒤 나누므로 청크끼리 eventId 가 겹치지 않고, 청크 순서대로 쓴다")
+    void process_chunksDisjointAndWrittenInOrder() {
+        // given
+        given(eventHandledFacade.findAlreadyHandledEventIds(anyList())).willReturn(Set.of());
+
+        // when
+        pipeline.process(events("e1", "e2", "e1", "e3", "e4"), new ViewCountProcessor());
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> lookups = ArgumentCaptor.forClass(List.class);
+        verify(eventHandledFacade, times(2)).findAlreadyHandledEventIds(lookups.capture());
+        assertThat(lookups.getAllValues()).containsExactly(List.of("e1", "e2"), List.of("e3", "e4"));
+
+        InOrder inOrder = inOrder(eventHandledFacade);
+        inOrder.verify(eventHandledFacade).markAsHandledBatch(handledInfos("e1", "e2"));
+        inOrder.verify(eventHandledFacade).markAsHandledBatch(handledInfos("e3", "e4"));
+    }
+
+    @Test
+    @DisplayName("처리된 이벤트는 건너뛰고, 청크 쓰기가 실패하면 예외를 던져 배치를 ack 하지 않게 한다")
+    void process_chunkWriteFails_throwsAfterEarlierChunksWritten() {
+        // given
+        given(eventHandledFacade.findAlreadyHandledEventIds(anyList())).willReturn(Set.of("e2"));
+        willThrow(new IllegalStateException("DB 오류"))
+                .given(eventHandledFacade).markAsHandledBatch(handledInfos("e3", "e4"));
+
+        // when & then
+        assertThrows(RuntimeException.class,
+                () -> pipeline.process(events("e1", "e2", "e3", "e4"), new ViewCountProcessor()));
+        verify(eventHandledFacade).markAsHandledBatch(handledInfos("e1"));
+        verify(productMetricsDailyFacade, times(2)).updateMetricsBatch(anyList(), any());
+    }
+
+    private static List<ViewCountEvent> events(String... eventIds) {
+        return Arrays.stream(eventIds)
+                .map(eventId -> new ViewCountEvent(eventId, 10L, 1))
+                .toList();
+    }
+
+    private static List<EventHandledInfo> handledInfos(String... eventIds) {
+        return new ViewCountProcessor().toHandledInfos(events(eventIds));
+    }
+
+    private record ViewCountEvent(String eventId, Long productId, int count) {
+    }
+
+    private static class ViewCountProcessor implements MetricsEventProcessor<ViewCountEvent> {
+
+        @Override
+        public String name() {
+            return "view-count";
+        }
+
+        @Override
+        public String displayName() {
+            return "조회수 합산";
+        }
+
+        @Override
+        public String eventId(ViewCountEvent event) {
+            return event.eventId();
+        }
+
+        @Override
+        public List<ProductMetricsDelta> aggregate(Collection<ViewCountEvent> events) {
+            return events.stream()
+                    .map(event -> ProductMetricsDelta.ofView(event.productId(), event.count()))
+                    .toList();
+        }
+
+        @Override
+        public List<EventHandledInfo> toHandledInfos(Collection<ViewCountEvent> events) {
+            return events.stream()
+                    .map(event -> EventHandledInfo.of(event.eventId(), "VIEW_COUNTED", "PRODUCT_VIEW",
+                            event.productId().toString()))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.loopers.application.pipeline;
+
+import com.loopers.application.eventhandled.EventHandledInfo;
+import com.loopers.application.like.ProductLikeBatchEventHandler;
+import com.loopers.domain.eventhandled.EventHandledRepository;
+import com.loopers.domain.metrics.ProductMetrics;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import com.loopers.interfaces.consumer.like.dto.ProductLikeEvent;
+import com.loopers.kafka.KafkaTopics;
+import com.loopers.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class MetricsBatchPipelineTest {
+
+    @Autowired
+    private MetricsBatchPipeline metricsBatchPipeline;
+
+    @Autowired
+    private ProductLikeBatchEventHandler productLikeBatchEventHandler;
+
+    @Autowired
+    private ProductMetricsRepository productMetricsRepository;
+
+    @Autowired
+    private EventHandledRepository eventHandledRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("중복 이벤트를 처리할 때,")
+    @Nested
+    class Deduplication {
+
+        @Test
+        @DisplayName("배치 내 중복 eventId와 이미 처리된 이벤트는 한 번만 반영된다")
+        void process_duplicatedAndHandledEvents_appliedOnce() {
+            // Given: 첫 배치에서 like-1 처리
+            productLikeBatchEventHandler.handleProductLikeBatch(List.of(
+                    new ProductLikeEvent("like-1", KafkaTopics.ProductLike.LIKE_ADDED, 1L)
+            ));
+
+            // When: 이미 처리된 like-1 + 배치 내 중복 like-2
+            productLikeBatchEventHandler.handleProductLikeBatch(List.of(
+                    new ProductLikeEvent("like-1", KafkaTopics.ProductLike.LIKE_ADDED, 1L),
+                    new ProductLikeEvent("like-2", KafkaTopics.ProductLike.LIKE_ADDED, 1L),
+                    new ProductLikeEvent("like-2", KafkaTopics.ProductLike.LIKE_ADDED, 1L)
+            ));
+
+            // Then
+            ProductMetrics metrics = productMetricsRepository.findByProductId(1L).orElseThrow();
+            assertAll(
+                    () -> assertThat(metrics.getLikeCount()).isEqualTo(2L),
+                    () -> assertThat(eventHandledRepository.findByEventId("like-1")).hasSize(1),
+                    () -> assertThat(eventHandledRepository.findByEventId("like-2")).hasSize(1)
+            );
+        }
+    }
+
+    @DisplayName("새 이벤트 유형을 연결할 때,")
+    @Nested
+    class Pluggable {
+
+        @Test
+        @DisplayName("처리기만 구현하면 메트릭이 반영되고 단계별 소요 시간이 기록된다")
+        void process_customProcessor_recordsStageTimers() {
+            // Given
+            MetricsEventProcessor<ViewCountEvent> processor = new ViewCountProcessor();
+            List<ViewCountEvent> events = List.of(
+                    new ViewCountEvent("view-count-1", 10L, 5),
+                    new ViewCountEvent("view-count-2", 10L, 3)
+            );
+
+            // When
+            metricsBatchPipeline.process(events, processor);
+
+            // Then
+            ProductMetrics metrics = productMetricsRepository.findByProductId(10L).orElseThrow();
+            assertThat(metrics.getViewCount()).isEqualTo(8L);
+
+            for (String stage : List.of("lookup", "dedupe", "aggregate", "write")) {
+                Timer timer = meterRegistry.find(MetricsBatchPipeline.STAGE_TIMER)
+                        .tag("pipeline", "view-count")
+                        .tag("stage", stage)
+                        .timer();
+                assertThat(timer).as(stage).isNotNull();
+                assertThat(timer.count()).as(stage).isEqualTo(1);
+            }
+        }
+    }
+
+    private record ViewCountEvent(String eventId, Long productId, int count) {
+    }
+
+    private static class ViewCountProcessor implements MetricsEventProcessor<ViewCountEvent> {
+
+        @Override
+        public String name() {
+            return "view-count";
+        }
+
+        @Override
+        public String displayName() {
+            return "조회수 합산";
+        }
+
+        @Override
+        public String eventId(ViewCountEvent event) {
+            return event.eventId();
+        }
+
+        @Override
+        public List<ProductMetricsDelta> aggregate(Collection<ViewCountEvent> events) {
+            return events.stream()
+                    .map(event -> ProductMetricsDelta.ofView(event.productId(), event.count()))
+                    .toList();
+        }
+
+        @Override
+        public List<EventHandledInfo> toHandledInfos(Collection<ViewCountEvent> events) {
+            return events.stream()
+                    .map(event -> EventHandledInfo.of(event.eventId(), "VIEW_COUNTED", "PRODUCT_VIEW",
+                            event.productId().toString()))
+                    .toList();
+        }
+    }
+}
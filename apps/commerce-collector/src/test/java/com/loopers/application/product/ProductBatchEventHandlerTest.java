@@ -0,0 +1,39 @@
+package com.loopers.application.product;
+
+import com.loopers.application.pipeline.MetricsBatchPipeline;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.interfaces.consumer.product.dto.ProductEvent;
+import com.loopers.kafka.KafkaTopics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ProductBatchEventHandlerTest {
+
+    private final ProductBatchEventHandler handler = new ProductBatchEventHandler(mock(MetricsBatchPipeline.class));
+
+    @Test
+    @DisplayName("조회 수를 담은 PRODUCT_VIEWED 이벤트는 담긴 조회 수만큼 상품별로 합산된다")
+    void aggregate_countCarryingEvents_sumsViewCounts() {
+        // Given
+        List<ProductEvent> events = List.of(
+                new ProductEvent("view-1", KafkaTopics.ProductDetail.PRODUCT_VIEWED, 1L, 120),
+                new ProductEvent("view-2", KafkaTopics.ProductDetail.PRODUCT_VIEWED, 1L, 30),
+                new ProductEvent("view-3", KafkaTopics.ProductDetail.PRODUCT_VIEWED, 2L, 1),
+                new ProductEvent("other-1", "ProductUpdated", 2L, 1)
+        );
+
+        // When
+        List<ProductMetricsDelta> deltas = handler.aggregate(events);
+
+        // Then
+        assertThat(deltas).containsExactlyInAnyOrder(
+                ProductMetricsDelta.ofView(1L, 150),
+                ProductMetricsDelta.ofView(2L, 1)
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package com.loopers.application.ranking;
+
+import com.loopers.kafka.collection.LongIntHashMap;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RankingFacadeTest {
+
+    @Autowired
+    private RankingFacade rankingFacade;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("고유 조회자 증감량은 이미 반영한 고유 조회자 수를 뺀 값이다")
+    void calculateUniqueViewDeltas_excludesAlreadyApplied() {
+        // Given: 상품 1은 같은 회원이 여러 번 조회, 상품 2는 비회원 1명
+        addViewers(1L, "user:a", "user:a", "user:a", "user:b", "user:c");
+        addViewers(2L, "ip:10.0.0.1");
+        LongIntHashMap viewedProducts = viewed(1L, 2L);
+
+        // When: 첫 계산 후 반영 수 기록
+        LongIntHashMap first = rankingFacade.calculateUniqueViewDeltas(viewedProducts, LocalDate.now());
+        rankingFacade.markUniqueViewsApplied(first, LocalDate.now());
+
+        // 상품 1에 기존 조회자 재조회 + 신규 조회자 1명
+        addViewers(1L, "user:a", "user:d");
+        LongIntHashMap second = rankingFacade.calculateUniqueViewDeltas(viewed(1L), LocalDate.now());
+
+        // Then
+        assertThat(first.get(1L)).isEqualTo(3);
+        assertThat(first.get(2L)).isEqualTo(1);
+        assertThat(second.get(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("새 고유 조회자가 없는 상품은 증감량에서 제외된다")
+    void calculateUniqueViewDeltas_noNewViewers_excluded() {
+        // Given
+        addViewers(1L, "user:a");
+        rankingFacade.markUniqueViewsApplied(rankingFacade.calculateUniqueViewDeltas(viewed(1L), LocalDate.now()), LocalDate.now());
+        addViewers(1L, "user:a");
+
+        // When
+        LongIntHashMap deltas = rankingFacade.calculateUniqueViewDeltas(viewed(1L), LocalDate.now());
+
+        // Then
+        assertThat(deltas.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("고유 조회자 수는 메트릭 일자의 HyperLogLog 에서 읽는다")
+    void calculateUniqueViewDeltas_readsMetricDateHyperLogLog() {
+        // Given: 전날 레코드를 자정 이후에 처리하는 상황
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        addViewers(yesterday, 1L, "user:a", "user:b");
+        addViewers(1L, "user:c");
+
+        // When
+        LongIntHashMap deltas = rankingFacade.calculateUniqueViewDeltas(viewed(1L), yesterday);
+
+        // Then
+        assertThat(deltas.get(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("반영 수는 일자별 Hash 에 저장되며 조회 랭킹 점수와 무관하다")
+    void markUniqueViewsApplied_storedPerDate_independentOfRankingScore() {
+        // Given: 상품 1의 조회 랭킹 점수는 다른 경로로 이미 올라가 있음
+        LocalDate today = LocalDate.now();
+        addViewers(1L, "user:a", "user:b");
+        redisTemplate.opsForZSet().incrementScore("ranking:view:" + today.format(DateTimeFormatter.ofPattern("yyyyMMdd")), "1", 0.7);
+
+        // When
+        LongIntHashMap first = rankingFacade.calculateUniqueViewDeltas(viewed(1L), today);
+        rankingFacade.markUniqueViewsApplied(first, today);
+        addViewers(1L, "user:c");
+        LongIntHashMap second = rankingFacade.calculateUniqueViewDeltas(viewed(1L), today);
+
+        // Then
+        String appliedKey = "product:uv:applied:" + today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        assertThat(first.get(1L)).isEqualTo(2);
+        assertThat(redisTemplate.opsForHash().get(appliedKey, "1")).isEqualTo("2");
+        assertThat(redisTemplate.getExpire(appliedKey)).isPositive();
+        assertThat(second.get(1L)).isEqualTo(1);
+    }
+
+    private void addViewers(Long productId, String... viewerIds) {
+        addViewers(LocalDate.now(), productId, viewerIds);
+    }
+
+    private void addViewers(LocalDate date, Long productId, String... viewerIds) {
+        String key = "product:uv:" + date.format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ":" + productId;
+        redisTemplate.opsForHyperLogLog().add(key, viewerIds);
+    }
+
+    private LongIntHashMap viewed(long... productIds) {
+        LongIntHashMap viewed = new LongIntHashMap();
+        for (long productId : productIds) {
+            viewed.addTo(productId, 1);
+        }
+        return viewed;
+    }
+}
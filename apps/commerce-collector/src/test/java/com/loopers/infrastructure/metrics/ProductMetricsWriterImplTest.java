@@ -0,0 +1,201 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.domain.metrics.ProductMetrics;
+import com.loopers.domain.metrics.ProductMetricsDaily;
+import com.loopers.domain.metrics.ProductMetricsDailyRepository;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class ProductMetricsWriterImplTest {
+
+    @Autowired
+    private ProductMetricsWriterImpl productMetricsWriter;
+
+    @Autowired
+    private ProductMetricsRepository productMetricsRepository;
+
+    @Autowired
+    private ProductMetricsDailyRepository productMetricsDailyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("좋아요/조회/주문 증감이 한 번의 Upsert로 두 테이블에 함께 반영된다")
+    void upsert_combinedDeltas_appliedToBothTables() {
+        // Given
+        LocalDate today = LocalDate.now();
+        List<ProductMetricsDelta> deltas = List.of(
+                new ProductMetricsDelta(1L, 2, 5, 1, 3),
+                ProductMetricsDelta.ofView(2L, 7)
+        );
+
+        // When
+        productMetricsWriter.upsertMetrics(deltas);
+        productMetricsWriter.upsertDailyMetrics(deltas, today);
+
+        // Then
+        ProductMetrics metrics = productMetricsRepository.findByProductId(1L).orElseThrow();
+        ProductMetricsDaily daily = productMetricsDailyRepository.findByProductIdAndMetricDate(1L, today).orElseThrow();
+        ProductMetrics viewOnly = productMetricsRepository.findByProductId(2L).orElseThrow();
+
+        assertAll(
+                () -> assertThat(metrics.getLikeCount()).isEqualTo(2L),
+                () -> assertThat(metrics.getViewCount()).isEqualTo(5L),
+                () -> assertThat(metrics.getOrderCount()).isEqualTo(1L),
+                () -> assertThat(metrics.getTotalOrderQuantity()).isEqualTo(3L),
+                () -> assertThat(daily.getLikeDelta()).isEqualTo(2),
+                () -> assertThat(daily.getViewDelta()).isEqualTo(5),
+                () -> assertThat(daily.getOrderDelta()).isEqualTo(3),
+                () -> assertThat(daily.getIsProcessed()).isFalse(),
+                () -> assertThat(viewOnly.getLikeCount()).isZero(),
+                () -> assertThat(viewOnly.getViewCount()).isEqualTo(7L)
+        );
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 상품은 기존 값에 증감량이 누적된다")
+    void upsert_existingRow_accumulatesDeltas() {
+        // Given
+        LocalDate today = LocalDate.now();
+        productMetricsWriter.upsertMetrics(List.of(new ProductMetricsDelta(1L, 3, 10, 2, 4)));
+        productMetricsWriter.upsertDailyMetrics(List.of(new ProductMetricsDelta(1L, 3, 10, 2, 4)), today);
+
+        // When
+        productMetricsWriter.upsertMetrics(List.of(ProductMetricsDelta.ofOrder(1L, 1, 2), ProductMetricsDelta.ofLike(1L, -1)));
+        productMetricsWriter.upsertDailyMetrics(List.of(ProductMetricsDelta.ofLike(1L, -1)), today);
+
+        // Then
+        ProductMetrics metrics = productMetricsRepository.findByProductId(1L).orElseThrow();
+        ProductMetricsDaily daily = productMetricsDailyRepository.findByProductIdAndMetricDate(1L, today).orElseThrow();
+
+        assertAll(
+                () -> assertThat(metrics.getLikeCount()).isEqualTo(2L),
+                () -> assertThat(metrics.getViewCount()).isEqualTo(10L),
+                () -> assertThat(metrics.getOrderCount()).isEqualTo(3L),
+                () -> assertThat(metrics.getTotalOrderQuantity()).isEqualTo(6L),
+                () -> assertThat(daily.getLikeDelta()).isEqualTo(2),
+                () -> assertThat(daily.getViewDelta()).isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("좋아요 감소량은 누적 좋아요 수에 반영되고, 결과가 음수가 되면 0으로 보정된다")
+    void upsert_negativeLikeDelta_clampsResultAtZero() {
+        // Given
+        productMetricsWriter.upsertMetrics(List.of(ProductMetricsDelta.ofLike(1L, 2)));
+
+        // When: 기존 행은 2 - 3, 신규 행은 -1
+        productMetricsWriter.upsertMetrics(List.of(ProductMetricsDelta.ofLike(1L, -3), ProductMetricsDelta.ofLike(2L, -1)));
+
+        // Then
+        assertAll(
+                () -> assertThat(productMetricsRepository.findByProductId(1L).orElseThrow().getLikeCount()).isZero(),
+                () -> assertThat(productMetricsRepository.findByProductId(2L).orElseThrow().getLikeCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("max-packet-bytes를 넘는 배치는 여러 문장으로 나누어 모두 반영된다")
+    void upsert_exceedsPacketSize_splitIntoChunks() {
+        // Given: 한 문장에 3행만 들어가는 packet 크기
+        int maxPacketBytes = ProductMetricsWriterImpl.STATEMENT_OVERHEAD_BYTES
+                + ProductMetricsWriterImpl.ESTIMATED_ROW_BYTES * 3;
+        ProductMetricsWriterImpl smallPacketWriter = new ProductMetricsWriterImpl(jdbcTemplate, maxPacketBytes);
+        List<ProductMetricsDelta> deltas = createDeltas(10);
+
+        // When
+        smallPacketWriter.upsertMetrics(deltas);
+
+        // Then
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_metrics", Integer.class);
+        assertAll(
+                () -> assertThat(smallPacketWriter.getMaxRowsPerStatement()).isEqualTo(3),
+                () -> assertThat(rows).isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("청크 경계에 걸친 같은 상품의 좋아요 증감은 청크 순서대로 누적되고, 누적 결과만 0으로 보정된다")
+    void upsert_deltasAcrossChunkBoundary_accumulatedThenClamped() {
+        // Given: 한 문장에 3행만 들어가는 packet 크기 -> [1(+2), 2(+1), 3(+1)] / [1(-3), 4(-1), 1(+1)]
+        LocalDate today = LocalDate.now();
+        int maxPacketBytes = ProductMetricsWriterImpl.STATEMENT_OVERHEAD_BYTES
+                + ProductMetricsWriterImpl.ESTIMATED_ROW_BYTES * 3;
+        ProductMetricsWriterImpl smallPacketWriter = new ProductMetricsWriterImpl(jdbcTemplate, maxPacketBytes);
+        List<ProductMetricsDelta> deltas = List.of(
+                ProductMetricsDelta.ofLike(1L, 2),
+                ProductMetricsDelta.ofLike(2L, 1),
+                ProductMetricsDelta.ofLike(3L, 1),
+                ProductMetricsDelta.ofLike(1L, -3),
+                ProductMetricsDelta.ofLike(4L, -1),
+                ProductMetricsDelta.ofLike(1L, 1)
+        );
+
+        // When
+        smallPacketWriter.upsertMetrics(deltas);
+        smallPacketWriter.upsertDailyMetrics(List.of(ProductMetricsDelta.ofLike(1L, 2), ProductMetricsDelta.ofLike(2L, 1),
+                ProductMetricsDelta.ofLike(3L, 1), ProductMetricsDelta.ofLike(1L, -3)), today);
+
+        // Then: 상품 1은 2 - 3 에서 0으로 보정된 뒤 +1, 신규 상품 4는 0, 일별 증감량은 보정 없이 누적
+        assertAll(
+                () -> assertThat(productMetricsRepository.findByProductId(1L).orElseThrow().getLikeCount()).isEqualTo(1L),
+                () -> assertThat(productMetricsRepository.findByProductId(2L).orElseThrow().getLikeCount()).isEqualTo(1L),
+                () -> assertThat(productMetricsRepository.findByProductId(4L).orElseThrow().getLikeCount()).isZero(),
+                () -> assertThat(productMetricsDailyRepository.findByProductIdAndMetricDate(1L, today).orElseThrow()
+                        .getLikeDelta()).isEqualTo(-1)
+        );
+    }
+
+    @Test
+    @DisplayName("행 수가 청크 크기와 같거나 한 행 많아도 모든 행이 반영된다")
+    void upsert_rowsAtChunkBoundary_allApplied() {
+        // Given
+        int maxPacketBytes = ProductMetricsWriterImpl.STATEMENT_OVERHEAD_BYTES
+                + ProductMetricsWriterImpl.ESTIMATED_ROW_BYTES * 3;
+        ProductMetricsWriterImpl smallPacketWriter = new ProductMetricsWriterImpl(jdbcTemplate, maxPacketBytes);
+
+        // When: 3행 (한 문장), 이어서 4행 (두 문장, 상품 1~3 은 기존 행)
+        smallPacketWriter.upsertMetrics(createDeltas(3));
+        smallPacketWriter.upsertMetrics(createDeltas(4));
+
+        // Then
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_metrics", Integer.class);
+        assertAll(
+                () -> assertThat(rows).isEqualTo(4),
+                () -> assertThat(productMetricsRepository.findByProductId(3L).orElseThrow().getLikeCount()).isEqualTo(6L),
+                () -> assertThat(productMetricsRepository.findByProductId(4L).orElseThrow().getLikeCount()).isEqualTo(3L)
+        );
+    }
+
+    private List<ProductMetricsDelta> createDeltas(int productCount) {
+        List<ProductMetricsDelta> deltas = new ArrayList<>(productCount);
+        for (long productId = 1; productId <= productCount; productId++) {
+            deltas.add(ProductMetricsDelta.ofLike(productId, 3));
+        }
+        return deltas;
+    }
+}
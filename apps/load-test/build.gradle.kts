@@ -0,0 +1,44 @@
+import org.springframework.boot.gradle.tasks.bundling.BootJar
+
+dependencies {
+    // add-ons
+    implementation(project(":modules:kafka"))
+
+    // 인프라 컨테이너 (MySQL, Redis 는 모듈 test-fixtures 재사용)
+    implementation(testFixtures(project(":modules:jpa")))
+    implementation(testFixtures(project(":modules:redis")))
+    implementation("org.testcontainers:mysql")
+    implementation("com.redis:testcontainers-redis")
+    implementation("org.testcontainers:kafka")
+    runtimeOnly("com.mysql:mysql-connector-j")
+
+    // latency 분포 기록
+    implementation("org.hdrhistogram:HdrHistogram:${project.properties["hdrHistogramVersion"]}")
+}
+
+// 부하 테스트 실행
+// - ./gradlew :apps:load-test:loadTest                                  기본 시나리오 (application.yml)
+// - ./gradlew :apps:load-test:loadTest -PloadTestArgs="--load-test.duration=10m --load-test.scenarios.checkout-card.rate=20"
+// - 결과: apps/load-test/build/load-test/report.json, 각 애플리케이션 로그: build/load-test/logs
+val targetApps = mapOf(
+    "commerce-api" to ":apps:commerce-api",
+    "commerce-collector" to ":apps:commerce-collector",
+    "pg-simulator" to ":apps:pg-simulator",
+)
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "로컬 컨테이너 인프라 위에서 commerce-api 혼합 시나리오 부하 테스트 실행"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "com.loopers.loadtest.LoadTestApplication"
+    outputs.upToDateWhen { false }
+
+    targetApps.forEach { (name, path) ->
+        val bootJar = project(path).tasks.named<BootJar>("bootJar")
+        dependsOn(bootJar)
+        argumentProviders.add(CommandLineArgumentProvider {
+            listOf("--load-test.apps.$name.jar=${bootJar.get().archiveFile.get().asFile.absolutePath}")
+        })
+    }
+    (project.findProperty("loadTestArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
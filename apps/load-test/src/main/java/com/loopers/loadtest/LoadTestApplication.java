@@ -0,0 +1,26 @@
+package com.loopers.loadtest;
+
+import com.loopers.loadtest.infrastructure.KafkaTestContainersConfig;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.Import;
+
+/**
+ * commerce-api 부하 테스트 드라이버
+ *
+ * - MySQL/Redis(모듈 test-fixtures), Kafka 컨테이너를 띄우고
+ *   pg-simulator, commerce-api, commerce-collector 를 별도 JVM 으로 기동
+ * - 혼합 시나리오(목록/상세/좋아요/랭킹/주문) 부하 후 시나리오별 처리량, latency 백분위, consumer lag 리포트
+ */
+@ConfigurationPropertiesScan
+@SpringBootApplication
+@Import({MySqlTestContainersConfig.class, RedisTestContainersConfig.class, KafkaTestContainersConfig.class})
+public class LoadTestApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(LoadTestApplication.class, args)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.loopers.loadtest;
+
+import com.loopers.loadtest.config.LoadTestProperties;
+import com.loopers.loadtest.driver.OpenLoopDriver;
+import com.loopers.loadtest.infrastructure.AppCluster;
+import com.loopers.loadtest.report.ConsumerLagMonitor;
+import com.loopers.loadtest.report.LoadTestReport;
+import com.loopers.loadtest.report.LoadTestReportWriter;
+import com.loopers.loadtest.report.ScenarioResult;
+import com.loopers.loadtest.report.TopicLag;
+import com.loopers.loadtest.scenario.Scenario;
+import com.loopers.loadtest.scenario.ScenarioDataSetup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 실행 순서
+ * 1. 애플리케이션 기동 (인프라 컨테이너는 컨텍스트 기동 시 이미 실행됨)
+ * 2. 부하용 회원 준비
+ * 3. 시나리오 동시 실행 + consumer lag 수집
+ * 4. 부하 종료 후 lag 해소 대기, 리포트 출력
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements ApplicationRunner {
+
+    private final LoadTestProperties properties;
+    private final List<Scenario> scenarios;
+    private final ScenarioDataSetup dataSetup;
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Map<Scenario, LoadTestProperties.ScenarioLoad> plan = plan();
+        Set<String> topics = plan.keySet().stream()
+                .flatMap(scenario -> scenario.topics().stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Path reportDir = Path.of(properties.reportDir());
+
+        try (AppCluster ignored = AppCluster.start(properties.apps(), reportDir.resolve("logs"));
+             ConsumerLagMonitor lagMonitor = new ConsumerLagMonitor(
+                     environment.getRequiredProperty("spring.kafka.bootstrap-servers"), topics)) {
+            dataSetup.prepare();
+
+            Instant startedAt = Instant.now();
+            lagMonitor.start(properties.lagSampleInterval());
+            Map<String, ScenarioResult> results = new OpenLoopDriver(properties.requestTimeout())
+                    .run(plan, properties.warmup(), properties.duration());
+
+            log.info("[부하 테스트] 부하 종료 - consumer lag 해소 대기 (최대 {})", properties.drainTimeout());
+            Map<String, TopicLag> lags = lagMonitor.awaitDrained(properties.drainTimeout(), properties.lagSampleInterval());
+
+            LoadTestReport report = new LoadTestReport(
+                    startedAt,
+                    properties.warmup().toSeconds(),
+                    properties.duration().toSeconds(),
+                    plan.keySet().stream()
+                            .map(scenario -> LoadTestReport.ScenarioReport.of(
+                                    results.get(scenario.name()), scenario.topics(), lags))
+                            .toList()
+            );
+            new LoadTestReportWriter().write(report, reportDir);
+        }
+    }
+
+    /**
+     * 설정된 시나리오만 설정 순서대로 실행 (rate 0 이하는 제외)
+     */
+    private Map<Scenario, LoadTestProperties.ScenarioLoad> plan() {
+        Map<String, Scenario> byName = scenarios.stream()
+                .collect(Collectors.toMap(Scenario::name, Function.identity()));
+
+        Map<Scenario, LoadTestProperties.ScenarioLoad> plan = new LinkedHashMap<>();
+        properties.scenarios().forEach((name, load) -> {
+            Scenario scenario = byName.get(name);
+            if (scenario == null) {
+                throw new IllegalArgumentException("[부하 테스트] 알 수 없는 시나리오 - " + name + ", 사용 가능: " + byName.keySet());
+            }
+            if (load.rate() > 0) {
+                plan.put(scenario, load);
+            }
+        });
+        if (plan.isEmpty()) {
+            throw new IllegalArgumentException("[부하 테스트] 실행할 시나리오가 없습니다");
+        }
+        return plan;
+    }
+}
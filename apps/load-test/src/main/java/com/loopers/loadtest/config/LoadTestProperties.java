@@ -0,0 +1,73 @@
+package com.loopers.loadtest.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (load-test)
+ *
+ * @param warmup       지표 집계에서 제외하는 초기 구간
+ * @param duration     측정 구간
+ * @param drainTimeout 부하 종료 후 consumer lag 해소를 기다리는 최대 시간
+ * @param apps         기동할 애플리케이션 (이름 → 설정), pg-simulator → commerce-api → commerce-collector 순으로 기동
+ * @param scenarios    시나리오 이름 → 부하량
+ */
+@ConfigurationProperties("load-test")
+public record LoadTestProperties(
+        @DefaultValue("30s") Duration warmup,
+        @DefaultValue("3m") Duration duration,
+        @DefaultValue("2m") Duration drainTimeout,
+        @DefaultValue("1s") Duration lagSampleInterval,
+        @DefaultValue("5s") Duration requestTimeout,
+        @DefaultValue("build/load-test") String reportDir,
+        @DefaultValue("http://localhost:8080") String targetUrl,
+        Map<String, App> apps,
+        @DefaultValue Data data,
+        Map<String, ScenarioLoad> scenarios
+) {
+
+    /**
+     * @param jar            bootJar 경로
+     * @param profiles       spring.profiles.active
+     * @param healthUrl      기동 완료 확인 URL (2xx 응답 시 기동 완료)
+     * @param startupTimeout 기동 대기 최대 시간
+     * @param properties     명령행 인자로 전달할 추가 설정
+     */
+    public record App(
+            String jar,
+            @DefaultValue("local") String profiles,
+            String healthUrl,
+            @DefaultValue("5m") Duration startupTimeout,
+            @DefaultValue Map<String, String> properties
+    ) {
+    }
+
+    /**
+     * @param users        부하용 회원 수
+     * @param initialPoint 회원별 충전 포인트
+     * @param productCount 상품 ID 범위 (1 ~ productCount)
+     * @param hotProducts  조회/좋아요가 몰리는 인기 상품 수 (ID 1 ~ hotProducts)
+     * @param hotRatio     상세 조회 중 인기 상품 비율
+     */
+    public record Data(
+            @DefaultValue("200") int users,
+            @DefaultValue("1000000000") long initialPoint,
+            @DefaultValue("100000") long productCount,
+            @DefaultValue("50") int hotProducts,
+            @DefaultValue("0.8") double hotRatio
+    ) {
+    }
+
+    /**
+     * @param rate        초당 요청 수
+     * @param maxInFlight 동시에 대기 중인 요청 상한 (초과 시 요청을 보내지 않고 dropped 로 집계)
+     */
+    public record ScenarioLoad(
+            double rate,
+            @DefaultValue("500") int maxInFlight
+    ) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.loopers.loadtest.driver;
+
+import com.loopers.loadtest.config.LoadTestProperties;
+import com.loopers.loadtest.report.ScenarioResult;
+import com.loopers.loadtest.scenario.Scenario;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * open model 부하 드라이버
+ *
+ * - 시나리오마다 전용 스레드가 rate 에 맞춘 예정 시각마다 요청을 비동기로 보냄 (응답을 기다리지 않음)
+ * - 서버가 느려져도 요청 간격은 유지되며, latency 는 예정 시각 기준으로 기록
+ * - 대기 중인 요청이 max-in-flight 를 넘으면 보내지 않고 dropped 로 집계 (드라이버 자원 보호)
+ * - warmup 구간에 예정된 요청은 집계에서 제외
+ */
+@Slf4j
+public class OpenLoopDriver {
+
+    private final HttpClient httpClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration requestTimeout;
+
+    public OpenLoopDriver(Duration requestTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .executor(executor)
+                .build();
+        this.requestTimeout = requestTimeout;
+    }
+
+    public Map<String, ScenarioResult> run(Map<Scenario, LoadTestProperties.ScenarioLoad> plan,
+                                           Duration warmup, Duration duration) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long warmupEndNanos = startNanos + warmup.toNanos();
+        long endNanos = warmupEndNanos + duration.toNanos();
+
+        List<Runner> runners = new ArrayList<>();
+        plan.forEach((scenario, load) -> runners.add(new Runner(scenario, load, startNanos, warmupEndNanos, endNanos)));
+        runners.forEach(Runner::start);
+        log.info("[부하 테스트] 부하 시작 - 시나리오: {}, warmup: {}, 측정: {}",
+                plan.keySet().stream().map(Scenario::name).toList(), warmup, duration);
+
+        for (Runner runner : runners) {
+            runner.join();
+        }
+        for (Runner runner : runners) {
+            runner.awaitInFlight();
+        }
+
+        Map<String, ScenarioResult> results = new LinkedHashMap<>();
+        for (Runner runner : runners) {
+            results.put(runner.scenario.name(), runner.stats.snapshot(runner.scenario.name(), runner.load.rate(), duration));
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private class Runner {
+
+        private final Scenario scenario;
+        private final LoadTestProperties.ScenarioLoad load;
+        private final ScenarioStats stats = new ScenarioStats();
+        private final Semaphore inFlight;
+        private final long startNanos;
+        private final long warmupEndNanos;
+        private final long endNanos;
+        private Thread thread;
+
+        Runner(Scenario scenario, LoadTestProperties.ScenarioLoad load,
+               long startNanos, long warmupEndNanos, long endNanos) {
+            this.scenario = scenario;
+            this.load = load;
+            this.inFlight = new Semaphore(load.maxInFlight());
+            this.startNanos = startNanos;
+            this.warmupEndNanos = warmupEndNanos;
+            this.endNanos = endNanos;
+        }
+
+        void start() {
+            thread = Thread.ofPlatform().name("load-" + scenario.name()).start(this::loop);
+        }
+
+        void join() throws InterruptedException {
+            thread.join();
+        }
+
+        void awaitInFlight() throws InterruptedException {
+            long timeoutMillis = requestTimeout.toMillis() * 2;
+            if (!inFlight.tryAcquire(load.maxInFlight(), timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("[부하 테스트] {} 응답 대기 시간 초과 - 남은 요청: {}",
+                        scenario.name(), load.maxInFlight() - inFlight.availablePermits());
+            }
+        }
+
+        private void loop() {
+            long intervalNanos = (long) (1_000_000_000L / load.rate());
+            for (long scheduled = startNanos; scheduled < endNanos; scheduled += intervalNanos) {
+                long waitNanos = scheduled - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+
+                boolean measured = scheduled >= warmupEndNanos;
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        stats.recordDropped();
+                    }
+                    continue;
+                }
+                send(scheduled, measured);
+            }
+        }
+
+        private void send(long scheduledNanos, boolean measured) {
+            HttpRequest request;
+            try {
+                request = scenario.nextRequest();
+            } catch (RuntimeException e) {
+                inFlight.release();
+                log.warn("[부하 테스트] {} 요청 생성 실패 - {}", scenario.name(), e.getMessage());
+                return;
+            }
+
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, throwable) -> {
+                        inFlight.release();
+                        if (!measured) {
+                            return;
+                        }
+                        long latencyNanos = System.nanoTime() - scheduledNanos;
+                        if (throwable != null) {
+                            stats.recordFailure(latencyNanos);
+                        } else {
+                            stats.recordResponse(response.statusCode(), latencyNanos);
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.loopers.loadtest.driver;
+
+import com.loopers.loadtest.report.ScenarioResult;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 응답 집계
+ * - latency 는 요청 예정 시각부터 응답 완료까지 (드라이버 지연으로 인한 coordinated omission 보정)
+ * - 2xx 성공, 4xx 거절(재고 부족 등 비즈니스 실패 포함), 5xx 서버 오류, 타임아웃/연결 실패, in-flight 상한 초과로 보내지 않은 요청을 구분
+ */
+public class ScenarioStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder latency = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void recordResponse(int statusCode, long latencyNanos) {
+        recordLatency(latencyNanos);
+        if (statusCode >= 500) {
+            serverErrors.increment();
+        } else if (statusCode >= 400) {
+            clientErrors.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        recordLatency(latencyNanos);
+        failures.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    ScenarioResult snapshot(String scenario, double targetRate, Duration elapsed) {
+        Histogram histogram = latency.getIntervalHistogram();
+        long completed = success.sum() + clientErrors.sum() + serverErrors.sum() + failures.sum();
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+
+        return new ScenarioResult(
+                scenario,
+                targetRate,
+                completed + dropped.sum(),
+                success.sum(),
+                clientErrors.sum(),
+                serverErrors.sum(),
+                failures.sum(),
+                dropped.sum(),
+                completed / seconds,
+                success.sum() / seconds,
+                ScenarioResult.Latency.from(histogram)
+        );
+    }
+
+    private void recordLatency(long latencyNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+}
@@ -0,0 +1,60 @@
+package com.loopers.loadtest.infrastructure;
+
+import com.loopers.loadtest.config.LoadTestProperties;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 부하 대상 애플리케이션 묶음
+ * - 설정 순서대로 기동하고 각각 health 확인 후 다음 애플리케이션 기동
+ * - 종료는 기동 역순
+ */
+public class AppCluster implements AutoCloseable {
+
+    // 컨테이너 fixture 가 System property 로 등록한 인프라 접속 정보 중 애플리케이션에 전달할 항목
+    private static final String[] FORWARDED_PREFIXES = {"datasource.", "spring.kafka."};
+
+    private final Deque<AppProcess> processes = new ArrayDeque<>();
+
+    public static AppCluster start(Map<String, LoadTestProperties.App> apps, Path logDir)
+            throws IOException, InterruptedException {
+        Map<String, String> infraProperties = infraProperties();
+        AppCluster cluster = new AppCluster();
+        try {
+            for (Map.Entry<String, LoadTestProperties.App> entry : apps.entrySet()) {
+                LoadTestProperties.App app = entry.getValue();
+                AppProcess process = AppProcess.start(entry.getKey(), app, infraProperties, logDir);
+                cluster.processes.push(process);
+                process.awaitHealthy(app.healthUrl(), app.startupTimeout());
+            }
+            return cluster;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+    }
+
+    private static Map<String, String> infraProperties() {
+        Map<String, String> properties = new TreeMap<>();
+        System.getProperties().forEach((key, value) -> {
+            for (String prefix : FORWARDED_PREFIXES) {
+                if (key.toString().startsWith(prefix)) {
+                    properties.put(key.toString(), value.toString());
+                }
+            }
+        });
+        return properties;
+    }
+
+    @Override
+    public void close() {
+        while (!processes.isEmpty()) {
+            processes.pop().close();
+        }
+    }
+}
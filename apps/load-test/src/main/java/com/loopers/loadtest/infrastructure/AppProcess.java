@@ -0,0 +1,110 @@
+package com.loopers.loadtest.infrastructure;
+
+import com.loopers.loadtest.config.LoadTestProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 대상 애플리케이션 프로세스 (bootJar 를 별도 JVM 으로 실행)
+ * - 표준 출력은 logs/{name}.log 로 기록
+ */
+@Slf4j
+public class AppProcess implements AutoCloseable {
+
+    private static final Duration HEALTH_POLL_INTERVAL = Duration.ofSeconds(2);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+    private final Process process;
+    private final Path logFile;
+
+    private AppProcess(String name, Process process, Path logFile) {
+        this.name = name;
+        this.process = process;
+        this.logFile = logFile;
+    }
+
+    /**
+     * @param properties 인프라 접속 정보 등 명령행 인자로 전달할 설정 (앱별 설정보다 먼저 전달, 같은 키는 앱별 설정 우선)
+     */
+    public static AppProcess start(String name, LoadTestProperties.App app, Map<String, String> properties, Path logDir)
+            throws IOException {
+        if (app.jar() == null || !Files.exists(Path.of(app.jar()))) {
+            throw new IllegalStateException("[부하 테스트] " + name + " 실행 jar 를 찾을 수 없습니다 - jar: " + app.jar());
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-jar");
+        command.add(app.jar());
+        command.add("--spring.profiles.active=" + app.profiles());
+        properties.forEach((key, value) -> command.add("--" + key + "=" + value));
+        app.properties().forEach((key, value) -> command.add("--" + key + "=" + value));
+
+        Files.createDirectories(logDir);
+        Path logFile = logDir.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+
+        log.info("[부하 테스트] {} 기동 - pid: {}, 로그: {}", name, process.pid(), logFile);
+        return new AppProcess(name, process, logFile);
+    }
+
+    /**
+     * health URL 이 2xx 로 응답할 때까지 대기
+     */
+    public void awaitHealthy(String healthUrl, Duration timeout) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(HEALTH_POLL_INTERVAL).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(healthUrl)).timeout(HEALTH_POLL_INTERVAL).GET().build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("[부하 테스트] " + name + " 프로세스가 종료되었습니다 - exit: "
+                        + process.exitValue() + ", 로그: " + logFile);
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() / 100 == 2) {
+                    log.info("[부하 테스트] {} 기동 완료", name);
+                    return;
+                }
+            } catch (ConnectException e) {
+                // 아직 포트가 열리지 않음
+            } catch (IOException e) {
+                log.debug("[부하 테스트] {} health 확인 실패 - {}", name, e.getMessage());
+            }
+            Thread.sleep(HEALTH_POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("[부하 테스트] " + name + " 기동 대기 시간 초과 - " + timeout + ", 로그: " + logFile);
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(STOP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        log.info("[부하 테스트] {} 종료", name);
+    }
+}
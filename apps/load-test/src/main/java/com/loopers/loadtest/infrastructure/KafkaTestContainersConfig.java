@@ -0,0 +1,23 @@
+package com.loopers.loadtest.infrastructure;
+
+import org.springframework.context.annotation.Configuration;
+import org.testcontainers.kafka.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Kafka 컨테이너 (KRaft 단일 노드)
+ * - commerce-api 의 토픽 생성(KafkaAdmin)과 producer/consumer 가 같은 브로커를 보도록 admin 주소도 함께 설정
+ */
+@Configuration
+public class KafkaTestContainersConfig {
+
+    private static final KafkaContainer kafkaContainer;
+
+    static {
+        kafkaContainer = new KafkaContainer(DockerImageName.parse("apache/kafka:3.8.0"));
+        kafkaContainer.start();
+
+        System.setProperty("spring.kafka.bootstrap-servers", kafkaContainer.getBootstrapServers());
+        System.setProperty("spring.kafka.admin.properties.bootstrap.servers", kafkaContainer.getBootstrapServers());
+    }
+}
@@ -0,0 +1,152 @@
+package com.loopers.loadtest.report;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토픽별 consumer lag 수집
+ *
+ * - 주기적으로 컨슈머 그룹별 커밋 오프셋과 파티션 끝 오프셋의 차이를 합산
+ * - 토픽 lag = 해당 토픽을 커밋한 컨슈머 그룹 중 최대값 (가장 느린 소비자 기준)
+ * - 부하 종료 후에는 lag 이 0 이 될 때까지의 시간을 측정
+ */
+@Slf4j
+public class ConsumerLagMonitor implements AutoCloseable {
+
+    private static final long ADMIN_TIMEOUT_SECONDS = 10;
+
+    private final AdminClient admin;
+    private final Set<String> topics;
+    private final Map<String, Long> maxLag = new ConcurrentHashMap<>();
+    private final Map<String, Integer> consumerGroups = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("consumer-lag-monitor").daemon().factory());
+
+    public ConsumerLagMonitor(String bootstrapServers, Set<String> topics) {
+        this.admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, (int) TimeUnit.SECONDS.toMillis(ADMIN_TIMEOUT_SECONDS)
+        ));
+        this.topics = topics;
+    }
+
+    public void start(Duration interval) {
+        sampler.scheduleWithFixedDelay(this::sampleSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 부하 종료 후 모든 토픽의 lag 이 0 이 될 때까지 대기하고 토픽별 결과 반환
+     */
+    public Map<String, TopicLag> awaitDrained(Duration timeout, Duration interval)
+            throws InterruptedException, ExecutionException {
+        sampler.shutdownNow();
+
+        Map<String, Long> lagAtLoadEnd = sample();
+        Map<String, Long> drainMillis = new HashMap<>();
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + timeout.toNanos();
+
+        Map<String, Long> current = lagAtLoadEnd;
+        while (true) {
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+            current.forEach((topic, lag) -> {
+                if (lag == 0) {
+                    drainMillis.putIfAbsent(topic, elapsedMillis);
+                }
+            });
+            if (drainMillis.keySet().containsAll(current.keySet()) || System.nanoTime() >= deadline) {
+                break;
+            }
+            Thread.sleep(interval.toMillis());
+            current = sample();
+        }
+
+        Map<String, TopicLag> result = new LinkedHashMap<>();
+        for (String topic : topics) {
+            result.put(topic, new TopicLag(
+                    topic,
+                    Math.max(maxLag.getOrDefault(topic, 0L), lagAtLoadEnd.getOrDefault(topic, 0L)),
+                    lagAtLoadEnd.getOrDefault(topic, 0L),
+                    drainMillis.getOrDefault(topic, -1L),
+                    consumerGroups.getOrDefault(topic, 0)
+            ));
+        }
+        return result;
+    }
+
+    private void sampleSafely() {
+        try {
+            sample().forEach((topic, lag) -> maxLag.merge(topic, lag, Math::max));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            log.warn("[부하 테스트] consumer lag 조회 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 토픽 → lag (커밋 이력이 있는 컨슈머 그룹이 없는 토픽은 제외)
+     */
+    private Map<String, Long> sample() throws InterruptedException, ExecutionException {
+        Map<String, Map<TopicPartition, Long>> committedByGroup = new HashMap<>();
+        for (ConsumerGroupListing group : admin.listConsumerGroups().all().get()) {
+            Map<TopicPartition, OffsetAndMetadata> offsets = admin.listConsumerGroupOffsets(group.groupId())
+                    .partitionsToOffsetAndMetadata().get();
+            Map<TopicPartition, Long> committed = new HashMap<>();
+            offsets.forEach((partition, offset) -> {
+                if (offset != null && topics.contains(partition.topic())) {
+                    committed.put(partition, offset.offset());
+                }
+            });
+            if (!committed.isEmpty()) {
+                committedByGroup.put(group.groupId(), committed);
+            }
+        }
+
+        Map<TopicPartition, OffsetSpec> partitions = new HashMap<>();
+        committedByGroup.values().forEach(committed -> committed.keySet()
+                .forEach(partition -> partitions.put(partition, OffsetSpec.latest())));
+        if (partitions.isEmpty()) {
+            return Map.of();
+        }
+        Map<TopicPartition, Long> endOffsets = new HashMap<>();
+        admin.listOffsets(partitions).all().get()
+                .forEach((partition, info) -> endOffsets.put(partition, info.offset()));
+
+        Map<String, Long> lagByTopic = new HashMap<>();
+        Map<String, Integer> groupsByTopic = new HashMap<>();
+        committedByGroup.values().forEach(committed -> {
+            Map<String, Long> groupLag = new HashMap<>();
+            committed.forEach((partition, offset) -> groupLag.merge(
+                    partition.topic(), Math.max(0, endOffsets.getOrDefault(partition, offset) - offset), Long::sum));
+            groupLag.forEach((topic, lag) -> {
+                lagByTopic.merge(topic, lag, Math::max);
+                groupsByTopic.merge(topic, 1, Integer::sum);
+            });
+        });
+        consumerGroups.putAll(groupsByTopic);
+        return lagByTopic;
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+        admin.close(Duration.ofSeconds(ADMIN_TIMEOUT_SECONDS));
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.loadtest.report;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 리포트 (build/load-test/report.json)
+ *
+ * @param scenarios 시나리오별 처리량/latency 와 시나리오가 발행하는 토픽의 consumer lag
+ */
+public record LoadTestReport(
+        Instant startedAt,
+        long warmupSeconds,
+        long durationSeconds,
+        List<ScenarioReport> scenarios
+) {
+
+    public record ScenarioReport(ScenarioResult result, List<TopicLag> consumerLag) {
+
+        public static ScenarioReport of(ScenarioResult result, List<String> topics, Map<String, TopicLag> lags) {
+            return new ScenarioReport(result, topics.stream()
+                    .map(topic -> lags.getOrDefault(topic, new TopicLag(topic, 0, 0, -1, 0)))
+                    .toList());
+        }
+    }
+}
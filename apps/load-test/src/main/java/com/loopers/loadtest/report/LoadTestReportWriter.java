@@ -0,0 +1,72 @@
+package com.loopers.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 리포트 출력 - JSON 파일과 로그 요약 표
+ */
+@Slf4j
+public class LoadTestReportWriter {
+
+    private static final String REPORT_FILE = "report.json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    public Path write(LoadTestReport report, Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve(REPORT_FILE);
+        objectMapper.writeValue(file.toFile(), report);
+        log.info("[부하 테스트] 결과 요약 (측정 {}s)\n{}", report.durationSeconds(), summary(report));
+        log.info("[부하 테스트] 리포트 저장 - {}", file.toAbsolutePath());
+        return file;
+    }
+
+    private String summary(LoadTestReport report) {
+        StringBuilder table = new StringBuilder(String.format(
+                "%-16s %8s %8s %8s %6s %6s %6s %6s %9s %9s %9s %9s %9s  %s%n",
+                "scenario", "target/s", "done/s", "2xx/s", "4xx", "5xx", "fail", "drop",
+                "p50(ms)", "p95(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "consumer lag (max / at end / drain)"));
+
+        for (LoadTestReport.ScenarioReport scenario : report.scenarios()) {
+            ScenarioResult result = scenario.result();
+            ScenarioResult.Latency latency = result.latencyMillis();
+            table.append(String.format(
+                    "%-16s %8.1f %8.1f %8.1f %6d %6d %6d %6d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    result.scenario(), result.targetRate(), result.throughput(), result.successThroughput(),
+                    result.clientErrors(), result.serverErrors(), result.failures(), result.dropped(),
+                    latency.p50(), latency.p95(), latency.p99(), latency.p999(), latency.max(),
+                    lagSummary(scenario)));
+        }
+        return table.toString();
+    }
+
+    private String lagSummary(LoadTestReport.ScenarioReport scenario) {
+        if (scenario.consumerLag().isEmpty()) {
+            return "-";
+        }
+        StringBuilder summary = new StringBuilder();
+        for (TopicLag lag : scenario.consumerLag()) {
+            if (!summary.isEmpty()) {
+                summary.append(", ");
+            }
+            summary.append(lag.topic()).append(' ');
+            if (lag.consumerGroups() == 0) {
+                summary.append("(소비 그룹 없음)");
+            } else {
+                summary.append(lag.maxLag()).append(" / ").append(lag.lagAtLoadEnd()).append(" / ")
+                        .append(lag.drainMillis() >= 0 ? lag.drainMillis() + "ms" : "미해소");
+            }
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.loopers.loadtest.report;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 시나리오 측정 결과
+ *
+ * @param requests          측정 구간에 예정된 요청 수 (dropped 포함)
+ * @param clientErrors      4xx 응답 (재고 부족, 중복 좋아요 등 비즈니스 거절 포함)
+ * @param failures          타임아웃/연결 실패
+ * @param dropped           in-flight 상한 초과로 보내지 않은 요청
+ * @param throughput        초당 완료 요청 수
+ * @param successThroughput 초당 2xx 응답 수
+ */
+public record ScenarioResult(
+        String scenario,
+        double targetRate,
+        long requests,
+        long success,
+        long clientErrors,
+        long serverErrors,
+        long failures,
+        long dropped,
+        double throughput,
+        double successThroughput,
+        Latency latencyMillis
+) {
+
+    public record Latency(double p50, double p90, double p95, double p99, double p999, double max, double mean) {
+
+        private static final double MICROS_PER_MILLI = 1_000.0;
+
+        public static Latency from(Histogram micros) {
+            return new Latency(
+                    millis(micros.getValueAtPercentile(50)),
+                    millis(micros.getValueAtPercentile(90)),
+                    millis(micros.getValueAtPercentile(95)),
+                    millis(micros.getValueAtPercentile(99)),
+                    millis(micros.getValueAtPercentile(99.9)),
+                    millis(micros.getMaxValue()),
+                    micros.getMean() / MICROS_PER_MILLI
+            );
+        }
+
+        private static double millis(long micros) {
+            return micros / MICROS_PER_MILLI;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.loadtest.report;
+
+/**
+ * 토픽별 consumer lag (컨슈머 그룹 중 가장 뒤처진 그룹 기준)
+ *
+ * @param maxLag          부하 중 관측한 최대 lag
+ * @param lagAtLoadEnd    부하 종료 시점 lag
+ * @param drainMillis     부하 종료 후 lag 이 0 이 될 때까지 걸린 시간 (drain-timeout 안에 해소되지 않으면 -1)
+ * @param consumerGroups  lag 을 집계한 컨슈머 그룹 수 (0 이면 소비 그룹 없음)
+ */
+public record TopicLag(
+        String topic,
+        long maxLag,
+        long lagAtLoadEnd,
+        long drainMillis,
+        int consumerGroups
+) {
+}
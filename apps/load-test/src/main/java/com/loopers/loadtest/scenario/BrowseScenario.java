@@ -0,0 +1,44 @@
+package com.loopers.loadtest.scenario;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 목록 탐색 - 정렬/브랜드 필터/앞쪽 페이지 위주
+ */
+@Component
+@RequiredArgsConstructor
+public class BrowseScenario implements Scenario {
+
+    private static final String[] SORT_TYPES = {"LATEST", "PRICE_ASC", "LIKES_DESC"};
+    private static final int BRAND_COUNT = 10;
+    private static final int MAX_PAGE = 10;
+
+    private final ScenarioContext context;
+
+    @Override
+    public String name() {
+        return "browse";
+    }
+
+    @Override
+    public List<String> topics() {
+        return List.of();
+    }
+
+    @Override
+    public HttpRequest nextRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String query = "page=" + random.nextInt(MAX_PAGE)
+                + "&size=20"
+                + "&sortType=" + SORT_TYPES[random.nextInt(SORT_TYPES.length)];
+        if (random.nextBoolean()) {
+            query += "&brandId=" + (random.nextInt(BRAND_COUNT) + 1);
+        }
+        return context.get("/api/v1/products?" + query);
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.loadtest.scenario;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 카드 결제 주문 - pg-simulator 결제 요청 + 콜백 경로
+ */
+@Component
+public class CardCheckoutScenario extends CheckoutScenario {
+
+    private static final Map<String, Object> CARD_PAYMENT = Map.of(
+            "paymentType", "CARD",
+            "cardType", "SAMSUNG",
+            "cardNo", "1234-5678-9814-1451"
+    );
+
+    public CardCheckoutScenario(ScenarioContext context) {
+        super(context);
+    }
+
+    @Override
+    public String name() {
+        return "checkout-card";
+    }
+
+    @Override
+    protected Map<String, Object> payment() {
+        return CARD_PAYMENT;
+    }
+}
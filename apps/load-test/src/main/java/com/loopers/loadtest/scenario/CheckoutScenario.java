@@ -0,0 +1,56 @@
+package com.loopers.loadtest.scenario;
+
+import com.loopers.kafka.KafkaTopics;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주문 (결제 수단별 시나리오 공통) - 상품 1~3종, 상품별 수량 1~2
+ */
+public abstract class CheckoutScenario implements Scenario {
+
+    private static final int MAX_ITEM_KINDS = 3;
+    private static final int MAX_QUANTITY = 2;
+
+    protected final ScenarioContext context;
+
+    protected CheckoutScenario(ScenarioContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public List<String> topics() {
+        return List.of(KafkaTopics.ORDER);
+    }
+
+    @Override
+    public HttpRequest nextRequest() {
+        Map<String, Object> body = new HashMap<>(payment());
+        body.put("userId", context.randomUserId());
+        body.put("items", items());
+        return context.postJson("/api/v1/orders/new", body).build();
+    }
+
+    /**
+     * 결제 수단 필드 (paymentType, cardType, cardNo)
+     */
+    protected abstract Map<String, Object> payment();
+
+    private List<Map<String, Object>> items() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int kinds = random.nextInt(MAX_ITEM_KINDS) + 1;
+        List<Map<String, Object>> items = new ArrayList<>(kinds);
+        for (int i = 0; i < kinds; i++) {
+            items.add(Map.of(
+                    "productId", context.randomProductId(),
+                    "quantity", random.nextInt(MAX_QUANTITY) + 1
+            ));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,49 @@
+package com.loopers.loadtest.scenario;
+
+import com.loopers.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요/취소 폭주 - 인기 상품에 여러 회원의 좋아요와 취소가 번갈아 몰림
+ * - (회원, 상품) 별로 마지막 요청을 기억해 좋아요 → 취소 → 좋아요 순으로 토글
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeStormScenario implements Scenario {
+
+    private final ScenarioContext context;
+    private final Set<String> liked = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String name() {
+        return "like-storm";
+    }
+
+    @Override
+    public List<String> topics() {
+        return List.of(KafkaTopics.PRODUCT_LIKE);
+    }
+
+    @Override
+    public HttpRequest nextRequest() {
+        String userId = context.randomUserId();
+        long productId = context.randomHotProductId();
+        String key = userId + ":" + productId;
+
+        String path = liked.add(key) ? "/api/v1/product-likes/new" : cancel(key);
+        return context.postJson(path, productId)
+                .header("X-USER-ID", userId)
+                .build();
+    }
+
+    private String cancel(String key) {
+        liked.remove(key);
+        return "/api/v1/product-likes/cancel";
+    }
+}
@@ -0,0 +1,28 @@
+package com.loopers.loadtest.scenario;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 포인트 결제 주문 - 포인트 차감까지 한 트랜잭션에서 처리되는 경로
+ */
+@Component
+public class PointCheckoutScenario extends CheckoutScenario {
+
+    private static final Map<String, Object> POINT_PAYMENT = Map.of("paymentType", "POINT");
+
+    public PointCheckoutScenario(ScenarioContext context) {
+        super(context);
+    }
+
+    @Override
+    public String name() {
+        return "checkout-point";
+    }
+
+    @Override
+    protected Map<String, Object> payment() {
+        return POINT_PAYMENT;
+    }
+}
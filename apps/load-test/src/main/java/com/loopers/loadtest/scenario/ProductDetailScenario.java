@@ -0,0 +1,33 @@
+package com.loopers.loadtest.scenario;
+
+import com.loopers.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+
+/**
+ * 상품 상세 조회 - 인기 상품에 조회가 몰리는 분포 (조회수 이벤트 발행, 회원별 고유 조회자 집계)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductDetailScenario implements Scenario {
+
+    private final ScenarioContext context;
+
+    @Override
+    public String name() {
+        return "product-detail";
+    }
+
+    @Override
+    public List<String> topics() {
+        return List.of(KafkaTopics.PRODUCT);
+    }
+
+    @Override
+    public HttpRequest nextRequest() {
+        return context.get("/api/v1/products/" + context.skewedProductId(), "X-USER-ID", context.randomUserId());
+    }
+}
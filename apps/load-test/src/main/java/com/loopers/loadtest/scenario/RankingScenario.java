@@ -0,0 +1,40 @@
+package com.loopers.loadtest.scenario;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 랭킹 조회 - Top N 과 페이지 조회 혼합 (오늘 날짜)
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingScenario implements Scenario {
+
+    private static final String[] RANKING_TYPES = {"ALL", "LIKE", "VIEW", "ORDER"};
+
+    private final ScenarioContext context;
+
+    @Override
+    public String name() {
+        return "ranking";
+    }
+
+    @Override
+    public List<String> topics() {
+        return List.of();
+    }
+
+    @Override
+    public HttpRequest nextRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String type = RANKING_TYPES[random.nextInt(RANKING_TYPES.length)];
+        if (random.nextInt(4) == 0) {
+            return context.get("/api/v1/rankings?type=" + type + "&page=" + random.nextInt(5) + "&size=20");
+        }
+        return context.get("/api/v1/rankings/top?type=" + type + "&limit=10");
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.loadtest.scenario;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+
+/**
+ * 부하 시나리오 - 요청 1건을 만들어 반환
+ * - 호출 간격은 드라이버가 정하며 (open model), 시나리오는 요청 내용만 결정
+ */
+public interface Scenario {
+
+    /**
+     * 설정(load-test.scenarios)과 리포트에서 쓰는 이름
+     */
+    String name();
+
+    /**
+     * 이 시나리오가 이벤트를 발행하는 Kafka 토픽 (consumer lag 집계 대상)
+     */
+    List<String> topics();
+
+    HttpRequest nextRequest();
+}
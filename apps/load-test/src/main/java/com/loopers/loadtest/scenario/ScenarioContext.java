@@ -0,0 +1,81 @@
+package com.loopers.loadtest.scenario;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.loadtest.config.LoadTestProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시나리오 공통 - 대상 URL, 부하용 회원/상품 선택, 요청 생성
+ */
+@Component
+public class ScenarioContext {
+
+    private final String targetUrl;
+    private final Duration requestTimeout;
+    private final LoadTestProperties.Data data;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ScenarioContext(LoadTestProperties properties) {
+        this.targetUrl = properties.targetUrl();
+        this.requestTimeout = properties.requestTimeout();
+        this.data = properties.data();
+    }
+
+    public static String userId(int index) {
+        return String.format("lt%04d", index + 1);
+    }
+
+    public String randomUserId() {
+        return userId(ThreadLocalRandom.current().nextInt(data.users()));
+    }
+
+    public int userCount() {
+        return data.users();
+    }
+
+    public long randomProductId() {
+        return ThreadLocalRandom.current().nextLong(1, data.productCount() + 1);
+    }
+
+    public long randomHotProductId() {
+        return ThreadLocalRandom.current().nextLong(1, data.hotProducts() + 1);
+    }
+
+    /**
+     * hot-ratio 비율로 인기 상품, 나머지는 전체 상품 중 무작위
+     */
+    public long skewedProductId() {
+        return ThreadLocalRandom.current().nextDouble() < data.hotRatio() ? randomHotProductId() : randomProductId();
+    }
+
+    public HttpRequest get(String pathAndQuery) {
+        return request(pathAndQuery).GET().build();
+    }
+
+    public HttpRequest get(String pathAndQuery, String headerName, String headerValue) {
+        return request(pathAndQuery).header(headerName, headerValue).GET().build();
+    }
+
+    public HttpRequest.Builder postJson(String path, Object body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create(targetUrl + pathAndQuery))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json");
+    }
+}
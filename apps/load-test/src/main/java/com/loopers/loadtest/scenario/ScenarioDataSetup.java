@@ -0,0 +1,97 @@
+package com.loopers.loadtest.scenario;
+
+import com.loopers.loadtest.config.LoadTestProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하용 회원 생성 및 포인트 충전 (상품/브랜드는 commerce-api local 프로필 DataLoader 데이터 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScenarioDataSetup {
+
+    private static final int CONCURRENCY = 20;
+
+    private final ScenarioContext context;
+    private final LoadTestProperties properties;
+
+    public void prepare() throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        Semaphore permits = new Semaphore(CONCURRENCY);
+        AtomicInteger failed = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < context.userCount(); i++) {
+                String userId = ScenarioContext.userId(i);
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        if (!createUser(client, userId)) {
+                            failed.incrementAndGet();
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failed.incrementAndGet();
+                }
+            }
+        }
+
+        if (failed.get() == context.userCount()) {
+            throw new IllegalStateException("[부하 테스트] 부하용 회원을 한 명도 만들지 못했습니다");
+        }
+        log.info("[부하 테스트] 부하용 회원 준비 완료 - {}명 (실패 {}명)", context.userCount() - failed.get(), failed.get());
+    }
+
+    private boolean createUser(HttpClient client, String userId) {
+        HttpRequest signUp = context.postJson("/api/v1/users/new", Map.of(
+                "userId", userId,
+                "email", userId + "@loadtest.com",
+                "birthdate", "1990-01-01",
+                "gender", "MALE"
+        )).build();
+        HttpRequest charge = context.postJson("/api/v1/users/point/charge", Map.of(
+                "userId", userId,
+                "chargePoint", properties.data().initialPoint()
+        )).build();
+
+        try {
+            return isSuccess(client.send(signUp, HttpResponse.BodyHandlers.discarding()))
+                    && isSuccess(client.send(charge, HttpResponse.BodyHandlers.discarding()));
+        } catch (IOException e) {
+            log.warn("[부하 테스트] 회원 생성 실패 - userId: {}, {}", userId, e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isSuccess(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+}
@@ -6,6 +6,7 @@ import com.loopers.domain.payment.PaymentEventPublisher
 import com.loopers.domain.payment.PaymentRelay
 import com.loopers.domain.payment.PaymentRepository
 import com.loopers.domain.payment.TransactionKeyGenerator
+import com.loopers.domain.simulation.LoadProfile
 import com.loopers.domain.user.UserInfo
 import com.loopers.support.error.CoreException
 import com.loopers.support.error.ErrorType
@@ -18,10 +19,10 @@ class PaymentApplicationService(
     private val paymentEventPublisher: PaymentEventPublisher,
     private val paymentRelay: PaymentRelay,
     private val transactionKeyGenerator: TransactionKeyGenerator,
+    private val loadProfile: LoadProfile,
 ) {
     companion object {
-        private val RATE_LIMIT_EXCEEDED = (1..20)
-        private val RATE_INVALID_CARD = (21..30)
+        const val MAX_BULK_TRANSACTION_KEYS = 500
     }
 
     @Transactional
@@ -53,6 +54,24 @@ class PaymentApplicationService(
         return TransactionInfo.from(payment)
     }
 
+    /**
+     * 여러 트랜잭션의 상태를 한 번에 조회
+     * - 존재하지 않거나 다른 사용자의 트랜잭션 KEY 는 결과에서 제외된다.
+     */
+    @Transactional(readOnly = true)
+    fun getTransactionInfos(userInfo: UserInfo, transactionKeys: List<String>): List<TransactionInfo> {
+        val distinctKeys = transactionKeys.filter { it.isNotBlank() }.distinct()
+        if (distinctKeys.isEmpty()) {
+            throw CoreException(ErrorType.BAD_REQUEST, "조회할 트랜잭션 KEY 가 없습니다.")
+        }
+        if (distinctKeys.size > MAX_BULK_TRANSACTION_KEYS) {
+            throw CoreException(ErrorType.BAD_REQUEST, "한 번에 최대 ${MAX_BULK_TRANSACTION_KEYS}건까지 조회할 수 있습니다.")
+        }
+
+        return paymentRepository.findByTransactionKeys(userId = userInfo.userId, transactionKeys = distinctKeys)
+            .map { TransactionInfo.from(it) }
+    }
+
     @Transactional(readOnly = true)
     fun findTransactionsByOrderId(userInfo: UserInfo, orderId: String): OrderInfo {
         val payments = paymentRepository.findByOrderId(userId = userInfo.userId, orderId = orderId)
@@ -71,11 +90,10 @@ class PaymentApplicationService(
         val payment = paymentRepository.findByTransactionKey(transactionKey)
             ?: throw CoreException(ErrorType.NOT_FOUND, "(transactionKey: $transactionKey) 결제건이 존재하지 않습니다.")
 
-        val rate = (1..100).random()
-        when (rate) {
-            in RATE_LIMIT_EXCEEDED -> payment.limitExceeded()
-            in RATE_INVALID_CARD -> payment.invalidCard()
-            else -> payment.approve()
+        when (loadProfile.outcome()) {
+            LoadProfile.ProcessingOutcome.LIMIT_EXCEEDED -> payment.limitExceeded()
+            LoadProfile.ProcessingOutcome.INVALID_CARD -> payment.invalidCard()
+            LoadProfile.ProcessingOutcome.APPROVED -> payment.approve()
         }
         paymentEventPublisher.publish(event = PaymentEvent.PaymentHandled.from(payment))
     }
@@ -0,0 +1,36 @@
+package com.loopers.config.simulation
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.support.AbstractPlatformTransactionManager
+import org.springframework.transaction.support.DefaultTransactionStatus
+import org.springframework.transaction.support.TransactionSynchronizationManager
+
+/**
+ * 인메모리 저장소 모드 (simulator.store=memory) 트랜잭션 설정
+ *
+ * - @Transactional 이 DB 커넥션을 잡지 않도록 JpaTransactionManager 대신 리소스 없는 트랜잭션 매니저 사용
+ * - 트랜잭션 동기화는 유지되므로 @TransactionalEventListener(AFTER_COMMIT) 흐름은 그대로 동작
+ */
+@Configuration
+@ConditionalOnProperty(name = ["simulator.store"], havingValue = "memory")
+class InMemoryStoreConfig {
+
+    @Bean
+    fun transactionManager(): PlatformTransactionManager = ResourcelessTransactionManager()
+
+    private class ResourcelessTransactionManager : AbstractPlatformTransactionManager() {
+        override fun doGetTransaction(): Any = TransactionSynchronizationManager.isActualTransactionActive()
+
+        override fun isExistingTransaction(transaction: Any): Boolean = transaction as Boolean
+
+        override fun doBegin(transaction: Any, definition: TransactionDefinition) = Unit
+
+        override fun doCommit(status: DefaultTransactionStatus) = Unit
+
+        override fun doRollback(status: DefaultTransactionStatus) = Unit
+    }
+}
@@ -10,11 +10,14 @@ class TransactionKeyGenerator {
     companion object {
         private const val KEY_TRANSACTION = "TR"
         private val DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd")
+
+        // 하루 수천만 건(5k TPS)에서도 충돌하지 않도록 UUID 12자리 사용
+        private const val RANDOM_LENGTH = 12
     }
 
     fun generate(): String {
         val now = LocalDateTime.now()
-        val uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 6)
+        val uuid = UUID.randomUUID().toString().replace("-", "").substring(0, RANDOM_LENGTH)
         return "${DATETIME_FORMATTER.format(now)}:$KEY_TRANSACTION:$uuid"
     }
 }
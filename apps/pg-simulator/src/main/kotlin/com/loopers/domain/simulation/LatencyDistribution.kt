@@ -0,0 +1,56 @@
+package com.loopers.domain.simulation
+
+import java.time.Duration
+import java.util.random.RandomGenerator
+import kotlin.math.exp
+import kotlin.math.ln
+
+/**
+ * 응답 지연 분포
+ *
+ * - FIXED: median 고정
+ * - UNIFORM: [min, max] 균등 분포
+ * - LOG_NORMAL: 중앙값 median, 형태 sigma 인 로그 정규 분포 (긴 꼬리)
+ * - BIMODAL: slow-ratio 확률로 느린 모드(slow-median, slow-sigma), 나머지는 빠른 모드(median, sigma)
+ *   (캐시 미스, GC, 외부 카드사 재시도처럼 두 갈래로 나뉘는 응답 시간 재현)
+ * - 모든 분포는 [min, max]로 제한 (max 가 0이면 상한 없음)
+ */
+data class LatencyDistribution(
+    val type: Type = Type.FIXED,
+    val min: Duration = Duration.ZERO,
+    val max: Duration = Duration.ZERO,
+    val median: Duration = Duration.ZERO,
+    val sigma: Double = 0.5,
+    val slowMedian: Duration = Duration.ZERO,
+    val slowSigma: Double = 0.5,
+    val slowRatio: Double = 0.0,
+) {
+    enum class Type {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL,
+        BIMODAL,
+    }
+
+    fun sampleNanos(random: RandomGenerator): Long {
+        val nanos = when (type) {
+            Type.FIXED -> median.toNanos()
+            Type.UNIFORM -> min.toNanos() + (random.nextDouble() * (max.toNanos() - min.toNanos())).toLong()
+            Type.LOG_NORMAL -> logNormal(random, median, sigma)
+            Type.BIMODAL -> if (random.nextDouble() < slowRatio) {
+                logNormal(random, slowMedian, slowSigma)
+            } else {
+                logNormal(random, median, sigma)
+            }
+        }
+        val upper = if (max.isZero) Long.MAX_VALUE else max.toNanos()
+        return nanos.coerceIn(min.toNanos(), upper)
+    }
+
+    private fun logNormal(random: RandomGenerator, median: Duration, sigma: Double): Long {
+        if (median.isZero) {
+            return 0L
+        }
+        return exp(ln(median.toNanos().toDouble()) + sigma * random.nextGaussian()).toLong()
+    }
+}
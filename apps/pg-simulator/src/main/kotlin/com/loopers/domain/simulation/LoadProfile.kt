@@ -0,0 +1,104 @@
+package com.loopers.domain.simulation
+
+import com.loopers.support.error.CoreException
+import com.loopers.support.error.ErrorType
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.EnumMap
+import java.util.SplittableRandom
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.atomic.AtomicLong
+import java.util.random.RandomGenerator
+
+/**
+ * 지연/실패 프로파일 엔진
+ *
+ * - 엔드포인트별 지연 분포, 실패 확률, 장애 구간을 적용
+ * - seed 가 있으면 (seed, 엔드포인트, 요청 순번)으로 난수를 만들어 동시 요청 순서와 무관하게 같은 결과 분포를 재현
+ * - seed 가 없으면 스레드별 난수 사용
+ */
+@Component
+class LoadProfile(
+    private val properties: SimulationProperties,
+) {
+    private val startedAtNanos = System.nanoTime()
+    private val sequences = EnumMap<SimulationEndpoint, AtomicLong>(SimulationEndpoint::class.java).apply {
+        SimulationEndpoint.entries.forEach { put(it, AtomicLong()) }
+    }
+    private val outcomeSequence = AtomicLong()
+
+    data class Sample(
+        val latency: Duration,
+        val failed: Boolean,
+    )
+
+    enum class ProcessingOutcome {
+        APPROVED,
+        LIMIT_EXCEEDED,
+        INVALID_CARD,
+    }
+
+    /**
+     * 요청 1건의 지연 시간과 실패 여부 결정
+     */
+    fun sample(endpoint: SimulationEndpoint): Sample = sample(endpoint, System.nanoTime() - startedAtNanos)
+
+    /**
+     * 기동 후 elapsedNanos 시점의 요청 1건 결정 - 장애 구간 판정을 시계와 분리
+     */
+    internal fun sample(endpoint: SimulationEndpoint, elapsedNanos: Long): Sample {
+        val profile = properties.profileOf(endpoint)
+        val random = randomFor(endpoint.ordinal.toLong(), sequences.getValue(endpoint).getAndIncrement())
+
+        var latencyNanos = profile.latency.sampleNanos(random)
+        var failureRate = profile.failureRate
+        for (outage in profile.outages) {
+            if (outage.isActive(elapsedNanos)) {
+                latencyNanos += outage.extraLatency.toNanos()
+                failureRate = maxOf(failureRate, outage.failureRate)
+            }
+        }
+
+        return Sample(
+            latency = Duration.ofNanos(latencyNanos),
+            failed = random.nextDouble() < failureRate,
+        )
+    }
+
+    /**
+     * 프로파일에 따라 지연시킨 뒤 실패 구간이면 서버 오류 발생
+     */
+    fun apply(endpoint: SimulationEndpoint) {
+        val sample = sample(endpoint)
+        if (!sample.latency.isZero) {
+            Thread.sleep(sample.latency)
+        }
+        if (sample.failed) {
+            throw CoreException(ErrorType.INTERNAL_ERROR, "현재 서버가 불안정합니다. 잠시 후 다시 시도해주세요.")
+        }
+    }
+
+    /**
+     * 결제 처리 결과 결정 (한도초과 / 잘못된 카드 / 승인)
+     */
+    fun outcome(): ProcessingOutcome {
+        val roll = randomFor(OUTCOME_STREAM, outcomeSequence.getAndIncrement()).nextDouble()
+        val outcome = properties.outcome
+        return when {
+            roll < outcome.limitExceededRate -> ProcessingOutcome.LIMIT_EXCEEDED
+            roll < outcome.limitExceededRate + outcome.invalidCardRate -> ProcessingOutcome.INVALID_CARD
+            else -> ProcessingOutcome.APPROVED
+        }
+    }
+
+    private fun randomFor(stream: Long, sequence: Long): RandomGenerator {
+        val seed = properties.seed ?: return ThreadLocalRandom.current()
+        return SplittableRandom(seed xor (stream * STREAM_MULTIPLIER) xor (sequence * SEQUENCE_MULTIPLIER))
+    }
+
+    companion object {
+        private const val OUTCOME_STREAM = -1L
+        private const val STREAM_MULTIPLIER = -0x61c8864680b583ebL
+        private const val SEQUENCE_MULTIPLIER = -0x4b47d5b1d8e7d3a5L
+    }
+}
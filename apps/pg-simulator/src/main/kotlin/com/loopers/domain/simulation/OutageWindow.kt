@@ -0,0 +1,27 @@
+package com.loopers.domain.simulation
+
+import java.time.Duration
+
+/**
+ * 장애 구간
+ *
+ * - 시뮬레이터 기동 후 start 부터 duration 동안 failure-rate 로 실패하고 extra-latency 만큼 추가 지연
+ * - every 가 0보다 크면 같은 구간을 주기적으로 반복
+ * - 시작 시점과 실패율을 달리한 구간을 여러 개 두면 단계적으로 악화/회복되는 장애를 재현
+ */
+data class OutageWindow(
+    val start: Duration = Duration.ZERO,
+    val duration: Duration = Duration.ZERO,
+    val every: Duration = Duration.ZERO,
+    val failureRate: Double = 1.0,
+    val extraLatency: Duration = Duration.ZERO,
+) {
+    fun isActive(elapsedNanos: Long): Boolean {
+        val offset = elapsedNanos - start.toNanos()
+        if (offset < 0) {
+            return false
+        }
+        val position = if (every.isZero) offset else offset % every.toNanos()
+        return position < duration.toNanos()
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.simulation
+
+/**
+ * 지연/실패 프로파일을 적용하는 구간
+ */
+enum class SimulationEndpoint {
+    /** 결제 요청 (POST /api/v1/payments) */
+    REQUEST,
+
+    /** 결제 처리 - 요청 접수 후 승인/거절 확정까지의 대기 */
+    PROCESSING,
+
+    /** 결제 단건/주문별 조회 */
+    QUERY,
+
+    /** 결제 상태 일괄 조회 (POST /api/v1/payments/status) */
+    BULK_QUERY,
+}
@@ -0,0 +1,60 @@
+package com.loopers.domain.simulation
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+/**
+ * PG 시뮬레이터 부하 프로파일 설정 (simulator.*)
+ *
+ * @property seed 지정하면 엔드포인트별 n번째 요청이 항상 같은 지연/실패 결과를 받는다 (재현 가능한 성능 테스트)
+ * @property store jpa(MySQL) | memory(인메모리 저장소 - 처리량 측정용)
+ */
+@ConfigurationProperties("simulator")
+data class SimulationProperties(
+    val seed: Long? = null,
+    val store: Store = Store.JPA,
+    val request: EndpointProfile = EndpointProfile(),
+    val processing: EndpointProfile = EndpointProfile(),
+    val query: EndpointProfile = EndpointProfile(),
+    val bulkQuery: EndpointProfile = EndpointProfile(),
+    val outcome: Outcome = Outcome(),
+    val memory: Memory = Memory(),
+) {
+    enum class Store {
+        JPA,
+        MEMORY,
+    }
+
+    /**
+     * 엔드포인트별 지연/실패 프로파일
+     *
+     * @property failureRate 평상시 요청 실패 확률 (0.0 ~ 1.0)
+     * @property outages 장애 구간 - 구간이 겹치면 실패 확률은 가장 큰 값, 추가 지연은 합산
+     */
+    data class EndpointProfile(
+        val latency: LatencyDistribution = LatencyDistribution(),
+        val failureRate: Double = 0.0,
+        val outages: List<OutageWindow> = emptyList(),
+    )
+
+    /**
+     * 결제 처리 결과 비율 - 나머지는 승인
+     */
+    data class Outcome(
+        val limitExceededRate: Double = 0.0,
+        val invalidCardRate: Double = 0.0,
+    )
+
+    /**
+     * @property maxEntries 인메모리 저장소 최대 보관 건수 - 초과 시 오래된 결제부터 제거
+     */
+    data class Memory(
+        val maxEntries: Int = 1_000_000,
+    )
+
+    fun profileOf(endpoint: SimulationEndpoint): EndpointProfile = when (endpoint) {
+        SimulationEndpoint.REQUEST -> request
+        SimulationEndpoint.PROCESSING -> processing
+        SimulationEndpoint.QUERY -> query
+        SimulationEndpoint.BULK_QUERY -> bulkQuery
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.infrastructure.payment
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import java.time.Duration
+
+/**
+ * 결제 결과 콜백 전송 설정 (simulator.callback.*)
+ *
+ * @property maxConcurrencyPerHost 콜백 대상 호스트별 동시 전송 수
+ * @property maxPending 전송 대기 중인 콜백 최대 수 - 초과분은 버리고 pg.callback.dropped 로 집계
+ * @property maxAttempts 최초 전송 포함 최대 시도 횟수
+ * @property backoff 재시도 기본 간격 - 시도마다 2배씩 늘린 범위 안에서 무작위로 대기 (full jitter)
+ */
+@ConfigurationProperties("simulator.callback")
+data class CallbackDispatchProperties(
+    val connectTimeout: Duration = Duration.ofSeconds(1),
+    val requestTimeout: Duration = Duration.ofSeconds(3),
+    val maxConcurrencyPerHost: Int = 64,
+    val maxPending: Int = 100_000,
+    val maxAttempts: Int = 5,
+    val backoff: Duration = Duration.ofMillis(200),
+    val maxBackoff: Duration = Duration.ofSeconds(5),
+    val batch: Batch = Batch(),
+) {
+    /**
+     * 콜백 묶음 전송 - 같은 콜백 URL 로 가는 결과를 linger 동안 모아 {callbackUrl}/batch 로 한 번에 전송
+     */
+    data class Batch(
+        val enabled: Boolean = false,
+        val maxSize: Int = 100,
+        val linger: Duration = Duration.ofMillis(20),
+    )
+}
@@ -0,0 +1,68 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.Payment
+import com.loopers.domain.payment.PaymentRepository
+import com.loopers.domain.simulation.SimulationProperties
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * 인메모리 결제 저장소 (simulator.store=memory)
+ *
+ * - MySQL 없이 처리량을 측정하기 위한 저장소 - 재기동하면 결제 정보가 사라진다
+ * - 결제 상태 변경은 저장된 객체를 직접 바꾸므로 JPA 변경 감지와 같은 결과
+ * - simulator.memory.max-entries 를 넘으면 오래된 결제부터 제거
+ */
+@Component
+@ConditionalOnProperty(name = ["simulator.store"], havingValue = "memory")
+class InMemoryPaymentRepository(
+    properties: SimulationProperties,
+) : PaymentRepository {
+    private val maxEntries = properties.memory.maxEntries
+    private val payments = ConcurrentHashMap<String, Payment>()
+    private val paymentsByOrder = ConcurrentHashMap<String, MutableList<Payment>>()
+    private val insertionOrder = ConcurrentLinkedQueue<String>()
+
+    override fun save(payment: Payment): Payment {
+        if (payments.putIfAbsent(payment.transactionKey, payment) == null) {
+            paymentsByOrder.computeIfAbsent(orderKey(payment.userId, payment.orderId)) { CopyOnWriteArrayList() }
+                .add(payment)
+            insertionOrder.add(payment.transactionKey)
+            evictOverflow()
+        }
+        return payment
+    }
+
+    override fun findByTransactionKey(transactionKey: String): Payment? {
+        return payments[transactionKey]
+    }
+
+    override fun findByTransactionKey(userId: String, transactionKey: String): Payment? {
+        return payments[transactionKey]?.takeIf { it.userId == userId }
+    }
+
+    override fun findByOrderId(userId: String, orderId: String): List<Payment> {
+        return paymentsByOrder[orderKey(userId, orderId)].orEmpty()
+            .sortedByDescending { it.updatedAt }
+    }
+
+    override fun findByTransactionKeys(userId: String, transactionKeys: Collection<String>): List<Payment> {
+        return transactionKeys.mapNotNull { findByTransactionKey(userId, it) }
+    }
+
+    private fun evictOverflow() {
+        while (payments.size > maxEntries) {
+            val oldest = insertionOrder.poll() ?: return
+            val evicted = payments.remove(oldest) ?: continue
+            paymentsByOrder.computeIfPresent(orderKey(evicted.userId, evicted.orderId)) { _, list ->
+                list.remove(evicted)
+                list.ifEmpty { null }
+            }
+        }
+    }
+
+    private fun orderKey(userId: String, orderId: String) = "$userId:$orderId"
+}
@@ -1,21 +1,208 @@
 package com.loopers.infrastructure.payment
 
+import com.fasterxml.jackson.databind.ObjectMapper
 import com.loopers.application.payment.TransactionInfo
 import com.loopers.domain.payment.PaymentRelay
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
 import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.DisposableBean
 import org.springframework.stereotype.Component
-import org.springframework.web.client.RestTemplate
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.Semaphore
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
+/**
+ * 결제 결과 콜백 전송기
+ *
+ * - notify 는 전송 대기열에 넣고 바로 반환, 전송은 가상 스레드에서 진행
+ * - 커넥션을 재사용하는 HttpClient 하나를 공유하고 연결/응답 타임아웃 적용
+ * - 콜백 대상 호스트별 동시 전송 수 제한 - 수신 측이 느려지면 대기열에서 기다림
+ * - 네트워크 오류, 429, 5xx 응답은 지수 백오프(full jitter)로 재시도
+ * - 묶음 전송을 켜면 같은 콜백 URL 의 결과를 모아 {callbackUrl}/batch 로 전송
+ *
+ * 메트릭: pg.callback.delivery (결과 확정부터 전송 완료까지, result=success|failure, 히스토그램),
+ *        pg.callback.retries, pg.callback.dropped, pg.callback.pending
+ */
 @Component
-class PaymentCoreRelay : PaymentRelay {
+class PaymentCoreRelay(
+    private val properties: CallbackDispatchProperties,
+    private val objectMapper: ObjectMapper,
+    private val meterRegistry: MeterRegistry,
+) : PaymentRelay, DisposableBean {
     companion object {
         private val logger = LoggerFactory.getLogger(PaymentCoreRelay::class.java)
-        private val restTemplate = RestTemplate()
+        private const val BATCH_PATH = "/batch"
     }
 
+    private val executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pg-callback-", 0).factory())
+    private val httpClient = HttpClient.newBuilder()
+        .connectTimeout(properties.connectTimeout)
+        .executor(executor)
+        .build()
+    private val hostLimits = ConcurrentHashMap<String, Semaphore>()
+    private val batches = ConcurrentHashMap<String, ConcurrentLinkedQueue<Delivery>>()
+    private val batchScheduler = if (properties.batch.enabled) {
+        Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("pg-callback-batch").daemon().factory())
+            .apply {
+                val lingerNanos = properties.batch.linger.toNanos()
+                scheduleWithFixedDelay(::flushBatches, lingerNanos, lingerNanos, TimeUnit.NANOSECONDS)
+            }
+    } else {
+        null
+    }
+
+    private val pending = AtomicInteger()
+    private val retries = Counter.builder("pg.callback.retries")
+        .description("콜백 재전송 횟수")
+        .register(meterRegistry)
+    private val dropped = Counter.builder("pg.callback.dropped")
+        .description("대기열이 가득 차 버린 콜백 수")
+        .register(meterRegistry)
+    private val deliveredTimer = deliveryTimer("success")
+    private val failedTimer = deliveryTimer("failure")
+
+    init {
+        Gauge.builder("pg.callback.pending", pending) { it.get().toDouble() }
+            .description("전송 대기/진행 중인 콜백 수")
+            .register(meterRegistry)
+    }
+
+    private data class Delivery(
+        val callbackUrl: String,
+        val transactionInfo: TransactionInfo,
+        val enqueuedAtNanos: Long,
+    )
+
     override fun notify(callbackUrl: String, transactionInfo: TransactionInfo) {
-        runCatching {
-            restTemplate.postForEntity(callbackUrl, transactionInfo, Any::class.java)
-        }.onFailure { e -> logger.error("콜백 호출을 실패했습니다. {}", e.message, e) }
+        if (pending.incrementAndGet() > properties.maxPending) {
+            pending.decrementAndGet()
+            dropped.increment()
+            logger.error("콜백 대기열이 가득 차 콜백을 버렸습니다. (transactionKey: {})", transactionInfo.transactionKey)
+            return
+        }
+
+        val delivery = Delivery(callbackUrl, transactionInfo, System.nanoTime())
+        if (batchScheduler != null) {
+            batches.computeIfAbsent(callbackUrl) { ConcurrentLinkedQueue() }.add(delivery)
+        } else {
+            executor.execute { deliver(URI.create(callbackUrl), transactionInfo, listOf(delivery)) }
+        }
+    }
+
+    override fun destroy() {
+        batchScheduler?.shutdown()
+        flushBatches()
+        executor.shutdown()
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("종료 전에 전송하지 못한 콜백이 있습니다. (pending: {})", pending.get())
+        }
+    }
+
+    private fun flushBatches() {
+        batches.forEach { (callbackUrl, queue) ->
+            while (true) {
+                val chunk = generateSequence { queue.poll() }.take(properties.batch.maxSize).toList()
+                if (chunk.isEmpty()) {
+                    break
+                }
+                val target = URI.create(callbackUrl.trimEnd('/') + BATCH_PATH)
+                executor.execute { deliver(target, chunk.map { it.transactionInfo }, chunk) }
+            }
+        }
     }
+
+    /**
+     * 전송 성공 또는 최대 시도 횟수까지 재시도
+     */
+    private fun deliver(target: URI, payload: Any, deliveries: List<Delivery>) {
+        val body = objectMapper.writeValueAsBytes(payload)
+        val limit = hostLimits.computeIfAbsent(target.authority) { Semaphore(properties.maxConcurrencyPerHost) }
+
+        var attempt = 1
+        var delivered = false
+        try {
+            while (true) {
+                limit.acquire()
+                val result = try {
+                    send(target, body)
+                } finally {
+                    limit.release()
+                }
+                if (result == SendResult.SUCCESS) {
+                    delivered = true
+                    break
+                }
+                if (result == SendResult.REJECTED || attempt >= properties.maxAttempts) {
+                    logger.error("콜백 전송을 실패했습니다. (target: {}, 건수: {}, 시도: {})", target, deliveries.size, attempt)
+                    break
+                }
+                retries.increment()
+                Thread.sleep(backoff(attempt))
+                attempt++
+            }
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+        } finally {
+            val completedAtNanos = System.nanoTime()
+            val timer = if (delivered) deliveredTimer else failedTimer
+            deliveries.forEach { timer.record(completedAtNanos - it.enqueuedAtNanos, TimeUnit.NANOSECONDS) }
+            pending.addAndGet(-deliveries.size)
+        }
+    }
+
+    private enum class SendResult {
+        SUCCESS,
+        RETRYABLE,
+        REJECTED,
+    }
+
+    private fun send(target: URI, body: ByteArray): SendResult {
+        val request = HttpRequest.newBuilder(target)
+            .timeout(properties.requestTimeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build()
+
+        return runCatching { httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() }
+            .fold(
+                onSuccess = { status ->
+                    when {
+                        status in 200..299 -> SendResult.SUCCESS
+                        status == 429 || status >= 500 -> SendResult.RETRYABLE
+                        else -> SendResult.REJECTED
+                    }
+                },
+                onFailure = { e ->
+                    if (e is InterruptedException) throw e
+                    logger.warn("콜백 호출 중 오류가 발생했습니다. (target: {}) {}", target, e.message)
+                    SendResult.RETRYABLE
+                },
+            )
+    }
+
+    private fun backoff(attempt: Int): Duration {
+        val ceiling = properties.backoff.toNanos()
+            .shl(minOf(attempt - 1, 20))
+            .coerceAtMost(properties.maxBackoff.toNanos())
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1))
+    }
+
+    private fun deliveryTimer(result: String): Timer =
+        Timer.builder("pg.callback.delivery")
+            .description("결제 결과 확정부터 콜백 전송 완료까지 걸린 시간")
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
 }
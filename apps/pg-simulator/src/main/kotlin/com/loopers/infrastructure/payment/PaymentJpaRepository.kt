@@ -6,4 +6,5 @@ import org.springframework.data.jpa.repository.JpaRepository
 interface PaymentJpaRepository : JpaRepository<Payment, String> {
     fun findByUserIdAndTransactionKey(userId: String, transactionKey: String): Payment?
     fun findByUserIdAndOrderId(userId: String, orderId: String): List<Payment>
+    fun findByUserIdAndTransactionKeyIn(userId: String, transactionKeys: Collection<String>): List<Payment>
 }
@@ -2,9 +2,9 @@ package com.loopers.interfaces.api.payment
 
 import com.loopers.application.payment.PaymentApplicationService
 import com.loopers.interfaces.api.ApiResponse
+import com.loopers.domain.simulation.LoadProfile
+import com.loopers.domain.simulation.SimulationEndpoint
 import com.loopers.domain.user.UserInfo
-import com.loopers.support.error.CoreException
-import com.loopers.support.error.ErrorType
 import org.springframework.web.bind.annotation.GetMapping
 import org.springframework.web.bind.annotation.PathVariable
 import org.springframework.web.bind.annotation.PostMapping
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController
 @RequestMapping("/api/v1/payments")
 class PaymentApi(
     private val paymentApplicationService: PaymentApplicationService,
+    private val loadProfile: LoadProfile,
 ) {
     @PostMapping
     fun request(
@@ -25,13 +26,8 @@ class PaymentApi(
     ): ApiResponse<PaymentDto.TransactionResponse> {
         request.validate()
 
-        // 100ms ~ 500ms 지연
-        Thread.sleep((100..500L).random())
-
-        // 40% 확률로 요청 실패
-        if ((1..100).random() <= 40) {
-            throw CoreException(ErrorType.INTERNAL_ERROR, "현재 서버가 불안정합니다. 잠시 후 다시 시도해주세요.")
-        }
+        // 프로파일에 따른 지연 및 요청 실패 (simulator.request)
+        loadProfile.apply(SimulationEndpoint.REQUEST)
 
         return paymentApplicationService.createTransaction(request.toCommand(userInfo.userId))
             .let { PaymentDto.TransactionResponse.from(it) }
@@ -43,16 +39,29 @@ class PaymentApi(
         userInfo: UserInfo,
         @PathVariable("transactionKey") transactionKey: String,
     ): ApiResponse<PaymentDto.TransactionDetailResponse> {
+        loadProfile.apply(SimulationEndpoint.QUERY)
         return paymentApplicationService.getTransactionDetailInfo(userInfo, transactionKey)
             .let { PaymentDto.TransactionDetailResponse.from(it) }
             .let { ApiResponse.success(it) }
     }
 
+    @PostMapping("/status")
+    fun getTransactionStatuses(
+        userInfo: UserInfo,
+        @RequestBody request: PaymentDto.TransactionStatusRequest,
+    ): ApiResponse<PaymentDto.TransactionListResponse> {
+        loadProfile.apply(SimulationEndpoint.BULK_QUERY)
+        return paymentApplicationService.getTransactionInfos(userInfo, request.transactionKeys)
+            .let { PaymentDto.TransactionListResponse.from(it) }
+            .let { ApiResponse.success(it) }
+    }
+
     @GetMapping
     fun getTransactionsByOrder(
         userInfo: UserInfo,
         @RequestParam("orderId", required = false) orderId: String,
     ): ApiResponse<PaymentDto.OrderResponse> {
+        loadProfile.apply(SimulationEndpoint.QUERY)
         return paymentApplicationService.findTransactionsByOrderId(userInfo, orderId)
             .let { PaymentDto.OrderResponse.from(it) }
             .let { ApiResponse.success(it) }
@@ -85,6 +85,21 @@ object PaymentDto {
         }
     }
 
+    data class TransactionStatusRequest(
+        val transactionKeys: List<String>,
+    )
+
+    data class TransactionListResponse(
+        val transactions: List<TransactionResponse>,
+    ) {
+        companion object {
+            fun from(transactionInfos: List<TransactionInfo>): TransactionListResponse =
+                TransactionListResponse(
+                    transactions = transactionInfos.map { TransactionResponse.from(it) },
+                )
+        }
+    }
+
     data class OrderResponse(
         val orderId: String,
         val transactions: List<TransactionResponse>,
@@ -2,6 +2,9 @@ package com.loopers.interfaces.event.payment
 
 import com.loopers.application.payment.PaymentApplicationService
 import com.loopers.domain.payment.PaymentEvent
+import com.loopers.domain.simulation.LoadProfile
+import com.loopers.domain.simulation.SimulationEndpoint
+import org.slf4j.LoggerFactory
 import org.springframework.scheduling.annotation.Async
 import org.springframework.stereotype.Component
 import org.springframework.transaction.event.TransactionPhase
@@ -10,12 +13,24 @@ import org.springframework.transaction.event.TransactionalEventListener
 @Component
 class PaymentEventListener(
     private val paymentApplicationService: PaymentApplicationService,
+    private val loadProfile: LoadProfile,
 ) {
+    companion object {
+        private val logger = LoggerFactory.getLogger(PaymentEventListener::class.java)
+    }
+
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     fun handle(event: PaymentEvent.PaymentCreated) {
-        val thresholdMillis = (1000L..5000L).random()
-        Thread.sleep(thresholdMillis)
+        // 결제 처리 대기 (simulator.processing)
+        val sample = loadProfile.sample(SimulationEndpoint.PROCESSING)
+        Thread.sleep(sample.latency)
+
+        // 처리 실패 시 결과 확정 없이 PENDING 유지 (콜백 유실 - 상태 조회로만 확인 가능)
+        if (sample.failed) {
+            logger.warn("결제 처리를 중단했습니다. (transactionKey: {})", event.transactionKey)
+            return
+        }
 
         paymentApplicationService.handle(event.transactionKey)
     }
@@ -0,0 +1,59 @@
+package com.loopers.domain.simulation
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.SplittableRandom
+
+/**
+ * LatencyDistribution 단위 테스트
+ * 같은 난수 시드에서의 재현성과 [min, max] 제한을 검증
+ */
+class LatencyDistributionTest {
+
+    private val bimodal = LatencyDistribution(
+        type = LatencyDistribution.Type.BIMODAL,
+        min = Duration.ofMillis(1),
+        max = Duration.ofMillis(500),
+        median = Duration.ofMillis(20),
+        sigma = 0.5,
+        slowMedian = Duration.ofMillis(200),
+        slowSigma = 0.8,
+        slowRatio = 0.1,
+    )
+
+    @Test
+    @DisplayName("같은 시드의 난수로 샘플링하면 같은 지연 시간 순서를 얻는다")
+    fun sampleNanos_sameSeed_sameSequence() {
+        val first = SplittableRandom(42L)
+        val second = SplittableRandom(42L)
+
+        val firstSequence = List(1_000) { bimodal.sampleNanos(first) }
+        val secondSequence = List(1_000) { bimodal.sampleNanos(second) }
+
+        assertThat(firstSequence).isEqualTo(secondSequence)
+        assertThat(firstSequence.toSet()).hasSizeGreaterThan(1)
+    }
+
+    @Test
+    @DisplayName("샘플링한 지연 시간은 항상 [min, max] 범위 안에 있다")
+    fun sampleNanos_clampedToBounds() {
+        val random = SplittableRandom(7L)
+
+        val samples = List(10_000) { bimodal.sampleNanos(random) }
+
+        assertThat(samples).allSatisfy {
+            assertThat(it).isBetween(Duration.ofMillis(1).toNanos(), Duration.ofMillis(500).toNanos())
+        }
+    }
+
+    @Test
+    @DisplayName("FIXED 분포는 난수와 무관하게 median 을 반환한다")
+    fun sampleNanos_fixed_returnsMedian() {
+        val fixed = LatencyDistribution(median = Duration.ofMillis(30))
+
+        assertThat(fixed.sampleNanos(SplittableRandom(1L))).isEqualTo(Duration.ofMillis(30).toNanos())
+        assertThat(fixed.sampleNanos(SplittableRandom(2L))).isEqualTo(Duration.ofMillis(30).toNanos())
+    }
+}
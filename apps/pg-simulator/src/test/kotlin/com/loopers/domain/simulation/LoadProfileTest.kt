@@ -0,0 +1,101 @@
+package com.loopers.domain.simulation
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.Duration
+
+/**
+ * LoadProfile 단위 테스트
+ * seed 재현성과 장애 구간 안에서만 실패하는지를 검증
+ */
+class LoadProfileTest {
+
+    private val latency = LatencyDistribution(
+        type = LatencyDistribution.Type.LOG_NORMAL,
+        median = Duration.ofMillis(50),
+        sigma = 0.7,
+    )
+
+    @Test
+    @DisplayName("같은 seed 로 만든 프로파일은 요청 순번별로 같은 지연/실패 결과를 낸다")
+    fun sample_sameSeed_sameSequence() {
+        val properties = SimulationProperties(
+            seed = 20250101L,
+            request = SimulationProperties.EndpointProfile(latency = latency, failureRate = 0.3),
+        )
+        val first = LoadProfile(properties)
+        val second = LoadProfile(properties)
+
+        val firstSamples = List(500) { first.sample(SimulationEndpoint.REQUEST, 0) }
+        val secondSamples = List(500) { second.sample(SimulationEndpoint.REQUEST, 0) }
+
+        assertThat(firstSamples).isEqualTo(secondSamples)
+        assertThat(firstSamples.map { it.failed }).contains(true, false)
+    }
+
+    @Test
+    @DisplayName("seed 가 다르면 다른 지연 시간 순서를 낸다")
+    fun sample_differentSeed_differentSequence() {
+        val profile = SimulationProperties.EndpointProfile(latency = latency)
+        val first = LoadProfile(SimulationProperties(seed = 1L, request = profile))
+        val second = LoadProfile(SimulationProperties(seed = 2L, request = profile))
+
+        val firstLatencies = List(100) { first.sample(SimulationEndpoint.REQUEST, 0).latency }
+        val secondLatencies = List(100) { second.sample(SimulationEndpoint.REQUEST, 0).latency }
+
+        assertThat(firstLatencies).isNotEqualTo(secondLatencies)
+    }
+
+    @Test
+    @DisplayName("평상시 실패율이 0이면 장애 구간 안에서만 실패하고 추가 지연이 붙는다")
+    fun sample_failsOnlyInsideOutageWindow() {
+        val outage = OutageWindow(
+            start = Duration.ofSeconds(10),
+            duration = Duration.ofSeconds(5),
+            failureRate = 1.0,
+            extraLatency = Duration.ofMillis(300),
+        )
+        val loadProfile = LoadProfile(
+            SimulationProperties(
+                seed = 7L,
+                request = SimulationProperties.EndpointProfile(
+                    latency = LatencyDistribution(median = Duration.ofMillis(10)),
+                    failureRate = 0.0,
+                    outages = listOf(outage),
+                ),
+            ),
+        )
+
+        val before = List(100) { loadProfile.sample(SimulationEndpoint.REQUEST, seconds(9)) }
+        val inside = List(100) { loadProfile.sample(SimulationEndpoint.REQUEST, seconds(12)) }
+        val after = List(100) { loadProfile.sample(SimulationEndpoint.REQUEST, seconds(15)) }
+
+        assertThat(before).noneMatch { it.failed }
+        assertThat(before).allMatch { it.latency == Duration.ofMillis(10) }
+        assertThat(inside).allMatch { it.failed }
+        assertThat(inside).allMatch { it.latency == Duration.ofMillis(310) }
+        assertThat(after).noneMatch { it.failed }
+    }
+
+    @Test
+    @DisplayName("장애 구간은 해당 엔드포인트에만 적용된다")
+    fun sample_outageAppliesOnlyToConfiguredEndpoint() {
+        val loadProfile = LoadProfile(
+            SimulationProperties(
+                seed = 7L,
+                request = SimulationProperties.EndpointProfile(
+                    outages = listOf(OutageWindow(duration = Duration.ofMinutes(1))),
+                ),
+            ),
+        )
+
+        val request = List(50) { loadProfile.sample(SimulationEndpoint.REQUEST, seconds(1)) }
+        val query = List(50) { loadProfile.sample(SimulationEndpoint.QUERY, seconds(1)) }
+
+        assertThat(request).allMatch { it.failed }
+        assertThat(query).noneMatch { it.failed }
+    }
+
+    private fun seconds(value: Long): Long = Duration.ofSeconds(value).toNanos()
+}
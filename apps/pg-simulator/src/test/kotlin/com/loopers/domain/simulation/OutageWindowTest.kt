@@ -0,0 +1,54 @@
+package com.loopers.domain.simulation
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.Duration
+
+/**
+ * OutageWindow 단위 테스트
+ * 단발/주기 장애 구간의 시작·종료 경계를 검증
+ */
+class OutageWindowTest {
+
+    @Test
+    @DisplayName("단발 장애 구간은 [start, start + duration) 에서만 활성화된다")
+    fun isActive_singleWindow() {
+        val outage = OutageWindow(start = Duration.ofSeconds(10), duration = Duration.ofSeconds(5))
+
+        assertThat(outage.isActive(seconds(0))).isFalse()
+        assertThat(outage.isActive(seconds(10) - 1)).isFalse()
+        assertThat(outage.isActive(seconds(10))).isTrue()
+        assertThat(outage.isActive(seconds(15) - 1)).isTrue()
+        assertThat(outage.isActive(seconds(15))).isFalse()
+        assertThat(outage.isActive(seconds(100))).isFalse()
+    }
+
+    @Test
+    @DisplayName("주기 장애 구간은 every 간격으로 같은 구간을 반복한다")
+    fun isActive_periodicWindow() {
+        val outage = OutageWindow(
+            start = Duration.ofSeconds(10),
+            duration = Duration.ofSeconds(5),
+            every = Duration.ofSeconds(60),
+        )
+
+        assertThat(outage.isActive(seconds(5))).isFalse()
+        assertThat(outage.isActive(seconds(12))).isTrue()
+        assertThat(outage.isActive(seconds(30))).isFalse()
+        assertThat(outage.isActive(seconds(70))).isTrue()
+        assertThat(outage.isActive(seconds(75))).isFalse()
+        assertThat(outage.isActive(seconds(130))).isTrue()
+    }
+
+    @Test
+    @DisplayName("duration 이 0이면 활성화되지 않는다")
+    fun isActive_zeroDuration_neverActive() {
+        val outage = OutageWindow(start = Duration.ZERO, duration = Duration.ZERO)
+
+        assertThat(outage.isActive(0)).isFalse()
+        assertThat(outage.isActive(seconds(1))).isFalse()
+    }
+
+    private fun seconds(value: Long): Long = Duration.ofSeconds(value).toNanos()
+}
@@ -2,13 +2,30 @@ package com.loopers.config.jpa;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL DataSource 구성
+ *
+ * - main(primary) 풀 + datasource.mysql-jpa.replicas 로 설정한 replica 풀
+ * - replica 가 있으면 읽기 전용 트랜잭션을 복제 지연이 허용 범위 안인 replica 로 보냄
+ * - replica 가 없으면 main 풀만 사용 (기존과 동일)
+ */
 @Configuration
+@EnableConfigurationProperties(ReplicaLagProperties.class)
 class DataSourceConfig {
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
@@ -16,9 +33,48 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
     @Bean
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    @Bean
+    static ReplicaDataSourceRegistrar replicaDataSourceRegistrar() {
+        return new ReplicaDataSourceRegistrar();
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(
+            ObjectProvider<ReplicaHikariDataSource> replicaDataSources,
+            ReplicaLagProperties replicaLagProperties
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicaDataSources.orderedStream().forEach(replica -> replicas.put(replica.getPoolName(), replica));
+        return new ReplicaLagMonitor(replicas, replicaLagProperties);
+    }
+
+    @Primary
+    @Bean
+    DataSource mySqlDataSource(
+            @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+            ObjectProvider<ReplicaHikariDataSource> replicaDataSources,
+            ReplicaLagMonitor replicaLagMonitor
+    ) {
+        List<ReplicaHikariDataSource> replicas = replicaDataSources.orderedStream().toList();
+        if (replicas.isEmpty()) {
+            return mainDataSource;
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, mainDataSource);
+        replicas.forEach(replica -> targets.put(replica.getPoolName(), replica));
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(mainDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 readOnly 여부가 정해진 뒤 첫 쿼리 시점에 커넥션을 고르도록 지연 획득
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
 }
@@ -0,0 +1,31 @@
+package com.loopers.config.jpa;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 읽기 전용 여부로 primary / replica 커넥션 선택
+ *
+ * - @Transactional(readOnly = true) 트랜잭션만 replica 로 보내고, 그 외(쓰기, 트랜잭션 밖)는 primary
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸
+ *   첫 쿼리 시점에 커넥션을 고르도록 해야 함
+ * - replica 는 ReplicaLagMonitor 가 허용 지연 안에 있다고 판단한 것만 사용 (없으면 primary)
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return replicaLagMonitor.nextReplica().orElse(PRIMARY);
+    }
+}
@@ -0,0 +1,65 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+/**
+ * datasource.mysql-jpa.replicas[n] 설정마다 HikariConfig / ReplicaHikariDataSource 빈 등록
+ *
+ * - main 풀 설정을 기본값으로 복사한 뒤 replica 항목의 값으로 덮어씀 (jdbc-url 은 필수)
+ * - pool-name 을 지정하지 않으면 mysql-replica-pool-{n}
+ * - HikariConfig 도 빈으로 등록해 main 풀과 같은 방식으로 풀 생성 전 설정 후처리(메트릭 등)가 적용되도록 함
+ */
+class ReplicaDataSourceRegistrar implements BeanDefinitionRegistryPostProcessor, EnvironmentAware {
+
+    static final String MAIN_PREFIX = "datasource.mysql-jpa.main";
+    static final String REPLICAS_PREFIX = "datasource.mysql-jpa.replicas";
+    static final String CONFIG_BEAN_NAME_PREFIX = "mySqlReplicaHikariConfig";
+    static final String BEAN_NAME_PREFIX = "mySqlReplicaDataSource";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+        Binder binder = Binder.get(environment);
+
+        for (int index = 0; isConfigured(binder, index); index++) {
+            HikariConfig config = replicaConfig(binder, index);
+            String configBeanName = CONFIG_BEAN_NAME_PREFIX + index;
+            registry.registerBeanDefinition(configBeanName, new RootBeanDefinition(HikariConfig.class, () -> config));
+
+            RootBeanDefinition definition = new RootBeanDefinition(ReplicaHikariDataSource.class);
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(0, new RuntimeBeanReference(configBeanName));
+            definition.setDestroyMethodName("close");
+            registry.registerBeanDefinition(BEAN_NAME_PREFIX + index, definition);
+        }
+    }
+
+    private boolean isConfigured(Binder binder, int index) {
+        return binder.bind(replicaPrefix(index) + ".jdbc-url", String.class).isBound();
+    }
+
+    private HikariConfig replicaConfig(Binder binder, int index) {
+        HikariConfig config = binder.bind(MAIN_PREFIX, HikariConfig.class).orElseGet(HikariConfig::new);
+        config.setPoolName("mysql-replica-pool-" + index);
+        binder.bind(replicaPrefix(index), Bindable.ofInstance(config));
+        config.setReadOnly(true);
+        return config;
+    }
+
+    private String replicaPrefix(int index) {
+        return REPLICAS_PREFIX + "[" + index + "]";
+    }
+}
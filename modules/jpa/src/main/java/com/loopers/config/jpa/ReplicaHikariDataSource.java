@@ -0,0 +1,15 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기 전용 replica 커넥션 풀
+ * - 풀마다 빈으로 등록되어 actuator 의 Hikari 메트릭(hikaricp.*)이 pool 태그별로 수집됨
+ */
+class ReplicaHikariDataSource extends HikariDataSource {
+
+    ReplicaHikariDataSource(HikariConfig configuration) {
+        super(configuration);
+    }
+}
@@ -0,0 +1,137 @@
+package com.loopers.config.jpa;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * replica 복제 지연 감시
+ *
+ * - 주기적으로 SHOW REPLICA STATUS 의 Seconds_Behind_Source 를 확인 (REPLICATION CLIENT 권한 필요)
+ * - 지연이 maxLag 이하인 replica 만 읽기 대상으로 사용하고, 없으면 primary 로 보냄
+ *   (복제 중단(null), 복제 상태 없음, 조회 실패도 읽기 대상에서 제외)
+ * - 읽기 대상 replica 는 round-robin 으로 선택
+ */
+@Slf4j
+class ReplicaLagMonitor implements SmartLifecycle {
+
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final Map<String, DataSource> replicas;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private volatile List<String> availableKeys = List.of();
+
+    private ScheduledExecutorService scheduler;
+
+    ReplicaLagMonitor(Map<String, DataSource> replicas, ReplicaLagProperties properties) {
+        this.replicas = replicas;
+        this.maxLag = properties.maxLag();
+        this.checkInterval = properties.checkInterval();
+    }
+
+    /**
+     * 읽기 요청을 보낼 replica (사용 가능한 replica 가 없으면 empty)
+     */
+    Optional<String> nextReplica() {
+        List<String> keys = availableKeys;
+        if (keys.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(keys.get(Math.floorMod(sequence.getAndIncrement(), keys.size())));
+    }
+
+    void check() {
+        List<String> available = new ArrayList<>(replicas.size());
+        replicas.forEach((key, dataSource) -> {
+            Optional<Duration> lag = readLag(key, dataSource);
+            if (lag.isPresent() && lag.get().compareTo(maxLag) <= 0) {
+                available.add(key);
+            } else if (availableKeys.contains(key)) {
+                log.warn("[Replica 감시] 읽기 대상에서 제외 - replica: {}, 복제 지연: {}",
+                        key, lag.map(Duration::toString).orElse("확인 불가"));
+            }
+        });
+
+        if (!available.equals(availableKeys)) {
+            log.info("[Replica 감시] 읽기 대상 replica 변경 - {} → {}", availableKeys, available);
+        }
+        availableKeys = List.copyOf(available);
+    }
+
+    private Optional<Duration> readLag(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+
+            if (!resultSet.next()) {
+                return Optional.empty(); // 복제 설정이 없는 서버
+            }
+            long seconds = resultSet.getLong(LAG_COLUMN);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(Duration.ofSeconds(seconds));
+        } catch (SQLException e) {
+            log.warn("[Replica 감시] 복제 상태 조회 실패 - replica: {}, error: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null || replicas.isEmpty()) {
+            return;
+        }
+
+        check();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+
+        log.info("[Replica 감시] 시작 - replicas: {}, 허용 지연: {}s, 확인 주기: {}ms",
+                replicas.keySet(), maxLag.toSeconds(), intervalMs);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+
+        scheduler.shutdownNow();
+        scheduler = null;
+        availableKeys = List.of();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.error("[Replica 감시] 복제 지연 확인 중 오류", e);
+        }
+    }
+}
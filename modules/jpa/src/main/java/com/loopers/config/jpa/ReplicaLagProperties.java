@@ -0,0 +1,18 @@
+package com.loopers.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * replica 복제 지연 감시 설정
+ *
+ * @param maxLag        이 시간보다 뒤처진 replica 는 읽기 대상에서 제외 (Seconds_Behind_Source 기준, 초 단위)
+ * @param checkInterval 복제 지연 확인 주기
+ */
+@ConfigurationProperties("datasource.mysql-jpa.replica-lag")
+public record ReplicaLagProperties(
+        @DefaultValue("2s") Duration maxLag,
+        @DefaultValue("1s") Duration checkInterval
+) { }
@@ -0,0 +1,159 @@
+package com.loopers.config.jpa;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.setCurrentTransactionReadOnly;
+
+/**
+ * ReadWriteRoutingDataSource 단위 테스트
+ * 트랜잭션 readOnly 여부와 replica 복제 지연에 따른 커넥션 선택을 검증
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final ReplicaLagProperties PROPERTIES = new ReplicaLagProperties(Duration.ofSeconds(2), Duration.ofSeconds(1));
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+
+    private final Map<String, Connection> replicaConnections = new HashMap<>();
+    private final Map<String, Long> replicaLags = new HashMap<>();
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+    private ReplicaLagMonitor monitor;
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+        addReplica("replica-0");
+        addReplica("replica-1");
+
+        monitor = new ReplicaLagMonitor(replicas, PROPERTIES);
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primary);
+        routingDataSource = new ReadWriteRoutingDataSource(monitor);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 replica 가 정상이어도 primary 로 보낸다")
+    void readWriteTransaction_routesToPrimary() throws SQLException {
+        // given
+        monitor.check();
+
+        // when
+        Connection connection = routingDataSource.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 정상 replica 들에 번갈아 보낸다")
+    void readOnlyTransaction_roundRobinAcrossReplicas() throws SQLException {
+        // given
+        monitor.check();
+        setCurrentTransactionReadOnly(true);
+
+        // when
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // then
+        assertThat(first).isNotSameAs(second);
+        assertThat(replicaConnections.values()).contains(first, second);
+    }
+
+    @Test
+    @DisplayName("허용 지연을 넘긴 replica 는 읽기 대상에서 제외한다")
+    void laggingReplica_excluded() throws SQLException {
+        // given
+        replicaLags.put("replica-0", 5L);
+        monitor.check();
+        setCurrentTransactionReadOnly(true);
+
+        // when // then
+        for (int i = 0; i < 3; i++) {
+            assertThat(routingDataSource.getConnection()).isSameAs(replicaConnections.get("replica-1"));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 replica 가 뒤처지거나 복제가 중단되면 읽기 전용 트랜잭션도 primary 로 보낸다")
+    void noAvailableReplica_fallsBackToPrimary() throws SQLException {
+        // given
+        replicaLags.put("replica-0", 5L);
+        replicaLags.put("replica-1", null); // 복제 중단 (Seconds_Behind_Source = NULL)
+        monitor.check();
+        setCurrentTransactionReadOnly(true);
+
+        // when
+        Connection connection = routingDataSource.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("지연이 해소되면 replica 를 다시 읽기 대상에 포함한다")
+    void recoveredReplica_includedAgain() throws SQLException {
+        // given
+        replicaLags.put("replica-0", 5L);
+        replicaLags.put("replica-1", 5L);
+        monitor.check();
+        replicaLags.put("replica-1", 0L);
+
+        // when
+        monitor.check();
+        setCurrentTransactionReadOnly(true);
+
+        // then
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnections.get("replica-1"));
+    }
+
+    private void addReplica(String key) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        replicaLags.put(key, 0L);
+
+        given(dataSource.getConnection()).willAnswer(invocation -> {
+            Statement statement = mock(Statement.class);
+            ResultSet resultSet = mock(ResultSet.class);
+            Long lag = replicaLags.get(key);
+            given(connection.createStatement()).willReturn(statement);
+            given(statement.executeQuery(anyString())).willReturn(resultSet);
+            given(resultSet.next()).willReturn(true);
+            given(resultSet.getLong("Seconds_Behind_Source")).willReturn(lag == null ? 0L : lag);
+            given(resultSet.wasNull()).willReturn(lag == null);
+            return connection;
+        });
+
+        replicas.put(key, dataSource);
+        replicaConnections.put(key, connection);
+    }
+}
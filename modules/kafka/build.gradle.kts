@@ -11,3 +11,30 @@ dependencies {
 
     testFixturesImplementation("org.testcontainers:kafka")
 }
+
+// JMH 마이크로벤치마크 (src/jmh/java)
+// - ./gradlew :modules:kafka:jmh                                  전체 실행, 결과는 build/results/jmh/results.json
+// - ./gradlew :modules:kafka:jmh -PjmhArgs="PrimitiveMap -prof gc" 할당량(gc.alloc.rate.norm) 함께 측정
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:${project.properties["jmhVersion"]}")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${project.properties["jmhVersion"]}")
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "JMH 마이크로벤치마크 실행"
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    outputs.file(jmhResults)
+    outputs.upToDateWhen { false }
+    doFirst { jmhResults.get().asFile.parentFile.mkdirs() }
+    args("-foe", "true", "-rf", "json", "-rff", jmhResults.get().asFile.absolutePath)
+    (project.findProperty("jmhArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
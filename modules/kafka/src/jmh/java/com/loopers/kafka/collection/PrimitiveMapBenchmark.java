@@ -0,0 +1,78 @@
+package com.loopers.kafka.collection;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 집계 벤치마크 - 박싱 HashMap 대비 원시 타입 해시맵
+ * - 컨슈머 배치 한 번의 집계를 재현: 이벤트마다 상품별 증감량 합산 후 전체 순회, 이어서 가중치 점수 합산
+ * - boxed*: HashMap<Long, Integer>.merge / HashMap<Long, Double>.merge (변경 전)
+ * - primitive*: LongIntHashMap.addTo / LongDoubleHashMap.addTo (변경 후)
+ * - 할당량 비교는 -prof gc 로 실행해 gc.alloc.rate.norm (B/op) 확인
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveMapBenchmark {
+
+    private static final double WEIGHT = 0.2;
+
+    // 배치 리스너 max.poll.records 기준 배치 크기
+    @Param({"500", "3000"})
+    private int eventCount;
+
+    @Param({"100", "3000"})
+    private int productCount;
+
+    private long[] productIds;
+    private int[] deltas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        productIds = new long[eventCount];
+        deltas = new int[eventCount];
+        for (int i = 0; i < eventCount; i++) {
+            productIds[i] = random.nextInt(productCount) + 1L;
+            deltas[i] = random.nextBoolean() ? 1 : -1;
+        }
+    }
+
+    @Benchmark
+    public void boxedAggregate(Blackhole blackhole) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < eventCount; i++) {
+            counts.merge(productIds[i], deltas[i], Integer::sum);
+        }
+
+        Map<Long, Double> scores = new HashMap<>(counts.size() * 2);
+        counts.forEach((productId, delta) -> scores.merge(productId, delta * WEIGHT, Double::sum));
+        scores.forEach((productId, score) -> {
+            blackhole.consume(productId);
+            blackhole.consume(score);
+        });
+    }
+
+    @Benchmark
+    public void primitiveAggregate(Blackhole blackhole) {
+        LongIntHashMap counts = new LongIntHashMap();
+        for (int i = 0; i < eventCount; i++) {
+            counts.addTo(productIds[i], deltas[i]);
+        }
+
+        LongDoubleHashMap scores = new LongDoubleHashMap(counts.size());
+        counts.forEach((productId, delta) -> scores.addTo(productId, delta * WEIGHT));
+        scores.forEach((productId, score) -> {
+            blackhole.consume(productId);
+            blackhole.consume(score);
+        });
+    }
+}
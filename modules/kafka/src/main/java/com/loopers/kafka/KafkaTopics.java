@@ -6,6 +6,7 @@ public final class KafkaTopics {
     public static final String PRODUCT = "product";
     public static final String ORDER = "order";
     public static final String COUPON = "coupon";
+    public static final String COUPON_ISSUE = "coupon.issue";
     public static final String USER_ACTIVITY = "user.activity";
 
     // Dead Letter Queue (DLQ) 토픽
@@ -43,6 +44,7 @@ public final class KafkaTopics {
     public static final class Coupon {
         public static final String COUPON_USED = "CouponUsed";
         public static final String COUPON_EXPIRED = "CouponExpired";
+        public static final String COUPON_ISSUE_REQUESTED = "CouponIssueRequested";
 
         private Coupon() {
             throw new AssertionError("Cannot instantiate utility class");
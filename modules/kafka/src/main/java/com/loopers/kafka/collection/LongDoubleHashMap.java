@@ -0,0 +1,120 @@
+package com.loopers.kafka.collection;
+
+import java.util.Arrays;
+
+/**
+ * long → double open-addressing 해시맵 (선형 탐사)
+ *
+ * - 배치 집계용: 상품 ID와 부분합을 박싱하지 않고 원시 배열에 저장
+ * - 삭제는 지원하지 않음 (배치 단위로 생성 후 버리는 용도)
+ * - 스레드 안전하지 않음
+ */
+public final class LongDoubleHashMap extends LongKeyHashTable {
+
+    private double[] values;
+    private double zeroValue;
+
+    public LongDoubleHashMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize 예상 key 개수 (리사이즈 없이 담을 수 있도록 테이블 크기 결정)
+     */
+    public LongDoubleHashMap(int expectedSize) {
+        super(expectedSize);
+        values = new double[keys.length];
+    }
+
+    /**
+     * key의 값에 delta를 더한다. key가 없으면 delta로 초기화
+     * @return 더한 뒤의 값
+     */
+    public double addTo(long key, double delta) {
+        if (key == EMPTY_KEY) {
+            markZeroKey();
+            zeroValue += delta;
+            return zeroValue;
+        }
+
+        int index = indexOf(key);
+        if (index >= 0) {
+            values[index] += delta;
+            return values[index];
+        }
+        insertAt(-index - 1, key, delta);
+        return delta;
+    }
+
+    public void put(long key, double value) {
+        if (key == EMPTY_KEY) {
+            markZeroKey();
+            zeroValue = value;
+            return;
+        }
+
+        int index = indexOf(key);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+        insertAt(-index - 1, key, value);
+    }
+
+    /**
+     * @return key의 값, 없으면 0
+     */
+    public double get(long key) {
+        return getOrDefault(key, 0.0);
+    }
+
+    public double getOrDefault(long key, double defaultValue) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    /**
+     * 모든 entry 순회 (순서 보장 없음)
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(EMPTY_KEY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, 0.0);
+        zeroValue = 0.0;
+    }
+
+    @Override
+    void moveValues(int newCapacity, int[] newIndexes) {
+        double[] oldValues = values;
+        values = new double[newCapacity];
+        for (int i = 0; i < oldValues.length; i++) {
+            if (newIndexes[i] >= 0) {
+                values[newIndexes[i]] = oldValues[i];
+            }
+        }
+    }
+
+    private void insertAt(int index, long key, double value) {
+        values[index] = value;
+        insertKey(index, key);
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, double value);
+    }
+}
@@ -0,0 +1,135 @@
+package com.loopers.kafka.collection;
+
+import java.util.Arrays;
+
+/**
+ * long key open-addressing 해시 테이블 공통부 (선형 탐사)
+ *
+ * - key 배열, 탐사, key 0 처리, 리사이즈를 담당하고 값 배열은 하위 클래스가 원시 타입으로 보관
+ * - 하위 클래스는 슬롯 인덱스로 값 배열에 접근하고, 리사이즈 시 moveValues로 값을 옮긴다
+ */
+abstract class LongKeyHashTable {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // 0은 빈 슬롯 표시로 사용하므로 key 0은 하위 클래스의 별도 필드에 저장
+    static final long EMPTY_KEY = 0L;
+
+    long[] keys;
+    boolean hasZeroKey;
+
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    /**
+     * @param expectedSize 예상 key 개수 (리사이즈 없이 담을 수 있도록 테이블 크기 결정)
+     */
+    LongKeyHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize는 0 이상이어야 합니다: " + expectedSize);
+        }
+        allocateKeys(PrimitiveHashing.tableSizeFor(expectedSize, LOAD_FACTOR, MIN_CAPACITY));
+    }
+
+    /**
+     * 리사이즈 후 값 배열을 새 크기로 만들고, 기존 슬롯 i의 값을 newIndexes[i]로 옮긴다 (빈 슬롯은 -1)
+     */
+    abstract void moveValues(int newCapacity, int[] newIndexes);
+
+    /**
+     * 테이블 크기를 유지한 채 값 배열을 비운다 (key 0의 값 포함)
+     */
+    abstract void clearValues();
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 테이블 크기를 유지한 채 비운다 (재사용 시 재할당 방지)
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        hasZeroKey = false;
+        size = 0;
+        clearValues();
+    }
+
+    /**
+     * key(0 제외)의 슬롯 인덱스. 없으면 삽입할 빈 슬롯 인덱스 i에 대해 -(i + 1)
+     */
+    final int indexOf(long key) {
+        int index = PrimitiveHashing.mix(key) & mask;
+        while (true) {
+            long existing = keys[index];
+            if (existing == key) {
+                return index;
+            }
+            if (existing == EMPTY_KEY) {
+                return -(index + 1);
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * key 0을 처음 넣을 때 size를 센다
+     */
+    final void markZeroKey() {
+        if (!hasZeroKey) {
+            hasZeroKey = true;
+            size++;
+        }
+    }
+
+    /**
+     * 값을 먼저 기록한 빈 슬롯에 key를 넣고, 임계치를 넘으면 리사이즈
+     */
+    final void insertKey(int index, long key) {
+        keys[index] = key;
+        size++;
+        if (size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void allocateKeys(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] newIndexes = new int[oldKeys.length];
+        allocateKeys(newCapacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == EMPTY_KEY) {
+                newIndexes[i] = -1;
+                continue;
+            }
+            int index = PrimitiveHashing.mix(key) & mask;
+            while (keys[index] != EMPTY_KEY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            newIndexes[i] = index;
+        }
+        moveValues(newCapacity, newIndexes);
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.kafka.collection;
+
+/**
+ * 원시 타입 해시맵 공통 해싱 유틸
+ */
+final class PrimitiveHashing {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private PrimitiveHashing() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * 연속된 상품 ID가 인접 슬롯에 몰리지 않도록 비트를 섞는다 (Fibonacci hashing)
+     */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * expectedSize 개의 key를 리사이즈 없이 담을 수 있는 2의 거듭제곱 테이블 크기
+     */
+    static int tableSizeFor(int expectedSize, float loadFactor, int minCapacity) {
+        long required = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (required > MAX_CAPACITY) {
+            throw new IllegalArgumentException("테이블 크기 초과: " + expectedSize);
+        }
+        int capacity = Integer.highestOneBit((int) Math.max(required, minCapacity) - 1) << 1;
+        return Math.max(capacity, minCapacity);
+    }
+}
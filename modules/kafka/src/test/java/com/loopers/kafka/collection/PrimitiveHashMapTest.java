@@ -0,0 +1,161 @@
+package com.loopers.kafka.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PrimitiveHashMapTest {
+
+    @DisplayName("LongIntHashMap")
+    @Nested
+    class LongIntMap {
+
+        @DisplayName("같은 key에 addTo 하면 값이 합산된다.")
+        @Test
+        void addTo_sameKey_accumulates() {
+            // given
+            LongIntHashMap map = new LongIntHashMap();
+
+            // when
+            map.addTo(1L, 1);
+            map.addTo(1L, 1);
+            int result = map.addTo(1L, -3);
+
+            // then
+            assertThat(result).isEqualTo(-1);
+            assertThat(map.get(1L)).isEqualTo(-1);
+            assertThat(map.size()).isEqualTo(1);
+        }
+
+        @DisplayName("없는 key는 0을 반환하고 containsKey는 false다.")
+        @Test
+        void get_missingKey_returnsZero() {
+            // given
+            LongIntHashMap map = new LongIntHashMap();
+            map.put(7L, 3);
+
+            // when & then
+            assertThat(map.get(8L)).isZero();
+            assertThat(map.getOrDefault(8L, -1)).isEqualTo(-1);
+            assertThat(map.containsKey(8L)).isFalse();
+            assertThat(map.containsKey(7L)).isTrue();
+        }
+
+        @DisplayName("key 0도 일반 key와 동일하게 저장되고 순회된다.")
+        @Test
+        void zeroKey_storedAndIterated() {
+            // given
+            LongIntHashMap map = new LongIntHashMap();
+
+            // when
+            map.addTo(0L, 5);
+            map.addTo(1L, 2);
+            Map<Long, Integer> visited = new HashMap<>();
+            map.forEach(visited::put);
+
+            // then
+            assertThat(map.containsKey(0L)).isTrue();
+            assertThat(map.size()).isEqualTo(2);
+            assertThat(visited).containsEntry(0L, 5).containsEntry(1L, 2);
+        }
+
+        @DisplayName("초기 크기를 넘어 리사이즈되어도 HashMap.merge와 동일한 결과를 낸다.")
+        @Test
+        void addTo_manyKeys_matchesHashMapMerge() {
+            // given
+            LongIntHashMap map = new LongIntHashMap(0);
+            Map<Long, Integer> expected = new HashMap<>();
+            Random random = new Random(42);
+
+            // when
+            for (int i = 0; i < 50_000; i++) {
+                long productId = random.nextInt(3_000) + 1L;
+                int delta = random.nextBoolean() ? 1 : -1;
+                map.addTo(productId, delta);
+                expected.merge(productId, delta, Integer::sum);
+            }
+
+            // then
+            Map<Long, Integer> actual = new HashMap<>();
+            map.forEach(actual::put);
+            assertThat(map.size()).isEqualTo(expected.size());
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        @DisplayName("clear 후에는 비어있고 다시 사용할 수 있다.")
+        @Test
+        void clear_thenReuse() {
+            // given
+            LongIntHashMap map = new LongIntHashMap();
+            map.addTo(0L, 1);
+            map.addTo(10L, 1);
+
+            // when
+            map.clear();
+            map.addTo(10L, 4);
+
+            // then
+            assertThat(map.containsKey(0L)).isFalse();
+            assertThat(map.get(10L)).isEqualTo(4);
+            assertThat(map.size()).isEqualTo(1);
+        }
+
+        @DisplayName("음수 예상 크기로 생성하면 예외가 발생한다.")
+        @Test
+        void create_negativeExpectedSize_throwsException() {
+            assertThatThrownBy(() -> new LongIntHashMap(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("LongDoubleHashMap")
+    @Nested
+    class LongDoubleMap {
+
+        @DisplayName("가중치 점수가 상품별로 합산된다.")
+        @Test
+        void addTo_weightedScores_accumulates() {
+            // given
+            LongDoubleHashMap map = new LongDoubleHashMap();
+
+            // when
+            map.addTo(1L, 3 * 0.2);
+            map.addTo(1L, 10 * 0.1);
+            map.addTo(2L, 2 * 0.6);
+
+            // then
+            assertThat(map.get(1L)).isCloseTo(1.6, within(1e-9));
+            assertThat(map.get(2L)).isCloseTo(1.2, within(1e-9));
+            assertThat(map.getOrDefault(3L, -1.0)).isEqualTo(-1.0);
+        }
+
+        @DisplayName("리사이즈 후에도 값이 key와 함께 옮겨지고, clear 후 다시 사용할 수 있다.")
+        @Test
+        void addTo_afterRehashAndClear_keepsValuesWithKeys() {
+            // given
+            LongDoubleHashMap map = new LongDoubleHashMap(0);
+
+            // when
+            for (long productId = 0; productId < 1_000; productId++) {
+                map.addTo(productId, productId * 0.5);
+            }
+            double beforeClear = map.get(999L);
+            map.clear();
+            map.addTo(999L, 1.5);
+
+            // then
+            assertThat(beforeClear).isCloseTo(499.5, within(1e-9));
+            assertThat(map.get(999L)).isCloseTo(1.5, within(1e-9));
+            assertThat(map.containsKey(0L)).isFalse();
+            assertThat(map.size()).isEqualTo(1);
+        }
+    }
+}
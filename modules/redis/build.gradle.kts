@@ -5,6 +5,9 @@ plugins {
 
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    // 캐시 값 직렬화 (Smile 바이너리 JSON + LZ4 압축)
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("org.lz4:lz4-java:${project.properties["lz4JavaVersion"]}")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
 }
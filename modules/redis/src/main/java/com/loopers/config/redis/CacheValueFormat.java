@@ -0,0 +1,9 @@
+package com.loopers.config.redis;
+
+/**
+ * 캐시 값 저장 형식
+ */
+public enum CacheValueFormat {
+    SMILE,  // 포맷 헤더 + Smile 바이너리 JSON (임계 크기 이상이면 LZ4 압축)
+    JSON    // 기존 형식 (@class 타입 정보를 포함한 JSON) - 이전 버전 인스턴스가 읽어야 하는 배포 전환 구간용
+}
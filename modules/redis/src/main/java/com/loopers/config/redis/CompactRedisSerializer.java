@@ -0,0 +1,135 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 캐시 값 직렬화 (타입 고정 Smile + 선택적 LZ4 압축)
+ *
+ * - 값 타입을 템플릿마다 고정해 @class 타입 정보를 저장하지 않음
+ * - 저장 형식: [MAGIC][VERSION][FLAGS]([원본 길이 4byte])[본문]
+ *   MAGIC(0xFE)은 UTF-8 JSON 의 첫 바이트가 될 수 없으므로 헤더가 없으면 기존 JSON 형식으로 읽음
+ * - 알 수 없는 VERSION 은 SerializationException (캐시 조회 실패로 처리되어 DB 조회로 대체)
+ * - 배포 전환: 모든 인스턴스가 이 직렬화기를 갖출 때까지 writeFormat=JSON 으로 저장하고 이후 SMILE 로 전환
+ */
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    static final byte MAGIC = (byte) 0xFE;
+    static final byte VERSION_SMILE = 1;
+    static final byte FLAG_LZ4 = 0x01;
+
+    private static final int HEADER_SIZE = 3;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES) // 필드가 추가된 버전이 저장한 값도 읽음
+            .build();
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final Class<T> type;
+    private final CacheValueFormat writeFormat;
+    private final int compressionThreshold;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    public CompactRedisSerializer(Class<T> type, CacheValueFormat writeFormat, int compressionThreshold) {
+        this.type = type;
+        this.writeFormat = writeFormat;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (writeFormat == CacheValueFormat.JSON) {
+            return jsonSerializer.serialize(value);
+        }
+
+        byte[] body;
+        try {
+            body = SMILE_MAPPER.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패 - type: " + type.getName(), e);
+        }
+
+        if (body.length >= compressionThreshold) {
+            byte[] compressed = compress(body);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+
+        byte[] encoded = new byte[HEADER_SIZE + body.length];
+        writeHeader(encoded, (byte) 0);
+        System.arraycopy(body, 0, encoded, HEADER_SIZE, body.length);
+        return encoded;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return readJson(bytes);
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION_SMILE) {
+            throw new SerializationException("지원하지 않는 캐시 값 형식 - version: " + (bytes.length > 1 ? bytes[1] : "없음"));
+        }
+
+        try {
+            if ((bytes[2] & FLAG_LZ4) != 0) {
+                int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+                byte[] body = DECOMPRESSOR.decompress(bytes, HEADER_SIZE + LENGTH_SIZE, originalLength);
+                return SMILE_MAPPER.readValue(body, type);
+            }
+            return SMILE_MAPPER.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, type);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패 - type: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 압축해도 작아지지 않으면 null
+     */
+    private byte[] compress(byte[] body) {
+        byte[] buffer = new byte[HEADER_SIZE + LENGTH_SIZE + COMPRESSOR.maxCompressedLength(body.length)];
+        int compressedLength = COMPRESSOR.compress(body, 0, body.length, buffer, HEADER_SIZE + LENGTH_SIZE);
+        if (LENGTH_SIZE + compressedLength >= body.length) {
+            return null;
+        }
+
+        writeHeader(buffer, FLAG_LZ4);
+        ByteBuffer.wrap(buffer, HEADER_SIZE, LENGTH_SIZE).putInt(body.length);
+        return Arrays.copyOf(buffer, HEADER_SIZE + LENGTH_SIZE + compressedLength);
+    }
+
+    private void writeHeader(byte[] target, byte flags) {
+        target[0] = MAGIC;
+        target[1] = VERSION_SMILE;
+        target[2] = flags;
+    }
+
+    private T readJson(byte[] bytes) {
+        Object value = jsonSerializer.deserialize(bytes);
+        if (value != null && !type.isInstance(value)) {
+            throw new SerializationException("캐시 값 타입 불일치 - expected: " + type.getName() + ", actual: " + value.getClass().getName());
+        }
+        return type.cast(value);
+    }
+}
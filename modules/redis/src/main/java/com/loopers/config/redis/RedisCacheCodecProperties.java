@@ -0,0 +1,17 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 캐시 값 직렬화 설정
+ *
+ * @param writeFormat          저장 형식 (읽기는 형식과 무관하게 SMILE / JSON 모두 지원)
+ * @param compressionThreshold 직렬화 결과가 이 크기 이상이면 LZ4 압축
+ */
+@ConfigurationProperties("datasource.redis.cache-codec")
+public record RedisCacheCodecProperties(
+        @DefaultValue("SMILE") CacheValueFormat writeFormat,
+        @DefaultValue("512B") DataSize compressionThreshold
+) { }
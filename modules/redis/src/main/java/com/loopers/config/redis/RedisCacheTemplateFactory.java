@@ -0,0 +1,40 @@
+package com.loopers.config.redis;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 값 타입별 캐시 RedisTemplate 생성 (Key: String, Value: CompactRedisSerializer)
+ *
+ * 각 애플리케이션이 캐시 값 타입마다 템플릿 빈을 만들어 사용
+ * - 읽기는 기본 연결(REPLICA_PREFERRED) 사용
+ * - ZSET member 처럼 바이트 값이 식별자가 되는 용도에는 사용하지 않음 (저장 형식 전환 시 같은 값이 다른 member 가 됨)
+ */
+public class RedisCacheTemplateFactory {
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisCacheCodecProperties codecProperties;
+
+    public RedisCacheTemplateFactory(LettuceConnectionFactory connectionFactory, RedisCacheCodecProperties codecProperties) {
+        this.connectionFactory = connectionFactory;
+        this.codecProperties = codecProperties;
+    }
+
+    public <T> RedisTemplate<String, T> create(Class<T> valueType) {
+        CompactRedisSerializer<T> valueSerializer = new CompactRedisSerializer<>(
+                valueType,
+                codecProperties.writeFormat(),
+                (int) codecProperties.compressionThreshold().toBytes()
+        );
+
+        RedisTemplate<String, T> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
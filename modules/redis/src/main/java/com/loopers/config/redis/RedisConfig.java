@@ -2,6 +2,8 @@ package com.loopers.config.redis;
 
 
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.resource.ClientResources;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
@@ -20,15 +22,18 @@ import java.util.function.Consumer;
 
 @Configuration
 @EnableCaching
-@EnableConfigurationProperties(RedisProperties.class)
+@EnableConfigurationProperties({RedisProperties.class, RedisCacheCodecProperties.class})
 public class RedisConfig{
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
 
     private final RedisProperties redisProperties;
+    // Boot 가 만든 ClientResources (actuator 가 있으면 lettuce.command.* 커맨드 지연 메트릭 기록기 포함)
+    private final ObjectProvider<ClientResources> clientResources;
 
-    public RedisConfig(RedisProperties redisProperties){
+    public RedisConfig(RedisProperties redisProperties, ObjectProvider<ClientResources> clientResources){
         this.redisProperties = redisProperties;
+        this.clientResources = clientResources;
     }
 
     @Primary
@@ -79,6 +84,7 @@ public class RedisConfig{
             Consumer<LettuceClientConfiguration.LettuceClientConfigurationBuilder> customizer
     ){
         LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder();
+        clientResources.ifAvailable(builder::clientResources);
         if(customizer != null) customizer.accept(builder);
         LettuceClientConfiguration clientConfig = builder.build();
         RedisStaticMasterReplicaConfiguration masterReplicaConfig = new RedisStaticMasterReplicaConfiguration(master.host(), master.port());
@@ -103,8 +109,10 @@ public class RedisConfig{
     }
 
     /**
-     * ProductDetailInfo 캐싱을 위한 RedisTemplate
+     * 타입 정보를 포함한 JSON 값 RedisTemplate (랭킹 ZSET 등)
      * Key: String, Value: Object (JSON 직렬화)
+     * - 랭킹 ZSET member 가 이 JSON 바이트로 저장되어 있으므로 직렬화 방식을 바꾸면 기존 member 와 달라짐
+     * - 캐시 값은 값 타입별로 RedisCacheTemplateFactory 템플릿 사용
      */
     @Bean
     public RedisTemplate<String, Object> productCacheTemplate(LettuceConnectionFactory connectionFactory) {
@@ -123,4 +131,15 @@ public class RedisConfig{
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * 캐시 값 RedisTemplate 생성기 (Smile + LZ4, 버전 헤더)
+     */
+    @Bean
+    public RedisCacheTemplateFactory redisCacheTemplateFactory(
+            LettuceConnectionFactory connectionFactory,
+            RedisCacheCodecProperties redisCacheCodecProperties
+    ) {
+        return new RedisCacheTemplateFactory(connectionFactory, redisCacheCodecProperties);
+    }
 }
@@ -0,0 +1,121 @@
+package com.loopers.config.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * CompactRedisSerializer 단위 테스트
+ * 저장 형식 헤더, 임계 크기 기반 LZ4 압축, 기존 JSON 형식 호환을 검증
+ */
+class CompactRedisSerializerTest {
+
+    private static final int THRESHOLD = 512;
+
+    private final CompactRedisSerializer<CachedProduct> serializer =
+            new CompactRedisSerializer<>(CachedProduct.class, CacheValueFormat.SMILE, THRESHOLD);
+
+    @Test
+    @DisplayName("작은 값은 압축 없이 헤더와 Smile 본문으로 저장하고 같은 값으로 읽는다")
+    void smallValue_roundTripWithoutCompression() {
+        // given
+        CachedProduct product = product(1);
+
+        // when
+        byte[] bytes = serializer.serialize(product);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.MAGIC);
+        assertThat(bytes[1]).isEqualTo(CompactRedisSerializer.VERSION_SMILE);
+        assertThat(bytes[2] & CompactRedisSerializer.FLAG_LZ4).isZero();
+        assertThat(serializer.deserialize(bytes)).isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("임계 크기 이상인 값은 LZ4 로 압축해 저장하고 같은 값으로 읽는다")
+    void largeValue_compressed() {
+        // given
+        CachedProduct product = product(50);
+
+        // when
+        byte[] bytes = serializer.serialize(product);
+
+        // then
+        assertThat(bytes[2] & CompactRedisSerializer.FLAG_LZ4).isEqualTo(CompactRedisSerializer.FLAG_LZ4);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("타입 정보를 포함한 기존 JSON 값보다 작게 저장한다")
+    void smallerThanTypedJson() {
+        // given
+        CachedProduct product = product(1);
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(product);
+
+        // when
+        byte[] compact = serializer.serialize(product);
+
+        // then
+        assertThat(compact.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 기존 JSON 값도 읽는다 (배포 전환 구간 호환)")
+    void legacyJson_readable() {
+        // given
+        CachedProduct product = product(3);
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(product);
+
+        // when
+        CachedProduct read = serializer.deserialize(legacy);
+
+        // then
+        assertThat(read).isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("JSON 저장 형식이면 이전 버전 인스턴스가 읽는 기존 JSON 으로 저장한다")
+    void jsonWriteFormat_writesLegacyJson() {
+        // given
+        CompactRedisSerializer<CachedProduct> jsonWriter =
+                new CompactRedisSerializer<>(CachedProduct.class, CacheValueFormat.JSON, THRESHOLD);
+        CachedProduct product = product(1);
+
+        // when
+        byte[] bytes = jsonWriter.serialize(product);
+
+        // then
+        assertThat(new GenericJackson2JsonRedisSerializer().deserialize(bytes)).isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식 버전은 예외가 발생한다")
+    void unknownVersion_throwsException() {
+        // given
+        byte[] bytes = serializer.serialize(product(1));
+        bytes[1] = 99;
+
+        // when // then
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+
+    private CachedProduct product(int rankingCount) {
+        List<CachedRanking> rankings = IntStream.rangeClosed(1, rankingCount)
+                .mapToObj(rank -> new CachedRanking(rank, 1000.5 - rank))
+                .toList();
+        return new CachedProduct(1L, "P001", "테스트상품", new BigDecimal("12900.50"), 100, rankings);
+    }
+
+    record CachedProduct(Long id, String productCode, String productName, BigDecimal price, int stock,
+                         List<CachedRanking> rankings) { }
+
+    record CachedRanking(int rank, Double score) { }
+}
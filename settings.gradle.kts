@@ -5,6 +5,7 @@ include(
     ":apps:pg-simulator",
     ":apps:commerce-streamer",
     ":apps:commerce-collector",
+    ":apps:load-test",
     ":modules:jpa",
     ":modules:redis",
     ":modules:kafka",